@@ -1,12 +1,19 @@
 package org.pitest.aggregate;
 
 import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Map;
+import java.util.Set;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.BlockCoverage;
 import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.BinaryCoverageReader;
+import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MethodName;
 
@@ -23,6 +30,28 @@ class BlockCoverageDataLoader extends DataLoader<BlockCoverage> {
     super(filesToLoad);
   }
 
+  @Override
+  Set<BlockCoverage> loadData(final File dataLocation)
+      throws ReportAggregationException {
+    if (!dataLocation.getName().equals(BinaryCoverageExporter.FILE_NAME)) {
+      return super.loadData(dataLocation);
+    }
+    final Set<BlockCoverage> data = new HashSet<>();
+    try (BinaryCoverageReader reader = new BinaryCoverageReader(
+        new FileInputStream(dataLocation))) {
+      reader.read(new SideEffect1<BlockCoverage>() {
+        @Override
+        public void apply(final BlockCoverage a) {
+          data.add(a);
+        }
+      });
+    } catch (final IOException e) {
+      throw new ReportAggregationException("Could not read file: "
+          + dataLocation.getAbsolutePath(), e);
+    }
+    return data;
+  }
+
   @Override
   protected BlockCoverage mapToData(final Map<String, Object> map) {
     final String method = (String) map.get(METHOD);
@@ -4,16 +4,28 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
 
 import java.io.File;
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.Writer;
 import java.net.URL;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
 
 public class BlockCoverageDataLoaderTest {
 
+  @Rule
+  public TemporaryFolder          folder = new TemporaryFolder();
+
   private BlockCoverageDataLoader underTest;
 
   @Before
@@ -38,4 +50,37 @@ public class BlockCoverageDataLoaderTest {
     }
   }
 
+  @Test
+  public void testLoadBinaryData() throws Exception {
+    final Collection<BlockCoverage> xml = underTest.loadData();
+    final File file = new File(folder.getRoot(), BinaryCoverageExporter.FILE_NAME);
+    new BinaryCoverageExporter(writingTo(file)).recordCoverage(new ArrayList<>(xml));
+
+    final Collection<BlockCoverage> results = new BlockCoverageDataLoader(Arrays.asList(file)).loadData();
+
+    assertEquals(5, results.size());
+    for (final BlockCoverage block : results) {
+      assertEquals(Arrays.asList("com.example.DividerTest.testDivide(com.example.DividerTest)"), block.getTests());
+    }
+  }
+
+  private static ResultOutputStrategy writingTo(final File file) {
+    return new ResultOutputStrategy() {
+
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public OutputStream createOutputStreamForFile(final String sourceFile) {
+        try {
+          return new FileOutputStream(file);
+        } catch (final Exception e) {
+          throw Unchecked.translateCheckedException(e);
+        }
+      }
+    };
+  }
+
 }
@@ -2,6 +2,7 @@ package org.pitest.aggregate;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.io.Writer;
 
 import org.pitest.util.ResultOutputStrategy;
@@ -33,6 +34,18 @@ public class TestInvocationHelper {
           }
         };
       }
+
+      @Override
+      public OutputStream createOutputStreamForFile(final String sourceFile) {
+        // dev null stream
+        return new OutputStream() {
+
+          @Override
+          public void write(final int b) throws IOException {
+            // ignore
+          }
+        };
+      }
     };
   }
 
@@ -128,6 +128,10 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.DEPENDENCY_DISTANCE, value);
   }
 
+  public void setDependencyCacheLocation(final String value) {
+    this.setOption(ConfigOption.DEPENDENCY_CACHE_LOCATION, value);
+  }
+
   public void setThreads(final String value) {
     this.setOption(ConfigOption.THREADS, value);
   }
@@ -176,6 +180,10 @@ public class PitestTask extends Task { // NO_UCD (test only)
     this.setOption(ConfigOption.TIMEOUT_CONST, value);
   }
 
+  public void setTimeoutPercentile(final String value) {
+    this.setOption(ConfigOption.TIMEOUT_PERCENTILE, value);
+  }
+
   public void setMaxMutationsPerClass(final String value) {
     this.setOption(ConfigOption.MAX_MUTATIONS_PER_CLASS, value);
   }
@@ -235,6 +243,74 @@ public class PitestTask extends Task { // NO_UCD (test only)
   public void setCoverageThreshold(final String value) {
     this.setOption(ConfigOption.COVERAGE_THRESHOLD, value);
   }
+
+  public void setSamplingMargin(final String value) {
+    this.setOption(ConfigOption.SAMPLING_MARGIN, value);
+  }
+
+  public void setSamplingConfidence(final String value) {
+    this.setOption(ConfigOption.SAMPLING_CONFIDENCE, value);
+  }
+
+  public void setSamplingSeed(final String value) {
+    this.setOption(ConfigOption.SAMPLING_SEED, value);
+  }
+
+  public void setMetricsInterval(final String value) {
+    this.setOption(ConfigOption.METRICS_INTERVAL, value);
+  }
+
+  public void setReportTimings(final String value) {
+    this.setOption(ConfigOption.REPORT_TIMINGS, value);
+  }
+
+  public void setLoopBudget(final String value) {
+    this.setOption(ConfigOption.LOOP_BUDGET, value);
+  }
+
+  public void setMaxMinionHeap(final String value) {
+    this.setOption(ConfigOption.MAX_MINION_HEAP, value);
+  }
+
+  public void setIsolateMutants(final String value) {
+    this.setOption(ConfigOption.ISOLATE_MUTANTS, value);
+  }
+
+  public void setMutantThreads(final String value) {
+    this.setOption(ConfigOption.MUTANT_THREADS, value);
+  }
+
+  public void setWorkerAgents(final String value) {
+    this.setOption(ConfigOption.WORKER_AGENTS, value);
+  }
+
+  public void setClassDataSharing(final String value) {
+    this.setOption(ConfigOption.CLASS_DATA_SHARING, value);
+  }
+
+  public void setChangesSince(final String value) {
+    this.setOption(ConfigOption.CHANGES_SINCE, value);
+  }
+
+  public void setClassInfoCacheLocation(final String value) {
+    this.setOption(ConfigOption.CLASS_INFO_CACHE_LOCATION, value);
+  }
+
+  public void setGroupMutants(final String value) {
+    this.setOption(ConfigOption.GROUP_MUTANTS, value);
+  }
+
+  public void setInfectionPrefilter(final String value) {
+    this.setOption(ConfigOption.INFECTION_PREFILTER, value);
+  }
+
+  public void setCoverageThreads(final String value) {
+    this.setOption(ConfigOption.COVERAGE_THREADS, value);
+  }
+
+  public void setWatch(final String value) {
+    this.setOption(ConfigOption.WATCH, value);
+  }
   
   public void setMutationEngine(String value) {
     this.setOption(ConfigOption.MUTATION_ENGINE, value);  
@@ -197,6 +197,13 @@ public class PitestTaskTest {
     verify(this.arg).setValue("--timeoutConst=100");
   }
 
+  @Test
+  public void shouldPassTimeoutPercentileOptionToJavaTask() {
+    this.pitestTask.setTimeoutPercentile("95");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--timeoutPercentile=95");
+  }
+
   @Test
   public void shouldPassTimeoutFactorOptionToJavaTask() {
     this.pitestTask.setTimeoutFactor("1.20");
@@ -405,6 +412,13 @@ public class PitestTaskTest {
     verify(this.arg).setValue("--historyInputLocation=foo");
   }
   
+  @Test
+  public void shouldPassDependencyCacheLocationToJavaTask() {
+    this.pitestTask.setDependencyCacheLocation("foo");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--dependencyCacheLocation=foo");
+  }
+
   @Test
   public void shouldPassHistoryOutputLocationToJavaTask() {
     this.pitestTask.setHistoryOutputLocation("foo");
@@ -439,6 +453,125 @@ public class PitestTaskTest {
     this.pitestTask.execute(this.java);
     verify(this.arg).setValue("--coverageThreshold=42");
   }
+
+  @Test
+  public void shouldPassSamplingMarginToJavaTask() {
+    this.pitestTask.setSamplingMargin("2.5");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--samplingMargin=2.5");
+  }
+
+  @Test
+  public void shouldPassSamplingConfidenceToJavaTask() {
+    this.pitestTask.setSamplingConfidence("99");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--samplingConfidence=99");
+  }
+
+  @Test
+  public void shouldPassSamplingSeedToJavaTask() {
+    this.pitestTask.setSamplingSeed("42");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--samplingSeed=42");
+  }
+
+  @Test
+  public void shouldPassMetricsIntervalToJavaTask() {
+    this.pitestTask.setMetricsInterval("10");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--metricsInterval=10");
+  }
+
+  @Test
+  public void shouldPassReportTimingsToJavaTask() {
+    this.pitestTask.setReportTimings("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--reportTimings=true");
+  }
+
+  @Test
+  public void shouldPassLoopBudgetToJavaTask() {
+    this.pitestTask.setLoopBudget("100000");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--loopBudget=100000");
+  }
+
+  @Test
+  public void shouldPassMaxMinionHeapToJavaTask() {
+    this.pitestTask.setMaxMinionHeap("2048");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--maxMinionHeap=2048");
+  }
+
+  @Test
+  public void shouldPassIsolateMutantsToJavaTask() {
+    this.pitestTask.setIsolateMutants("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--isolateMutants=true");
+  }
+
+  @Test
+  public void shouldPassMutantThreadsToJavaTask() {
+    this.pitestTask.setMutantThreads("4");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--mutantThreads=4");
+  }
+
+  @Test
+  public void shouldPassWorkerAgentsToJavaTask() {
+    this.pitestTask.setWorkerAgents("alpha:8097,beta:8097");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--workerAgents=alpha:8097,beta:8097");
+  }
+
+  @Test
+  public void shouldPassClassDataSharingToJavaTask() {
+    this.pitestTask.setClassDataSharing("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--classDataSharing=true");
+  }
+
+  @Test
+  public void shouldPassChangesSinceToJavaTask() {
+    this.pitestTask.setChangesSince("origin/master");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--changesSince=origin/master");
+  }
+
+  @Test
+  public void shouldPassClassInfoCacheLocationToJavaTask() {
+    this.pitestTask.setClassInfoCacheLocation("foo");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--classInfoCacheLocation=foo");
+  }
+
+  @Test
+  public void shouldPassGroupMutantsToJavaTask() {
+    this.pitestTask.setGroupMutants("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--groupMutants=true");
+  }
+
+  @Test
+  public void shouldPassInfectionPrefilterToJavaTask() {
+    this.pitestTask.setInfectionPrefilter("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--infectionPrefilter=true");
+  }
+
+  @Test
+  public void shouldPassCoverageThreadsToJavaTask() {
+    this.pitestTask.setCoverageThreads("4");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--coverageThreads=4");
+  }
+
+  @Test
+  public void shouldPassWatchToJavaTask() {
+    this.pitestTask.setWatch("true");
+    this.pitestTask.execute(this.java);
+    verify(this.arg).setValue("--watch=true");
+  }
   
   @Test
   public void shouldPassMutationEngineToJavaTask() {
@@ -0,0 +1,119 @@
+package org.pitest.mutationtest.commandline;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.execute.CoverageCache;
+
+/**
+ * Holds the coverage gathered for one kind of request between the requests a
+ * daemon handles.
+ *
+ * The cache tracks only code and test classes, so before each request the
+ * files on the classpath are compared with those seen before the last one.
+ * Should anything else have changed, such as a jar or a helper class, the
+ * cache is cleared so that all coverage is gathered again.
+ *
+ * Files are compared by size and modification time.
+ */
+class CachedCoverage {
+
+  private static final String     CLASS_SUFFIX = ".class";
+
+  private final CoverageCache     cache        = new CoverageCache();
+
+  private Map<File, String>       stamps       = new HashMap<>();
+  private Map<File, ClassName>    classes      = new HashMap<>();
+
+  /**
+   * Returns the cache, first clearing it if a file it does not track has
+   * changed since the last call.
+   */
+  synchronized CoverageCache refresh(final Collection<String> classPath)
+      throws IOException {
+    final Map<File, String> currentStamps = new HashMap<>();
+    final Map<File, ClassName> currentClasses = new HashMap<>();
+    for (final String each : classPath) {
+      snapshot(new File(each), currentStamps, currentClasses);
+    }
+
+    for (final File each : findChanges(currentStamps)) {
+      if (!isTracked(each, currentClasses)) {
+        this.cache.clear();
+        break;
+      }
+    }
+    this.stamps = currentStamps;
+    this.classes = currentClasses;
+    return this.cache;
+  }
+
+  private Set<File> findChanges(final Map<File, String> currentStamps) {
+    final Set<File> changed = new HashSet<>();
+    for (final Map.Entry<File, String> each : currentStamps.entrySet()) {
+      if (!each.getValue().equals(this.stamps.get(each.getKey()))) {
+        changed.add(each.getKey());
+      }
+    }
+    for (final File each : this.stamps.keySet()) {
+      if (!currentStamps.containsKey(each)) {
+        changed.add(each);
+      }
+    }
+    return changed;
+  }
+
+  private boolean isTracked(final File file,
+      final Map<File, ClassName> currentClasses) {
+    ClassName name = currentClasses.get(file);
+    if (name == null) {
+      name = this.classes.get(file);
+    }
+    return (name != null) && this.cache.isTracked(name);
+  }
+
+  private static void snapshot(final File element,
+      final Map<File, String> stamps, final Map<File, ClassName> classes)
+      throws IOException {
+    if (element.isFile()) {
+      stamps.put(element, stampOf(element));
+    } else if (element.isDirectory()) {
+      final Path root = element.toPath();
+      Files.walkFileTree(root, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult visitFile(final Path file,
+            final BasicFileAttributes attrs) {
+          stamps.put(file.toFile(), attrs.size() + ":"
+              + attrs.lastModifiedTime().toMillis());
+          if (file.getFileName().toString().endsWith(CLASS_SUFFIX)) {
+            classes.put(file.toFile(), toClassName(root, file));
+          }
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    }
+  }
+
+  private static String stampOf(final File file) {
+    return file.length() + ":" + file.lastModified();
+  }
+
+  private static ClassName toClassName(final Path root, final Path file) {
+    final String relative = root.relativize(file).toString()
+        .replace(File.separatorChar, '/');
+    return ClassName.fromString(relative.substring(0, relative.length()
+        - CLASS_SUFFIX.length()));
+  }
+
+}
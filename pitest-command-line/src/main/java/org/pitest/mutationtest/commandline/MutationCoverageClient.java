@@ -0,0 +1,111 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.commandline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.util.Arrays;
+
+import org.pitest.functional.Option;
+import org.pitest.process.SharedSecret;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Thin client that submits command line options to a running
+ * MutationCoverageDaemon and prints the output of the analysis as it
+ * arrives. The daemon's secret is read from ~/.pitest/daemon-secret.
+ *
+ * Usage: MutationCoverageClient port [stop | options]
+ */
+public class MutationCoverageClient {
+
+  public static void main(final String[] args) throws IOException {
+    if (args.length == 0) {
+      System.out.println("Usage: MutationCoverageClient port [stop | options]");
+      System.exit(1);
+    }
+
+    final Option<SharedSecret> secret = SharedSecret
+        .read(MutationCoverageDaemon.SECRET);
+    if (secret.hasNone()) {
+      System.out.println("No daemon secret found in "
+          + MutationCoverageDaemon.SECRET);
+      System.exit(1);
+    }
+
+    final int port = Integer.parseInt(args[0]);
+    final String[] options = Arrays.copyOfRange(args, 1, args.length);
+    final File workingDir = new File("").getAbsoluteFile();
+    if ((options.length == 1) && options[0].equals("stop")) {
+      stop(port, secret.value(), workingDir);
+    } else {
+      System.exit(submit(port, secret.value(), workingDir, options,
+          System.out));
+    }
+  }
+
+  /**
+   * Runs an analysis on the daemon, copying its output to the supplied stream.
+   *
+   * @return the exit code of the analysis
+   */
+  static int submit(final int port, final SharedSecret secret,
+      final File workingDir, final String[] options, final OutputStream out)
+      throws IOException {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      final SafeDataInputStream is = new SafeDataInputStream(
+          new BufferedInputStream(socket.getInputStream()));
+      final SafeDataOutputStream os = open(socket, is, secret, workingDir);
+      os.writeInt(options.length);
+      for (final String each : options) {
+        os.writeString(each);
+      }
+      os.flush();
+
+      while (is.readByte() == MutationCoverageDaemon.OUTPUT) {
+        out.write(is.readBytes());
+        out.flush();
+      }
+      return is.readInt();
+    }
+  }
+
+  static void stop(final int port, final SharedSecret secret,
+      final File workingDir) throws IOException {
+    try (Socket socket = new Socket(InetAddress.getLoopbackAddress(), port)) {
+      final SafeDataOutputStream os = open(socket, new SafeDataInputStream(
+          socket.getInputStream()), secret, workingDir);
+      os.writeInt(MutationCoverageDaemon.STOP);
+      os.flush();
+    }
+  }
+
+  private static SafeDataOutputStream open(final Socket socket,
+      final SafeDataInputStream is, final SharedSecret secret,
+      final File workingDir) throws IOException {
+    final SafeDataOutputStream os = new SafeDataOutputStream(
+        new BufferedOutputStream(socket.getOutputStream()));
+    os.writeBytes(secret.respond(is.readBytes()));
+    os.writeString(workingDir.getAbsolutePath());
+    return os;
+  }
+
+}
@@ -0,0 +1,318 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.commandline;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+import java.util.logging.StreamHandler;
+
+import org.pitest.classinfo.ClassInfoCache;
+import org.pitest.coverage.execute.CoverageCache;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.mutationtest.tooling.EntryPoint;
+import org.pitest.process.SharedSecret;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Long running entry point that analyses requests sent by
+ * MutationCoverageClient over a loopback socket.
+ *
+ * The JVM, discovered plugins and the information read from each class are
+ * kept between requests, so only classes whose bytecode has changed are read
+ * again. Requests that do not name a history location are analysed
+ * incrementally against the previous request for the same report directory,
+ * and the coverage of each test is reused while neither it nor the classes it
+ * covered have changed since the last identical request.
+ *
+ * Requests are handled one at a time. Relative paths in the options are
+ * resolved against the directory the daemon was started from.
+ *
+ * Each client must prove it holds the secret kept in
+ * ~/.pitest/daemon-secret, which the daemon creates readable only by its
+ * owner, before a request is read. Clients that do not send a request in time
+ * are dropped, so that they cannot keep others waiting.
+ */
+public class MutationCoverageDaemon {
+
+  static final byte           OUTPUT          = 1;
+  static final byte           EXIT            = 2;
+
+  static final int            STOP            = -1;
+
+  static final int            REQUEST_TIMEOUT = 10000;
+
+  static final File           SECRET          = SharedSecret
+      .defaultFile("daemon-secret");
+
+  private static final Logger LOG             = Log.getLogger();
+
+  private final ServerSocket   socket;
+  private final PluginServices plugins;
+  private final OptionsParser  parser;
+  private final ClassInfoCache classInfoCache = new ClassInfoCache();
+  private final Map<String, File> histories  = new HashMap<>();
+  private final Map<String, CachedCoverage> coverage = new HashMap<>();
+  private final SharedSecret   secret;
+  private final int            requestTimeout;
+
+  public MutationCoverageDaemon(final ServerSocket socket,
+      final PluginServices plugins, final SharedSecret secret) {
+    this(socket, plugins, secret, REQUEST_TIMEOUT);
+  }
+
+  MutationCoverageDaemon(final ServerSocket socket,
+      final PluginServices plugins, final SharedSecret secret,
+      final int requestTimeout) {
+    this.socket = socket;
+    this.plugins = plugins;
+    this.secret = secret;
+    this.requestTimeout = requestTimeout;
+    this.parser = new OptionsParser(new PluginFilter(plugins));
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final int port = args.length == 0 ? 0 : Integer.parseInt(args[0]);
+    final SharedSecret secret = SharedSecret.readOrCreate(SECRET);
+    final ServerSocket socket = new ServerSocket(port, 0,
+        InetAddress.getLoopbackAddress());
+    LOG.info("Listening for requests on port " + socket.getLocalPort()
+        + ", clients must hold the secret in " + SECRET);
+    new MutationCoverageDaemon(socket, PluginServices.makeForContextLoader(),
+        secret).serve();
+  }
+
+  /**
+   * Handles requests until a client asks the daemon to stop
+   */
+  public void serve() throws IOException {
+    try {
+      boolean running = true;
+      while (running) {
+        try (Socket client = this.socket.accept()) {
+          running = handle(client);
+        } catch (final IOException | RuntimeException ex) {
+          LOG.warning("Could not complete request : " + ex.getMessage());
+        }
+      }
+    } finally {
+      this.socket.close();
+    }
+  }
+
+  private boolean handle(final Socket client) throws IOException {
+    // the client only waits for output once its request is sent
+    client.setSoTimeout(this.requestTimeout);
+    final SafeDataInputStream is = new SafeDataInputStream(
+        new BufferedInputStream(client.getInputStream()));
+    final SafeDataOutputStream os = new SafeDataOutputStream(
+        new BufferedOutputStream(client.getOutputStream()));
+    if (!authenticated(is, os)) {
+      throw new IOException("Client does not hold the daemon secret");
+    }
+
+    final File workingDir = new File(is.readString());
+    final int argCount = is.readInt();
+    if (argCount == STOP) {
+      LOG.info("Stopping");
+      return false;
+    }
+    final String[] args = new String[argCount];
+    for (int i = 0; i != argCount; i++) {
+      args[i] = is.readString();
+    }
+    client.setSoTimeout(0);
+
+    final int exitCode = runSendingOutput(workingDir, args,
+        new ClientOutputStream(os));
+    os.writeByte(EXIT);
+    os.writeInt(exitCode);
+    os.flush();
+    return true;
+  }
+
+  private boolean authenticated(final SafeDataInputStream is,
+      final SafeDataOutputStream os) {
+    final byte[] challenge = this.secret.challenge();
+    os.writeBytes(challenge);
+    os.flush();
+    // read by hand, as the length is not to be trusted until authenticated
+    if (is.readInt() != SharedSecret.LENGTH) {
+      return false;
+    }
+    final byte[] response = new byte[SharedSecret.LENGTH];
+    for (int i = 0; i != response.length; i++) {
+      response[i] = is.readByte();
+    }
+    return this.secret.accepts(challenge, response);
+  }
+
+  /**
+   * Sends everything written to the console and the log during a request to
+   * the client. As the streams are global only one request may run at a time.
+   */
+  private int runSendingOutput(final File workingDir, final String[] args,
+      final OutputStream out) {
+    final PrintStream originalOut = System.out;
+    final PrintStream originalErr = System.err;
+    final Handler[] originalHandlers = LOG.getHandlers();
+    final PrintStream ps = new PrintStream(out, true);
+    final Handler handler = new FlushingHandler(ps,
+        formatterOf(originalHandlers));
+
+    System.setOut(ps);
+    System.setErr(ps);
+    for (final Handler each : originalHandlers) {
+      LOG.removeHandler(each);
+    }
+    LOG.addHandler(handler);
+    try {
+      return run(workingDir, args, ps);
+    } finally {
+      LOG.removeHandler(handler);
+      for (final Handler each : originalHandlers) {
+        LOG.addHandler(each);
+      }
+      System.setOut(originalOut);
+      System.setErr(originalErr);
+      ps.flush();
+    }
+  }
+
+  private int run(final File workingDir, final String[] args,
+      final PrintStream out) {
+    final ParseResult pr = this.parser.parse(args);
+    if (!pr.isOk()) {
+      this.parser.printHelp();
+      out.println(">>>> " + pr.getErrorMessage().value());
+      return 1;
+    }
+
+    final ReportOptions data = pr.getOptions();
+    try {
+      useDaemonHistory(data);
+      final CoverageCache cache = cachedCoverageFor(workingDir, args)
+          .refresh(data.getClassPathElements());
+      final CombinedStatistics stats = MutationCoverageReport.runReport(
+          new EntryPoint(Option.some(this.classInfoCache), Option.some(cache)),
+          workingDir, data, this.plugins);
+      MutationCoverageReport.verifyThresholds(data, stats);
+      return 0;
+    } catch (final IOException | RuntimeException ex) {
+      ex.printStackTrace(out);
+      return 1;
+    }
+  }
+
+  private void useDaemonHistory(final ReportOptions data) throws IOException {
+    if ((data.getHistoryInputLocation() != null)
+        || (data.getHistoryOutputLocation() != null)) {
+      return;
+    }
+    File history = this.histories.get(data.getReportDir());
+    if (history == null) {
+      history = File.createTempFile("pitDaemonHistory", ".txt");
+      history.deleteOnExit();
+      this.histories.put(data.getReportDir(), history);
+    }
+    data.setHistoryInputLocation(history);
+    data.setHistoryOutputLocation(history);
+  }
+
+  private CachedCoverage cachedCoverageFor(final File workingDir,
+      final String[] args) {
+    final String key = workingDir + Arrays.toString(args);
+    CachedCoverage cached = this.coverage.get(key);
+    if (cached == null) {
+      cached = new CachedCoverage();
+      this.coverage.put(key, cached);
+    }
+    return cached;
+  }
+
+  private static Formatter formatterOf(final Handler[] handlers) {
+    for (final Handler each : handlers) {
+      if (each.getFormatter() != null) {
+        return each.getFormatter();
+      }
+    }
+    return new SimpleFormatter();
+  }
+
+  private static class FlushingHandler extends StreamHandler {
+
+    FlushingHandler(final OutputStream out, final Formatter formatter) {
+      super(out, formatter);
+    }
+
+    @Override
+    public synchronized void publish(final LogRecord record) {
+      super.publish(record);
+      flush();
+    }
+
+  }
+
+  /**
+   * Frames bytes written during a request so they can be told apart from the
+   * exit code that ends it.
+   */
+  private static class ClientOutputStream extends OutputStream {
+
+    private final SafeDataOutputStream os;
+
+    ClientOutputStream(final SafeDataOutputStream os) {
+      this.os = os;
+    }
+
+    @Override
+    public void write(final int b) {
+      write(new byte[] { (byte) b }, 0, 1);
+    }
+
+    @Override
+    public synchronized void write(final byte[] b, final int off,
+        final int len) {
+      this.os.writeByte(OUTPUT);
+      this.os.writeBytes(Arrays.copyOfRange(b, off, off + len));
+    }
+
+    @Override
+    public synchronized void flush() {
+      this.os.flush();
+    }
+
+  }
+
+}
@@ -14,6 +14,8 @@
  */
 package org.pitest.mutationtest.commandline;
 
+import java.io.File;
+import java.io.IOException;
 import java.util.HashMap;
 
 import org.pitest.coverage.CoverageSummary;
@@ -23,6 +25,7 @@ import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.tooling.AnalysisResult;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.mutationtest.tooling.EntryPoint;
+import org.pitest.mutationtest.tooling.WatchMode;
 import org.pitest.util.Unchecked;
 
 /**
@@ -42,15 +45,35 @@ public class MutationCoverageReport {
     } else {
       final ReportOptions data = pr.getOptions();
 
-      final CombinedStatistics stats = runReport(data, plugins);
+      if (data.isWatch()) {
+        watch(data, plugins);
+        return;
+      }
 
-      throwErrorIfScoreBelowCoverageThreshold(stats.getCoverageSummary(),
-          data.getCoverageThreshold());
-      throwErrorIfScoreBelowMutationThreshold(stats.getMutationStatistics(),
-          data.getMutationThreshold());
-      throwErrorIfMoreThanMaxSuvivingMutants(stats.getMutationStatistics(), data.getMaximumAllowedSurvivors());
+      final CombinedStatistics stats = runReport(new EntryPoint(), null, data,
+          plugins);
+
+      verifyThresholds(data, stats);
+    }
+
+  }
+
+  private static void watch(ReportOptions data, PluginServices plugins) {
+    try {
+      new WatchMode(null, data, plugins, new HashMap<String, String>()).run();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    } catch (final InterruptedException e) {
+      Thread.currentThread().interrupt();
     }
+  }
 
+  static void verifyThresholds(ReportOptions data, CombinedStatistics stats) {
+    throwErrorIfScoreBelowCoverageThreshold(stats.getCoverageSummary(),
+        data.getCoverageThreshold());
+    throwErrorIfScoreBelowMutationThreshold(stats.getMutationStatistics(),
+        data.getMutationThreshold());
+    throwErrorIfMoreThanMaxSuvivingMutants(stats.getMutationStatistics(), data.getMaximumAllowedSurvivors());
   }
 
   private static void throwErrorIfScoreBelowCoverageThreshold(
@@ -80,11 +103,10 @@ public class MutationCoverageReport {
     }
   }
   
-  private static CombinedStatistics runReport(ReportOptions data,
-      PluginServices plugins) {
+  static CombinedStatistics runReport(EntryPoint e, File baseDir,
+      ReportOptions data, PluginServices plugins) {
 
-    EntryPoint e = new EntryPoint();
-    AnalysisResult result = e.execute(null, data, plugins,
+    AnalysisResult result = e.execute(baseDir, data, plugins,
         new HashMap<String, String>());
     if (result.getError().hasSome()) {
       throw Unchecked.translateCheckedException(result.getError().value());
@@ -15,11 +15,16 @@
 package org.pitest.mutationtest.commandline;
 
 import static org.pitest.mutationtest.config.ConfigOption.AVOID_CALLS;
+import static org.pitest.mutationtest.config.ConfigOption.CHANGES_SINCE;
 import static org.pitest.mutationtest.config.ConfigOption.CHILD_JVM;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_DATA_SHARING;
+import static org.pitest.mutationtest.config.ConfigOption.CLASS_INFO_CACHE_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.CLASSPATH_FILE;
 import static org.pitest.mutationtest.config.ConfigOption.CODE_PATHS;
+import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.COVERAGE_THRESHOLD;
+import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_CACHE_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.DEPENDENCY_DISTANCE;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_GROUPS;
@@ -28,14 +33,22 @@ import static org.pitest.mutationtest.config.ConfigOption.EXCLUDED_TEST_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.EXPORT_LINE_COVERAGE;
 import static org.pitest.mutationtest.config.ConfigOption.FAIL_WHEN_NOT_MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.FEATURES;
+import static org.pitest.mutationtest.config.ConfigOption.GROUP_MUTANTS;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_INPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.HISTORY_OUTPUT_LOCATION;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_GROUPS;
+import static org.pitest.mutationtest.config.ConfigOption.INFECTION_PREFILTER;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDED_TEST_METHODS;
 import static org.pitest.mutationtest.config.ConfigOption.INCLUDE_LAUNCH_CLASSPATH;
+import static org.pitest.mutationtest.config.ConfigOption.ISOLATE_MUTANTS;
 import static org.pitest.mutationtest.config.ConfigOption.JVM_PATH;
+import static org.pitest.mutationtest.config.ConfigOption.LINE_COVERAGE_FORMAT;
+import static org.pitest.mutationtest.config.ConfigOption.LOOP_BUDGET;
+import static org.pitest.mutationtest.config.ConfigOption.MAX_MINION_HEAP;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_MUTATIONS_PER_CLASS;
 import static org.pitest.mutationtest.config.ConfigOption.MAX_SURVIVING;
+import static org.pitest.mutationtest.config.ConfigOption.METRICS_INTERVAL;
+import static org.pitest.mutationtest.config.ConfigOption.MUTANT_THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATIONS;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_ENGINE;
 import static org.pitest.mutationtest.config.ConfigOption.MUTATION_THRESHOLD;
@@ -43,16 +56,23 @@ import static org.pitest.mutationtest.config.ConfigOption.MUTATION_UNIT_SIZE;
 import static org.pitest.mutationtest.config.ConfigOption.OUTPUT_FORMATS;
 import static org.pitest.mutationtest.config.ConfigOption.PLUGIN_CONFIGURATION;
 import static org.pitest.mutationtest.config.ConfigOption.REPORT_DIR;
+import static org.pitest.mutationtest.config.ConfigOption.REPORT_TIMINGS;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLING_CONFIDENCE;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLING_MARGIN;
+import static org.pitest.mutationtest.config.ConfigOption.SAMPLING_SEED;
 import static org.pitest.mutationtest.config.ConfigOption.SOURCE_DIR;
 import static org.pitest.mutationtest.config.ConfigOption.TARGET_CLASSES;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_FILTER;
 import static org.pitest.mutationtest.config.ConfigOption.TEST_PLUGIN;
 import static org.pitest.mutationtest.config.ConfigOption.THREADS;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_CONST;
+import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_PERCENTILE;
 import static org.pitest.mutationtest.config.ConfigOption.TIMEOUT_FACTOR;
 import static org.pitest.mutationtest.config.ConfigOption.TIME_STAMPED_REPORTS;
 import static org.pitest.mutationtest.config.ConfigOption.USE_INLINED_CODE_DETECTION;
 import static org.pitest.mutationtest.config.ConfigOption.VERBOSE;
+import static org.pitest.mutationtest.config.ConfigOption.WATCH;
+import static org.pitest.mutationtest.config.ConfigOption.WORKER_AGENTS;
 
 import java.io.BufferedReader;
 import java.io.File;
@@ -94,6 +114,7 @@ public class OptionsParser {
   private final OptionSpec<String>                   targetTestsSpec;
   private final OptionSpec<String>                   avoidCallsSpec;
   private final OptionSpec<Integer>                  depth;
+  private final OptionSpec<File>                     dependencyCacheSpec;
   private final OptionSpec<Integer>                  threadsSpec;
   private final OptionSpec<File>                     sourceDirSpec;
   private final OptionSpec<File>                     historyOutputSpec;
@@ -103,6 +124,7 @@ public class OptionsParser {
   private final OptionSpec<String>                   jvmArgs;
   private final OptionSpec<Float>                    timeoutFactorSpec;
   private final OptionSpec<Long>                     timeoutConstSpec;
+  private final OptionSpec<Integer>                  timeoutPercentileSpec;
   private final OptionSpec<String>                   excludedMethodsSpec;
   private final ArgumentAcceptingOptionSpec<Boolean> verboseSpec;
   private final OptionSpec<String>                   excludedClassesSpec;
@@ -121,8 +143,26 @@ public class OptionsParser {
   private final ArgumentAcceptingOptionSpec<Integer> mutationThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> coverageThreshHoldSpec;
   private final ArgumentAcceptingOptionSpec<Integer> maxSurvivingSpec;
+  private final ArgumentAcceptingOptionSpec<Float>   samplingMarginSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> samplingConfidenceSpec;
+  private final ArgumentAcceptingOptionSpec<Long>    samplingSeedSpec;
   private final OptionSpec<String>                   mutationEngine;
   private final ArgumentAcceptingOptionSpec<Boolean> exportLineCoverageSpec;
+  private final ArgumentAcceptingOptionSpec<String>  lineCoverageFormatSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> metricsIntervalSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> reportTimingsSpec;
+  private final ArgumentAcceptingOptionSpec<Long>    loopBudgetSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> maxMinionHeapSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> isolateMutantsSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> mutantThreadsSpec;
+  private final OptionSpec<String>                   workerAgentsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> classDataSharingSpec;
+  private final OptionSpec<String>                   changesSinceSpec;
+  private final OptionSpec<File>                     classInfoCacheSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> groupMutantsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> infectionPrefilterSpec;
+  private final ArgumentAcceptingOptionSpec<Integer> coverageThreadsSpec;
+  private final ArgumentAcceptingOptionSpec<Boolean> watchSpec;
   private final OptionSpec<String>                   javaExecutable;
   private final OptionSpec<KeyValuePair>             pluginPropertiesSpec;
   private final OptionSpec<String>                   testPluginSpec;
@@ -172,6 +212,10 @@ public class OptionsParser {
         .defaultsTo(DEPENDENCY_DISTANCE.getDefault(Integer.class))
         .describedAs("maximum distance to look from test for covered classes");
 
+    this.dependencyCacheSpec = parserAccepts(DEPENDENCY_CACHE_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("File to cache class dependencies in between runs");
+
     this.threadsSpec = parserAccepts(THREADS).withRequiredArg()
         .ofType(Integer.class).defaultsTo(THREADS.getDefault(Integer.class))
         .describedAs("number of threads to use for testing");
@@ -218,6 +262,11 @@ public class OptionsParser {
         .describedAs("constant to apply to calculate maximum test duration")
         .defaultsTo(TIMEOUT_CONST.getDefault(Long.class));
 
+    this.timeoutPercentileSpec = parserAccepts(TIMEOUT_PERCENTILE)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("percentile of observed test durations to apply factor to")
+        .defaultsTo(TIMEOUT_PERCENTILE.getDefault(Integer.class));
+
     this.excludedMethodsSpec = parserAccepts(EXCLUDED_METHOD)
         .withRequiredArg()
         .ofType(String.class)
@@ -250,6 +299,72 @@ public class OptionsParser {
         .describedAs(
             "whether or not to dump per test line coverage data to disk");
 
+    this.lineCoverageFormatSpec = parserAccepts(LINE_COVERAGE_FORMAT)
+        .withRequiredArg().ofType(String.class)
+        .describedAs("format of exported line coverage, XML or BINARY")
+        .defaultsTo(LINE_COVERAGE_FORMAT.getDefault(String.class));
+
+    this.metricsIntervalSpec = parserAccepts(METRICS_INTERVAL)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("seconds between lines of the run metrics file")
+        .defaultsTo(METRICS_INTERVAL.getDefault(Integer.class));
+
+    this.reportTimingsSpec = parserAccepts(REPORT_TIMINGS).withOptionalArg()
+        .ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to report the time spent on each mutation");
+
+    this.loopBudgetSpec = parserAccepts(LOOP_BUDGET).withRequiredArg()
+        .ofType(Long.class)
+        .describedAs("backward jumps a mutant may take in each test beyond twice those seen in coverage, 0 for no limit")
+        .defaultsTo(LOOP_BUDGET.getDefault(Long.class));
+
+    this.maxMinionHeapSpec = parserAccepts(MAX_MINION_HEAP).withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("largest heap in mb a minion may be given, 0 to leave minion memory unmanaged")
+        .defaultsTo(MAX_MINION_HEAP.getDefault(Integer.class));
+
+    this.isolateMutantsSpec = parserAccepts(ISOLATE_MUTANTS).withOptionalArg()
+        .ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to run each mutant in its own classloader rather than hot swapping it");
+
+    this.mutantThreadsSpec = parserAccepts(MUTANT_THREADS).withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("mutants each minion runs at once when mutants are isolated")
+        .defaultsTo(MUTANT_THREADS.getDefault(Integer.class));
+
+    this.workerAgentsSpec = parserAccepts(WORKER_AGENTS).withRequiredArg()
+        .ofType(String.class).withValuesSeparatedBy(',')
+        .describedAs("comma separated list of host:port of worker agents to run minions on");
+
+    this.classDataSharingSpec = parserAccepts(CLASS_DATA_SHARING)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to share classes loaded during coverage with later minions");
+
+    this.changesSinceSpec = parserAccepts(CHANGES_SINCE).withRequiredArg()
+        .ofType(String.class)
+        .describedAs("git revision against which to find changed classes to mutate");
+
+    this.classInfoCacheSpec = parserAccepts(CLASS_INFO_CACHE_LOCATION)
+        .withRequiredArg().ofType(File.class)
+        .describedAs("File to cache information read from classes in between runs");
+
+    this.groupMutantsSpec = parserAccepts(GROUP_MUTANTS).withOptionalArg()
+        .ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to run surviving mutants in different methods together");
+
+    this.infectionPrefilterSpec = parserAccepts(INFECTION_PREFILTER)
+        .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to skip running mutants that no test infects");
+
+    this.coverageThreadsSpec = parserAccepts(COVERAGE_THREADS).withRequiredArg()
+        .ofType(Integer.class)
+        .describedAs("threads on which to gather coverage for test classes annotated as thread safe")
+        .defaultsTo(COVERAGE_THREADS.getDefault(Integer.class));
+
+    this.watchSpec = parserAccepts(WATCH).withOptionalArg()
+        .ofType(Boolean.class).defaultsTo(true)
+        .describedAs("whether or not to analyse again each time compiled classes change");
+
     this.includeLaunchClasspathSpec = parserAccepts(INCLUDE_LAUNCH_CLASSPATH)
         .withOptionalArg().ofType(Boolean.class).defaultsTo(true)
         .describedAs("whether or not to analyse launch classpath");
@@ -322,6 +437,21 @@ public class OptionsParser {
         .describedAs("Line coverage below which to throw an error")
         .defaultsTo(COVERAGE_THRESHOLD.getDefault(Integer.class));
 
+    this.samplingMarginSpec = parserAccepts(SAMPLING_MARGIN)
+        .withRequiredArg().ofType(Float.class)
+        .describedAs("Confidence interval half width, in percentage points, at which to stop analysing a random sample of mutations")
+        .defaultsTo(SAMPLING_MARGIN.getDefault(Float.class));
+
+    this.samplingConfidenceSpec = parserAccepts(SAMPLING_CONFIDENCE)
+        .withRequiredArg().ofType(Integer.class)
+        .describedAs("Confidence level of the interval for a sampled mutation score")
+        .defaultsTo(SAMPLING_CONFIDENCE.getDefault(Integer.class));
+
+    this.samplingSeedSpec = parserAccepts(SAMPLING_SEED)
+        .withRequiredArg().ofType(Long.class)
+        .describedAs("Seed for the random sample of mutations")
+        .defaultsTo(SAMPLING_SEED.getDefault(Long.class));
+
     this.mutationEngine = parserAccepts(MUTATION_ENGINE).withRequiredArg()
         .ofType(String.class).describedAs("mutation engine to use")
         .defaultsTo(MUTATION_ENGINE.getDefault(String.class));
@@ -371,6 +501,7 @@ public class OptionsParser {
     data.setMutators(this.mutators.values(userArgs));
     data.setFeatures(this.features.values(userArgs));
     data.setDependencyAnalysisMaxDistance(this.depth.value(userArgs));
+    data.setDependencyCacheLocation(this.dependencyCacheSpec.value(userArgs));
     data.addChildJVMArgs(this.jvmArgs.values(userArgs));
 
 
@@ -385,6 +516,7 @@ public class OptionsParser {
     data.setNumberOfThreads(this.threadsSpec.value(userArgs));
     data.setTimeoutFactor(this.timeoutFactorSpec.value(userArgs));
     data.setTimeoutConstant(this.timeoutConstSpec.value(userArgs));
+    data.setTimeoutPercentile(this.timeoutPercentileSpec.value(userArgs));
     data.setLoggingClasses(this.avoidCallsSpec.values(userArgs));
     data.setExcludedMethods(this.excludedMethodsSpec.values(userArgs));
     data.setExcludedClasses(this.excludedClassesSpec.values(userArgs));
@@ -403,12 +535,36 @@ public class OptionsParser {
     data.setMutationThreshold(this.mutationThreshHoldSpec.value(userArgs));
     data.setMaximumAllowedSurvivors(this.maxSurvivingSpec.value(userArgs));
     data.setCoverageThreshold(this.coverageThreshHoldSpec.value(userArgs));
+    data.setSamplingMargin(this.samplingMarginSpec.value(userArgs));
+    data.setSamplingConfidence(this.samplingConfidenceSpec.value(userArgs));
+    data.setSamplingSeed(this.samplingSeedSpec.value(userArgs));
     data.setMutationEngine(this.mutationEngine.value(userArgs));
     data.setFreeFormProperties(listToProperties(this.pluginPropertiesSpec
         .values(userArgs)));
 
     data.setExportLineCoverage(userArgs.has(this.exportLineCoverageSpec)
         && userArgs.valueOf(this.exportLineCoverageSpec));
+    data.setLineCoverageFormat(this.lineCoverageFormatSpec.value(userArgs));
+    data.setMetricsInterval(this.metricsIntervalSpec.value(userArgs));
+    data.setReportTimings(userArgs.has(this.reportTimingsSpec)
+        && userArgs.valueOf(this.reportTimingsSpec));
+    data.setLoopBudget(this.loopBudgetSpec.value(userArgs));
+    data.setMaxMinionHeap(this.maxMinionHeapSpec.value(userArgs));
+    data.setIsolateMutants(userArgs.has(this.isolateMutantsSpec)
+        && userArgs.valueOf(this.isolateMutantsSpec));
+    data.setMutantThreads(this.mutantThreadsSpec.value(userArgs));
+    data.setWorkerAgents(this.workerAgentsSpec.values(userArgs));
+    data.setClassDataSharing(userArgs.has(this.classDataSharingSpec)
+        && userArgs.valueOf(this.classDataSharingSpec));
+    data.setChangesSince(this.changesSinceSpec.value(userArgs));
+    data.setClassInfoCacheLocation(this.classInfoCacheSpec.value(userArgs));
+    data.setGroupMutants(userArgs.has(this.groupMutantsSpec)
+        && userArgs.valueOf(this.groupMutantsSpec));
+    data.setInfectionPrefilter(userArgs.has(this.infectionPrefilterSpec)
+        && userArgs.valueOf(this.infectionPrefilterSpec));
+    data.setCoverageThreads(this.coverageThreadsSpec.value(userArgs));
+    data.setWatch(userArgs.has(this.watchSpec)
+        && userArgs.valueOf(this.watchSpec));
 
     setClassPath(userArgs, data);
 
@@ -0,0 +1,110 @@
+package org.pitest.mutationtest.commandline;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.execute.CoverageCache;
+
+public class CachedCoverageTest {
+
+  @Rule
+  public TemporaryFolder       folder  = new TemporaryFolder();
+
+  private final CachedCoverage testee  = new CachedCoverage();
+
+  private final ClassName      foo     = ClassName.fromString("com.example.Foo");
+  private final ClassName      fooTest = ClassName
+                                           .fromString("com.example.FooTest");
+
+  private File                 classes;
+  private File                 jar;
+  private Collection<String>   classPath;
+
+  @Before
+  public void setUp() throws IOException {
+    this.classes = this.folder.newFolder("classes");
+    new File(this.classes, "com/example").mkdirs();
+    write(new File(this.classes, "com/example/Foo.class"), "foo");
+    write(new File(this.classes, "com/example/FooTest.class"), "test");
+    write(new File(this.classes, "com/example/Helper.class"), "helper");
+    this.jar = this.folder.newFile("lib.jar");
+    write(this.jar, "jar");
+    this.classPath = Arrays.asList(this.classes.getAbsolutePath(),
+        this.jar.getAbsolutePath());
+  }
+
+  @Test
+  public void shouldReturnSameCacheOnEachRefresh() throws IOException {
+    assertSame(this.testee.refresh(this.classPath),
+        this.testee.refresh(this.classPath));
+  }
+
+  @Test
+  public void shouldKeepCoverageWhenNothingChanged() throws IOException {
+    track(this.testee.refresh(this.classPath));
+    assertTrue(this.testee.refresh(this.classPath).isTracked(this.foo));
+  }
+
+  @Test
+  public void shouldKeepCoverageWhenOnlyTrackedClassesChange()
+      throws IOException {
+    track(this.testee.refresh(this.classPath));
+    write(new File(this.classes, "com/example/Foo.class"), "changed foo");
+    assertTrue(this.testee.refresh(this.classPath).isTracked(this.foo));
+  }
+
+  @Test
+  public void shouldClearCoverageWhenUntrackedClassChanges()
+      throws IOException {
+    track(this.testee.refresh(this.classPath));
+    write(new File(this.classes, "com/example/Helper.class"), "changed helper");
+    assertFalse(this.testee.refresh(this.classPath).isTracked(this.foo));
+  }
+
+  @Test
+  public void shouldClearCoverageWhenJarChanges() throws IOException {
+    track(this.testee.refresh(this.classPath));
+    write(this.jar, "changed jar");
+    assertFalse(this.testee.refresh(this.classPath).isTracked(this.foo));
+  }
+
+  @Test
+  public void shouldClearCoverageWhenClassPathChanges() throws IOException {
+    track(this.testee.refresh(this.classPath));
+    final File other = this.folder.newFile("other.jar");
+    assertFalse(this.testee.refresh(
+        Arrays.asList(this.classes.getAbsolutePath(),
+            this.jar.getAbsolutePath(), other.getAbsolutePath())).isTracked(
+        this.foo));
+  }
+
+  private void track(final CoverageCache cache) {
+    cache.findTestsToRun(Collections.singletonList(make(this.foo)),
+        Collections.singletonList(make(this.fooTest)));
+  }
+
+  private static ClassInfo make(final ClassName name) {
+    return ClassInfoMother.make(name);
+  }
+
+  private static void write(final File file, final String content)
+      throws IOException {
+    Files.write(file.toPath(), content.getBytes("UTF-8"));
+  }
+
+}
@@ -0,0 +1,108 @@
+package org.pitest.mutationtest.commandline;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.net.InetAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.process.SharedSecret;
+import org.pitest.util.IsolationUtils;
+
+public class MutationCoverageDaemonTest {
+
+  private final File         workingDir = new File("").getAbsoluteFile();
+  private final SharedSecret secret     = SharedSecret.random();
+
+  private ServerSocket socket;
+  private Thread       daemon;
+
+  @Before
+  public void setUp() throws Exception {
+    this.socket = new ServerSocket(0, 0, InetAddress.getLoopbackAddress());
+    final MutationCoverageDaemon testee = new MutationCoverageDaemon(
+        this.socket, new PluginServices(IsolationUtils.getContextClassLoader()),
+        this.secret, 500);
+    this.daemon = new Thread() {
+      @Override
+      public void run() {
+        try {
+          testee.serve();
+        } catch (final Exception ex) {
+          throw new RuntimeException(ex);
+        }
+      }
+    };
+    this.daemon.start();
+  }
+
+  @After
+  public void tearDown() throws Exception {
+    if (!this.socket.isClosed()) {
+      MutationCoverageClient.stop(this.socket.getLocalPort(), this.secret,
+          this.workingDir);
+    }
+    this.daemon.join(10000);
+  }
+
+  @Test
+  public void shouldSendOutputAndFailureToClientWhenOptionsInvalid()
+      throws Exception {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final int exitCode = MutationCoverageClient.submit(
+        this.socket.getLocalPort(), this.secret, this.workingDir,
+        new String[] { "--notAnOption" }, out);
+    assertThat(exitCode).isEqualTo(1);
+    assertThat(out.toString()).contains(">>>> ").contains("notAnOption");
+  }
+
+  @Test
+  public void shouldHandleFurtherRequestsAfterAFailure() throws Exception {
+    MutationCoverageClient.submit(this.socket.getLocalPort(), this.secret,
+        this.workingDir, new String[] { "--notAnOption" },
+        new ByteArrayOutputStream());
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MutationCoverageClient.submit(this.socket.getLocalPort(), this.secret,
+        this.workingDir, new String[] { "--notAnOption" }, out);
+    assertThat(out.toString()).contains(">>>> ");
+  }
+
+  @Test
+  public void shouldIgnoreClientsWithoutTheSecret() throws Exception {
+    MutationCoverageClient.stop(this.socket.getLocalPort(),
+        SharedSecret.random(), this.workingDir);
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    MutationCoverageClient.submit(this.socket.getLocalPort(), this.secret,
+        this.workingDir, new String[] { "--notAnOption" }, out);
+    assertThat(this.daemon.isAlive()).isTrue();
+    assertThat(out.toString()).contains(">>>> ");
+  }
+
+  @Test(timeout = 10000)
+  public void shouldServeOtherClientsWhenAClientSendsNothing()
+      throws Exception {
+    try (Socket silent = new Socket(InetAddress.getLoopbackAddress(),
+        this.socket.getLocalPort())) {
+      final ByteArrayOutputStream out = new ByteArrayOutputStream();
+      MutationCoverageClient.submit(this.socket.getLocalPort(), this.secret,
+          this.workingDir, new String[] { "--notAnOption" }, out);
+      assertThat(out.toString()).contains(">>>> ");
+    }
+  }
+
+  @Test
+  public void shouldStopWhenAsked() throws Exception {
+    MutationCoverageClient.stop(this.socket.getLocalPort(), this.secret,
+        this.workingDir);
+    this.daemon.join(10000);
+    assertThat(this.daemon.isAlive()).isFalse();
+    assertThat(this.socket.isClosed()).isTrue();
+  }
+
+}
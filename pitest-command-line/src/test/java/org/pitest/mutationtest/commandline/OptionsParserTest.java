@@ -175,6 +175,13 @@ public class OptionsParserTest {
     assertEquals(42, actual.getTimeoutConstant());
   }
 
+  @Test
+  public void shouldParseTimeOutPercentile() {
+    final ReportOptions actual = parseAddingRequiredArgs("--timeoutPercentile",
+        "95");
+    assertEquals(95, actual.getTimeoutPercentile());
+  }
+
   @Test
   public void shouldParseCommaSeparatedListOfTargetTestClassGlobs() {
     final ReportOptions actual = parseAddingRequiredArgs("--targetTest",
@@ -365,6 +372,13 @@ public class OptionsParserTest {
     assertEquals(new File("foo"), actual.getHistoryInputLocation());
   }
 
+  @Test
+  public void shouldParseDependencyCacheLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--dependencyCacheLocation", "foo");
+    assertEquals(new File("foo"), actual.getDependencyCacheLocation());
+  }
+
   @Test
   public void shouldParseHistoryOutputLocation() {
     final ReportOptions actual = parseAddingRequiredArgs(
@@ -393,6 +407,23 @@ public class OptionsParserTest {
     assertEquals(42, actual.getCoverageThreshold());
   }
 
+  @Test
+  public void shouldNotSampleByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs();
+    assertFalse(actual.isSampling());
+    assertEquals(95, actual.getSamplingConfidence());
+  }
+
+  @Test
+  public void shouldParseSamplingOptions() {
+    final ReportOptions actual = parseAddingRequiredArgs("--samplingMargin",
+        "2.5", "--samplingConfidence", "99", "--samplingSeed", "42");
+    assertTrue(actual.isSampling());
+    assertEquals(2.5f, actual.getSamplingMargin(), 0.0001f);
+    assertEquals(99, actual.getSamplingConfidence());
+    assertEquals(42L, actual.getSamplingSeed());
+  }
+
   @Test
   public void shouldDefaultToGregorEngineWhenNoOptionSupplied() {
     final ReportOptions actual = parseAddingRequiredArgs();
@@ -430,6 +461,179 @@ public class OptionsParserTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldExportLineCoverageAsXMLByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals("XML", actual.getLineCoverageFormat());
+  }
+
+  @Test
+  public void shouldParseLineCoverageFormat() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--lineCoverageFormat", "BINARY");
+    assertEquals("BINARY", actual.getLineCoverageFormat());
+  }
+
+  @Test
+  public void shouldParseMetricsInterval() {
+    final ReportOptions actual = parseAddingRequiredArgs("--metricsInterval",
+        "10");
+    assertEquals(10, actual.getMetricsInterval());
+  }
+
+  @Test
+  public void shouldParseReportTimingsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--reportTimings");
+    assertTrue(actual.shouldReportTimings());
+  }
+
+  @Test
+  public void shouldNotReportTimingsWhenFlagNotSet() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldReportTimings());
+  }
+
+  @Test
+  public void shouldParseLoopBudget() {
+    final ReportOptions actual = parseAddingRequiredArgs("--loopBudget",
+        "100000");
+    assertEquals(100000, actual.getLoopBudget());
+  }
+
+  @Test
+  public void shouldPlaceNoLimitOnLoopsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getLoopBudget());
+  }
+
+  @Test
+  public void shouldParseMaxMinionHeap() {
+    final ReportOptions actual = parseAddingRequiredArgs("--maxMinionHeap",
+        "2048");
+    assertEquals(2048, actual.getMaxMinionHeap());
+  }
+
+  @Test
+  public void shouldLeaveMinionMemoryUnmanagedByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(0, actual.getMaxMinionHeap());
+  }
+
+  @Test
+  public void shouldParseIsolateMutantsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--isolateMutants");
+    assertTrue(actual.shouldIsolateMutants());
+  }
+
+  @Test
+  public void shouldHotSwapMutantsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldIsolateMutants());
+    assertEquals(1, actual.getMutantThreads());
+  }
+
+  @Test
+  public void shouldParseMutantThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--mutantThreads",
+        "4");
+    assertEquals(4, actual.getMutantThreads());
+  }
+
+  @Test
+  public void shouldParseClassDataSharingFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--classDataSharing");
+    assertTrue(actual.isClassDataSharing());
+  }
+
+  @Test
+  public void shouldNotShareClassDataByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isClassDataSharing());
+  }
+
+  @Test
+  public void shouldParseChangesSince() {
+    final ReportOptions actual = parseAddingRequiredArgs("--changesSince",
+        "origin/master");
+    assertEquals("origin/master", actual.getChangesSince());
+  }
+
+  @Test
+  public void shouldMutateAllTargetClassesByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertNull(actual.getChangesSince());
+  }
+
+  @Test
+  public void shouldParseClassInfoCacheLocation() {
+    final ReportOptions actual = parseAddingRequiredArgs(
+        "--classInfoCacheLocation", "foo");
+    assertEquals(new File("foo"), actual.getClassInfoCacheLocation());
+  }
+
+  @Test
+  public void shouldParseGroupMutantsFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--groupMutants");
+    assertTrue(actual.shouldGroupMutants());
+  }
+
+  @Test
+  public void shouldNotGroupMutantsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldGroupMutants());
+  }
+
+  @Test
+  public void shouldParseInfectionPrefilterFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--infectionPrefilter");
+    assertTrue(actual.shouldPrefilterInfection());
+  }
+
+  @Test
+  public void shouldNotPrefilterInfectionByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.shouldPrefilterInfection());
+  }
+
+  @Test
+  public void shouldGatherCoverageOnOneThreadByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertEquals(1, actual.getCoverageThreads());
+  }
+
+  @Test
+  public void shouldParseCoverageThreads() {
+    final ReportOptions actual = parseAddingRequiredArgs("--coverageThreads",
+        "4");
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
+  @Test
+  public void shouldNotWatchByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertFalse(actual.isWatch());
+  }
+
+  @Test
+  public void shouldParseWatchFlag() {
+    final ReportOptions actual = parseAddingRequiredArgs("--watch");
+    assertTrue(actual.isWatch());
+  }
+
+  @Test
+  public void shouldUseNoWorkerAgentsByDefault() {
+    final ReportOptions actual = parseAddingRequiredArgs("");
+    assertThat(actual.getWorkerAgents()).isEmpty();
+  }
+
+  @Test
+  public void shouldParseCommaSeparatedListOfWorkerAgents() {
+    final ReportOptions actual = parseAddingRequiredArgs("--workerAgents",
+        "alpha:8097,beta:8098");
+    assertThat(actual.getWorkerAgents()).containsExactly("alpha:8097",
+        "beta:8098");
+  }
+
   @Test
   public void shouldIncludeLaunchClasspathByDefault() {
     final ReportOptions actual = parseAddingRequiredArgs("");
@@ -14,27 +14,45 @@
  */
 package org.pitest.classinfo;
 
-import java.util.HashMap;
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Collections;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
 
 import org.pitest.functional.Option;
 
+/**
+ * Reads class information from a byte array source. May be shared between
+ * threads. Parsed classes may optionally be stored in a cache so that their
+ * information can be reused across runs.
+ */
 public class Repository implements ClassInfoSource {
 
-  private final HashFunction              hashFunction;
-  private final Map<ClassName, ClassInfo> knownClasses   = new HashMap<>();
-  private final Set<ClassName>            unknownClasses = new HashSet<>();
-  private final ClassByteArraySource      source;
+  private final HashFunction                        hashFunction;
+  private final ConcurrentMap<ClassName, ClassInfo> knownClasses   = new ConcurrentHashMap<>();
+  private final Set<ClassName>                      unknownClasses = Collections
+      .newSetFromMap(new ConcurrentHashMap<ClassName, Boolean>());
+  private final ClassByteArraySource                source;
+  private final Option<ClassInfoCache>              cache;
 
   public Repository(final ClassByteArraySource source) {
-    this(source, new AddlerHash());
+    this(source, Option.<ClassInfoCache> none());
+  }
+
+  public Repository(final ClassByteArraySource source,
+      final Option<ClassInfoCache> cache) {
+    this(source, new AddlerHash(), cache);
   }
 
   Repository(final ClassByteArraySource source, final HashFunction hashFunction) {
+    this(source, hashFunction, Option.<ClassInfoCache> none());
+  }
+
+  Repository(final ClassByteArraySource source,
+      final HashFunction hashFunction, final Option<ClassInfoCache> cache) {
     this.source = source;
     this.hashFunction = hashFunction;
+    this.cache = cache;
   }
 
   public boolean hasClass(final ClassName name) {
@@ -59,7 +77,11 @@ public class Repository implements ClassInfoSource {
 
     final Option<ClassInfo> maybeInfo = nameToClassInfo(name);
     if (maybeInfo.hasSome()) {
-      this.knownClasses.put(name, maybeInfo.value());
+      final ClassInfo existing = this.knownClasses.putIfAbsent(name,
+          maybeInfo.value());
+      if (existing != null) {
+        return Option.some(existing);
+      }
     }
     return maybeInfo;
   }
@@ -67,14 +89,30 @@ public class Repository implements ClassInfoSource {
   private Option<ClassInfo> nameToClassInfo(final ClassName name) {
     final Option<byte[]> bytes = querySource(name);
     if (bytes.hasSome()) {
-      final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
-          bytes.value(), this.hashFunction.hash(bytes.value()));
-      return contructClassInfo(classData);
+      return contructClassInfo(readClassData(name, bytes.value()));
     } else {
       return Option.none();
     }
   }
 
+  private ClassInfoBuilder readClassData(final ClassName name,
+      final byte[] bytes) {
+    final long hash = this.hashFunction.hash(bytes);
+    for (final ClassInfoCache each : this.cache) {
+      final Option<ClassInfoBuilder> cached = each.get(name, hash,
+          bytes.length);
+      if (cached.hasSome()) {
+        return cached.value();
+      }
+    }
+    final ClassInfoBuilder classData = ClassInfoVisitor.getClassInfo(name,
+        bytes, hash);
+    for (final ClassInfoCache each : this.cache) {
+      each.put(bytes.length, classData);
+    }
+    return classData;
+  }
+
   public Option<byte[]> querySource(final ClassName name) {
     if (this.unknownClasses.contains(name)) {
       return Option.none();
@@ -108,7 +108,8 @@ public class CoverageData implements CoverageDatabase {
 
     checkForFailedTest(cr);
     final TestInfo ti = this.createTestInfo(cr.getTestUnitDescription(),
-        cr.getExecutionTime(), cr.getNumberOfCoveredBlocks());
+        cr.getExecutionTime(), cr.getNumberOfCoveredBlocks(),
+        cr.getBackwardJumps());
     for (BlockLocation each : cr.getCoverage()) {
       addTestsToBlockMap(ti, each);
     }
@@ -240,11 +241,13 @@ public class CoverageData implements CoverageDatabase {
   }
 
   private TestInfo createTestInfo(final Description description,
-      final int executionTime, final int linesCovered) {
+      final int executionTime, final int linesCovered,
+      final long backwardJumps) {
     final Option<ClassName> testee = this.code.findTestee(description
         .getFirstTestClass());
     return new TestInfo(description.getFirstTestClass(),
-        description.getQualifiedName(), executionTime, testee, linesCovered);
+        description.getQualifiedName(), executionTime, testee, linesCovered,
+        backwardJumps);
   }
 
   private F2<Integer, ClassName, Integer> numberCoveredLines() {
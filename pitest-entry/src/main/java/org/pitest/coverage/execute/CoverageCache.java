@@ -0,0 +1,135 @@
+package org.pitest.coverage.execute;
+
+import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+
+/**
+ * Holds the coverage of each test class between the analyses of a long lived
+ * tool. The coverage of a test class is reused while neither it, nor any class
+ * it covered, has changed since it was last run.
+ *
+ * Only code and test classes are tracked, so the cache must be cleared when
+ * any other class the tests may depend on changes.
+ */
+public class CoverageCache {
+
+  private final Map<ClassName, BigInteger>        hashes  = new HashMap<>();
+  private final Map<String, List<CoverageResult>> results = new HashMap<>();
+
+  /**
+   * Compares the supplied classes to those seen by the last call, and returns
+   * the tests whose coverage must be gathered again. Coverage for every other
+   * test is then available from {@link #getCachedResults()}.
+   */
+  public synchronized List<ClassInfo> findTestsToRun(
+      final Collection<ClassInfo> code, final Collection<ClassInfo> tests) {
+    final Map<ClassName, BigInteger> current = new HashMap<>();
+    addHashes(current, code);
+    addHashes(current, tests);
+    final Set<ClassName> changed = findChanges(current);
+    this.hashes.clear();
+    this.hashes.putAll(current);
+
+    final Set<String> names = new HashSet<>();
+    final List<ClassInfo> toRun = new ArrayList<>();
+    for (final ClassInfo each : tests) {
+      final String name = each.getName().asJavaName();
+      names.add(name);
+      if (isStale(name, changed)) {
+        this.results.remove(name);
+        toRun.add(each);
+      }
+    }
+    this.results.keySet().retainAll(names);
+    return toRun;
+  }
+
+  public synchronized List<CoverageResult> getCachedResults() {
+    final List<CoverageResult> cached = new ArrayList<>();
+    for (final List<CoverageResult> each : this.results.values()) {
+      cached.addAll(each);
+    }
+    return cached;
+  }
+
+  /**
+   * Records the coverage gathered by running the supplied tests. Should a
+   * result not belong to one of the tests the cache is cleared, so that all
+   * tests are run next time.
+   */
+  public synchronized void record(final Collection<ClassInfo> ran,
+      final Collection<CoverageResult> coverage) {
+    for (final ClassInfo each : ran) {
+      this.results.put(each.getName().asJavaName(),
+          new ArrayList<CoverageResult>());
+    }
+    for (final CoverageResult each : coverage) {
+      final List<CoverageResult> forTest = this.results.get(each
+          .getTestUnitDescription().getFirstTestClass());
+      if (forTest == null) {
+        clear();
+        return;
+      }
+      forTest.add(each);
+    }
+  }
+
+  public synchronized boolean isTracked(final ClassName clazz) {
+    return this.hashes.containsKey(clazz);
+  }
+
+  public synchronized void clear() {
+    this.hashes.clear();
+    this.results.clear();
+  }
+
+  private boolean isStale(final String test, final Set<ClassName> changed) {
+    final List<CoverageResult> cached = this.results.get(test);
+    if ((cached == null) || changed.contains(ClassName.fromString(test))) {
+      return true;
+    }
+    for (final CoverageResult each : cached) {
+      for (final BlockLocation block : each.getCoverage()) {
+        if (changed.contains(block.getLocation().getClassName())) {
+          return true;
+        }
+      }
+    }
+    return false;
+  }
+
+  private Set<ClassName> findChanges(final Map<ClassName, BigInteger> current) {
+    final Set<ClassName> changed = new HashSet<>();
+    for (final Entry<ClassName, BigInteger> each : current.entrySet()) {
+      if (!each.getValue().equals(this.hashes.get(each.getKey()))) {
+        changed.add(each.getKey());
+      }
+    }
+    for (final ClassName each : this.hashes.keySet()) {
+      if (!current.containsKey(each)) {
+        changed.add(each);
+      }
+    }
+    return changed;
+  }
+
+  private static void addHashes(final Map<ClassName, BigInteger> hashes,
+      final Collection<ClassInfo> classes) {
+    for (final ClassInfo each : classes) {
+      hashes.put(each.getName(), each.getDeepHash());
+    }
+  }
+
+}
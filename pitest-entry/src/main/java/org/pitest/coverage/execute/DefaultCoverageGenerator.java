@@ -18,6 +18,7 @@ package org.pitest.coverage.execute;
 import java.io.File;
 import java.io.IOException;
 import java.net.ServerSocket;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
@@ -32,11 +33,14 @@ import org.pitest.coverage.CoverageResult;
 import org.pitest.coverage.analysis.LineMapper;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.metrics.RunMetrics;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.LaunchOptions;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.ExitCode;
@@ -48,20 +52,60 @@ import org.pitest.util.Unchecked;
 
 public class DefaultCoverageGenerator implements CoverageGenerator {
 
-  private static final Logger    LOG = Log.getLogger();
+  private static final Logger            LOG = Log.getLogger();
 
-  private final CoverageOptions  coverageOptions;
-  private final LaunchOptions    launchOptions;
-  private final CodeSource       code;
-  private final Timings          timings;
-  private final File             workingDir;
-  private final CoverageExporter exporter;
-  private final boolean          showProgress;
+  private final CoverageOptions          coverageOptions;
+  private LaunchOptions                  launchOptions;
+  private final CodeSource               code;
+  private final Timings                  timings;
+  private final File                     workingDir;
+  private final CoverageExporter         exporter;
+  private final boolean                  showProgress;
+  private final RunMetrics               metrics;
+  private final Option<ClassDataSharing> sharing;
+  private final Option<CoverageCache>    cache;
 
   public DefaultCoverageGenerator(final File workingDir,
       final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
       final CodeSource code, final CoverageExporter exporter,
       final Timings timings, final boolean showProgress) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, new RunMetrics(timings));
+  }
+
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final RunMetrics metrics) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, metrics, Option.<ClassDataSharing> none());
+  }
+
+  /**
+   * @param sharing
+   *          shares the classes loaded during coverage with later minions
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final RunMetrics metrics, final Option<ClassDataSharing> sharing) {
+    this(workingDir, coverageOptions, launchOptions, code, exporter, timings,
+        showProgress, metrics, sharing, Option.<CoverageCache> none());
+  }
+
+  /**
+   * @param cache
+   *          holds coverage between runs, so that only tests whose coverage may
+   *          have changed are run
+   */
+  public DefaultCoverageGenerator(final File workingDir,
+      final CoverageOptions coverageOptions, final LaunchOptions launchOptions,
+      final CodeSource code, final CoverageExporter exporter,
+      final Timings timings, final boolean showProgress,
+      final RunMetrics metrics, final Option<ClassDataSharing> sharing,
+      final Option<CoverageCache> cache) {
     this.coverageOptions = coverageOptions;
     this.code = code;
     this.launchOptions = launchOptions;
@@ -69,6 +113,9 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     this.workingDir = workingDir;
     this.exporter = exporter;
     this.showProgress = showProgress;
+    this.metrics = metrics;
+    this.sharing = sharing;
+    this.cache = cache;
   }
 
   @Override
@@ -84,9 +131,17 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
           this.code));
 
       this.timings.registerStart(Timings.Stage.COVERAGE);
-      gatherCoverageData(tests, coverage);
+      this.metrics.coverageStarted();
+      if (this.cache.hasSome()) {
+        gatherCoverageData(tests, coverage, this.cache.value());
+      } else {
+        gatherCoverageData(tests, resultProcessor(coverage));
+      }
+      this.metrics.coverageEnded();
       this.timings.registerEnd(Timings.Stage.COVERAGE);
 
+      shareClasses();
+
       final long time = (System.currentTimeMillis() - t0) / 1000;
 
       LOG.info("Calculated coverage in " + time + " seconds.");
@@ -104,6 +159,28 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
     }
   }
 
+  private void shareClasses() {
+    for (final ClassDataSharing each : this.sharing) {
+      final String classPath = this.code.getClassPath().getLocalClassPath();
+      this.timings.registerStart(Timings.Stage.CLASS_DATA_SHARING);
+      this.launchOptions = each.sharing(this.launchOptions, classPath);
+      this.timings.registerEnd(Timings.Stage.CLASS_DATA_SHARING);
+      for (final Long saving : each.measureSaving(this.launchOptions,
+          classPath)) {
+        LOG.info("Class data sharing saves " + saving
+            + " ms loading classes in each minion");
+        this.timings.registerSaving("class data sharing per minion", saving);
+      }
+    }
+  }
+
+  private LaunchOptions coverageLaunchOptions() {
+    if (this.sharing.hasSome()) {
+      return this.sharing.value().recording(this.launchOptions);
+    }
+    return this.launchOptions;
+  }
+
   private static void verifyBuildSuitableForMutationTesting(final CoverageData coverage) {
     if (!coverage.allTestsGreen()) {
       throw new PitHelpError(Help.FAILING_TESTS);
@@ -111,20 +188,44 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
   }
 
   private void gatherCoverageData(final Collection<ClassInfo> tests,
-      final CoverageData coverage) throws IOException, InterruptedException,
-      ExecutionException {
+      final CoverageData coverage, final CoverageCache cache)
+      throws IOException, InterruptedException, ExecutionException {
+    final List<ClassInfo> stale = cache.findTestsToRun(this.code.getCode(),
+        tests);
+    final List<CoverageResult> cached = cache.getCachedResults();
+    LOG.info("Reusing coverage of " + (tests.size() - stale.size()) + " of "
+        + tests.size() + " test classes");
+    for (final CoverageResult each : cached) {
+      coverage.calculateClassCoverage(each);
+    }
+
+    if (stale.isEmpty()) {
+      return;
+    }
+    final List<CoverageResult> gathered = new ArrayList<>();
+    final SideEffect1<CoverageResult> processor = resultProcessor(coverage);
+    gatherCoverageData(stale, new SideEffect1<CoverageResult>() {
+      @Override
+      public void apply(final CoverageResult a) {
+        processor.apply(a);
+        gathered.add(a);
+      }
+    });
+    cache.record(stale, gathered);
+  }
 
+  private void gatherCoverageData(final Collection<ClassInfo> tests,
+      final SideEffect1<CoverageResult> handler) throws IOException,
+      InterruptedException, ExecutionException {
     final List<String> filteredTests = FCollection
         .map(tests, classInfoToName());
 
-    final SideEffect1<CoverageResult> handler = resultProcessor(coverage);
-
     final SocketFinder sf = new SocketFinder();
     final ServerSocket socket = sf.getNextAvailableServerSocket();
 
     final CoverageProcess process = new CoverageProcess(ProcessArgs
         .withClassPath(this.code.getClassPath()).andBaseDir(this.workingDir)
-        .andLaunchOptions(this.launchOptions).andStderr(logInfo())
+        .andLaunchOptions(coverageLaunchOptions()).andStderr(logInfo())
         .andStdout(captureStandardOutIfVerbose()), this.coverageOptions,
         socket, filteredTests, handler);
 
@@ -191,6 +292,7 @@ public class DefaultCoverageGenerator implements CoverageGenerator {
       @Override
       public void apply(final CoverageResult cr) {
         coverage.calculateClassCoverage(cr);
+        DefaultCoverageGenerator.this.metrics.testCovered();
         if (DefaultCoverageGenerator.this.showProgress) {
           System.out.printf("%s", this.spinner[this.i % this.spinner.length]);
         }
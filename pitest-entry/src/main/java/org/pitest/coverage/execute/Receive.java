@@ -93,8 +93,9 @@ final class Receive implements ReceiveStrategy {
       final Description d, Collection<BlockLocation> visitedBlocks) {
     final boolean isGreen = is.readBoolean();
     final int executionTime = is.readInt();
+    final long backwardJumps = is.readLong();
     final CoverageResult cr = new CoverageResult(d, executionTime, isGreen,
-        visitedBlocks);
+        visitedBlocks, backwardJumps);
     return cr;
   }
 
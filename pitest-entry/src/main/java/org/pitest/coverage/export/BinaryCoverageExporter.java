@@ -0,0 +1,191 @@
+package org.pitest.coverage.export;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.zip.GZIPOutputStream;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageExporter;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
+
+/**
+ * Exports coverage data in a compact binary form, for projects where the XML
+ * export grows too large to write or read back in reasonable time.
+ *
+ * The file is gzip compressed and holds a table of test names followed by the
+ * covered blocks grouped by class. Each class has its own table of methods,
+ * and its blocks refer to methods and tests by index. The tests covering a
+ * block are stored as either the gaps between their indexes or a bitmap,
+ * whichever is smaller. {@link BinaryCoverageReader} reads the file back.
+ */
+public class BinaryCoverageExporter implements CoverageExporter {
+
+  public static final String         FILE_NAME = "linecoverage.bin";
+
+  static final int                   MAGIC     = 0x50495443;
+  static final int                   VERSION   = 1;
+  static final int                   SPARSE    = 0;
+  static final int                   DENSE     = 1;
+
+  private final ResultOutputStrategy outputStrategy;
+
+  public BinaryCoverageExporter(final ResultOutputStrategy outputStrategy) {
+    this.outputStrategy = outputStrategy;
+  }
+
+  @Override
+  public void recordCoverage(final Collection<BlockCoverage> coverage) {
+    final Map<String, Integer> tests = indexTests(coverage);
+    final Map<ClassName, List<BlockCoverage>> classes = groupByClass(coverage);
+    try (DataOutputStream out = new DataOutputStream(new GZIPOutputStream(
+        this.outputStrategy.createOutputStreamForFile(FILE_NAME)))) {
+      out.writeInt(MAGIC);
+      out.writeInt(VERSION);
+      writeVarInt(out, tests.size());
+      for (final String each : tests.keySet()) {
+        writeString(out, each);
+      }
+      writeVarInt(out, classes.size());
+      for (final Entry<ClassName, List<BlockCoverage>> each : classes
+          .entrySet()) {
+        writeClass(out, each.getKey(), each.getValue(), tests);
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static Map<String, Integer> indexTests(
+      final Collection<BlockCoverage> coverage) {
+    final TreeSet<String> names = new TreeSet<>();
+    for (final BlockCoverage each : coverage) {
+      names.addAll(each.getTests());
+    }
+    final Map<String, Integer> indexes = new LinkedHashMap<>();
+    for (final String each : names) {
+      indexes.put(each, indexes.size());
+    }
+    return indexes;
+  }
+
+  private static Map<ClassName, List<BlockCoverage>> groupByClass(
+      final Collection<BlockCoverage> coverage) {
+    final Map<ClassName, List<BlockCoverage>> classes = new TreeMap<>();
+    for (final BlockCoverage each : coverage) {
+      final ClassName clazz = each.getBlock().getLocation().getClassName();
+      List<BlockCoverage> blocks = classes.get(clazz);
+      if (blocks == null) {
+        blocks = new ArrayList<>();
+        classes.put(clazz, blocks);
+      }
+      blocks.add(each);
+    }
+    return classes;
+  }
+
+  private static void writeClass(final DataOutputStream out,
+      final ClassName clazz, final List<BlockCoverage> blocks,
+      final Map<String, Integer> tests) throws IOException {
+    final Map<Location, Integer> methods = new LinkedHashMap<>();
+    for (final BlockCoverage each : blocks) {
+      final Location location = each.getBlock().getLocation();
+      if (!methods.containsKey(location)) {
+        methods.put(location, methods.size());
+      }
+    }
+
+    writeString(out, clazz.asJavaName());
+    writeVarInt(out, methods.size());
+    for (final Location each : methods.keySet()) {
+      writeString(out, each.getMethodName().name());
+      writeString(out, each.getMethodDesc());
+    }
+    writeVarInt(out, blocks.size());
+    for (final BlockCoverage each : blocks) {
+      writeVarInt(out, methods.get(each.getBlock().getLocation()));
+      writeVarInt(out, each.getBlock().getBlock());
+      writeTests(out, testIndexes(each.getTests(), tests));
+    }
+  }
+
+  private static int[] testIndexes(final Collection<String> names,
+      final Map<String, Integer> tests) {
+    final int[] indexes = new int[names.size()];
+    int i = 0;
+    for (final String each : names) {
+      indexes[i] = tests.get(each);
+      i++;
+    }
+    Arrays.sort(indexes);
+    return indexes;
+  }
+
+  private static void writeTests(final DataOutputStream out,
+      final int[] indexes) throws IOException {
+    final BitSet bitmap = new BitSet();
+    int gapBytes = varIntSize(indexes.length);
+    int previous = -1;
+    for (final int each : indexes) {
+      bitmap.set(each);
+      gapBytes += varIntSize(each - previous);
+      previous = each;
+    }
+
+    final byte[] dense = bitmap.toByteArray();
+    if (dense.length < gapBytes) {
+      out.writeByte(DENSE);
+      writeVarInt(out, dense.length);
+      out.write(dense);
+    } else {
+      out.writeByte(SPARSE);
+      writeVarInt(out, indexes.length);
+      previous = -1;
+      for (final int each : indexes) {
+        writeVarInt(out, each - previous);
+        previous = each;
+      }
+    }
+  }
+
+  private static void writeString(final DataOutputStream out,
+      final String value) throws IOException {
+    final byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+    writeVarInt(out, bytes.length);
+    out.write(bytes);
+  }
+
+  private static void writeVarInt(final DataOutputStream out, final int value)
+      throws IOException {
+    int remaining = value;
+    while ((remaining & ~0x7F) != 0) {
+      out.writeByte((remaining & 0x7F) | 0x80);
+      remaining >>>= 7;
+    }
+    out.writeByte(remaining);
+  }
+
+  private static int varIntSize(final int value) {
+    int size = 1;
+    int remaining = value >>> 7;
+    while (remaining != 0) {
+      size++;
+      remaining >>>= 7;
+    }
+    return size;
+  }
+
+}
@@ -0,0 +1,122 @@
+package org.pitest.coverage.export;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+
+/**
+ * Reads coverage written by {@link BinaryCoverageExporter} one block at a
+ * time, so large exports can be consumed without first loading them whole.
+ * Blocks covered by the same test share a single instance of its name.
+ */
+public class BinaryCoverageReader implements Closeable {
+
+  private final DataInputStream in;
+
+  public BinaryCoverageReader(final InputStream in) throws IOException {
+    this.in = new DataInputStream(new GZIPInputStream(
+        new BufferedInputStream(in)));
+  }
+
+  /**
+   * Passes each block in the export to the visitor, in the order written
+   */
+  public void read(final SideEffect1<BlockCoverage> visitor)
+      throws IOException {
+    if (this.in.readInt() != BinaryCoverageExporter.MAGIC) {
+      throw new IOException("Not a binary coverage export");
+    }
+    final int version = this.in.readInt();
+    if (version != BinaryCoverageExporter.VERSION) {
+      throw new IOException("Unsupported binary coverage version " + version);
+    }
+
+    final String[] tests = new String[readVarInt()];
+    for (int i = 0; i != tests.length; i++) {
+      tests[i] = readString();
+    }
+
+    final int classes = readVarInt();
+    for (int i = 0; i != classes; i++) {
+      readClass(tests, visitor);
+    }
+  }
+
+  private void readClass(final String[] tests,
+      final SideEffect1<BlockCoverage> visitor) throws IOException {
+    final ClassName clazz = ClassName.fromString(readString());
+    final Location[] methods = new Location[readVarInt()];
+    for (int i = 0; i != methods.length; i++) {
+      final MethodName name = MethodName.fromString(readString());
+      methods[i] = new Location(clazz, name, readString());
+    }
+
+    final int blocks = readVarInt();
+    for (int i = 0; i != blocks; i++) {
+      final Location location = methods[readVarInt()];
+      final BlockLocation block = new BlockLocation(location, readVarInt());
+      visitor.apply(new BlockCoverage(block, readTests(tests)));
+    }
+  }
+
+  private List<String> readTests(final String[] tests) throws IOException {
+    final int kind = this.in.readByte();
+    final List<String> names = new ArrayList<>();
+    if (kind == BinaryCoverageExporter.DENSE) {
+      final byte[] bytes = new byte[readVarInt()];
+      this.in.readFully(bytes);
+      final BitSet bitmap = BitSet.valueOf(bytes);
+      for (int i = bitmap.nextSetBit(0); i >= 0; i = bitmap.nextSetBit(i + 1)) {
+        names.add(tests[i]);
+      }
+    } else if (kind == BinaryCoverageExporter.SPARSE) {
+      final int count = readVarInt();
+      int index = -1;
+      for (int i = 0; i != count; i++) {
+        index += readVarInt();
+        names.add(tests[index]);
+      }
+    } else {
+      throw new IOException("Unknown test set encoding " + kind);
+    }
+    return names;
+  }
+
+  private String readString() throws IOException {
+    final byte[] bytes = new byte[readVarInt()];
+    this.in.readFully(bytes);
+    return new String(bytes, StandardCharsets.UTF_8);
+  }
+
+  private int readVarInt() throws IOException {
+    int value = 0;
+    int shift = 0;
+    int b;
+    do {
+      b = this.in.readUnsignedByte();
+      value |= (b & 0x7F) << shift;
+      shift += 7;
+    } while ((b & 0x80) != 0);
+    return value;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.in.close();
+  }
+
+}
@@ -20,4 +20,10 @@ public interface HistoryStore {
 
   Map<ClassName, ClassHistory> getHistoricClassPath();
 
+  /**
+   * Durations, in milliseconds, of each test in the coverage runs of previous
+   * analyses
+   */
+  Map<String, long[]> getHistoricTestDurations();
+
 }
@@ -1,7 +1,9 @@
 package org.pitest.mutationtest;
 
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.statistics.MutationStatisticsSource;
 import org.pitest.util.ResultOutputStrategy;
 
 /**
@@ -10,20 +12,49 @@ import org.pitest.util.ResultOutputStrategy;
  */
 public class ListenerArguments {
 
-  private final ResultOutputStrategy outputStrategy;
-  private final CoverageDatabase     coverage;
-  private final long                 startTime;
-  private final SourceLocator        locator;
-  private final MutationEngine       engine;
+  private final ResultOutputStrategy             outputStrategy;
+  private final CoverageDatabase                 coverage;
+  private final long                             startTime;
+  private final SourceLocator                    locator;
+  private final MutationEngine                   engine;
+  private final Option<MutationStatisticsSource> statistics;
+  private final boolean                          reportTimings;
 
   public ListenerArguments(final ResultOutputStrategy outputStrategy,
       final CoverageDatabase coverage, final SourceLocator locator,
       final MutationEngine engine, final long startTime) {
+    this(outputStrategy, coverage, locator, engine, startTime,
+        Option.<MutationStatisticsSource> none(), false);
+  }
+
+  public ListenerArguments(final ResultOutputStrategy outputStrategy,
+      final CoverageDatabase coverage, final SourceLocator locator,
+      final MutationEngine engine, final long startTime,
+      final MutationStatisticsSource statistics) {
+    this(outputStrategy, coverage, locator, engine, startTime, statistics,
+        false);
+  }
+
+  public ListenerArguments(final ResultOutputStrategy outputStrategy,
+      final CoverageDatabase coverage, final SourceLocator locator,
+      final MutationEngine engine, final long startTime,
+      final MutationStatisticsSource statistics, final boolean reportTimings) {
+    this(outputStrategy, coverage, locator, engine, startTime, Option
+        .some(statistics), reportTimings);
+  }
+
+  private ListenerArguments(final ResultOutputStrategy outputStrategy,
+      final CoverageDatabase coverage, final SourceLocator locator,
+      final MutationEngine engine, final long startTime,
+      final Option<MutationStatisticsSource> statistics,
+      final boolean reportTimings) {
     this.outputStrategy = outputStrategy;
     this.coverage = coverage;
     this.locator = locator;
     this.startTime = startTime;
     this.engine = engine;
+    this.statistics = statistics;
+    this.reportTimings = reportTimings;
   }
 
   public ResultOutputStrategy getOutputStrategy() {
@@ -46,4 +77,20 @@ public class ListenerArguments {
     return this.engine;
   }
 
+  /**
+   * Statistics for the run, complete once the listeners have been sent the
+   * last result
+   */
+  public Option<MutationStatisticsSource> getStatistics() {
+    return this.statistics;
+  }
+
+  /**
+   * Whether reports should include the time spent in each phase of analysing
+   * each mutation
+   */
+  public boolean isReportingTimings() {
+    return this.reportTimings;
+  }
+
 }
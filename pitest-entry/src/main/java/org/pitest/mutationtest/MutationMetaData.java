@@ -21,13 +21,46 @@ import java.util.Comparator;
 import java.util.List;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.engine.MutationDetails;
 
 public final class MutationMetaData {
 
   private final List<MutationResult> mutations;
 
   public MutationMetaData(final List<MutationResult> mutations) {
-    this.mutations = mutations;
+    this.mutations = withDuplicates(mutations);
+  }
+
+  private MutationMetaData(final Collection<MutationResult> first,
+      final Collection<MutationResult> second) {
+    this.mutations = new ArrayList<>(first);
+    this.mutations.addAll(second);
+  }
+
+  /**
+   * Combines these results with those from another unit of analysis
+   */
+  public MutationMetaData combine(final MutationMetaData other) {
+    return new MutationMetaData(this.mutations, other.mutations);
+  }
+
+  /**
+   * Mutations found to be duplicates of another are not run, but are given
+   * the status of the mutation they duplicate here.
+   */
+  private static List<MutationResult> withDuplicates(
+      final List<MutationResult> mutations) {
+    List<MutationResult> all = mutations;
+    for (final MutationResult each : mutations) {
+      for (final MutationDetails duplicate : each.getDetails().getDuplicates()) {
+        if (all == mutations) {
+          all = new ArrayList<>(mutations);
+        }
+        all.add(new MutationResult(duplicate, new MutationStatusTestPair(0,
+            each.getStatus(), each.getKillingTest().getOrElse(null))));
+      }
+    }
+    return all;
   }
 
   public Collection<MutationResult> getMutations() {
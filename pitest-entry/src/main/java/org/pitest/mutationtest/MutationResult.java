@@ -48,6 +48,13 @@ public final class MutationResult {
     return this.status;
   }
 
+  /**
+   * Timings are only present for mutations analysed in a minion
+   */
+  public Option<MutationTimings> getTimings() {
+    return this.status.getTimings();
+  }
+
   public String getStatusDescription() {
     return getStatus().name();
   }
@@ -49,6 +49,10 @@ public class MutationStatusMap {
         putToMap(this.mutationMap, new MutationStatusTestPair(0, status)));
   }
 
+  public MutationStatusTestPair getStatus(final MutationDetails mutation) {
+    return this.mutationMap.get(mutation);
+  }
+
   public List<MutationResult> createMutationResults() {
     return FCollection.map(this.mutationMap.entrySet(),
         detailsToMutationResults());
@@ -0,0 +1,137 @@
+package org.pitest.mutationtest.build;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.TreeMap;
+
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Orders mutations so that any prefix of the order is a random sample of
+ * them, stratified by mutated class and mutator.
+ *
+ * The mutations in each stratum are shuffled and spread evenly, from a random
+ * offset, across the whole order. Each stratum therefore contributes to a
+ * prefix in proportion to its size. The order depends only on the mutations
+ * and the seed.
+ */
+public class MutationSampler {
+
+  public static final int         DEFAULT_BATCH_SIZE = 50;
+
+  private final long              seed;
+  private final int               batchSize;
+  private final Map<String, Long> population         = new TreeMap<>();
+
+  public MutationSampler(final long seed, final int batchSize) {
+    this.seed = seed;
+    this.batchSize = batchSize > 0 ? batchSize : DEFAULT_BATCH_SIZE;
+  }
+
+  /**
+   * Splits the sample order into batches. Analysis should only be stopped at
+   * the end of a batch if the analysed mutations are to remain a random
+   * sample.
+   */
+  public List<List<MutationResult>> batches(
+      final Collection<MutationResult> mutations) {
+    final List<MutationResult> ordered = order(mutations);
+    final List<List<MutationResult>> batches = new ArrayList<>();
+    for (int i = 0; i < ordered.size(); i = i + this.batchSize) {
+      batches.add(ordered.subList(i,
+          Math.min(ordered.size(), i + this.batchSize)));
+    }
+    return batches;
+  }
+
+  List<MutationResult> order(final Collection<MutationResult> mutations) {
+    final Random random = new Random(this.seed);
+    final List<Placed> placed = new ArrayList<>();
+    int stratumIndex = 0;
+    for (final List<MutationResult> stratum : stratify(mutations).values()) {
+      Collections.shuffle(stratum, random);
+      final double offset = random.nextDouble();
+      for (int i = 0; i != stratum.size(); i++) {
+        placed.add(new Placed(stratum.get(i), (i + offset) / stratum.size(),
+            stratumIndex));
+      }
+      stratumIndex++;
+    }
+
+    Collections.sort(placed, new Comparator<Placed>() {
+      @Override
+      public int compare(final Placed a, final Placed b) {
+        final int byPosition = Double.compare(a.position, b.position);
+        if (byPosition != 0) {
+          return byPosition;
+        }
+        return Integer.compare(a.stratum, b.stratum);
+      }
+    });
+
+    final List<MutationResult> ordered = new ArrayList<>(placed.size());
+    for (final Placed each : placed) {
+      ordered.add(each.mutation);
+    }
+    return ordered;
+  }
+
+  private Map<String, List<MutationResult>> stratify(
+      final Collection<MutationResult> mutations) {
+    final Map<String, List<MutationResult>> strata = new TreeMap<>();
+    for (final MutationResult each : mutations) {
+      final MutationDetails details = each.getDetails();
+      countInPopulation(details);
+      final String key = details.getClassName().asJavaName() + " "
+          + details.getMutator();
+      List<MutationResult> stratum = strata.get(key);
+      if (stratum == null) {
+        stratum = new ArrayList<>();
+        strata.put(key, stratum);
+      }
+      stratum.add(each);
+    }
+    return strata;
+  }
+
+  private void countInPopulation(final MutationDetails details) {
+    increment(details.getMutator());
+    for (final MutationDetails each : details.getDuplicates()) {
+      increment(each.getMutator());
+    }
+  }
+
+  private void increment(final String mutator) {
+    final Long count = this.population.get(mutator);
+    this.population.put(mutator, count == null ? 1L : count + 1);
+  }
+
+  /**
+   * Number of mutations, including those reported as duplicates of another,
+   * generated for each mutator by the mutations batched so far.
+   */
+  public Map<String, Long> getPopulation() {
+    return new LinkedHashMap<>(this.population);
+  }
+
+  private static final class Placed {
+    private final MutationResult mutation;
+    private final double         position;
+    private final int            stratum;
+
+    Placed(final MutationResult mutation, final double position,
+        final int stratum) {
+      this.mutation = mutation;
+      this.position = position;
+      this.stratum = stratum;
+    }
+  }
+
+}
@@ -14,8 +14,11 @@
  */
 package org.pitest.mutationtest.build;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.logging.Logger;
 
 import org.pitest.bytecode.analysis.ClassTree;
@@ -71,11 +74,25 @@ public class MutationSource {
     }
   }
   
+  private List<TestInfo> assignTests(final MutationDetails mutation) {
+    final List<TestInfo> tests = this.testPrioritiser.assignTests(mutation);
+    if (mutation.getDuplicates().isEmpty()) {
+      return tests;
+    }
+
+    // duplicates are the same program, so a test covering any of them may
+    // kill the one that is run
+    final Set<TestInfo> allTests = new LinkedHashSet<>(tests);
+    for (final MutationDetails each : mutation.getDuplicates()) {
+      allTests.addAll(this.testPrioritiser.assignTests(each));
+    }
+    return new ArrayList<>(allTests);
+  }
+
   private void assignTestsToMutations(
       final Collection<MutationDetails> availableMutations) {
     for (final MutationDetails mutation : availableMutations) {
-      final List<TestInfo> testDetails = this.testPrioritiser
-          .assignTests(mutation);
+      final List<TestInfo> testDetails = assignTests(mutation);
       if (testDetails.isEmpty()) {
         LOG.fine("According to coverage no tests hit the mutation " + mutation);
       }
@@ -26,6 +26,7 @@ import org.pitest.classinfo.ClassName;
 import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationAnalyser;
@@ -38,15 +39,29 @@ public class MutationTestBuilder {
   private final MutationAnalyser analyser;
   private final WorkerFactory    workerFactory;
   private final MutationGrouper  grouper;
+  private final Option<MutationSampler> sampler;
 
   public MutationTestBuilder(final WorkerFactory workerFactory,
       final MutationAnalyser analyser, final MutationSource mutationSource,
       final MutationGrouper grouper) {
+    this(workerFactory, analyser, mutationSource, grouper,
+        Option.<MutationSampler> none());
+  }
+
+  /**
+   * When a sampler is supplied the units are returned in sample order, one
+   * per batch of the sample, so that stopping after any unit leaves a random
+   * sample of the mutations analysed.
+   */
+  public MutationTestBuilder(final WorkerFactory workerFactory,
+      final MutationAnalyser analyser, final MutationSource mutationSource,
+      final MutationGrouper grouper, final Option<MutationSampler> sampler) {
 
     this.mutationSource = mutationSource;
     this.analyser = analyser;
     this.workerFactory = workerFactory;
     this.grouper = grouper;
+    this.sampler = sampler;
   }
 
   public List<MutationAnalysisUnit> createMutationTestUnits(
@@ -61,6 +76,10 @@ public class MutationTestBuilder {
     final Collection<MutationResult> analysedMutations = this.analyser
         .analyse(mutations);
 
+    if (this.sampler.hasSome()) {
+      return createSampleUnits(analysedMutations);
+    }
+
     final Collection<MutationDetails> needAnalysis = FCollection.filter(
         analysedMutations, statusNotKnown()).map(resultToDetails());
 
@@ -71,17 +90,72 @@ public class MutationTestBuilder {
       tus.add(makePreAnalysedUnit(analysed));
     }
 
-    if (!needAnalysis.isEmpty()) {
-      for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
-          codeClasses, needAnalysis)) {
-        tus.add(makeUnanalysedUnit(ms));
-      }
+    for (final Collection<MutationDetails> ms : this.grouper.groupMutations(
+        codeClasses, FCollection.filter(needAnalysis, Prelude.not(mayPoison())))) {
+      tus.add(makeUnanalysedUnit(ms));
+    }
+    for (final Collection<MutationDetails> ms : groupPoisoned(codeClasses,
+        FCollection.filter(needAnalysis, mayPoison()))) {
+      tus.add(makeUnanalysedUnit(ms));
     }
 
     Collections.sort(tus, new AnalysisPriorityComparator());
     return tus;
   }
 
+  /**
+   * Mutations that may poison the JVM, such as those in static initializers,
+   * are never grouped with those that cannot. When mutants are isolated each
+   * runs in its own classloader, so they are grouped as usual and share
+   * minions. Otherwise each needs a fresh minion, so is given a unit of its
+   * own.
+   */
+  private List<List<MutationDetails>> groupPoisoned(
+      final Collection<ClassName> codeClasses,
+      final List<MutationDetails> poisoned) {
+    if (poisoned.isEmpty()) {
+      return Collections.emptyList();
+    }
+    if (this.workerFactory.isolatesMutants()) {
+      return this.grouper.groupMutations(codeClasses, poisoned);
+    }
+    final List<List<MutationDetails>> units = new ArrayList<>();
+    for (final MutationDetails each : poisoned) {
+      units.add(Collections.singletonList(each));
+    }
+    return units;
+  }
+
+  private static F<MutationDetails, Boolean> mayPoison() {
+    return new F<MutationDetails, Boolean>() {
+      @Override
+      public Boolean apply(final MutationDetails a) {
+        return a.mayPoisonJVM();
+      }
+    };
+  }
+
+  private List<MutationAnalysisUnit> createSampleUnits(
+      final Collection<MutationResult> analysedMutations) {
+    final List<MutationAnalysisUnit> tus = new ArrayList<>();
+    for (final List<MutationResult> batch : this.sampler.value().batches(
+        analysedMutations)) {
+      final List<MutationAnalysisUnit> units = new ArrayList<>();
+      final List<MutationResult> analysed = FCollection.filter(batch,
+          Prelude.not(statusNotKnown()));
+      if (!analysed.isEmpty()) {
+        units.add(makePreAnalysedUnit(analysed));
+      }
+      final List<MutationDetails> needAnalysis = FCollection.filter(batch,
+          statusNotKnown()).map(resultToDetails());
+      if (!needAnalysis.isEmpty()) {
+        units.add(makeUnanalysedUnit(needAnalysis));
+      }
+      tus.add(new SampleBatchUnit(units, batch.size()));
+    }
+    return tus;
+  }
+
   private Comparator<MutationDetails> comparator() {
     return new Comparator<MutationDetails>() {
 
@@ -1,129 +1,235 @@
-/*
- * Copyright 2010 Henry Coles
- *
- * Licensed under the Apache License, Version 2.0 (the "License");
- * you may not use this file except in compliance with the License.
- * You may obtain a copy of the License at
- *
- * http://www.apache.org/licenses/LICENSE-2.0
- *
- * Unless required by applicable law or agreed to in writing,
- * software distributed under the License is distributed on an "AS IS" BASIS,
- * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
- * See the License for the specific language governing permissions and limitations under the License.
- */
-package org.pitest.mutationtest.build;
-
-import java.io.IOException;
-import java.util.Collection;
-import java.util.logging.Logger;
-
-import org.pitest.classinfo.ClassName;
-import org.pitest.mutationtest.DetectionStatus;
-import org.pitest.mutationtest.MutationMetaData;
-import org.pitest.mutationtest.MutationStatusMap;
-import org.pitest.mutationtest.engine.MutationDetails;
-import org.pitest.mutationtest.execute.MutationTestProcess;
-import org.pitest.util.ExitCode;
-import org.pitest.util.Log;
-
-public class MutationTestUnit implements MutationAnalysisUnit {
-
-  private static final Logger               LOG = Log.getLogger();
-
-  private final Collection<MutationDetails> availableMutations;
-  private final WorkerFactory               workerFactory;
-
-  private final Collection<ClassName>       testClasses;
-
-  public MutationTestUnit(final Collection<MutationDetails> availableMutations,
-      final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
-    this.availableMutations = availableMutations;
-    this.testClasses = testClasses;
-    this.workerFactory = workerFactor;
-  }
-
-  @Override
-  public MutationMetaData call() throws Exception {
-    final MutationStatusMap mutations = new MutationStatusMap();
-
-    mutations.setStatusForMutations(this.availableMutations,
-        DetectionStatus.NOT_STARTED);
-
-    mutations.markUncoveredMutations();
-
-    runTestsInSeperateProcess(mutations);
-
-    return reportResults(mutations);
-  }
-  
-  @Override
-  public int priority() {
-    return this.availableMutations.size();
-  }
-
-  private void runTestsInSeperateProcess(final MutationStatusMap mutations)
-      throws IOException, InterruptedException {
-    while (mutations.hasUnrunMutations()) {
-      runTestInSeperateProcessForMutationRange(mutations);
-    }
-  }
-  
-  private void runTestInSeperateProcessForMutationRange(
-      final MutationStatusMap mutations) throws IOException,
-      InterruptedException {
-
-    final Collection<MutationDetails> remainingMutations = mutations
-        .getUnrunMutations();
-    final MutationTestProcess worker = this.workerFactory.createWorker(
-        remainingMutations, this.testClasses);
-    worker.start();
-
-    setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(mutations,
-        remainingMutations);
-
-    final ExitCode exitCode = waitForMinionToDie(worker);
-    worker.results(mutations);
-
-    correctResultForProcessExitCode(mutations, exitCode);
-  }
-
-  private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
-    final ExitCode exitCode = worker.waitToDie();
-    LOG.fine("Exit code was - " + exitCode);
-    return exitCode;
-  }
-
-  private static void setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(
-      final MutationStatusMap mutations,
-      final Collection<MutationDetails> remainingMutations) {
-    mutations.setStatusForMutation(remainingMutations.iterator().next(),
-        DetectionStatus.STARTED);
-  }
-
-  private static void correctResultForProcessExitCode(
-      final MutationStatusMap mutations, final ExitCode exitCode) {
-
-    if (!exitCode.isOk()) {
-      final Collection<MutationDetails> unfinishedRuns = mutations
-          .getUnfinishedRuns();
-      final DetectionStatus status = DetectionStatus
-          .getForErrorExitCode(exitCode);
-      LOG.warning("Minion exited abnormally due to " + status);
-      LOG.fine("Setting " + unfinishedRuns.size() + " unfinished runs to "
-          + status + " state");
-      mutations.setStatusForMutations(unfinishedRuns, status);
-
-    } else {
-      LOG.fine("Minion exited ok");
-    }
-
-  }
-
-  private static MutationMetaData reportResults(final MutationStatusMap mutationsMap) {
-    return new MutationMetaData(mutationsMap.createMutationResults());
-  }
-
-
-
-}
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.build;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationStatusMap;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.util.ExitCode;
+import org.pitest.util.Log;
+
+public class MutationTestUnit implements MutationAnalysisUnit {
+
+  private static final Logger               LOG = Log.getLogger();
+
+  private final Collection<MutationDetails> availableMutations;
+  private WorkerFactory                     workerFactory;
+
+  private final Collection<ClassName>       testClasses;
+
+  private Option<Long>                      retryHeap = Option.none();
+
+  public MutationTestUnit(final Collection<MutationDetails> availableMutations,
+      final Collection<ClassName> testClasses, final WorkerFactory workerFactor) {
+    this.availableMutations = availableMutations;
+    this.testClasses = testClasses;
+    this.workerFactory = workerFactor;
+  }
+
+  @Override
+  public MutationMetaData call() throws Exception {
+    final MutationStatusMap mutations = new MutationStatusMap();
+
+    mutations.setStatusForMutations(this.availableMutations,
+        DetectionStatus.NOT_STARTED);
+
+    mutations.markUncoveredMutations();
+
+    runTestsInSeperateProcess(mutations);
+
+    return reportResults(mutations);
+  }
+  
+  @Override
+  public int priority() {
+    return this.availableMutations.size();
+  }
+
+  /**
+   * Minions run mutations after those that subsume them and infer the kills
+   * of subsumed mutations themselves. Should a minion be replaced, kills
+   * made by earlier minions are inferred here before the next one starts.
+   */
+  private void runTestsInSeperateProcess(final MutationStatusMap mutations)
+      throws IOException, InterruptedException {
+    final Map<MutationIdentifier, MutationDetails> byId = mapById(mutations
+        .allMutations());
+    while (mutations.hasUnrunMutations()) {
+      inferKillsFromSubsumingMutations(mutations, byId);
+      if (mutations.hasUnrunMutations()) {
+        runTestInSeperateProcessForMutationRange(mutations);
+      }
+    }
+  }
+
+  private void runTestInSeperateProcessForMutationRange(
+      final MutationStatusMap mutations) throws IOException,
+      InterruptedException {
+
+    final Collection<MutationDetails> remainingMutations = mutations
+        .getUnrunMutations();
+    final MutationTestProcess worker = createWorker(remainingMutations);
+    worker.start();
+
+    setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(mutations,
+        remainingMutations);
+
+    final ExitCode exitCode = waitForMinionToDie(worker);
+    worker.results(mutations);
+
+    if (!retryWithLargerHeap(mutations, worker, exitCode)
+        && !retrySeparately(mutations, exitCode)) {
+      correctResultForProcessExitCode(mutations, exitCode);
+    }
+  }
+
+  /**
+   * A minion that dies while running mutants together, whether grouped or
+   * probed for infection, cannot tell which of them was responsible, so they
+   * are retried one at a time.
+   */
+  private boolean retrySeparately(final MutationStatusMap mutations,
+      final ExitCode exitCode) {
+    if (exitCode.isOk() || !this.workerFactory.runsMutantsTogether()) {
+      return false;
+    }
+    this.workerFactory = this.workerFactory.runningMutantsSeparately();
+    final Collection<MutationDetails> unfinishedRuns = mutations
+        .getUnfinishedRuns();
+    LOG.fine("Minion exited abnormally while running mutants together, retrying "
+        + unfinishedRuns.size() + " mutations one at a time");
+    mutations.setStatusForMutations(unfinishedRuns,
+        DetectionStatus.NOT_STARTED);
+    return true;
+  }
+
+  private MutationTestProcess createWorker(
+      final Collection<MutationDetails> remainingMutations)
+      throws InterruptedException {
+    if (this.retryHeap.hasSome()) {
+      return this.workerFactory.createWorker(remainingMutations,
+          this.testClasses, this.retryHeap.value());
+    }
+    return this.workerFactory.createWorker(remainingMutations,
+        this.testClasses);
+  }
+
+  /**
+   * A minion that ran out of memory is retried with a larger heap, while that
+   * is allowed, rather than its unfinished mutations being reported as
+   * memory errors.
+   */
+  private boolean retryWithLargerHeap(final MutationStatusMap mutations,
+      final MutationTestProcess worker, final ExitCode exitCode) {
+    if (exitCode != ExitCode.OUT_OF_MEMORY) {
+      return false;
+    }
+    final Option<Long> larger = this.workerFactory.largerHeap(worker);
+    if (larger.hasNone()) {
+      return false;
+    }
+    this.retryHeap = larger;
+    final Collection<MutationDetails> unfinishedRuns = mutations
+        .getUnfinishedRuns();
+    LOG.warning("Minion ran out of memory, retrying "
+        + unfinishedRuns.size() + " mutations with a heap of "
+        + (larger.value() / (1024 * 1024)) + "mb");
+    mutations.setStatusForMutations(unfinishedRuns,
+        DetectionStatus.NOT_STARTED);
+    return true;
+  }
+
+  private static Map<MutationIdentifier, MutationDetails> mapById(
+      final Collection<MutationDetails> mutations) {
+    final Map<MutationIdentifier, MutationDetails> byId = new HashMap<>();
+    for (final MutationDetails each : mutations) {
+      byId.put(each.getId(), each);
+    }
+    return byId;
+  }
+
+  private static void inferKillsFromSubsumingMutations(
+      final MutationStatusMap mutations,
+      final Map<MutationIdentifier, MutationDetails> byId) {
+    for (final MutationDetails each : mutations.getUnrunMutations()) {
+      for (final MutationIdentifier id : each.getSubsumingMutations()) {
+        final MutationDetails subsuming = byId.get(id);
+        if (subsuming == null) {
+          continue;
+        }
+        final MutationStatusTestPair status = mutations.getStatus(subsuming);
+        if (status.getStatus() == DetectionStatus.KILLED) {
+          mutations.setStatusForMutation(each, new MutationStatusTestPair(0,
+              DetectionStatus.INFERRED_KILLED, status.getKillingTest()
+                  .getOrElse(null)));
+          break;
+        }
+      }
+    }
+  }
+
+  private static ExitCode waitForMinionToDie(final MutationTestProcess worker) {
+    final ExitCode exitCode = worker.waitToDie();
+    LOG.fine("Exit code was - " + exitCode);
+    return exitCode;
+  }
+
+  private static void setFirstMutationToStatusOfStartedInCaseMinionFailsAtBoot(
+      final MutationStatusMap mutations,
+      final Collection<MutationDetails> remainingMutations) {
+    if (!remainingMutations.isEmpty()) {
+      mutations.setStatusForMutation(remainingMutations.iterator().next(),
+          DetectionStatus.STARTED);
+    }
+  }
+
+  private static void correctResultForProcessExitCode(
+      final MutationStatusMap mutations, final ExitCode exitCode) {
+
+    if (!exitCode.isOk()) {
+      final Collection<MutationDetails> unfinishedRuns = mutations
+          .getUnfinishedRuns();
+      final DetectionStatus status = DetectionStatus
+          .getForErrorExitCode(exitCode);
+      LOG.warning("Minion exited abnormally due to " + status);
+      LOG.fine("Setting " + unfinishedRuns.size() + " unfinished runs to "
+          + status + " state");
+      mutations.setStatusForMutations(unfinishedRuns, status);
+
+    } else {
+      LOG.fine("Minion exited ok");
+    }
+
+  }
+
+  private static MutationMetaData reportResults(final MutationStatusMap mutationsMap) {
+    return new MutationMetaData(mutationsMap.createMutationResults());
+  }
+
+
+
+}
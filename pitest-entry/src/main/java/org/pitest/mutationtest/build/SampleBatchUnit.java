@@ -0,0 +1,36 @@
+package org.pitest.mutationtest.build;
+
+import java.util.List;
+
+import org.pitest.mutationtest.MutationMetaData;
+
+/**
+ * Analyses one batch of a sample of mutations as a single unit, so that
+ * analysis is never stopped part way through a batch.
+ */
+class SampleBatchUnit implements MutationAnalysisUnit {
+
+  private final List<MutationAnalysisUnit> units;
+  private final int                        size;
+
+  SampleBatchUnit(final List<MutationAnalysisUnit> units, final int size) {
+    this.units = units;
+    this.size = size;
+  }
+
+  @Override
+  public MutationMetaData call() throws Exception {
+    MutationMetaData results = null;
+    for (final MutationAnalysisUnit each : this.units) {
+      final MutationMetaData unitResults = each.call();
+      results = results == null ? unitResults : results.combine(unitResults);
+    }
+    return results;
+  }
+
+  @Override
+  public int priority() {
+    return this.size;
+  }
+
+}
@@ -0,0 +1,59 @@
+package org.pitest.mutationtest.build;
+
+import java.util.Collection;
+
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.Timings;
+import org.pitest.util.Timings.Stage;
+
+/**
+ * Adds the time spent in an interceptor to the mutation interceptors stage
+ */
+public class TimingInterceptor implements MutationInterceptor {
+
+  private final MutationInterceptor child;
+  private final Timings             timings;
+
+  public TimingInterceptor(MutationInterceptor child, Timings timings) {
+    this.child = child;
+    this.timings = timings;
+  }
+
+  @Override
+  public InterceptorType type() {
+    return this.child.type();
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    final long t0 = System.currentTimeMillis();
+    this.child.begin(clazz);
+    record(t0);
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final long t0 = System.currentTimeMillis();
+    try {
+      return this.child.intercept(mutations, m);
+    } finally {
+      record(t0);
+    }
+  }
+
+  @Override
+  public void end() {
+    final long t0 = System.currentTimeMillis();
+    this.child.end();
+    record(t0);
+  }
+
+  private void record(long t0) {
+    this.timings.registerDuration(Stage.MUTATION_INTERCEPTORS,
+        System.currentTimeMillis() - t0);
+  }
+
+}
@@ -6,6 +6,7 @@ import java.io.File;
 import java.util.Collection;
 
 import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.EngineArguments;
@@ -14,7 +15,12 @@ import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.execute.MinionArguments;
+import org.pitest.mutationtest.execute.MinionMemory;
+import org.pitest.mutationtest.execute.MinionOptions;
 import org.pitest.mutationtest.execute.MutationTestProcess;
+import org.pitest.mutationtest.metrics.RunMetrics;
+import org.pitest.process.LaunchOptions;
+import org.pitest.process.MinionHosts;
 import org.pitest.process.ProcessArgs;
 import org.pitest.util.Log;
 import org.pitest.util.SocketFinder;
@@ -28,6 +34,10 @@ public class WorkerFactory {
   private final boolean               verbose;
   private final MutationConfig        config;
   private final EngineArguments       args;
+  private final RunMetrics            metrics;
+  private final MinionMemory          memory;
+  private final MinionHosts           hosts;
+  private final MinionOptions         options;
 
   public WorkerFactory(final File baseDir, 
       final TestPluginArguments pitConfig,
@@ -36,6 +46,30 @@ public class WorkerFactory {
       final TimeoutLengthStrategy timeoutStrategy, 
       final boolean verbose,
       final String classPath) {
+    this(baseDir, pitConfig, mutationConfig, args, timeoutStrategy, verbose,
+        classPath, new RunMetrics(), MinionMemory.unmanaged(),
+        MinionHosts.localOnly(), MinionOptions.defaults());
+  }
+
+  /**
+   * @param memory
+   *          memory the minions may share
+   * @param hosts
+   *          machines on which minions may be launched
+   * @param options
+   *          how each minion runs its mutants
+   */
+  public WorkerFactory(final File baseDir,
+      final TestPluginArguments pitConfig,
+      final MutationConfig mutationConfig,
+      final EngineArguments args,
+      final TimeoutLengthStrategy timeoutStrategy,
+      final boolean verbose,
+      final String classPath,
+      final RunMetrics metrics,
+      final MinionMemory memory,
+      final MinionHosts hosts,
+      final MinionOptions options) {
     this.pitConfig = pitConfig;
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
@@ -43,23 +77,94 @@ public class WorkerFactory {
     this.baseDir = baseDir;
     this.config = mutationConfig;
     this.args = args;
+    this.metrics = metrics;
+    this.memory = memory;
+    this.hosts = hosts;
+    this.options = options;
+  }
+
+  /**
+   * Whether minions run each mutant in its own classloader
+   */
+  public boolean isolatesMutants() {
+    return this.options.isolatesMutants();
+  }
+
+  /**
+   * Whether minions analyse several mutants in a single run of the tests,
+   * either by grouping them or by probing them for infection
+   */
+  public boolean runsMutantsTogether() {
+    return this.options.runsMutantsTogether();
+  }
+
+  /**
+   * Copy of this factory whose minions run each mutant on its own
+   */
+  public WorkerFactory runningMutantsSeparately() {
+    if (!runsMutantsTogether()) {
+      return this;
+    }
+    return new WorkerFactory(this.baseDir, this.pitConfig, this.config,
+        this.args, this.timeoutStrategy, this.verbose, this.classPath,
+        this.metrics, this.memory, this.hosts,
+        this.options.runningMutantsSeparately());
+  }
+
+  /**
+   * Creates a minion once there is memory for it to run
+   */
+  public MutationTestProcess createWorker(
+      final Collection<MutationDetails> remainingMutations,
+      final Collection<ClassName> testClasses) throws InterruptedException {
+    final LaunchOptions launchOptions = this.config.getLaunchOptions();
+    return createWorker(remainingMutations, testClasses, launchOptions,
+        launchOptions.getMaxHeap().getOrElse(0L));
   }
 
+  /**
+   * Creates a minion with the given maximum heap once there is memory for it
+   * to run
+   */
   public MutationTestProcess createWorker(
       final Collection<MutationDetails> remainingMutations,
-      final Collection<ClassName> testClasses) {
+      final Collection<ClassName> testClasses, final long heap)
+      throws InterruptedException {
+    return createWorker(remainingMutations, testClasses, this.config
+        .getLaunchOptions().withMaxHeap(heap), heap);
+  }
+
+  /**
+   * Heap with which to retry the work of a minion that ran out of memory, if
+   * a larger heap is allowed
+   */
+  public Option<Long> largerHeap(final MutationTestProcess outOfMemory) {
+    if (outOfMemory.getMemory().hasNone()) {
+      return Option.none();
+    }
+    return this.memory.largerHeap(outOfMemory.getMemory().value());
+  }
+
+  private MutationTestProcess createWorker(
+      final Collection<MutationDetails> remainingMutations,
+      final Collection<ClassName> testClasses,
+      final LaunchOptions launchOptions, final long heap)
+      throws InterruptedException {
     final MinionArguments fileArgs = new MinionArguments(remainingMutations,
         testClasses, config.getEngine().getName(), args, this.timeoutStrategy,
-        Log.isVerbose(), this.pitConfig);
+        Log.isVerbose(), this.pitConfig, this.options);
 
     final ProcessArgs args = ProcessArgs.withClassPath(this.classPath)
-        .andLaunchOptions(this.config.getLaunchOptions())
+        .andLaunchOptions(launchOptions)
         .andBaseDir(this.baseDir).andStdout(captureStdOutIfVerbose())
         .andStderr(printWith("stderr "));
 
+    final MinionMemory.Reservation reservation = this.memory.reserve(heap);
     final SocketFinder sf = new SocketFinder();
     final MutationTestProcess worker = new MutationTestProcess(
-        sf.getNextAvailableServerSocket(), args, fileArgs);
+        sf.getNextAvailableServerSocket(), this.hosts, args, fileArgs,
+        this.metrics,
+        Option.some(reservation));
     return worker;
   }
 
@@ -0,0 +1,145 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.tree.FieldNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodMatchers;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Removes mutants whose mutated method is identical to that of another mutant
+ * in the same method once trivial differences have been normalised away (see
+ * {@link MethodNormaliser}). Only one representative of each group is run,
+ * the others are attached to it as duplicates and reported with its status.
+ */
+public class DuplicateMutantFilter implements MutationInterceptor {
+
+  private final MethodNormaliser normaliser = new MethodNormaliser();
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.FILTER;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Map<Location, Collection<MutationDetails>> byMethod = FCollection
+        .bucket(mutations, toLocation());
+
+    final List<MutationDetails> duplicates = new ArrayList<>();
+    for (final Collection<MutationDetails> each : byMethod.values()) {
+      if (each.size() > 1) {
+        duplicates.addAll(findDuplicates(each, m));
+      }
+    }
+
+    if (duplicates.isEmpty()) {
+      return mutations;
+    }
+
+    final List<MutationDetails> unique = new ArrayList<>(mutations);
+    unique.removeAll(new HashSet<>(duplicates));
+    return unique;
+  }
+
+  private List<MutationDetails> findDuplicates(
+      Collection<MutationDetails> inMethod, Mutater m) {
+    final Map<String, MutationDetails> representatives = new LinkedHashMap<>();
+    final Map<MutationDetails, List<MutationDetails>> duplicates = new LinkedHashMap<>();
+    for (final MutationDetails each : inMethod) {
+      final Option<String> key = normalisedForm(each, m);
+      if (key.hasNone()) {
+        continue;
+      }
+      final MutationDetails representative = representatives.get(key.value());
+      if (representative == null) {
+        representatives.put(key.value(), each);
+      } else {
+        if (!duplicates.containsKey(representative)) {
+          duplicates.put(representative, new ArrayList<MutationDetails>());
+        }
+        duplicates.get(representative).add(each);
+      }
+    }
+
+    final List<MutationDetails> all = new ArrayList<>();
+    for (final Map.Entry<MutationDetails, List<MutationDetails>> each : duplicates
+        .entrySet()) {
+      each.getKey().addDuplicates(each.getValue());
+      all.addAll(each.getValue());
+    }
+    return all;
+  }
+
+  private Option<String> normalisedForm(MutationDetails mutation, Mutater m) {
+    final ClassTree mutant = ClassTree
+        .fromBytes(m.getMutation(mutation.getId()).getBytes());
+    final Option<MethodTree> method = mutant.methods()
+        .findFirst(MethodMatchers.forLocation(mutation.getId().getLocation()));
+    if (method.hasNone()) {
+      return Option.none();
+    }
+
+    // mutants that may poison the jvm are run differently so must only be
+    // grouped with each other
+    final StringBuilder key = new StringBuilder();
+    key.append(mutation.mayPoisonJVM()).append(' ')
+        .append(mutation.isInStaticInitializer()).append('\n');
+    final MethodNode mutated = method.value().rawNode();
+    appendMembers(key, mutant, mutated);
+    key.append(this.normaliser.normalise(mutated));
+    return Option.some(key.toString());
+  }
+
+  // guards against mutants that alter the class outside of the mutated method
+  private static void appendMembers(StringBuilder key, ClassTree mutant,
+      MethodNode mutated) {
+    for (final FieldNode each : mutant.rawNode().fields) {
+      key.append(each.access).append(' ').append(each.name).append(each.desc)
+          .append('\n');
+    }
+    for (final MethodNode each : mutant.rawNode().methods) {
+      if (each == mutated) {
+        continue;
+      }
+      key.append(each.access).append(' ').append(each.name).append(each.desc)
+          .append(' ').append(each.instructions.size()).append('\n');
+    }
+  }
+
+  private static F<MutationDetails, Location> toLocation() {
+    return new F<MutationDetails, Location>() {
+      @Override
+      public Location apply(MutationDetails a) {
+        return a.getId().getLocation();
+      }
+    };
+  }
+
+  @Override
+  public void end() {
+
+  }
+
+}
@@ -0,0 +1,27 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+public class DuplicateMutantFilterFactory implements MutationInterceptorFactory {
+
+  @Override
+  public String description() {
+    return "Duplicate mutant filter";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("FDUPLICATE")
+        .withOnByDefault(false)
+        .withDescription("Runs only one of each group of mutants that produce the same bytecode once constants are folded and dead code removed");
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new DuplicateMutantFilter();
+  }
+
+}
@@ -0,0 +1,553 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.FieldInsnNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.tree.IincInsnNode;
+import org.objectweb.asm.tree.InsnList;
+import org.objectweb.asm.tree.IntInsnNode;
+import org.objectweb.asm.tree.InvokeDynamicInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LabelNode;
+import org.objectweb.asm.tree.LdcInsnNode;
+import org.objectweb.asm.tree.LineNumberNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.MultiANewArrayInsnNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
+import org.objectweb.asm.tree.TryCatchBlockNode;
+import org.objectweb.asm.tree.TypeInsnNode;
+import org.objectweb.asm.tree.VarInsnNode;
+
+/**
+ * Reduces a method to a canonical textual form so that methods which differ
+ * only trivially produce the same result. Integer and long constant
+ * expressions are folded, branches on constant values are resolved,
+ * unreachable code is removed and local variables are renumbered in order of
+ * first use. Debug information is ignored.
+ *
+ * The supplied method node is modified in place.
+ */
+class MethodNormaliser {
+
+  String normalise(final MethodNode method) {
+    final InsnList insns = method.instructions;
+    removeDebugInfo(insns);
+    canonicaliseConstants(insns);
+
+    boolean changed = true;
+    while (changed) {
+      changed = foldConstants(insns);
+      changed |= resolveConstantBranches(insns);
+      changed |= removeDiscardedValues(insns);
+      changed |= removeUnreachableCode(insns, method);
+      changed |= removeRedundantGotos(insns);
+      changed |= removeUnusedLabels(insns, method);
+    }
+
+    return serialise(method);
+  }
+
+  private static void removeDebugInfo(final InsnList insns) {
+    for (final AbstractInsnNode each : insns.toArray()) {
+      if ((each instanceof LineNumberNode) || (each instanceof FrameNode)) {
+        insns.remove(each);
+      }
+    }
+  }
+
+  private static void canonicaliseConstants(final InsnList insns) {
+    for (final AbstractInsnNode each : insns.toArray()) {
+      final Object value = constantValue(each);
+      if ((value != null) && !(each instanceof LdcInsnNode)) {
+        insns.set(each, new LdcInsnNode(value));
+      }
+    }
+  }
+
+  private static boolean foldConstants(final InsnList insns) {
+    boolean changed = false;
+    for (final AbstractInsnNode each : insns.toArray()) {
+      if (each.getPrevious() == null) {
+        continue;
+      }
+      final Object operand = constantValue(each.getPrevious());
+      if (operand == null) {
+        continue;
+      }
+
+      Object result = foldUnary(each.getOpcode(), operand);
+      AbstractInsnNode first = each.getPrevious();
+      if (result == null) {
+        final AbstractInsnNode before = first.getPrevious();
+        final Object left = before != null ? constantValue(before) : null;
+        if (left != null) {
+          result = foldBinary(each.getOpcode(), left, operand);
+          first = before;
+        }
+      }
+
+      if (result != null) {
+        replace(insns, first, each, new LdcInsnNode(result));
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private static Object foldUnary(final int opcode, final Object value) {
+    if (value instanceof Long) {
+      final long l = (Long) value;
+      switch (opcode) {
+      case Opcodes.LNEG:
+        return -l;
+      case Opcodes.L2I:
+        return (int) l;
+      default:
+        return null;
+      }
+    }
+
+    final int i = (Integer) value;
+    switch (opcode) {
+    case Opcodes.INEG:
+      return -i;
+    case Opcodes.I2L:
+      return (long) i;
+    case Opcodes.I2B:
+      return (int) (byte) i;
+    case Opcodes.I2C:
+      return (int) (char) i;
+    case Opcodes.I2S:
+      return (int) (short) i;
+    default:
+      return null;
+    }
+  }
+
+  private static Object foldBinary(final int opcode, final Object left,
+      final Object right) {
+    if ((left instanceof Integer) && (right instanceof Integer)) {
+      return foldInt(opcode, (Integer) left, (Integer) right);
+    }
+    if ((left instanceof Long) && (right instanceof Long)) {
+      return foldLong(opcode, (Long) left, (Long) right);
+    }
+    if ((left instanceof Long) && (right instanceof Integer)) {
+      return foldLongShift(opcode, (Long) left, (Integer) right);
+    }
+    return null;
+  }
+
+  private static Integer foldInt(final int opcode, final int a, final int b) {
+    switch (opcode) {
+    case Opcodes.IADD:
+      return a + b;
+    case Opcodes.ISUB:
+      return a - b;
+    case Opcodes.IMUL:
+      return a * b;
+    case Opcodes.IDIV:
+      return b != 0 ? a / b : null;
+    case Opcodes.IREM:
+      return b != 0 ? a % b : null;
+    case Opcodes.IAND:
+      return a & b;
+    case Opcodes.IOR:
+      return a | b;
+    case Opcodes.IXOR:
+      return a ^ b;
+    case Opcodes.ISHL:
+      return a << b;
+    case Opcodes.ISHR:
+      return a >> b;
+    case Opcodes.IUSHR:
+      return a >>> b;
+    default:
+      return null;
+    }
+  }
+
+  private static Long foldLong(final int opcode, final long a, final long b) {
+    switch (opcode) {
+    case Opcodes.LADD:
+      return a + b;
+    case Opcodes.LSUB:
+      return a - b;
+    case Opcodes.LMUL:
+      return a * b;
+    case Opcodes.LDIV:
+      return b != 0 ? a / b : null;
+    case Opcodes.LREM:
+      return b != 0 ? a % b : null;
+    case Opcodes.LAND:
+      return a & b;
+    case Opcodes.LOR:
+      return a | b;
+    case Opcodes.LXOR:
+      return a ^ b;
+    default:
+      return null;
+    }
+  }
+
+  private static Long foldLongShift(final int opcode, final long a,
+      final int b) {
+    switch (opcode) {
+    case Opcodes.LSHL:
+      return a << b;
+    case Opcodes.LSHR:
+      return a >> b;
+    case Opcodes.LUSHR:
+      return a >>> b;
+    default:
+      return null;
+    }
+  }
+
+  private static boolean resolveConstantBranches(final InsnList insns) {
+    boolean changed = false;
+    for (final AbstractInsnNode each : insns.toArray()) {
+      if (!(each instanceof JumpInsnNode) || (each.getPrevious() == null)) {
+        continue;
+      }
+      final JumpInsnNode jump = (JumpInsnNode) each;
+      final AbstractInsnNode last = each.getPrevious();
+
+      if (isNullComparison(jump.getOpcode())
+          && (last.getOpcode() == Opcodes.ACONST_NULL)) {
+        resolve(insns, last, jump, jump.getOpcode() == Opcodes.IFNULL);
+        changed = true;
+        continue;
+      }
+
+      final Object right = constantValue(last);
+      if (!(right instanceof Integer)) {
+        continue;
+      }
+      final int b = (Integer) right;
+      if ((jump.getOpcode() >= Opcodes.IFEQ)
+          && (jump.getOpcode() <= Opcodes.IFLE)) {
+        resolve(insns, last, jump, compare(jump.getOpcode() - Opcodes.IFEQ,
+            b, 0));
+        changed = true;
+      } else if ((jump.getOpcode() >= Opcodes.IF_ICMPEQ)
+          && (jump.getOpcode() <= Opcodes.IF_ICMPLE)
+          && (last.getPrevious() != null)
+          && (constantValue(last.getPrevious()) instanceof Integer)) {
+        final AbstractInsnNode first = last.getPrevious();
+        resolve(insns, first, jump, compare(jump.getOpcode()
+            - Opcodes.IF_ICMPEQ, (Integer) constantValue(first), b));
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private static boolean isNullComparison(final int opcode) {
+    return (opcode == Opcodes.IFNULL) || (opcode == Opcodes.IFNONNULL);
+  }
+
+  // conditions are ordered EQ, NE, LT, GE, GT, LE in both jump families
+  private static boolean compare(final int condition, final int a,
+      final int b) {
+    switch (condition) {
+    case 0:
+      return a == b;
+    case 1:
+      return a != b;
+    case 2:
+      return a < b;
+    case 3:
+      return a >= b;
+    case 4:
+      return a > b;
+    default:
+      return a <= b;
+    }
+  }
+
+  private static void resolve(final InsnList insns,
+      final AbstractInsnNode first, final JumpInsnNode jump,
+      final boolean taken) {
+    if (taken) {
+      replace(insns, first, jump, new JumpInsnNode(Opcodes.GOTO, jump.label));
+    } else {
+      replace(insns, first, jump, null);
+    }
+  }
+
+  private static boolean removeDiscardedValues(final InsnList insns) {
+    boolean changed = false;
+    for (final AbstractInsnNode each : insns.toArray()) {
+      final AbstractInsnNode last = each.getPrevious();
+      if (last == null) {
+        continue;
+      }
+      if ((each.getOpcode() == Opcodes.POP) && (pushSize(last) == 1)) {
+        replace(insns, last, each, null);
+        changed = true;
+      } else if (each.getOpcode() == Opcodes.POP2) {
+        if (pushSize(last) == 2) {
+          replace(insns, last, each, null);
+          changed = true;
+        } else if ((pushSize(last) == 1) && (last.getPrevious() != null)
+            && (pushSize(last.getPrevious()) == 1)) {
+          replace(insns, last.getPrevious(), each, null);
+          changed = true;
+        }
+      }
+    }
+    return changed;
+  }
+
+  // size of the value pushed by an instruction without side effects, or 0
+  private static int pushSize(final AbstractInsnNode insn) {
+    switch (insn.getOpcode()) {
+    case Opcodes.ILOAD:
+    case Opcodes.FLOAD:
+    case Opcodes.ALOAD:
+    case Opcodes.ACONST_NULL:
+      return 1;
+    case Opcodes.LLOAD:
+    case Opcodes.DLOAD:
+      return 2;
+    default:
+      break;
+    }
+    final Object value = constantValue(insn);
+    if (value instanceof Integer) {
+      return 1;
+    }
+    if (value instanceof Long) {
+      return 2;
+    }
+    return 0;
+  }
+
+  private static boolean removeUnreachableCode(final InsnList insns,
+      final MethodNode method) {
+    final Set<LabelNode> referenced = referencedLabels(method);
+    boolean changed = false;
+    boolean reachable = true;
+    for (final AbstractInsnNode each : insns.toArray()) {
+      if ((each instanceof LabelNode) && referenced.contains(each)) {
+        reachable = true;
+      }
+      if (!reachable && !(each instanceof LabelNode)) {
+        insns.remove(each);
+        changed = true;
+      } else if (isUnconditionalTransfer(each)) {
+        reachable = false;
+      }
+    }
+    return changed;
+  }
+
+  private static boolean isUnconditionalTransfer(final AbstractInsnNode insn) {
+    final int opcode = insn.getOpcode();
+    return (opcode == Opcodes.GOTO) || (opcode == Opcodes.ATHROW)
+        || ((opcode >= Opcodes.IRETURN) && (opcode <= Opcodes.RETURN))
+        || (opcode == Opcodes.TABLESWITCH) || (opcode == Opcodes.LOOKUPSWITCH);
+  }
+
+  private static boolean removeRedundantGotos(final InsnList insns) {
+    boolean changed = false;
+    for (final AbstractInsnNode each : insns.toArray()) {
+      if (each.getOpcode() != Opcodes.GOTO) {
+        continue;
+      }
+      AbstractInsnNode next = each.getNext();
+      while (next instanceof LabelNode) {
+        if (next == ((JumpInsnNode) each).label) {
+          insns.remove(each);
+          changed = true;
+          break;
+        }
+        next = next.getNext();
+      }
+    }
+    return changed;
+  }
+
+  private static boolean removeUnusedLabels(final InsnList insns,
+      final MethodNode method) {
+    final Set<LabelNode> referenced = referencedLabels(method);
+    boolean changed = false;
+    for (final AbstractInsnNode each : insns.toArray()) {
+      if ((each instanceof LabelNode) && !referenced.contains(each)) {
+        insns.remove(each);
+        changed = true;
+      }
+    }
+    return changed;
+  }
+
+  private static Set<LabelNode> referencedLabels(final MethodNode method) {
+    final Set<LabelNode> labels = new HashSet<>();
+    for (final AbstractInsnNode each : method.instructions.toArray()) {
+      if (each instanceof JumpInsnNode) {
+        labels.add(((JumpInsnNode) each).label);
+      } else if (each instanceof TableSwitchInsnNode) {
+        labels.add(((TableSwitchInsnNode) each).dflt);
+        labels.addAll(((TableSwitchInsnNode) each).labels);
+      } else if (each instanceof LookupSwitchInsnNode) {
+        labels.add(((LookupSwitchInsnNode) each).dflt);
+        labels.addAll(((LookupSwitchInsnNode) each).labels);
+      }
+    }
+    for (final TryCatchBlockNode each : method.tryCatchBlocks) {
+      labels.add(each.start);
+      labels.add(each.end);
+      labels.add(each.handler);
+    }
+    return labels;
+  }
+
+  private static void replace(final InsnList insns,
+      final AbstractInsnNode first, final AbstractInsnNode last,
+      final AbstractInsnNode replacement) {
+    if (replacement != null) {
+      insns.insertBefore(first, replacement);
+    }
+    AbstractInsnNode current = first;
+    while (current != last) {
+      final AbstractInsnNode next = current.getNext();
+      insns.remove(current);
+      current = next;
+    }
+    insns.remove(last);
+  }
+
+  private static Object constantValue(final AbstractInsnNode insn) {
+    final int opcode = insn.getOpcode();
+    if ((opcode >= Opcodes.ICONST_M1) && (opcode <= Opcodes.ICONST_5)) {
+      return opcode - Opcodes.ICONST_0;
+    }
+    if ((opcode == Opcodes.LCONST_0) || (opcode == Opcodes.LCONST_1)) {
+      return (long) (opcode - Opcodes.LCONST_0);
+    }
+    if ((opcode == Opcodes.BIPUSH) || (opcode == Opcodes.SIPUSH)) {
+      return ((IntInsnNode) insn).operand;
+    }
+    if (insn instanceof LdcInsnNode) {
+      final Object cst = ((LdcInsnNode) insn).cst;
+      if ((cst instanceof Integer) || (cst instanceof Long)) {
+        return cst;
+      }
+    }
+    return null;
+  }
+
+  private static String serialise(final MethodNode method) {
+    final Map<LabelNode, Integer> labels = new HashMap<>();
+    final Map<Integer, String> locals = parameterSlots(method);
+    final StringBuilder sb = new StringBuilder();
+
+    for (final AbstractInsnNode each : method.instructions.toArray()) {
+      sb.append(each.getOpcode());
+      if (each instanceof LabelNode) {
+        sb.append('L').append(label(labels, (LabelNode) each));
+      } else if (each instanceof JumpInsnNode) {
+        sb.append(' ').append(label(labels, ((JumpInsnNode) each).label));
+      } else if (each instanceof VarInsnNode) {
+        sb.append(' ').append(local(locals, ((VarInsnNode) each).var));
+      } else if (each instanceof IincInsnNode) {
+        final IincInsnNode iinc = (IincInsnNode) each;
+        sb.append(' ').append(local(locals, iinc.var)).append(' ')
+            .append(iinc.incr);
+      } else if (each instanceof IntInsnNode) {
+        sb.append(' ').append(((IntInsnNode) each).operand);
+      } else if (each instanceof LdcInsnNode) {
+        final Object cst = ((LdcInsnNode) each).cst;
+        sb.append(' ').append(cst.getClass().getSimpleName()).append(' ')
+            .append(cst);
+      } else if (each instanceof TypeInsnNode) {
+        sb.append(' ').append(((TypeInsnNode) each).desc);
+      } else if (each instanceof FieldInsnNode) {
+        final FieldInsnNode field = (FieldInsnNode) each;
+        sb.append(' ').append(field.owner).append('.').append(field.name)
+            .append(field.desc);
+      } else if (each instanceof MethodInsnNode) {
+        final MethodInsnNode call = (MethodInsnNode) each;
+        sb.append(' ').append(call.owner).append('.').append(call.name)
+            .append(call.desc);
+      } else if (each instanceof InvokeDynamicInsnNode) {
+        final InvokeDynamicInsnNode indy = (InvokeDynamicInsnNode) each;
+        sb.append(' ').append(indy.name).append(indy.desc).append(indy.bsm)
+            .append(Arrays.toString(indy.bsmArgs));
+      } else if (each instanceof MultiANewArrayInsnNode) {
+        final MultiANewArrayInsnNode array = (MultiANewArrayInsnNode) each;
+        sb.append(' ').append(array.desc).append(' ').append(array.dims);
+      } else if (each instanceof TableSwitchInsnNode) {
+        final TableSwitchInsnNode table = (TableSwitchInsnNode) each;
+        sb.append(' ').append(table.min).append(' ').append(table.max)
+            .append(' ').append(label(labels, table.dflt));
+        for (final LabelNode target : table.labels) {
+          sb.append(' ').append(label(labels, target));
+        }
+      } else if (each instanceof LookupSwitchInsnNode) {
+        final LookupSwitchInsnNode lookup = (LookupSwitchInsnNode) each;
+        sb.append(' ').append(lookup.keys).append(' ')
+            .append(label(labels, lookup.dflt));
+        for (final LabelNode target : lookup.labels) {
+          sb.append(' ').append(label(labels, target));
+        }
+      }
+      sb.append('\n');
+    }
+
+    for (final TryCatchBlockNode each : method.tryCatchBlocks) {
+      sb.append("TRY ").append(label(labels, each.start)).append(' ')
+          .append(label(labels, each.end)).append(' ')
+          .append(label(labels, each.handler)).append(' ').append(each.type)
+          .append('\n');
+    }
+    return sb.toString();
+  }
+
+  // parameters keep their slots, other locals are named in order of first use
+  private static Map<Integer, String> parameterSlots(final MethodNode method) {
+    final Map<Integer, String> locals = new HashMap<>();
+    int slot = 0;
+    if ((method.access & Opcodes.ACC_STATIC) == 0) {
+      locals.put(slot, "p" + slot);
+      slot++;
+    }
+    for (final Type each : Type.getArgumentTypes(method.desc)) {
+      locals.put(slot, "p" + slot);
+      slot += each.getSize();
+    }
+    return locals;
+  }
+
+  private static String local(final Map<Integer, String> locals,
+      final int var) {
+    String canonical = locals.get(var);
+    if (canonical == null) {
+      canonical = "v" + locals.size();
+      locals.put(var, canonical);
+    }
+    return canonical;
+  }
+
+  private static int label(final Map<LabelNode, Integer> labels,
+      final LabelNode label) {
+    Integer ordinal = labels.get(label);
+    if (ordinal == null) {
+      ordinal = labels.size();
+      labels.put(label, ordinal);
+    }
+    return ordinal;
+  }
+
+}
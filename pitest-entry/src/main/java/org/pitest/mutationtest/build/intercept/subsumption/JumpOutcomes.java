@@ -0,0 +1,101 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import org.objectweb.asm.Opcodes;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.engine.gregor.mutators.ConditionalsBoundaryMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.NegateConditionalsMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RelationalOperatorReplacementMutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RemoveConditionalMutator;
+
+/**
+ * Models a conditional jump as the set of comparison outcomes (less than,
+ * equal, greater than) for which the jump is taken, held as a bit mask.
+ *
+ * Reference comparisons and null checks can only be equal or not equal, so
+ * are modelled as if they were integer equality checks.
+ */
+final class JumpOutcomes {
+
+  static final int LT   = 1;
+  static final int EQ   = 2;
+  static final int GT   = 4;
+
+  static final int NONE = 0;
+  static final int ALL  = LT | EQ | GT;
+
+  private static final String ROR = RelationalOperatorReplacementMutator.class
+      .getName() + "-";
+  private static final String REMOVE_CONDITIONALS = RemoveConditionalMutator.class
+      .getName();
+
+  private JumpOutcomes() {
+  }
+
+  static Option<Integer> forOpcode(final int opcode) {
+    switch (opcode) {
+    case Opcodes.IFEQ:
+    case Opcodes.IF_ICMPEQ:
+    case Opcodes.IF_ACMPEQ:
+    case Opcodes.IFNULL:
+      return Option.some(EQ);
+    case Opcodes.IFNE:
+    case Opcodes.IF_ICMPNE:
+    case Opcodes.IF_ACMPNE:
+    case Opcodes.IFNONNULL:
+      return Option.some(LT | GT);
+    case Opcodes.IFLT:
+    case Opcodes.IF_ICMPLT:
+      return Option.some(LT);
+    case Opcodes.IFGE:
+    case Opcodes.IF_ICMPGE:
+      return Option.some(EQ | GT);
+    case Opcodes.IFGT:
+    case Opcodes.IF_ICMPGT:
+      return Option.some(GT);
+    case Opcodes.IFLE:
+    case Opcodes.IF_ICMPLE:
+      return Option.some(LT | EQ);
+    default:
+      return Option.none();
+    }
+  }
+
+  /**
+   * Returns the outcomes for which a jump mutated by the given mutator is
+   * taken, if the mutator is one whose effect on a jump is known.
+   */
+  static Option<Integer> forMutant(final String mutator, final int original) {
+    if (mutator.startsWith(ROR)) {
+      return forRelation(mutator.substring(ROR.length()));
+    }
+    if (mutator.equals(NegateConditionalsMutator.class.getName())) {
+      return Option.some(ALL & ~original);
+    }
+    if (mutator.equals(ConditionalsBoundaryMutator.class.getName())) {
+      return Option.some(original ^ EQ);
+    }
+    if (mutator.startsWith(REMOVE_CONDITIONALS)) {
+      // IF variants remove the jump, ELSE variants always take it
+      return Option.some(mutator.endsWith("_IF") ? NONE : ALL);
+    }
+    return Option.none();
+  }
+
+  private static Option<Integer> forRelation(final String relation) {
+    switch (RelationalOperatorReplacementMutator.TYPE.valueOf(relation)) {
+    case EQ:
+      return Option.some(EQ);
+    case NE:
+      return Option.some(LT | GT);
+    case LT:
+      return Option.some(LT);
+    case GE:
+      return Option.some(EQ | GT);
+    case GT:
+      return Option.some(GT);
+    default:
+      return Option.some(LT | EQ);
+    }
+  }
+
+}
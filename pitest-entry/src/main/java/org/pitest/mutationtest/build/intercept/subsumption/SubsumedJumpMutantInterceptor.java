@@ -0,0 +1,172 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+import org.objectweb.asm.tree.AbstractInsnNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.bytecode.analysis.MethodMatchers;
+import org.pitest.bytecode.analysis.MethodTree;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Records subsumption between mutants of the same conditional jump.
+ *
+ * A mutated jump differs from the original for some set of comparison
+ * outcomes and, whenever it differs, takes the opposite branch to the
+ * original. A test that kills a mutant whose set of differing outcomes is
+ * contained in that of a second mutant will therefore also exercise the
+ * second mutant's change, so the second mutant is recorded as subsumed by the
+ * first. Mutants are only recorded against dominators, mutants not subsumed by
+ * any other, so that the dominators can be run first and the subsumed mutants
+ * run only if none of them are killed.
+ *
+ * No mutants are removed.
+ */
+public class SubsumedJumpMutantInterceptor implements MutationInterceptor {
+
+  private ClassTree currentClass;
+
+  @Override
+  public InterceptorType type() {
+    return InterceptorType.MODIFY;
+  }
+
+  @Override
+  public void begin(ClassTree clazz) {
+    this.currentClass = clazz;
+  }
+
+  @Override
+  public Collection<MutationDetails> intercept(
+      Collection<MutationDetails> mutations, Mutater m) {
+    final Map<Site, Collection<MutationDetails>> bySite = FCollection.bucket(
+        mutations, toSite());
+    for (final Map.Entry<Site, Collection<MutationDetails>> each : bySite
+        .entrySet()) {
+      if (each.getValue().size() > 1) {
+        recordSubsumption(each.getKey(), each.getValue());
+      }
+    }
+    return mutations;
+  }
+
+  private void recordSubsumption(Site site, Collection<MutationDetails> atSite) {
+    final Option<Integer> original = originalOutcomes(site);
+    if (original.hasNone()) {
+      return;
+    }
+
+    final List<MutationDetails> mutants = new ArrayList<>();
+    final List<Integer> differences = new ArrayList<>();
+    for (final MutationDetails each : atSite) {
+      final Option<Integer> outcomes = JumpOutcomes.forMutant(each.getMutator(),
+          original.value());
+      if (outcomes.hasSome()) {
+        final int difference = outcomes.value() ^ original.value();
+        if (difference != JumpOutcomes.NONE) {
+          mutants.add(each);
+          differences.add(difference);
+        }
+      }
+    }
+
+    final List<Integer> dominators = new ArrayList<>();
+    for (int i = 0; i != mutants.size(); i++) {
+      if (!isStrictlySubsumed(differences.get(i), differences)) {
+        dominators.add(i);
+      }
+    }
+
+    for (int i = 0; i != mutants.size(); i++) {
+      final List<MutationIdentifier> subsumedBy = new ArrayList<>();
+      for (final int dominator : dominators) {
+        if (isStrictSubset(differences.get(dominator), differences.get(i))) {
+          subsumedBy.add(mutants.get(dominator).getId());
+        }
+      }
+      if (!subsumedBy.isEmpty()) {
+        mutants.get(i).addSubsumingMutations(subsumedBy);
+      }
+    }
+  }
+
+  private static boolean isStrictlySubsumed(int difference,
+      List<Integer> differences) {
+    for (final int each : differences) {
+      if (isStrictSubset(each, difference)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean isStrictSubset(int a, int b) {
+    return (a != b) && ((a & b) == a);
+  }
+
+  private Option<Integer> originalOutcomes(Site site) {
+    final Option<MethodTree> method = this.currentClass.methods()
+        .findFirst(MethodMatchers.forLocation(site.location));
+    if (method.hasNone()
+        || (site.index >= method.value().instructions().size())) {
+      return Option.none();
+    }
+    final AbstractInsnNode insn = method.value().instructions().get(site.index);
+    if (!(insn instanceof JumpInsnNode)) {
+      return Option.none();
+    }
+    return JumpOutcomes.forOpcode(insn.getOpcode());
+  }
+
+  private static F<MutationDetails, Site> toSite() {
+    return new F<MutationDetails, Site>() {
+      @Override
+      public Site apply(MutationDetails a) {
+        return new Site(a.getId().getLocation(), a.getInstructionIndex());
+      }
+    };
+  }
+
+  @Override
+  public void end() {
+    this.currentClass = null;
+  }
+
+  private static final class Site {
+    private final Location location;
+    private final int      index;
+
+    Site(Location location, int index) {
+      this.location = location;
+      this.index = index;
+    }
+
+    @Override
+    public int hashCode() {
+      return (31 * this.location.hashCode()) + this.index;
+    }
+
+    @Override
+    public boolean equals(Object obj) {
+      if (!(obj instanceof Site)) {
+        return false;
+      }
+      final Site other = (Site) obj;
+      return (this.index == other.index)
+          && this.location.equals(other.location);
+    }
+  }
+
+}
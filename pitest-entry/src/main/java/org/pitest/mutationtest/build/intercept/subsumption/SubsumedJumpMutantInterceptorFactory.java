@@ -0,0 +1,28 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import org.pitest.mutationtest.build.InterceptorParameters;
+import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationInterceptorFactory;
+import org.pitest.plugin.Feature;
+
+public class SubsumedJumpMutantInterceptorFactory implements MutationInterceptorFactory {
+
+  @Override
+  public String description() {
+    return "Conditional mutant subsumption";
+  }
+
+  @Override
+  public Feature provides() {
+    return Feature.named("SUBSUMPTION")
+        .withOnByDefault(false)
+        .withDescription("Runs mutants of a conditional that subsume the others first, and marks the others as killed without running them if one of these is killed. "
+            + "Inferred kills count towards the mutation score, although the other mutants' extra branch changes can occasionally hide them from the killing test");
+  }
+
+  @Override
+  public MutationInterceptor createInterceptor(InterceptorParameters params) {
+    return new SubsumedJumpMutantInterceptor();
+  }
+
+}
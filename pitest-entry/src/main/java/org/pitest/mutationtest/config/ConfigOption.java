@@ -51,6 +51,11 @@ public enum ConfigOption {
    * Maximum number of hops from a mutable class to a test
    */
   DEPENDENCY_DISTANCE("dependencyDistance", -1),
+  /**
+   * Location to cache class dependencies between runs when dependency
+   * distance is set
+   */
+  DEPENDENCY_CACHE_LOCATION("dependencyCacheLocation"),
   /**
    * Arguments to launch child processes with
    */
@@ -78,6 +83,12 @@ public enum ConfigOption {
    */
   TIMEOUT_CONST("timeoutConst",
       PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT),
+  /**
+   * Percentile of each test's observed durations to which the timeout factor
+   * is applied, with the timeout constant as a minimum. Zero adds the
+   * constant to the scaled coverage duration instead
+   */
+  TIMEOUT_PERCENTILE("timeoutPercentile", 0),
   /**
    * Filter limiting tests to be considered
    */
@@ -165,7 +176,8 @@ public enum ConfigOption {
   HISTORY_OUTPUT_LOCATION("historyOutputLocation"),
 
   /**
-   * Mutation score below which to throw an error
+   * Mutation score below which to throw an error. Kills inferred through
+   * subsumption count as detected.
    */
   MUTATION_THRESHOLD("mutationThreshold", 0),
 
@@ -179,6 +191,23 @@ public enum ConfigOption {
    */
   COVERAGE_THRESHOLD("coverageThreshold", 0),
 
+  /**
+   * Half width, in percentage points, of the confidence interval at which to
+   * stop analysing a random sample of mutations. Zero analyses all mutations
+   */
+  SAMPLING_MARGIN("samplingMargin", 0f),
+
+  /**
+   * Confidence level, as a percentage, of the interval reported for a sampled
+   * mutation score
+   */
+  SAMPLING_CONFIDENCE("samplingConfidence", 95),
+
+  /**
+   * Seed for the random sample of mutations
+   */
+  SAMPLING_SEED("samplingSeed", 0L),
+
   /**
    * Mutation engine to use
    */
@@ -189,6 +218,99 @@ public enum ConfigOption {
    */
   EXPORT_LINE_COVERAGE("exportLineCoverage", false),
 
+  /**
+   * Format in which to dump line coverage, XML or BINARY
+   */
+  LINE_COVERAGE_FORMAT("lineCoverageFormat", "XML"),
+
+  /**
+   * Interval in seconds at which to append live run metrics to a file in the
+   * report directory. Zero writes no metrics file
+   */
+  METRICS_INTERVAL("metricsInterval", 0),
+
+  /**
+   * Add the time spent in each phase of analysing a mutation to the csv and
+   * xml reports
+   */
+  REPORT_TIMINGS("reportTimings", false),
+
+  /**
+   * Backward jumps a mutated class may take during a single test, on top of
+   * twice those taken by the unmutated code in the test's coverage run,
+   * before the mutation is considered to have timed out. Zero places no
+   * limit
+   */
+  LOOP_BUDGET("loopBudget", 0L),
+
+  /**
+   * Largest heap in megabytes a minion may be given. When set, minions are
+   * only started while the host has memory free for them and minions that
+   * run out of memory are retried with a larger heap. Zero leaves minion
+   * memory unmanaged
+   */
+  MAX_MINION_HEAP("maxMinionHeap", 0),
+
+  /**
+   * Run each mutant in its own classloader rather than hot swapping it into
+   * the minion's. Only suitable for tests free of JVM wide side effects.
+   * Mutants in static initializers then share minions rather than each
+   * needing a fresh one
+   */
+  ISOLATE_MUTANTS("isolateMutants", false),
+
+  /**
+   * Mutants each minion runs at once when mutants are isolated
+   */
+  MUTANT_THREADS("mutantThreads", 1),
+
+  /**
+   * host:port of worker agents on which minions may also be run. The agents'
+   * secret must be copied to ~/.pitest/agent-secret on this machine.
+   */
+  WORKER_AGENTS("workerAgents"),
+
+  /**
+   * Share the classes loaded by the coverage minion with later minions
+   * through a class data sharing archive, where the JVM supports it
+   */
+  CLASS_DATA_SHARING("classDataSharing", false),
+
+  /**
+   * Git revision against which to find changed classes. When set only those
+   * classes are mutated
+   */
+  CHANGES_SINCE("changesSince"),
+
+  /**
+   * Location to cache information read from classes between runs
+   */
+  CLASS_INFO_CACHE_LOCATION("classInfoCacheLocation"),
+
+  /**
+   * Run mutants in different methods of a class together while they survive,
+   * splitting any group that is killed
+   */
+  GROUP_MUTANTS("groupMutants", false),
+
+  /**
+   * Run the tests for each class once against probes for its mutants, and
+   * report mutants that no test infects as surviving without running them
+   */
+  INFECTION_PREFILTER("infectionPrefilter", false),
+
+  /**
+   * Threads on which the coverage minion runs test classes annotated as
+   * thread safe
+   */
+  COVERAGE_THREADS("coverageThreads", 1),
+
+  /**
+   * Analyse again each time compiled classes change, holding coverage and
+   * results in memory between analyses
+   */
+  WATCH("watch", false),
+
   /**
    * Include launch classpath in analysis
    */
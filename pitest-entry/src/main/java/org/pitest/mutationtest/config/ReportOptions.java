@@ -43,6 +43,7 @@ import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.Help;
 import org.pitest.help.PitHelpError;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.execute.MinionOptions;
 import org.pitest.mutationtest.incremental.FileWriterFactory;
 import org.pitest.mutationtest.incremental.NullWriterFactory;
 import org.pitest.mutationtest.incremental.WriterFactory;
@@ -92,11 +93,13 @@ public class ReportOptions {
   private Collection<String>             features;
 
   private int                            dependencyAnalysisMaxDistance;
+  private File                           dependencyCacheLocation;
 
   private final List<String>             jvmArgs                        = new ArrayList<>();
   private int                            numberOfThreads                = 0;
   private float                          timeoutFactor                  = PercentAndConstantTimeoutStrategy.DEFAULT_FACTOR;
   private long                           timeoutConstant                = PercentAndConstantTimeoutStrategy.DEFAULT_CONSTANT;
+  private int                            timeoutPercentile;
 
   private Collection<Predicate<String>>  targetTests;
 
@@ -115,8 +118,27 @@ public class ReportOptions {
   private boolean                        shouldCreateTimestampedReports = true;
   private boolean                        detectInlinedCode              = false;
   private boolean                        exportLineCoverage             = false;
+  private String                         lineCoverageFormat             = "XML";
+  private int                            metricsInterval;
+  private boolean                        reportTimings                  = false;
+  private long                           loopBudget;
+  private int                            maxMinionHeap;
+  private boolean                        isolateMutants                 = false;
+  private int                            mutantThreads                  = 1;
+  private Collection<String>             workerAgents                   = Collections
+                                                                            .emptyList();
+  private boolean                        classDataSharing               = false;
+  private String                         changesSince;
+  private File                           classInfoCacheLocation;
+  private boolean                        groupMutants                   = false;
+  private boolean                        infectionPrefilter             = false;
+  private int                            coverageThreads                = 1;
+  private boolean                        watch                          = false;
   private int                            mutationThreshold;
   private int                            coverageThreshold;
+  private float                          samplingMargin;
+  private int                            samplingConfidence             = 95;
+  private long                           samplingSeed;
 
   private String                         mutationEngine                 = "gregor";
 
@@ -215,6 +237,14 @@ public class ReportOptions {
     this.dependencyAnalysisMaxDistance = dependencyAnalysisMaxDistance;
   }
 
+  public File getDependencyCacheLocation() {
+    return this.dependencyCacheLocation;
+  }
+
+  public void setDependencyCacheLocation(final File dependencyCacheLocation) {
+    this.dependencyCacheLocation = dependencyCacheLocation;
+  }
+
   public List<String> getJvmArgs() {
     return this.jvmArgs;
   }
@@ -269,6 +299,18 @@ public class ReportOptions {
     this.targetClasses = targetClasses;
   }
 
+  /**
+   * Narrows the classes to mutate without changing the tests run against
+   * them. When no target tests were given they are found through the target
+   * classes, so the original target classes are kept as the target tests.
+   */
+  public void restrictTargetClasses(final Collection<String> targetClasses) {
+    if ((this.targetTests == null) || this.targetTests.isEmpty()) {
+      this.targetTests = Glob.toGlobPredicates(this.targetClasses);
+    }
+    this.targetClasses = targetClasses;
+  }
+
   public void setTargetTests(
       final Collection<Predicate<String>> targetTestsPredicates) {
     this.targetTests = targetTestsPredicates;
@@ -294,6 +336,14 @@ public class ReportOptions {
     this.timeoutConstant = timeoutConstant;
   }
 
+  public int getTimeoutPercentile() {
+    return this.timeoutPercentile;
+  }
+
+  public void setTimeoutPercentile(final int timeoutPercentile) {
+    this.timeoutPercentile = timeoutPercentile;
+  }
+
   public void setTimeoutFactor(final float timeoutFactor) {
     this.timeoutFactor = timeoutFactor;
   }
@@ -507,6 +557,137 @@ public class ReportOptions {
     return this.exportLineCoverage;
   }
 
+  public String getLineCoverageFormat() {
+    return this.lineCoverageFormat;
+  }
+
+  public void setLineCoverageFormat(final String lineCoverageFormat) {
+    this.lineCoverageFormat = lineCoverageFormat;
+  }
+
+  public int getMetricsInterval() {
+    return this.metricsInterval;
+  }
+
+  public void setMetricsInterval(final int metricsInterval) {
+    this.metricsInterval = metricsInterval;
+  }
+
+  public boolean shouldReportTimings() {
+    return this.reportTimings;
+  }
+
+  public void setReportTimings(final boolean reportTimings) {
+    this.reportTimings = reportTimings;
+  }
+
+  public long getLoopBudget() {
+    return this.loopBudget;
+  }
+
+  public void setLoopBudget(final long loopBudget) {
+    this.loopBudget = loopBudget;
+  }
+
+  public int getMaxMinionHeap() {
+    return this.maxMinionHeap;
+  }
+
+  public void setMaxMinionHeap(final int maxMinionHeap) {
+    this.maxMinionHeap = maxMinionHeap;
+  }
+
+  public boolean shouldIsolateMutants() {
+    return this.isolateMutants;
+  }
+
+  public void setIsolateMutants(final boolean isolateMutants) {
+    this.isolateMutants = isolateMutants;
+  }
+
+  public int getMutantThreads() {
+    return this.mutantThreads;
+  }
+
+  public void setMutantThreads(final int mutantThreads) {
+    this.mutantThreads = mutantThreads;
+  }
+
+  public Collection<String> getWorkerAgents() {
+    return this.workerAgents;
+  }
+
+  public void setWorkerAgents(final Collection<String> workerAgents) {
+    this.workerAgents = workerAgents;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
+  public void setClassDataSharing(final boolean classDataSharing) {
+    this.classDataSharing = classDataSharing;
+  }
+
+  public String getChangesSince() {
+    return this.changesSince;
+  }
+
+  public void setChangesSince(final String changesSince) {
+    this.changesSince = changesSince;
+  }
+
+  public File getClassInfoCacheLocation() {
+    return this.classInfoCacheLocation;
+  }
+
+  public void setClassInfoCacheLocation(final File classInfoCacheLocation) {
+    this.classInfoCacheLocation = classInfoCacheLocation;
+  }
+
+  public boolean shouldGroupMutants() {
+    return this.groupMutants;
+  }
+
+  public void setGroupMutants(final boolean groupMutants) {
+    this.groupMutants = groupMutants;
+  }
+
+  public boolean shouldPrefilterInfection() {
+    return this.infectionPrefilter;
+  }
+
+  public void setInfectionPrefilter(final boolean infectionPrefilter) {
+    this.infectionPrefilter = infectionPrefilter;
+  }
+
+  /**
+   * How minions should run the mutants they are given
+   */
+  public MinionOptions getMinionOptions() {
+    return MinionOptions.defaults().withLoopBudget(this.loopBudget)
+        .withIsolateMutants(this.isolateMutants)
+        .withMutantThreads(this.mutantThreads)
+        .withGroupMutants(this.groupMutants)
+        .withPrefilterInfection(this.infectionPrefilter);
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public void setCoverageThreads(final int coverageThreads) {
+    this.coverageThreads = coverageThreads;
+  }
+
+  public boolean isWatch() {
+    return this.watch;
+  }
+
+  public void setWatch(final boolean watch) {
+    this.watch = watch;
+  }
+
   public int getMutationThreshold() {
     return this.mutationThreshold;
   }
@@ -531,6 +712,34 @@ public class ReportOptions {
     this.coverageThreshold = coverageThreshold;
   }
 
+  public float getSamplingMargin() {
+    return this.samplingMargin;
+  }
+
+  public void setSamplingMargin(final float samplingMargin) {
+    this.samplingMargin = samplingMargin;
+  }
+
+  public boolean isSampling() {
+    return this.samplingMargin > 0;
+  }
+
+  public int getSamplingConfidence() {
+    return this.samplingConfidence;
+  }
+
+  public void setSamplingConfidence(final int samplingConfidence) {
+    this.samplingConfidence = samplingConfidence;
+  }
+
+  public long getSamplingSeed() {
+    return this.samplingSeed;
+  }
+
+  public void setSamplingSeed(final long samplingSeed) {
+    this.samplingSeed = samplingSeed;
+  }
+
   public String getJavaExecutable() {
     return this.javaExecutable;
   }
@@ -606,17 +815,32 @@ public class ReportOptions {
         + sourceDirs + ", classPathElements=" + classPathElements
         + ", mutators=" + mutators + ", features=" + features
         + ", dependencyAnalysisMaxDistance=" + dependencyAnalysisMaxDistance
+        + ", dependencyCacheLocation=" + dependencyCacheLocation
         + ", jvmArgs=" + jvmArgs + ", numberOfThreads=" + numberOfThreads
         + ", timeoutFactor=" + timeoutFactor + ", timeoutConstant="
-        + timeoutConstant + ", targetTests=" + targetTests + ", loggingClasses="
+        + timeoutConstant + ", timeoutPercentile=" + timeoutPercentile
+        + ", targetTests=" + targetTests + ", loggingClasses="
         + loggingClasses + ", maxMutationsPerClass=" + maxMutationsPerClass
         + ", verbose=" + verbose + ", failWhenNoMutations="
         + failWhenNoMutations + ", outputs=" + outputs + ", groupConfig="
         + groupConfig + ", mutationUnitSize=" + mutationUnitSize
         + ", shouldCreateTimestampedReports=" + shouldCreateTimestampedReports
         + ", detectInlinedCode=" + detectInlinedCode + ", exportLineCoverage="
-        + exportLineCoverage + ", mutationThreshold=" + mutationThreshold
-        + ", coverageThreshold=" + coverageThreshold + ", mutationEngine="
+        + exportLineCoverage + ", lineCoverageFormat=" + lineCoverageFormat
+        + ", metricsInterval=" + metricsInterval
+        + ", reportTimings=" + reportTimings + ", loopBudget=" + loopBudget
+        + ", maxMinionHeap=" + maxMinionHeap + ", isolateMutants="
+        + isolateMutants + ", mutantThreads=" + mutantThreads
+        + ", workerAgents=" + workerAgents + ", classDataSharing="
+        + classDataSharing + ", changesSince=" + changesSince
+        + ", classInfoCacheLocation=" + classInfoCacheLocation
+        + ", groupMutants=" + groupMutants
+        + ", infectionPrefilter=" + infectionPrefilter
+        + ", coverageThreads=" + coverageThreads + ", watch=" + watch
+        + ", mutationThreshold=" + mutationThreshold
+        + ", coverageThreshold=" + coverageThreshold + ", samplingMargin="
+        + samplingMargin + ", samplingConfidence=" + samplingConfidence
+        + ", samplingSeed=" + samplingSeed + ", mutationEngine="
         + mutationEngine + ", javaExecutable=" + javaExecutable
         + ", includeLaunchClasspath=" + includeLaunchClasspath + ", properties="
         + properties + ", maxSurvivors=" + maxSurvivors + ", excludedRunners="
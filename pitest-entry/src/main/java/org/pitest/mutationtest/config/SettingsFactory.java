@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.config;
 
+import java.io.Reader;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashSet;
@@ -7,12 +8,15 @@ import java.util.List;
 
 import org.pitest.coverage.CoverageExporter;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
 import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.HistoryStore;
 import org.pitest.mutationtest.MutationEngineFactory;
 import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.build.CompoundInterceptorFactory;
@@ -21,6 +25,8 @@ import org.pitest.mutationtest.build.DefaultTestPrioritiserFactory;
 import org.pitest.mutationtest.build.MutationGrouperFactory;
 import org.pitest.mutationtest.build.MutationInterceptorFactory;
 import org.pitest.mutationtest.build.TestPrioritiserFactory;
+import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
+import org.pitest.mutationtest.incremental.WriterFactory;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParser;
 import org.pitest.plugin.FeatureSelector;
@@ -49,11 +55,28 @@ public class SettingsFactory {
   }
 
   public CoverageExporter createCoverageExporter() {
-    if (this.options.shouldExportLineCoverage()) {
-      return new DefaultCoverageExporter(getOutputStrategy());
-    } else {
+    if (!this.options.shouldExportLineCoverage()) {
       return new NullCoverageExporter();
     }
+    final String format = this.options.getLineCoverageFormat();
+    if ("XML".equalsIgnoreCase(format)) {
+      return new DefaultCoverageExporter(getOutputStrategy());
+    }
+    if ("BINARY".equalsIgnoreCase(format)) {
+      return new BinaryCoverageExporter(getOutputStrategy());
+    }
+    throw new PitError("Unknown line coverage format " + format
+        + ". Use XML or BINARY");
+  }
+
+  /**
+   * Creates the store for the results of previous analyses. Tools that run
+   * several projects as one analysis may override this to keep history for
+   * each project apart.
+   */
+  public HistoryStore createHistoryStore(final WriterFactory output,
+      final Option<Reader> input) {
+    return new ObjectOutputStreamHistoryStore(output, input);
   }
 
   public MutationEngineFactory createEngine() {
@@ -113,7 +136,9 @@ public class SettingsFactory {
     return new CoverageOptions(
         this.options.getTargetClasses(), this.options.getExcludedClasses(),
         this.options.createMinionSettings(), this.options.isVerbose(),
-        this.options.getDependencyAnalysisMaxDistance());
+        this.options.getDependencyAnalysisMaxDistance(),
+        this.options.getDependencyCacheLocation(),
+        this.options.getCoverageThreads(), this.options.getLoopBudget() > 0);
   }  
 
   public CompoundInterceptorFactory getInterceptor() {
@@ -0,0 +1,241 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+
+/**
+ * Decides when another minion may start, and how much heap minions that run
+ * out of memory are retried with, from the memory free on the host and the
+ * heap used by running minions.
+ *
+ * On Linux the free memory is the kernel's MemAvailable estimate, which unlike
+ * MemFree includes page cache that can be reclaimed.
+ *
+ * A running minion may still grow until it reaches its maximum heap, so a
+ * minion is only started once the free memory, less the growth still open
+ * to the minions already running, would hold it. One minion may always run.
+ * Where a minion's maximum heap is not known, twice the largest heap any
+ * minion has been seen to use is assumed.
+ */
+public class MinionMemory {
+
+  /**
+   * Source of the physical memory currently available on the host
+   */
+  public interface HostMemory {
+    long free();
+  }
+
+  private static final long       MINIMUM_RETRY_HEAP = 256L * 1024 * 1024;
+  private static final long       RECHECK_MILLIS     = 1000;
+
+  private final long              maxHeap;
+  private final HostMemory        host;
+  private final List<Reservation> running            = new ArrayList<>();
+  private long                    peakUsed;
+
+  /**
+   * @param maxHeap
+   *          largest heap in bytes a minion may be given. 0 leaves the number
+   *          and heap of minions unmanaged.
+   */
+  public MinionMemory(final long maxHeap) {
+    this(maxHeap, systemMemory());
+  }
+
+  public MinionMemory(final long maxHeap, final HostMemory host) {
+    this.maxHeap = maxHeap;
+    this.host = host;
+  }
+
+  public static MinionMemory unmanaged() {
+    return new MinionMemory(0);
+  }
+
+  public boolean isManaged() {
+    return this.maxHeap > 0;
+  }
+
+  /**
+   * Blocks until there is memory for a minion with the given maximum heap, 0
+   * if that is left to the JVM, to run.
+   */
+  public synchronized Reservation reserve(final long heap)
+      throws InterruptedException {
+    final Reservation reservation = new Reservation(heap);
+    while (isManaged() && !this.running.isEmpty() && !fits(reservation)) {
+      wait(RECHECK_MILLIS);
+    }
+    this.running.add(reservation);
+    return reservation;
+  }
+
+  /**
+   * Heap with which to retry the work of a minion that ran out of memory, if
+   * a larger heap is allowed
+   */
+  public synchronized Option<Long> largerHeap(final Reservation failed) {
+    if (!isManaged()) {
+      return Option.none();
+    }
+    final long used = Math.max(failed.heap, failed.peak);
+    final long larger = Math.min(this.maxHeap,
+        Math.max(MINIMUM_RETRY_HEAP, used) * 2);
+    if (larger <= failed.heap) {
+      return Option.none();
+    }
+    return Option.some(larger);
+  }
+
+  synchronized int running() {
+    return this.running.size();
+  }
+
+  private boolean fits(final Reservation reservation) {
+    long growth = 0;
+    for (final Reservation each : this.running) {
+      growth = growth + Math.max(0, limitOf(each) - each.used);
+    }
+    return (this.host.free() - growth) >= limitOf(reservation);
+  }
+
+  private long limitOf(final Reservation reservation) {
+    if (reservation.heap > 0) {
+      return reservation.heap;
+    }
+    return this.peakUsed * 2;
+  }
+
+  private static HostMemory systemMemory() {
+    return new ProcMeminfo(new File("/proc/meminfo"), jvmMemory());
+  }
+
+  private static HostMemory jvmMemory() {
+    final OperatingSystemMXBean os = ManagementFactory
+        .getOperatingSystemMXBean();
+    if (os instanceof com.sun.management.OperatingSystemMXBean) {
+      final com.sun.management.OperatingSystemMXBean sunOs = (com.sun.management.OperatingSystemMXBean) os;
+      return new HostMemory() {
+        @Override
+        public long free() {
+          return sunOs.getFreePhysicalMemorySize();
+        }
+      };
+    }
+    return new HostMemory() {
+      @Override
+      public long free() {
+        return Long.MAX_VALUE;
+      }
+    };
+  }
+
+  /**
+   * Reads MemAvailable from a Linux meminfo file, falling back to another
+   * source where the file or entry is missing.
+   */
+  static final class ProcMeminfo implements HostMemory {
+
+    private static final String MEM_AVAILABLE = "MemAvailable:";
+
+    private final File          meminfo;
+    private final HostMemory    fallback;
+
+    ProcMeminfo(final File meminfo, final HostMemory fallback) {
+      this.meminfo = meminfo;
+      this.fallback = fallback;
+    }
+
+    @Override
+    public long free() {
+      final Option<Long> available = memAvailable();
+      if (available.hasSome()) {
+        return available.value();
+      }
+      return this.fallback.free();
+    }
+
+    private Option<Long> memAvailable() {
+      if (!this.meminfo.isFile()) {
+        return Option.none();
+      }
+      try (BufferedReader reader = new BufferedReader(new FileReader(
+          this.meminfo))) {
+        String line;
+        while ((line = reader.readLine()) != null) {
+          if (line.startsWith(MEM_AVAILABLE)) {
+            final String[] parts = line.substring(MEM_AVAILABLE.length())
+                .trim().split("\\s+");
+            return Option.some(Long.parseLong(parts[0]) * 1024);
+          }
+        }
+      } catch (final IOException | NumberFormatException e) {
+        return Option.none();
+      }
+      return Option.none();
+    }
+
+  }
+
+  /**
+   * Memory held by a single minion. Receives the minion's heap samples and
+   * must be released once the minion has exited.
+   */
+  public final class Reservation implements SideEffect1<Long> {
+
+    private final long heap;
+    private long       used;
+    private long       peak;
+
+    private Reservation(final long heap) {
+      this.heap = heap;
+    }
+
+    public long getHeap() {
+      return this.heap;
+    }
+
+    @Override
+    public void apply(final Long bytes) {
+      synchronized (MinionMemory.this) {
+        this.used = bytes;
+        this.peak = Math.max(this.peak, bytes);
+        MinionMemory.this.peakUsed = Math.max(MinionMemory.this.peakUsed,
+            bytes);
+        MinionMemory.this.notifyAll();
+      }
+    }
+
+    public void release() {
+      synchronized (MinionMemory.this) {
+        MinionMemory.this.running.remove(this);
+        MinionMemory.this.notifyAll();
+      }
+    }
+
+  }
+
+}
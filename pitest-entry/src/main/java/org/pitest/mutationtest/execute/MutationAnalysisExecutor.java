@@ -16,6 +16,7 @@ import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResultListener;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.util.Log;
 import org.pitest.util.Unchecked;
 
@@ -25,13 +26,39 @@ public class MutationAnalysisExecutor {
 
   private final List<MutationResultListener> listeners;
   private final ThreadPoolExecutor           executor;
+  private final StoppingCondition            stoppingCondition;
+  private final RunMetrics                   metrics;
 
   public MutationAnalysisExecutor(int numberOfThreads,
       List<MutationResultListener> listeners) {
+    this(numberOfThreads, listeners, StoppingCondition.NEVER);
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners,
+      StoppingCondition stoppingCondition) {
+    this(numberOfThreads, listeners, stoppingCondition, new RunMetrics());
+  }
+
+  public MutationAnalysisExecutor(int numberOfThreads,
+      List<MutationResultListener> listeners,
+      StoppingCondition stoppingCondition, final RunMetrics metrics) {
     this.listeners = listeners;
+    this.stoppingCondition = stoppingCondition;
+    this.metrics = metrics;
     this.executor = new ThreadPoolExecutor(numberOfThreads, numberOfThreads,
         10, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>(),
-        Executors.defaultThreadFactory());
+        Executors.defaultThreadFactory()) {
+      @Override
+      protected void beforeExecute(Thread t, Runnable r) {
+        metrics.unitStarted();
+      }
+
+      @Override
+      protected void afterExecute(Runnable r, Throwable t) {
+        metrics.unitFinished();
+      }
+    };
   }
 
   // entry point for mutation testing
@@ -40,6 +67,8 @@ public class MutationAnalysisExecutor {
     LOG.fine("Running " + testUnits.size() + " units");
 
     signalRunStartToAllListeners();
+    this.metrics.analysisStarted();
+    this.metrics.unitsQueued(testUnits.size());
 
     List<Future<MutationMetaData>> results = new ArrayList<>(
         testUnits.size());
@@ -58,19 +87,38 @@ public class MutationAnalysisExecutor {
       throw Unchecked.translateCheckedException(e);
     }
 
+    this.metrics.analysisEnded();
     signalRunEndToAllListeners();
 
   }
 
   private void processResult(List<Future<MutationMetaData>> results)
       throws InterruptedException, ExecutionException {
-    for (Future<MutationMetaData> f : results) {
-      MutationMetaData r = f.get();
+    for (int i = 0; i != results.size(); i++) {
+      MutationMetaData r = results.get(i).get();
       for (MutationResultListener l : this.listeners) {
         for (final ClassMutationResults cr : r.toClassResults()) {
           l.handleMutationResult(cr);
         }
       }
+      if (this.stoppingCondition.shouldStop()) {
+        cancel(results.subList(i + 1, results.size()));
+        return;
+      }
+    }
+  }
+
+  private void cancel(List<Future<MutationMetaData>> remaining) {
+    if (!remaining.isEmpty()) {
+      LOG.info("Stopping analysis early. Skipping " + remaining.size()
+          + " of the mutation test units");
+    }
+    // units already running are left to complete, their results are ignored
+    for (Future<MutationMetaData> f : remaining) {
+      if (this.executor.remove((Runnable) f)) {
+        this.metrics.unitCancelled();
+      }
+      f.cancel(false);
     }
   }
 
@@ -18,7 +18,9 @@ import java.net.ServerSocket;
 import java.util.Map;
 import java.util.logging.Logger;
 
+import org.pitest.functional.SideEffect;
 import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -50,13 +52,23 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   private static class Receive implements ReceiveStrategy {
 
     private final Map<MutationIdentifier, MutationStatusTestPair> idMap;
+    private final SideEffect                                      firstMessage;
+    private final SideEffect1<Long>                               heapUsed;
+    private boolean                                               received;
 
-    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
+    Receive(final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+        final SideEffect firstMessage, final SideEffect1<Long> heapUsed) {
       this.idMap = idMap;
+      this.firstMessage = firstMessage;
+      this.heapUsed = heapUsed;
     }
 
     @Override
     public void apply(final byte control, final SafeDataInputStream is) {
+      if (!this.received) {
+        this.received = true;
+        this.firstMessage.apply();
+      }
       switch (control) {
       case Id.DESCRIBE:
         handleDescribe(is);
@@ -64,6 +76,9 @@ public class MutationTestCommunicationThread extends CommunicationThread {
       case Id.REPORT:
         handleReport(is);
         break;
+      case Id.HEAP:
+        this.heapUsed.apply(is.readLong());
+        break;
       }
     }
 
@@ -88,7 +103,36 @@ public class MutationTestCommunicationThread extends CommunicationThread {
   public MutationTestCommunicationThread(final ServerSocket socket,
       final MinionArguments arguments,
       final Map<MutationIdentifier, MutationStatusTestPair> idMap) {
-    super(socket, new SendData(arguments), new Receive(idMap));
+    this(socket, arguments, idMap, new SideEffect() {
+      @Override
+      public void apply() {
+      }
+    });
+  }
+
+  /**
+   * @param firstMessage
+   *          applied when the minion first reports back, once it has started
+   *          up and begun work
+   */
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final SideEffect firstMessage) {
+    this(socket, arguments, idMap, firstMessage,
+        Prelude.noSideEffect(Long.class));
+  }
+
+  /**
+   * @param heapUsed
+   *          applied to each sample of the heap used by the minion
+   */
+  public MutationTestCommunicationThread(final ServerSocket socket,
+      final MinionArguments arguments,
+      final Map<MutationIdentifier, MutationStatusTestPair> idMap,
+      final SideEffect firstMessage, final SideEffect1<Long> heapUsed) {
+    super(socket, new SendData(arguments), new Receive(idMap, firstMessage,
+        heapUsed));
     this.idMap = idMap;
   }
 
@@ -4,31 +4,92 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.util.HashMap;
 
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
+import org.pitest.functional.SideEffect1;
+import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.metrics.RunMetrics;
+import org.pitest.process.MinionHosts;
+import org.pitest.process.MinionProcess;
 import org.pitest.process.ProcessArgs;
-import org.pitest.process.WrappingProcess;
 import org.pitest.util.ExitCode;
 
 public class MutationTestProcess {
 
-  private final WrappingProcess                 process;
-  private final MutationTestCommunicationThread thread;
+  private final MinionProcess                    process;
+  private final MutationTestCommunicationThread  thread;
+  private final RunMetrics                       metrics;
+  private final Option<MinionMemory.Reservation> memory;
+  private volatile long                          startTime;
 
   public MutationTestProcess(final ServerSocket socket,
       final ProcessArgs processArgs, final MinionArguments arguments) {
-    this.process = new WrappingProcess(socket.getLocalPort(), processArgs,
+    this(socket, processArgs, arguments, new RunMetrics());
+  }
+
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final RunMetrics metrics) {
+    this(socket, processArgs, arguments, metrics, Option
+        .<MinionMemory.Reservation> none());
+  }
+
+  /**
+   * @param memory
+   *          memory reserved for the minion, which receives its heap samples
+   *          and is released once it exits
+   */
+  public MutationTestProcess(final ServerSocket socket,
+      final ProcessArgs processArgs, final MinionArguments arguments,
+      final RunMetrics metrics, final Option<MinionMemory.Reservation> memory) {
+    this(socket, MinionHosts.localOnly(), processArgs, arguments, metrics,
+        memory);
+  }
+
+  /**
+   * @param hosts
+   *          decides where the minion runs
+   */
+  public MutationTestProcess(final ServerSocket socket,
+      final MinionHosts hosts, final ProcessArgs processArgs,
+      final MinionArguments arguments, final RunMetrics metrics,
+      final Option<MinionMemory.Reservation> memory) {
+    this.process = hosts.create(socket.getLocalPort(), processArgs,
         MutationTestMinion.class);
     this.thread = new MutationTestCommunicationThread(socket, arguments,
-        new HashMap<MutationIdentifier, MutationStatusTestPair>());
+        new HashMap<MutationIdentifier, MutationStatusTestPair>(),
+        recordStartUp(), heapSampler(memory));
+    this.metrics = metrics;
+    this.memory = memory;
+  }
 
+  private static SideEffect1<Long> heapSampler(
+      final Option<MinionMemory.Reservation> memory) {
+    if (memory.hasSome()) {
+      return memory.value();
+    }
+    return Prelude.noSideEffect(Long.class);
   }
 
   public void start() throws IOException, InterruptedException {
+    this.startTime = System.currentTimeMillis();
     this.thread.start();
     this.process.start();
+    this.metrics.minionStarted();
+  }
+
+  private SideEffect recordStartUp() {
+    return new SideEffect() {
+      @Override
+      public void apply() {
+        MutationTestProcess.this.metrics.minionReady(System
+            .currentTimeMillis() - MutationTestProcess.this.startTime);
+      }
+    };
   }
 
   public void results(final MutationStatusMap allmutations) throws IOException {
@@ -47,8 +108,16 @@ public class MutationTestProcess {
       return this.thread.waitToFinish();
     } finally {
       this.process.destroy();
+      this.metrics.minionExited();
+      if (this.memory.hasSome()) {
+        this.memory.value().release();
+      }
     }
 
   }
 
+  public Option<MinionMemory.Reservation> getMemory() {
+    return this.memory;
+  }
+
 }
@@ -0,0 +1,19 @@
+package org.pitest.mutationtest.execute;
+
+/**
+ * Allows the analysis of mutations to end before all units have been
+ * analysed. Checked each time the results of a unit have been passed to the
+ * listeners.
+ */
+public interface StoppingCondition {
+
+  StoppingCondition NEVER = new StoppingCondition() {
+    @Override
+    public boolean shouldStop() {
+      return false;
+    }
+  };
+
+  boolean shouldStop();
+
+}
@@ -0,0 +1,72 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+
+/**
+ * Selects the classes affected by a set of changed source files.
+ *
+ * A class is changed if the file named by its source file attribute, in the
+ * directory matching its package, is among the changed paths. Classes whose
+ * super or outer class changed are selected too, as their hierarchical id
+ * (and so any incremental history for them) changes along with it.
+ */
+public class ChangedClassSelector {
+
+  private final Collection<String> changedPaths;
+
+  public ChangedClassSelector(final Collection<String> changedPaths) {
+    this.changedPaths = changedPaths;
+  }
+
+  public Set<ClassName> select(final Collection<ClassInfo> code) {
+    final Set<ClassName> changed = new LinkedHashSet<>();
+    for (final ClassInfo each : code) {
+      if (isFromChangedFile(each)) {
+        changed.add(each.getName());
+      }
+    }
+
+    final Set<ClassName> selected = new LinkedHashSet<>(changed);
+    for (final ClassInfo each : code) {
+      if (isIn(changed, each.getSuperClass())
+          || isIn(changed, each.getOuterClass())) {
+        selected.add(each.getName());
+      }
+    }
+    return selected;
+  }
+
+  private boolean isFromChangedFile(final ClassInfo clazz) {
+    if (clazz.getSourceFileName() == null) {
+      return false;
+    }
+    final String source = sourcePath(clazz);
+    for (final String each : this.changedPaths) {
+      final String path = each.replace('\\', '/');
+      if (path.equals(source) || path.endsWith("/" + source)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static String sourcePath(final ClassInfo clazz) {
+    final String pkg = clazz.getName().getPackage().asInternalName();
+    if (pkg.isEmpty()) {
+      return clazz.getSourceFileName();
+    }
+    return pkg + "/" + clazz.getSourceFileName();
+  }
+
+  private static boolean isIn(final Set<ClassName> classes,
+      final Option<ClassInfo> clazz) {
+    return clazz.hasSome() && classes.contains(clazz.value().getName());
+  }
+
+}
@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.incremental;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.pitest.util.PitError;
+
+/**
+ * Reads the files changed in a local git repository by running the git
+ * executable. Nothing is fetched, so the revision compared against must
+ * already be present locally.
+ */
+public class GitChanges {
+
+  private final File   workingDir;
+  private final String git;
+
+  public GitChanges(final File workingDir) {
+    this(workingDir, "git");
+  }
+
+  GitChanges(final File workingDir, final String git) {
+    this.workingDir = workingDir;
+    this.git = git;
+  }
+
+  /**
+   * Paths, relative to the root of the repository, of files added or
+   * modified on the current branch since it diverged from the given
+   * revision. Uncommitted and untracked files are included so that local
+   * work is analysed along with committed changes.
+   */
+  public Set<String> changedPathsSince(final String revision) {
+    final String base = git("merge-base", revision, "HEAD").trim();
+    final Set<String> paths = new LinkedHashSet<>();
+    paths.addAll(split(git("diff", "--name-only", "-z", "--diff-filter=d",
+        base)));
+    paths.addAll(split(git("ls-files", "-z", "--others",
+        "--exclude-standard", "--full-name", "--", ":/")));
+    return paths;
+  }
+
+  private String git(final String... args) {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add(this.git);
+    cmd.addAll(Arrays.asList(args));
+    final ProcessBuilder builder = new ProcessBuilder(cmd);
+    builder.directory(this.workingDir);
+    builder.redirectErrorStream(true);
+    try {
+      final Process process = builder.start();
+      final String output = read(process.getInputStream());
+      if (process.waitFor() != 0) {
+        throw new PitError("Could not read changes from git repository at "
+            + this.workingDir + ". " + cmd + " failed with " + output);
+      }
+      return output;
+    } catch (final IOException ex) {
+      throw new PitError("Could not run " + cmd, ex);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new PitError("Interrupted while running " + cmd, ex);
+    }
+  }
+
+  private static String read(final InputStream in) throws IOException {
+    final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    final byte[] buffer = new byte[4096];
+    int read;
+    while ((read = in.read(buffer)) != -1) {
+      out.write(buffer, 0, read);
+    }
+    return new String(out.toByteArray(), StandardCharsets.UTF_8);
+  }
+
+  private static List<String> split(final String nulSeparated) {
+    final List<String> paths = new ArrayList<>();
+    for (final String each : nulSeparated.split("\0")) {
+      if (!each.isEmpty()) {
+        paths.add(each);
+      }
+    }
+    return paths;
+  }
+
+}
@@ -0,0 +1,94 @@
+package org.pitest.mutationtest.incremental;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Keeps history in memory so that a long lived tool can reuse the results of
+ * one analysis in the next without writing them to disk. Each call to
+ * initialize makes the history recorded since the last call available as the
+ * previous history.
+ */
+public class InMemoryHistoryStore implements HistoryStore {
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
+  private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final Map<String, long[]>                             previousDurations = new HashMap<>();
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> results           = new HashMap<>();
+  private final Map<ClassName, ClassHistory>                    classPath         = new HashMap<>();
+  private final Map<String, long[]>                             durations         = new HashMap<>();
+
+  @Override
+  public synchronized void initialize() {
+    // history is merged rather than replaced, so an analysis that fails part
+    // way through does not lose the results of those before it
+    this.previousResults.putAll(this.results);
+    this.previousClassPath.putAll(this.classPath);
+    this.previousDurations.putAll(this.durations);
+    this.results.clear();
+    this.classPath.clear();
+    this.durations.clear();
+  }
+
+  @Override
+  public synchronized void recordClassPath(
+      final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    for (final HierarchicalClassId each : ids) {
+      this.classPath.put(each.getName(), new ClassHistory(each, coverageInfo
+          .getCoverageIdForClass(each.getName()).toString(16)));
+      for (final TestInfo test : coverageInfo.getTestsForClass(each.getName())) {
+        if (!this.durations.containsKey(test.getName())) {
+          this.durations.put(test.getName(), appendDuration(test));
+        }
+      }
+    }
+  }
+
+  private long[] appendDuration(final TestInfo test) {
+    final long[] previous = this.previousDurations.get(test.getName());
+    if (previous == null) {
+      return new long[] { test.getTime() };
+    }
+    final int kept = Math.min(previous.length,
+        ObjectOutputStreamHistoryStore.DURATIONS_KEPT - 1);
+    final long[] appended = Arrays.copyOfRange(previous, previous.length
+        - kept, previous.length + 1);
+    appended[kept] = test.getTime();
+    return appended;
+  }
+
+  @Override
+  public synchronized void recordResult(final MutationResult result) {
+    this.results.put(result.getDetails().getId(), result.getStatusTestPair());
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    return this.previousResults;
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    return this.previousClassPath;
+  }
+
+  @Override
+  public Map<String, long[]> getHistoricTestDurations() {
+    return this.previousDurations;
+  }
+
+}
@@ -4,6 +4,7 @@ import org.apache.commons.codec.binary.Base64;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.HistoryStore;
@@ -22,6 +23,7 @@ import java.io.ObjectOutputStream;
 import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.Serializable;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.Map;
@@ -31,10 +33,17 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
 
   private static final Logger                                   LOG               = Log
       .getLogger();
+
+  /**
+   * Number of previous durations retained for each test
+   */
+  static final int                                              DURATIONS_KEPT    = 10;
+
   private final WriterFactory                                   outputFactory;
   private final BufferedReader                                  input;
   private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
   private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final Map<String, long[]>                             previousDurations = new HashMap<>();
 
   public ObjectOutputStreamHistoryStore(final WriterFactory output,
       final Option<Reader> input) {
@@ -59,9 +68,37 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
           coverageInfo.getCoverageIdForClass(each.getName()).toString(16));
       output.println(serialize(coverage));
     }
+    output.println(serialize(new TestDurations(testDurations(ids,
+        coverageInfo))));
     output.flush();
   }
 
+  private Map<String, long[]> testDurations(
+      final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    final Map<String, long[]> durations = new HashMap<>();
+    for (final HierarchicalClassId each : ids) {
+      for (final TestInfo test : coverageInfo.getTestsForClass(each.getName())) {
+        if (!durations.containsKey(test.getName())) {
+          durations.put(test.getName(), appendDuration(test));
+        }
+      }
+    }
+    return durations;
+  }
+
+  private long[] appendDuration(final TestInfo test) {
+    final long[] previous = this.previousDurations.get(test.getName());
+    if (previous == null) {
+      return new long[] { test.getTime() };
+    }
+    final int kept = Math.min(previous.length, DURATIONS_KEPT - 1);
+    final long[] durations = Arrays.copyOfRange(previous, previous.length
+        - kept, previous.length + 1);
+    durations[kept] = test.getTime();
+    return durations;
+  }
+
   @Override
   public void recordResult(final MutationResult result) {
     final PrintWriter output = this.outputFactory.create();
@@ -80,6 +117,11 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     return this.previousClassPath;
   }
 
+  @Override
+  public Map<String, long[]> getHistoricTestDurations() {
+    return this.previousDurations;
+  }
+
   @Override
   public void initialize() {
     if (this.input != null) {
@@ -98,8 +140,13 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
     try {
       line = this.input.readLine();
       while (line != null) {
-        final IdResult result = deserialize(line, IdResult.class);
-        this.previousResults.put(result.id, result.status);
+        final Object record = deserialize(line, Object.class);
+        if (record instanceof TestDurations) {
+          this.previousDurations.putAll(((TestDurations) record).durations);
+        } else {
+          final IdResult result = (IdResult) record;
+          this.previousResults.put(result.id, result.status);
+        }
         line = this.input.readLine();
       }
     } catch (final IOException e) {
@@ -156,4 +203,14 @@ public class ObjectOutputStreamHistoryStore implements HistoryStore {
 
   }
 
+  private static class TestDurations implements Serializable {
+    private static final long serialVersionUID = 1L;
+    final Map<String, long[]> durations;
+
+    TestDurations(final Map<String, long[]> durations) {
+      this.durations = durations;
+    }
+
+  }
+
 }
\ No newline at end of file
@@ -0,0 +1,105 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Periodically appends a line describing the run metrics to a writer. Each
+ * line is the current time in milliseconds followed by the key=value pairs
+ * of {@link RunMetrics#describe()}.
+ */
+public class MetricsFileWriter {
+
+  public static final String             FILE_NAME = "metrics.txt";
+
+  private static final Logger            LOG       = Log.getLogger();
+
+  private final RunMetrics               metrics;
+  private final Writer                   out;
+  private final long                     intervalMillis;
+  private ScheduledExecutorService       scheduler;
+
+  public MetricsFileWriter(final RunMetrics metrics, final Writer out,
+      final long intervalMillis) {
+    this.metrics = metrics;
+    this.out = out;
+    this.intervalMillis = intervalMillis;
+  }
+
+  public void start() {
+    this.scheduler = Executors.newSingleThreadScheduledExecutor(daemonThreads());
+    this.scheduler.scheduleAtFixedRate(new Runnable() {
+      @Override
+      public void run() {
+        writeLine();
+      }
+    }, this.intervalMillis, this.intervalMillis, TimeUnit.MILLISECONDS);
+  }
+
+  /**
+   * Stops writing, after appending a final line
+   */
+  public void stop() {
+    if (this.scheduler != null) {
+      this.scheduler.shutdownNow();
+      try {
+        this.scheduler.awaitTermination(this.intervalMillis,
+            TimeUnit.MILLISECONDS);
+      } catch (final InterruptedException e) {
+        throw Unchecked.translateCheckedException(e);
+      }
+    }
+    writeLine();
+    try {
+      this.out.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  synchronized void writeLine() {
+    try {
+      this.out.write(System.currentTimeMillis() + " "
+          + this.metrics.describe() + System.getProperty("line.separator"));
+      this.out.flush();
+    } catch (final IOException e) {
+      LOG.log(Level.WARNING, "Could not write metrics", e);
+    }
+  }
+
+  private static ThreadFactory daemonThreads() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName("pit metrics");
+        return thread;
+      }
+    };
+  }
+
+}
@@ -0,0 +1,294 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.metrics;
+
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.util.Log;
+import org.pitest.util.Timings;
+import org.pitest.util.Timings.Stage;
+
+/**
+ * Counters describing the progress of a run. Updated by the threads doing the
+ * work and read while the run is in progress, so all state is atomic.
+ */
+public class RunMetrics implements RunMetricsMXBean {
+
+  private static final Logger                      LOG = Log.getLogger();
+
+  private static final AtomicInteger               RUNS = new AtomicInteger();
+
+  private final Timings                            timings;
+
+  private final AtomicLong                         coverageStart = new AtomicLong();
+  private final AtomicLong                         coverageEnd = new AtomicLong();
+  private final AtomicLong                         testsCovered = new AtomicLong();
+
+  private final AtomicLong                         analysisStart = new AtomicLong();
+  private final AtomicLong                         analysisEnd = new AtomicLong();
+  private final AtomicLong                         mutantsAnalysed = new AtomicLong();
+  private final Map<DetectionStatus, AtomicLong>   statusCounts = new EnumMap<>(
+      DetectionStatus.class);
+
+  private final AtomicInteger                      queuedUnits = new AtomicInteger();
+  private final AtomicInteger                      runningUnits = new AtomicInteger();
+
+  private final AtomicInteger                      liveMinions = new AtomicInteger();
+  private final AtomicLong                         minionsStarted = new AtomicLong();
+  private final AtomicLong                         minionsReady = new AtomicLong();
+  private final AtomicLong                         totalStartUp = new AtomicLong();
+  private final AtomicLong                         maxStartUp = new AtomicLong();
+
+  private ObjectName                               name;
+
+  public RunMetrics() {
+    this(new Timings());
+  }
+
+  public RunMetrics(final Timings timings) {
+    this.timings = timings;
+    for (final DetectionStatus each : DetectionStatus.values()) {
+      this.statusCounts.put(each, new AtomicLong());
+    }
+  }
+
+  public void coverageStarted() {
+    this.coverageStart.set(System.currentTimeMillis());
+  }
+
+  public void testCovered() {
+    this.testsCovered.incrementAndGet();
+  }
+
+  public void coverageEnded() {
+    this.coverageEnd.set(System.currentTimeMillis());
+  }
+
+  public void analysisStarted() {
+    this.analysisStart.set(System.currentTimeMillis());
+  }
+
+  public void mutantAnalysed(final DetectionStatus status) {
+    this.mutantsAnalysed.incrementAndGet();
+    this.statusCounts.get(status).incrementAndGet();
+  }
+
+  public void analysisEnded() {
+    this.analysisEnd.set(System.currentTimeMillis());
+  }
+
+  public void unitsQueued(final int units) {
+    this.queuedUnits.addAndGet(units);
+  }
+
+  public void unitStarted() {
+    this.queuedUnits.decrementAndGet();
+    this.runningUnits.incrementAndGet();
+  }
+
+  /**
+   * Records that a queued unit was dropped without being run
+   */
+  public void unitCancelled() {
+    this.queuedUnits.decrementAndGet();
+  }
+
+  public void unitFinished() {
+    this.runningUnits.decrementAndGet();
+  }
+
+  public void minionStarted() {
+    this.minionsStarted.incrementAndGet();
+    this.liveMinions.incrementAndGet();
+  }
+
+  /**
+   * Records the time between launching a minion and it starting work
+   */
+  public void minionReady(final long startUpMillis) {
+    this.minionsReady.incrementAndGet();
+    this.totalStartUp.addAndGet(startUpMillis);
+    long max = this.maxStartUp.get();
+    while ((startUpMillis > max)
+        && !this.maxStartUp.compareAndSet(max, startUpMillis)) {
+      max = this.maxStartUp.get();
+    }
+  }
+
+  public void minionExited() {
+    this.liveMinions.decrementAndGet();
+  }
+
+  @Override
+  public long getTestsCovered() {
+    return this.testsCovered.get();
+  }
+
+  @Override
+  public double getCoverageTestsPerSecond() {
+    return rate(this.testsCovered.get(), this.coverageStart.get(),
+        this.coverageEnd.get());
+  }
+
+  @Override
+  public long getMutantsAnalysed() {
+    return this.mutantsAnalysed.get();
+  }
+
+  @Override
+  public double getMutantsPerSecond() {
+    return rate(this.mutantsAnalysed.get(), this.analysisStart.get(),
+        this.analysisEnd.get());
+  }
+
+  @Override
+  public Map<String, Long> getStatusCounts() {
+    final Map<String, Long> counts = new LinkedHashMap<>();
+    for (final Entry<DetectionStatus, AtomicLong> each : this.statusCounts
+        .entrySet()) {
+      counts.put(each.getKey().name(), each.getValue().get());
+    }
+    return counts;
+  }
+
+  @Override
+  public int getQueuedUnits() {
+    return this.queuedUnits.get();
+  }
+
+  @Override
+  public int getRunningUnits() {
+    return this.runningUnits.get();
+  }
+
+  @Override
+  public int getLiveMinions() {
+    return this.liveMinions.get();
+  }
+
+  @Override
+  public long getMinionsStarted() {
+    return this.minionsStarted.get();
+  }
+
+  @Override
+  public double getMeanMinionStartUpMillis() {
+    final long ready = this.minionsReady.get();
+    return ready == 0 ? 0 : (double) this.totalStartUp.get() / ready;
+  }
+
+  @Override
+  public long getMaxMinionStartUpMillis() {
+    return this.maxStartUp.get();
+  }
+
+  @Override
+  public Map<String, Long> getStageMillis() {
+    final Map<String, Long> stages = new LinkedHashMap<>();
+    for (final Entry<Stage, Long> each : this.timings.getDurations()
+        .entrySet()) {
+      stages.put(each.getKey().name(), each.getValue());
+    }
+    return stages;
+  }
+
+  /**
+   * All metrics as space separated key=value pairs
+   */
+  public String describe() {
+    final StringBuilder sb = new StringBuilder();
+    sb.append("testsCovered=").append(getTestsCovered());
+    sb.append(" coverageTestsPerSecond=").append(
+        format(getCoverageTestsPerSecond()));
+    sb.append(" mutantsAnalysed=").append(getMutantsAnalysed());
+    sb.append(" mutantsPerSecond=").append(format(getMutantsPerSecond()));
+    sb.append(" queuedUnits=").append(getQueuedUnits());
+    sb.append(" runningUnits=").append(getRunningUnits());
+    sb.append(" liveMinions=").append(getLiveMinions());
+    sb.append(" minionsStarted=").append(getMinionsStarted());
+    sb.append(" meanMinionStartUpMillis=").append(
+        format(getMeanMinionStartUpMillis()));
+    sb.append(" maxMinionStartUpMillis=").append(getMaxMinionStartUpMillis());
+    appendAll(sb, "status.", getStatusCounts());
+    appendAll(sb, "stageMillis.", getStageMillis());
+    return sb.toString();
+  }
+
+  /**
+   * Publishes these metrics to the platform MBean server. A failure to do so
+   * is logged rather than stopping the run.
+   */
+  public void register() {
+    try {
+      final ObjectName objectName = new ObjectName(
+          "org.pitest:type=RunMetrics,run=" + RUNS.incrementAndGet());
+      ManagementFactory.getPlatformMBeanServer().registerMBean(this,
+          objectName);
+      this.name = objectName;
+    } catch (final JMException e) {
+      LOG.log(Level.WARNING, "Could not publish run metrics over JMX", e);
+    }
+  }
+
+  public void unregister() {
+    if (this.name == null) {
+      return;
+    }
+    try {
+      final MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+      server.unregisterMBean(this.name);
+    } catch (final JMException e) {
+      LOG.log(Level.FINE, "Could not remove run metrics from JMX", e);
+    } finally {
+      this.name = null;
+    }
+  }
+
+  private static void appendAll(final StringBuilder sb, final String prefix,
+      final Map<String, Long> values) {
+    for (final Entry<String, Long> each : values.entrySet()) {
+      sb.append(' ').append(prefix).append(each.getKey()).append('=')
+          .append(each.getValue());
+    }
+  }
+
+  private static String format(final double value) {
+    return String.format(Locale.ROOT, "%.2f", value);
+  }
+
+  private static double rate(final long count, final long start,
+      final long end) {
+    if (start == 0) {
+      return 0;
+    }
+    final long finish = end < start ? System.currentTimeMillis() : end;
+    return (count * 1000d) / Math.max(1, finish - start);
+  }
+
+}
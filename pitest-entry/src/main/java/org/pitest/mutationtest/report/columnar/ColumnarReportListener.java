@@ -0,0 +1,193 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.report.columnar;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.util.ResultOutputStrategy;
+import org.pitest.util.Unchecked;
+
+/**
+ * Writes results in a columnar binary layout that can be scanned far faster
+ * than the XML report. {@link ColumnarReportReader} reads it back.
+ *
+ * Each ClassMutationResults is written as a row group as soon as it arrives.
+ * A group holds one column per field. String fields are dictionary encoded
+ * as int ids, with a group carrying only the dictionary entries first used
+ * within it. Status is a byte per row, and ids and numbers are four byte ints,
+ * so a reader can skip any column from the row count alone.
+ */
+public class ColumnarReportListener implements MutationResultListener {
+
+  public static final String     FILE_NAME          = "mutations.bin";
+
+  static final int               MAGIC              = 0x5049544d;
+  static final int               VERSION            = 1;
+  static final int               ROW_GROUP          = 1;
+  static final int               END                = 0;
+  static final int               NONE               = -1;
+
+  static final int               SOURCE_FILE        = 0;
+  static final int               MUTATED_CLASS      = 1;
+  static final int               MUTATED_METHOD     = 2;
+  static final int               METHOD_DESCRIPTION = 3;
+  static final int               MUTATOR            = 4;
+  static final int               KILLING_TEST       = 5;
+  static final int               DESCRIPTION        = 6;
+  static final int               STRING_COLUMNS     = 7;
+
+  private final DataOutputStream out;
+  private final List<Dictionary> dictionaries       = new ArrayList<>();
+
+  public ColumnarReportListener(final ResultOutputStrategy outputStrategy) {
+    this(outputStrategy.createOutputStreamForFile(FILE_NAME));
+  }
+
+  public ColumnarReportListener(final OutputStream out) {
+    this.out = new DataOutputStream(out);
+    for (int i = 0; i != STRING_COLUMNS; i++) {
+      this.dictionaries.add(new Dictionary());
+    }
+  }
+
+  @Override
+  public void runStart() {
+    try {
+      this.out.writeInt(MAGIC);
+      this.out.writeInt(VERSION);
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults metaData) {
+    final List<MutationResult> rows = new ArrayList<>(metaData.getMutations());
+    if (rows.isEmpty()) {
+      return;
+    }
+    try {
+      this.out.writeByte(ROW_GROUP);
+      this.out.writeInt(rows.size());
+      for (int column = 0; column != STRING_COLUMNS; column++) {
+        writeStringColumn(column, rows);
+      }
+      for (final MutationResult each : rows) {
+        this.out.writeByte(each.getStatus().ordinal());
+      }
+      for (final MutationResult each : rows) {
+        this.out.writeInt(each.getDetails().getLineNumber());
+      }
+      for (final MutationResult each : rows) {
+        this.out.writeInt(each.getDetails().getFirstIndex());
+      }
+      for (final MutationResult each : rows) {
+        this.out.writeInt(each.getDetails().getBlock());
+      }
+      for (final MutationResult each : rows) {
+        this.out.writeInt(each.getNumberOfTestsRun());
+      }
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    try {
+      this.out.writeByte(END);
+      this.out.close();
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private void writeStringColumn(final int column,
+      final List<MutationResult> rows) throws IOException {
+    final Dictionary dictionary = this.dictionaries.get(column);
+    final int[] ids = new int[rows.size()];
+    for (int i = 0; i != ids.length; i++) {
+      ids[i] = dictionary.idOf(valueOf(column, rows.get(i)));
+    }
+
+    final List<String> added = dictionary.takeAdded();
+    this.out.writeInt(added.size());
+    for (final String each : added) {
+      final byte[] bytes = each.getBytes(StandardCharsets.UTF_8);
+      this.out.writeInt(bytes.length);
+      this.out.write(bytes);
+    }
+    for (final int each : ids) {
+      this.out.writeInt(each);
+    }
+  }
+
+  private static String valueOf(final int column, final MutationResult result) {
+    final MutationDetails details = result.getDetails();
+    switch (column) {
+    case SOURCE_FILE:
+      return details.getFilename();
+    case MUTATED_CLASS:
+      return details.getClassName().asJavaName();
+    case MUTATED_METHOD:
+      return details.getMethod().name();
+    case METHOD_DESCRIPTION:
+      return details.getId().getLocation().getMethodDesc();
+    case MUTATOR:
+      return details.getMutator();
+    case KILLING_TEST:
+      return result.getKillingTest().getOrElse(null);
+    default:
+      return details.getDescription();
+    }
+  }
+
+  private static class Dictionary {
+    private final Map<String, Integer> ids   = new HashMap<>();
+    private final List<String>         added = new ArrayList<>();
+
+    int idOf(final String value) {
+      if (value == null) {
+        return NONE;
+      }
+      final Integer id = this.ids.get(value);
+      if (id != null) {
+        return id;
+      }
+      final int next = this.ids.size();
+      this.ids.put(value, next);
+      this.added.add(value);
+      return next;
+    }
+
+    List<String> takeAdded() {
+      final List<String> values = new ArrayList<>(this.added);
+      this.added.clear();
+      return values;
+    }
+  }
+
+}
@@ -0,0 +1,194 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.report.columnar;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+
+/**
+ * Reads a report written by {@link ColumnarReportListener} one row group at a
+ * time. Dictionaries are shared between groups, so memory use grows with the
+ * number of distinct values rather than the number of results.
+ */
+public class ColumnarReportReader implements Closeable {
+
+  private final DataInputStream    in;
+  private final List<List<String>> dictionaries = new ArrayList<>();
+
+  public ColumnarReportReader(final InputStream in) throws IOException {
+    this.in = new DataInputStream(new BufferedInputStream(in));
+    if (this.in.readInt() != ColumnarReportListener.MAGIC) {
+      throw new IOException("Not a columnar mutation report");
+    }
+    final int version = this.in.readInt();
+    if (version != ColumnarReportListener.VERSION) {
+      throw new IOException("Unsupported columnar report version " + version);
+    }
+    for (int i = 0; i != ColumnarReportListener.STRING_COLUMNS; i++) {
+      this.dictionaries.add(new ArrayList<String>());
+    }
+  }
+
+  /**
+   * Returns the next row group, or none once the end of the report is reached
+   */
+  public Option<RowGroup> nextGroup() throws IOException {
+    final int marker = this.in.readByte();
+    if (marker == ColumnarReportListener.END) {
+      return Option.none();
+    }
+    if (marker != ColumnarReportListener.ROW_GROUP) {
+      throw new IOException("Corrupt columnar report");
+    }
+
+    final int rows = this.in.readInt();
+    final int[][] ids = new int[ColumnarReportListener.STRING_COLUMNS][];
+    for (int column = 0; column != ids.length; column++) {
+      readDictionaryEntries(this.dictionaries.get(column));
+      ids[column] = readInts(rows);
+    }
+    final byte[] statuses = new byte[rows];
+    this.in.readFully(statuses);
+    final int[] lines = readInts(rows);
+    final int[] indexes = readInts(rows);
+    final int[] blocks = readInts(rows);
+    final int[] testsRun = readInts(rows);
+    return Option.some(new RowGroup(this.dictionaries, ids, statuses, lines,
+        indexes, blocks, testsRun));
+  }
+
+  private void readDictionaryEntries(final List<String> dictionary)
+      throws IOException {
+    final int added = this.in.readInt();
+    for (int i = 0; i != added; i++) {
+      final byte[] bytes = new byte[this.in.readInt()];
+      this.in.readFully(bytes);
+      dictionary.add(new String(bytes, StandardCharsets.UTF_8));
+    }
+  }
+
+  private int[] readInts(final int count) throws IOException {
+    final byte[] bytes = new byte[count * 4];
+    this.in.readFully(bytes);
+    final int[] values = new int[count];
+    ByteBuffer.wrap(bytes).asIntBuffer().get(values);
+    return values;
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.in.close();
+  }
+
+  /**
+   * The results written for one class, read by row
+   */
+  public static final class RowGroup {
+
+    private static final DetectionStatus[] STATUSES = DetectionStatus
+                                                        .values();
+
+    private final List<List<String>>       dictionaries;
+    private final int[][]                  ids;
+    private final byte[]                   statuses;
+    private final int[]                    lines;
+    private final int[]                    indexes;
+    private final int[]                    blocks;
+    private final int[]                    testsRun;
+
+    RowGroup(final List<List<String>> dictionaries, final int[][] ids,
+        final byte[] statuses, final int[] lines, final int[] indexes,
+        final int[] blocks, final int[] testsRun) {
+      this.dictionaries = dictionaries;
+      this.ids = ids;
+      this.statuses = statuses;
+      this.lines = lines;
+      this.indexes = indexes;
+      this.blocks = blocks;
+      this.testsRun = testsRun;
+    }
+
+    public int size() {
+      return this.statuses.length;
+    }
+
+    public String getSourceFile(final int row) {
+      return string(ColumnarReportListener.SOURCE_FILE, row);
+    }
+
+    public String getMutatedClass(final int row) {
+      return string(ColumnarReportListener.MUTATED_CLASS, row);
+    }
+
+    public String getMutatedMethod(final int row) {
+      return string(ColumnarReportListener.MUTATED_METHOD, row);
+    }
+
+    public String getMethodDescription(final int row) {
+      return string(ColumnarReportListener.METHOD_DESCRIPTION, row);
+    }
+
+    public String getMutator(final int row) {
+      return string(ColumnarReportListener.MUTATOR, row);
+    }
+
+    public Option<String> getKillingTest(final int row) {
+      return Option.some(string(ColumnarReportListener.KILLING_TEST, row));
+    }
+
+    public String getDescription(final int row) {
+      return string(ColumnarReportListener.DESCRIPTION, row);
+    }
+
+    public DetectionStatus getStatus(final int row) {
+      return STATUSES[this.statuses[row]];
+    }
+
+    public int getLineNumber(final int row) {
+      return this.lines[row];
+    }
+
+    public int getIndex(final int row) {
+      return this.indexes[row];
+    }
+
+    public int getBlock(final int row) {
+      return this.blocks[row];
+    }
+
+    public int getNumberOfTestsRun(final int row) {
+      return this.testsRun[row];
+    }
+
+    private String string(final int column, final int row) {
+      final int id = this.ids[column][row];
+      if (id == ColumnarReportListener.NONE) {
+        return null;
+      }
+      return this.dictionaries.get(column).get(id);
+    }
+  }
+
+}
@@ -25,7 +25,8 @@ public class CSVReportFactory implements MutationResultListenerFactory {
   @Override
   public MutationResultListener getListener(Properties props,
       final ListenerArguments args) {
-    return new CSVReportListener(args.getOutputStrategy());
+    return new CSVReportListener(args.getOutputStrategy(),
+        args.isReportingTimings());
   }
 
   @Override
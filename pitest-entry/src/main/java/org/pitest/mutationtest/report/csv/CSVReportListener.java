@@ -21,19 +21,37 @@ import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationTimings;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Unchecked;
 
 public class CSVReportListener implements MutationResultListener {
 
-  private final Writer out;
+  private final Writer  out;
+  private final boolean reportTimings;
 
   public CSVReportListener(final ResultOutputStrategy outputStrategy) {
-    this(outputStrategy.createWriterForFile("mutations.csv"));
+    this(outputStrategy, false);
+  }
+
+  public CSVReportListener(final ResultOutputStrategy outputStrategy,
+      final boolean reportTimings) {
+    this(outputStrategy.createWriterForFile("mutations.csv"), reportTimings);
   }
 
   public CSVReportListener(final Writer out) {
+    this(out, false);
+  }
+
+  /**
+   * @param reportTimings
+   *          append the milliseconds spent generating the mutant, hot
+   *          swapping it, running tests, until it was killed and in total.
+   *          Cells are empty where a time was not recorded.
+   */
+  public CSVReportListener(final Writer out, final boolean reportTimings) {
     this.out = out;
+    this.reportTimings = reportTimings;
   }
 
   private String createKillingTestDesc(final Option<String> killingTest) {
@@ -44,6 +62,20 @@ public class CSVReportListener implements MutationResultListener {
     }
   }
 
+  private String createTimingsDesc(final Option<MutationTimings> timings) {
+    if (!this.reportTimings) {
+      return "";
+    }
+    if (timings.hasNone()) {
+      return ",,,,,";
+    }
+    final MutationTimings t = timings.value();
+    final Object kill = t.getKillMillis().hasSome() ? t.getKillMillis()
+        .value() : "";
+    return "," + makeCsv(t.getGenerationMillis(), t.getHotSwapMillis(),
+        t.getTotalTestMillis(), kill, t.getTotalMillis());
+  }
+
   private String makeCsv(final Object... os) {
     final StringBuilder sb = new StringBuilder();
     for (int i = 0; i != os.length; i++) {
@@ -79,6 +111,7 @@ public class CSVReportListener implements MutationResultListener {
             .getMutator(), mutation.getDetails().getMethod(), mutation
             .getDetails().getLineNumber(), mutation.getStatus(),
             createKillingTestDesc(mutation.getKillingTest()))
+            + createTimingsDesc(mutation.getTimings())
             + System.getProperty("line.separator"));
       }
 
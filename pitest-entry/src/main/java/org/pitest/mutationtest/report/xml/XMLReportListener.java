@@ -24,6 +24,7 @@ import static org.pitest.mutationtest.report.xml.Tag.mutatedClass;
 import static org.pitest.mutationtest.report.xml.Tag.mutatedMethod;
 import static org.pitest.mutationtest.report.xml.Tag.mutation;
 import static org.pitest.mutationtest.report.xml.Tag.mutator;
+import static org.pitest.mutationtest.report.xml.Tag.sample;
 import static org.pitest.mutationtest.report.xml.Tag.sourceFile;
 
 import java.io.IOException;
@@ -33,25 +34,55 @@ import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationTimings;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.statistics.MutationStatisticsSource;
+import org.pitest.mutationtest.statistics.ScoreInterval;
 import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Unchecked;
 
 enum Tag {
-  mutation, sourceFile, mutatedClass, mutatedMethod, methodDescription, lineNumber, mutator, index, killingTest, description, block;
+  mutation, sourceFile, mutatedClass, mutatedMethod, methodDescription, lineNumber, mutator, index, killingTest, description, block, sample;
 }
 
 public class XMLReportListener implements MutationResultListener {
 
-  private final Writer out;
+  private final Writer                           out;
+  private final Option<MutationStatisticsSource> statistics;
+  private final boolean                          reportTimings;
 
   public XMLReportListener(final ResultOutputStrategy outputStrategy) {
-    this(outputStrategy.createWriterForFile("mutations.xml"));
+    this(outputStrategy, Option.<MutationStatisticsSource> none());
+  }
+
+  public XMLReportListener(final ResultOutputStrategy outputStrategy,
+      final Option<MutationStatisticsSource> statistics) {
+    this(outputStrategy, statistics, false);
+  }
+
+  public XMLReportListener(final ResultOutputStrategy outputStrategy,
+      final Option<MutationStatisticsSource> statistics,
+      final boolean reportTimings) {
+    this(outputStrategy.createWriterForFile("mutations.xml"), statistics,
+        reportTimings);
   }
 
   public XMLReportListener(final Writer out) {
+    this(out, Option.<MutationStatisticsSource> none());
+  }
+
+  public XMLReportListener(final Writer out,
+      final Option<MutationStatisticsSource> statistics) {
+    this(out, statistics, false);
+  }
+
+  public XMLReportListener(final Writer out,
+      final Option<MutationStatisticsSource> statistics,
+      final boolean reportTimings) {
     this.out = out;
+    this.statistics = statistics;
+    this.reportTimings = reportTimings;
   }
 
   private void writeResult(final ClassMutationResults metaData) {
@@ -68,7 +99,20 @@ public class XMLReportListener implements MutationResultListener {
   private String makeMutationAttributes(final MutationResult result) {
     return "detected='" + result.getStatus().isDetected() + "' status='"
         + result.getStatus() + "' numberOfTestsRun='"
-        + result.getNumberOfTestsRun() + "'";
+        + result.getNumberOfTestsRun() + "'" + makeTimingAttributes(result);
+  }
+
+  private String makeTimingAttributes(final MutationResult result) {
+    if (!this.reportTimings || result.getTimings().hasNone()) {
+      return "";
+    }
+    final MutationTimings timings = result.getTimings().value();
+    final String kill = timings.getKillMillis().hasSome() ? " killMillis='"
+        + timings.getKillMillis().value() + "'" : "";
+    return " generationMillis='" + timings.getGenerationMillis()
+        + "' hotSwapMillis='" + timings.getHotSwapMillis() + "' testMillis='"
+        + timings.getTotalTestMillis() + "'" + kill + " totalMillis='"
+        + timings.getTotalMillis() + "'";
   }
 
   private String makeMutationNode(final MutationResult mutation) {
@@ -87,6 +131,21 @@ public class XMLReportListener implements MutationResultListener {
         + makeNode(clean(details.getDescription()), description);
   }
 
+  private void writeSampleIfSampled() {
+    if (this.statistics.hasNone()) {
+      return;
+    }
+    final ScoreInterval interval = this.statistics.value().getStatistics()
+        .getScoreInterval();
+    if (interval.isSampled()) {
+      write("<" + sample + " size='" + interval.getSampleSize()
+          + "' population='" + interval.getPopulationSize()
+          + "' confidence='" + interval.getConfidence()
+          + "' scoreLowerBound='" + interval.getLowerBound()
+          + "' scoreUpperBound='" + interval.getUpperBound() + "'/>\n");
+    }
+  }
+
   private String clean(final String value) {
     return StringUtil.escapeBasicHtmlChars(value);
   }
@@ -139,6 +198,7 @@ public class XMLReportListener implements MutationResultListener {
   @Override
   public void runEnd() {
     try {
+      writeSampleIfSampled();
       write("</mutations>\n");
       this.out.close();
     } catch (final IOException e) {
@@ -0,0 +1,41 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+import org.pitest.mutationtest.execute.StoppingCondition;
+
+/**
+ * Stops analysis once the interval for the sampled mutation score is no wider
+ * than the requested margin either side.
+ */
+public class ConfidenceIntervalStoppingCondition implements StoppingCondition {
+
+  private final MutationStatisticsSource statistics;
+  private final double                   margin;
+
+  public ConfidenceIntervalStoppingCondition(
+      final MutationStatisticsSource statistics, final double margin) {
+    this.statistics = statistics;
+    this.margin = margin;
+  }
+
+  @Override
+  public boolean shouldStop() {
+    final ScoreInterval interval = this.statistics.getStatistics()
+        .getScoreInterval();
+    return interval.isSampled() && (interval.getHalfWidth() <= this.margin);
+  }
+
+}
@@ -24,13 +24,21 @@ public final class MutationStatistics {
   private final long totalMutations;
   private final long numberOfTestsRun;
   private final long totalDetected;
+  private final ScoreInterval interval;
 
   public MutationStatistics(Iterable<Score> scores, long totalMutations, 
       long totalDetected, long numberOfTestsRun) {
+    this(scores, totalMutations, totalDetected, numberOfTestsRun, null);
+  }
+
+  public MutationStatistics(Iterable<Score> scores, long totalMutations,
+      long totalDetected, long numberOfTestsRun, ScoreInterval interval) {
     this.scores = scores;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
     this.numberOfTestsRun = numberOfTestsRun;
+    this.interval = interval != null ? interval : ScoreInterval.exact(
+        totalMutations, getPercentageDetected());
   }
 
   public Iterable<Score> getScores() {
@@ -62,10 +70,32 @@ public final class MutationStatistics {
         * getTotalDetectedMutations());
   }
 
+  public ScoreInterval getScoreInterval() {
+    return this.interval;
+  }
+
+  /**
+   * True if only a sample of the generated mutations were analysed
+   */
+  public boolean isSampled() {
+    return this.interval.isSampled();
+  }
+
+  public long getScoreLowerBound() {
+    return this.interval.getLowerBound();
+  }
+
+  public long getScoreUpperBound() {
+    return this.interval.getUpperBound();
+  }
+
   public void report(final PrintStream out) {
     out.println(">> Generated " + this.getTotalMutations()
         + " mutations Killed " + this.getTotalDetectedMutations() + " ("
         + this.getPercentageDetected() + "%)");
+    if (isSampled()) {
+      out.println(">> " + this.interval);
+    }
     out.println(">> Ran " + this.numberOfTestsRun + " tests ("
         + getTestsPerMutation() + " tests per mutation)");
 
@@ -14,13 +14,34 @@
  */
 package org.pitest.mutationtest.statistics;
 
+import java.util.Map;
+
 import org.pitest.mutationtest.ClassMutationResults;
 import org.pitest.mutationtest.MutationResultListener;
 
 public class MutationStatisticsListener implements MutationResultListener,
 MutationStatisticsSource {
 
-  private final MutationStatisticsPrecursor mutatorScores = new MutationStatisticsPrecursor();
+  private final MutationStatisticsPrecursor mutatorScores;
+
+  public MutationStatisticsListener() {
+    this.mutatorScores = new MutationStatisticsPrecursor();
+  }
+
+  /**
+   * Creates a listener for a run that analyses a random sample of the
+   * generated mutations
+   *
+   * @param population
+   *          number of mutations generated for each mutator
+   * @param confidence
+   *          confidence level of the reported score intervals
+   */
+  public MutationStatisticsListener(final Map<String, Long> population,
+      final int confidence) {
+    this.mutatorScores = new MutationStatisticsPrecursor(population,
+        confidence);
+  }
 
   @Override
   public MutationStatistics getStatistics() {
@@ -1,6 +1,7 @@
 package org.pitest.mutationtest.statistics;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -13,6 +14,25 @@ import org.pitest.mutationtest.MutationResult;
 class MutationStatisticsPrecursor {
   private final Map<String, ScorePrecursor> mutatorTotalMap  = new HashMap<>();
   private long                              numberOfTestsRun = 0;
+  private final Map<String, Long>           population;
+  private final int                         confidence;
+
+  MutationStatisticsPrecursor() {
+    this(Collections.<String, Long> emptyMap(), 0);
+  }
+
+  /**
+   * @param population
+   *          number of mutations generated for each mutator, when only a
+   *          sample of them will be registered
+   * @param confidence
+   *          confidence level of the reported score intervals
+   */
+  MutationStatisticsPrecursor(final Map<String, Long> population,
+      final int confidence) {
+    this.population = population;
+    this.confidence = confidence;
+  }
 
   public void registerResults(final Collection<MutationResult> results) {
     FCollection.forEach(results, register());
@@ -43,19 +63,38 @@ class MutationStatisticsPrecursor {
     final long totalMutations = FCollection.fold(addTotals(), 0L, scores);
     final long totalDetected = FCollection
         .fold(addDetectedTotals(), 0L, scores);
+    if (this.population.isEmpty()) {
+      return new MutationStatistics(scores, totalMutations, totalDetected,
+          this.numberOfTestsRun);
+    }
     return new MutationStatistics(scores, totalMutations, totalDetected,
-        this.numberOfTestsRun);
+        this.numberOfTestsRun, ScoreInterval.estimate(totalMutations,
+            totalDetected, totalPopulation(), this.confidence));
+  }
+
+  private long totalPopulation() {
+    long total = 0;
+    for (final Long each : this.population.values()) {
+      total = total + each;
+    }
+    return total;
   }
 
   Iterable<Score> getScores() {
-    return FCollection.map(this.mutatorTotalMap.values(), toScore());
+    return FCollection.map(this.mutatorTotalMap.entrySet(), toScore());
   }
 
-  private static F<ScorePrecursor, Score> toScore() {
-    return new F<ScorePrecursor, Score>() {
+  private F<Map.Entry<String, ScorePrecursor>, Score> toScore() {
+    return new F<Map.Entry<String, ScorePrecursor>, Score>() {
       @Override
-      public Score apply(ScorePrecursor a) {
-        return a.toScore();
+      public Score apply(Map.Entry<String, ScorePrecursor> a) {
+        final Long mutatorPopulation = MutationStatisticsPrecursor.this.population
+            .get(a.getKey());
+        if (mutatorPopulation == null) {
+          return a.getValue().toScore();
+        }
+        return a.getValue().toSampledScore(mutatorPopulation,
+            MutationStatisticsPrecursor.this.confidence);
       }
 
     };
@@ -22,19 +22,30 @@ public final class Score {
   private final Iterable<StatusCount> counts;
   private final long                  totalMutations;
   private final long                  totalDetected;
+  private final ScoreInterval         interval;
 
   public Score(final String name, Iterable<StatusCount> counts,
       long totalMutations, long totalDetected) {
+    this(name, counts, totalMutations, totalDetected, null);
+  }
+
+  public Score(final String name, Iterable<StatusCount> counts,
+      long totalMutations, long totalDetected, ScoreInterval interval) {
     this.mutatorName = name;
     this.counts = counts;
     this.totalMutations = totalMutations;
     this.totalDetected = totalDetected;
+    this.interval = interval != null ? interval : ScoreInterval.exact(
+        totalMutations, getPercentageDetected());
   }
 
   public void report(final PrintStream out) {
     out.println("> " + this.mutatorName);
     out.println(">> Generated " + this.totalMutations + " Killed "
         + this.totalDetected + " (" + this.getPercentageDetected() + "%)");
+    if (this.interval.isSampled()) {
+      out.println(">> " + this.interval);
+    }
     int i = 0;
     StringBuilder sb = new StringBuilder();
     for (final StatusCount each : this.counts) {
@@ -60,6 +71,10 @@ public final class Score {
     return totalDetected;
   }
 
+  public ScoreInterval getScoreInterval() {
+    return this.interval;
+  }
+
   public int getPercentageDetected() {
     if (getTotalMutations() == 0) {
       return 100;
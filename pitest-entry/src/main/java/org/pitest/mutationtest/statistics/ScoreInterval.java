@@ -0,0 +1,136 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+/**
+ * Range of percentage mutation scores consistent with the analysed mutations.
+ *
+ * When every mutation has been analysed the range holds only the score
+ * itself. When a random sample has been analysed it is a Wilson score
+ * interval for the proportion detected, with a finite population correction
+ * so that it narrows to the score as the sample approaches the population.
+ */
+public final class ScoreInterval {
+
+  private static final double ROUNDING = 1e-9;
+
+  private final long   sampleSize;
+  private final long   populationSize;
+  private final int    confidence;
+  private final long   lowerBound;
+  private final long   upperBound;
+  private final double halfWidth;
+
+  private ScoreInterval(long sampleSize, long populationSize, int confidence,
+      long lowerBound, long upperBound, double halfWidth) {
+    this.sampleSize = sampleSize;
+    this.populationSize = populationSize;
+    this.confidence = confidence;
+    this.lowerBound = lowerBound;
+    this.upperBound = upperBound;
+    this.halfWidth = halfWidth;
+  }
+
+  public static ScoreInterval exact(long totalMutations, long percentage) {
+    return new ScoreInterval(totalMutations, totalMutations, 100, percentage,
+        percentage, 0);
+  }
+
+  public static ScoreInterval estimate(long sampleSize, long detected,
+      long populationSize, int confidence) {
+    if ((confidence <= 0) || (confidence >= 100)) {
+      throw new IllegalArgumentException(
+          "Confidence level must be between 0 and 100 but was " + confidence);
+    }
+
+    if (sampleSize >= populationSize) {
+      final long percentage = sampleSize == 0 ? 100 : Math
+          .round((100f / sampleSize) * detected);
+      return exact(sampleSize, percentage);
+    }
+
+    if (sampleSize == 0) {
+      return new ScoreInterval(0, populationSize, confidence, 0, 100, 50);
+    }
+
+    final double n = sampleSize;
+    final double p = detected / n;
+    final double z = zScore(confidence);
+    final double correction = (populationSize - n) / (populationSize - 1);
+    final double zz = z * z * correction;
+
+    final double denominator = 1 + (zz / n);
+    final double centre = (p + (zz / (2 * n))) / denominator;
+    final double half = (Math.sqrt(zz) / denominator)
+        * Math.sqrt(((p * (1 - p)) / n) + (zz / (4 * n * n)));
+
+    return new ScoreInterval(sampleSize, populationSize, confidence,
+        (long) Math.floor((Math.max(0, centre - half) * 100) + ROUNDING),
+        (long) Math.ceil((Math.min(1, centre + half) * 100) - ROUNDING),
+        half * 100);
+  }
+
+  /**
+   * Two sided critical value of the standard normal distribution, using the
+   * rational approximation of Abramowitz and Stegun 26.2.23 (error below
+   * 4.5e-4).
+   */
+  static double zScore(int confidence) {
+    final double tail = (100 - confidence) / 200d;
+    final double t = Math.sqrt(-2 * Math.log(tail));
+    return t
+        - ((2.515517 + (0.802853 * t) + (0.010328 * t * t)) / (1
+            + (1.432788 * t) + (0.189269 * t * t) + (0.001308 * t * t * t)));
+  }
+
+  public boolean isSampled() {
+    return this.sampleSize < this.populationSize;
+  }
+
+  public long getSampleSize() {
+    return this.sampleSize;
+  }
+
+  public long getPopulationSize() {
+    return this.populationSize;
+  }
+
+  public int getConfidence() {
+    return this.confidence;
+  }
+
+  public long getLowerBound() {
+    return this.lowerBound;
+  }
+
+  public long getUpperBound() {
+    return this.upperBound;
+  }
+
+  /**
+   * Half the width of the interval in percentage points
+   */
+  public double getHalfWidth() {
+    return this.halfWidth;
+  }
+
+  @Override
+  public String toString() {
+    return "Sampled " + this.sampleSize + " of " + this.populationSize
+        + " mutations, score between " + this.lowerBound + "% and "
+        + this.upperBound + "% at " + this.confidence + "% confidence";
+  }
+
+}
@@ -70,5 +70,12 @@ class ScorePrecursor {
     return new Score(mutatorName, this.getCounts(), this.getTotalMutations(),
         this.getTotalDetectedMutations());
   }
+
+  Score toSampledScore(final long population, final int confidence) {
+    final long total = this.getTotalMutations();
+    final long detected = this.getTotalDetectedMutations();
+    return new Score(mutatorName, this.getCounts(), total, detected,
+        ScoreInterval.estimate(total, detected, population, confidence));
+  }
 }
 
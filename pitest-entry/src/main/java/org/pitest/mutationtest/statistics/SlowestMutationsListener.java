@@ -0,0 +1,137 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.statistics;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.PriorityQueue;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+/**
+ * Tracks the mutations and classes that took longest to analyse, using the
+ * timings reported by the minions.
+ */
+public class SlowestMutationsListener implements MutationResultListener {
+
+  private static final Comparator<Slow> BY_MILLIS = new Comparator<Slow>() {
+    @Override
+    public int compare(final Slow a, final Slow b) {
+      return Long.compare(a.millis, b.millis);
+    }
+  };
+
+  private final int                 limit;
+  private final PriorityQueue<Slow> mutations;
+  private final Map<String, Long>   classes   = new HashMap<>();
+
+  public SlowestMutationsListener(final int limit) {
+    this.limit = limit;
+    this.mutations = new PriorityQueue<>(limit + 1, BY_MILLIS);
+  }
+
+  @Override
+  public void runStart() {
+
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    for (final MutationResult each : results.getMutations()) {
+      if (each.getTimings().hasSome()) {
+        record(each.getDetails(), each.getTimings().value().getTotalMillis());
+      }
+    }
+  }
+
+  @Override
+  public void runEnd() {
+
+  }
+
+  private void record(final MutationDetails details, final long millis) {
+    this.mutations.add(new Slow(describe(details), millis));
+    if (this.mutations.size() > this.limit) {
+      this.mutations.poll();
+    }
+
+    final String clazz = details.getClassName().asJavaName();
+    final Long sum = this.classes.get(clazz);
+    this.classes.put(clazz, sum == null ? millis : sum + millis);
+  }
+
+  public boolean hasTimings() {
+    return !this.classes.isEmpty();
+  }
+
+  public List<String> getSlowestMutations() {
+    final List<Slow> slowest = new ArrayList<>(this.mutations);
+    return describeSlowestFirst(slowest);
+  }
+
+  public List<String> getSlowestClasses() {
+    final List<Slow> slowest = new ArrayList<>();
+    for (final Entry<String, Long> each : this.classes.entrySet()) {
+      slowest.add(new Slow(each.getKey(), each.getValue()));
+    }
+    return describeSlowestFirst(slowest);
+  }
+
+  public void report(final PrintStream out) {
+    out.println("> Slowest mutations");
+    for (final String each : getSlowestMutations()) {
+      out.println(">> " + each);
+    }
+    out.println("> Slowest classes");
+    for (final String each : getSlowestClasses()) {
+      out.println(">> " + each);
+    }
+  }
+
+  private List<String> describeSlowestFirst(final List<Slow> slow) {
+    Collections.sort(slow, Collections.reverseOrder(BY_MILLIS));
+    final List<String> descriptions = new ArrayList<>();
+    for (final Slow each : slow.subList(0, Math.min(this.limit, slow.size()))) {
+      descriptions.add(each.millis + " ms " + each.name);
+    }
+    return descriptions;
+  }
+
+  private static String describe(final MutationDetails details) {
+    return details.getClassName().asJavaName() + "::"
+        + details.getMethod().name() + " line " + details.getLineNumber()
+        + " " + details.getDescription();
+  }
+
+  private static final class Slow {
+    private final String name;
+    private final long   millis;
+
+    Slow(final String name, final long millis) {
+      this.name = name;
+      this.millis = millis;
+    }
+  }
+
+}
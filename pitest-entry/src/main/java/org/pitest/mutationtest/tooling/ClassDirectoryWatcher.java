@@ -0,0 +1,150 @@
+package org.pitest.mutationtest.tooling;
+
+import static java.nio.file.StandardWatchEventKinds.ENTRY_CREATE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_DELETE;
+import static java.nio.file.StandardWatchEventKinds.ENTRY_MODIFY;
+import static java.nio.file.StandardWatchEventKinds.OVERFLOW;
+
+import java.io.Closeable;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.util.Unchecked;
+
+/**
+ * Watches directories of compiled classes, including every directory beneath
+ * them, for classes that are added, changed or removed.
+ */
+public class ClassDirectoryWatcher implements Closeable {
+
+  private static final String        CLASS_SUFFIX = ".class";
+
+  private final WatchService         watcher;
+  private final long                 quietPeriod;
+  private final Map<WatchKey, Path>  directories  = new HashMap<>();
+  private final Map<WatchKey, Path>  roots        = new HashMap<>();
+
+  /**
+   * @param roots
+   *          directories holding compiled classes
+   * @param quietPeriod
+   *          milliseconds without a change after which a set of changes is
+   *          considered complete
+   */
+  public ClassDirectoryWatcher(final Collection<File> roots,
+      final long quietPeriod) throws IOException {
+    this.watcher = FileSystems.getDefault().newWatchService();
+    this.quietPeriod = quietPeriod;
+    for (final File each : roots) {
+      register(each.toPath(), each.toPath(), new HashSet<ClassName>());
+    }
+  }
+
+  /**
+   * Blocks until a class changes, then waits until no change has been seen
+   * for the quiet period so that a compiler can finish writing. Returns the
+   * changed classes, or none if too many changes were made to tell which.
+   */
+  public Option<Set<ClassName>> awaitChanges() throws InterruptedException {
+    final Set<ClassName> changed = new HashSet<>();
+    boolean overflowed = false;
+    while (changed.isEmpty() && !overflowed) {
+      WatchKey key = this.watcher.take();
+      while (key != null) {
+        overflowed |= process(key, changed);
+        key = this.watcher.poll(this.quietPeriod, TimeUnit.MILLISECONDS);
+      }
+    }
+    if (overflowed) {
+      return Option.none();
+    }
+    return Option.<Set<ClassName>> some(changed);
+  }
+
+  @Override
+  public void close() throws IOException {
+    this.watcher.close();
+  }
+
+  private boolean process(final WatchKey key, final Set<ClassName> changed) {
+    final Path directory = this.directories.get(key);
+    final Path root = this.roots.get(key);
+    boolean overflowed = false;
+    for (final WatchEvent<?> event : key.pollEvents()) {
+      if (event.kind() == OVERFLOW) {
+        overflowed = true;
+        continue;
+      }
+      final Path path = directory.resolve((Path) event.context());
+      if ((event.kind() == ENTRY_CREATE) && Files.isDirectory(path)) {
+        // classes may be written before the new directory is registered
+        register(root, path, changed);
+      } else if (isClass(path)) {
+        changed.add(toClassName(root, path));
+      }
+    }
+    if (!key.reset()) {
+      this.directories.remove(key);
+      this.roots.remove(key);
+    }
+    return overflowed;
+  }
+
+  private void register(final Path root, final Path start,
+      final Set<ClassName> existing) {
+    try {
+      Files.walkFileTree(start, new SimpleFileVisitor<Path>() {
+        @Override
+        public FileVisitResult preVisitDirectory(final Path dir,
+            final BasicFileAttributes attrs) throws IOException {
+          final WatchKey key = dir.register(
+              ClassDirectoryWatcher.this.watcher, ENTRY_CREATE, ENTRY_DELETE,
+              ENTRY_MODIFY);
+          ClassDirectoryWatcher.this.directories.put(key, dir);
+          ClassDirectoryWatcher.this.roots.put(key, root);
+          return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFile(final Path file,
+            final BasicFileAttributes attrs) {
+          if (isClass(file)) {
+            existing.add(toClassName(root, file));
+          }
+          return FileVisitResult.CONTINUE;
+        }
+      });
+    } catch (final IOException e) {
+      throw Unchecked.translateCheckedException(e);
+    }
+  }
+
+  private static boolean isClass(final Path path) {
+    return path.getFileName().toString().endsWith(CLASS_SUFFIX);
+  }
+
+  private static ClassName toClassName(final Path root, final Path file) {
+    final String relative = root.relativize(file).toString()
+        .replace(File.separatorChar, '/');
+    return ClassName.fromString(relative.substring(0, relative.length()
+        - CLASS_SUFFIX.length()));
+  }
+
+}
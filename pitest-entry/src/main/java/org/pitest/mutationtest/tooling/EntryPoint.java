@@ -3,15 +3,23 @@ package org.pitest.mutationtest.tooling;
 import java.io.File;
 import java.io.IOException;
 import java.io.Reader;
+import java.util.Collection;
 import java.util.Map;
+import java.util.Set;
 
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoCache;
+import org.pitest.classinfo.ClassName;
 import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.CodeSource;
 import org.pitest.classpath.ProjectClassPaths;
 import org.pitest.coverage.CoverageGenerator;
+import org.pitest.coverage.execute.CoverageCache;
 import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
+import org.pitest.functional.F;
+import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.HistoryStore;
@@ -19,10 +27,13 @@ import org.pitest.mutationtest.MutationResultListenerFactory;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
-import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
+import org.pitest.mutationtest.incremental.ChangedClassSelector;
+import org.pitest.mutationtest.incremental.GitChanges;
 import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.plugin.Feature;
 import org.pitest.plugin.FeatureParameter;
+import org.pitest.process.ClassDataSharing;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.util.Log;
@@ -30,7 +41,38 @@ import org.pitest.util.ResultOutputStrategy;
 import org.pitest.util.Timings;
 
 public class EntryPoint {
-  
+
+  private final Option<ClassInfoCache> classInfoCache;
+  private final Option<CoverageCache>  coverageCache;
+
+  public EntryPoint() {
+    this(Option.<ClassInfoCache> none());
+  }
+
+  /**
+   * @param classInfoCache
+   *          cache to hold class information between runs. Allows long lived
+   *          tools to avoid re-reading unchanged classes without writing the
+   *          cache to disk.
+   */
+  public EntryPoint(Option<ClassInfoCache> classInfoCache) {
+    this(classInfoCache, Option.<CoverageCache> none());
+  }
+
+  /**
+   * @param classInfoCache
+   *          cache to hold class information between runs
+   * @param coverageCache
+   *          cache to hold the coverage of each test between runs. Allows long
+   *          lived tools to run only those tests whose coverage may have
+   *          changed.
+   */
+  public EntryPoint(Option<ClassInfoCache> classInfoCache,
+      Option<CoverageCache> coverageCache) {
+    this.classInfoCache = classInfoCache;
+    this.coverageCache = coverageCache;
+  }
+
   /**
    * Convenient entry point for tools to run mutation analysis.
    *
@@ -72,6 +114,12 @@ public class EntryPoint {
     }
     
     selectTestPlugin(data);
+
+    final Option<ClassInfoCache> classInfoCache = readClassInfoCache(data);
+
+    if (data.getChangesSince() != null) {
+      restrictToChangedClasses(baseDir, data, classInfoCache);
+    }
     
     final ClassPath cp = data.getClassPath();
 
@@ -96,21 +144,25 @@ public class EntryPoint {
         settings.getJavaExecutable(), data.getJvmArgs(), environmentVariables);
     final ProjectClassPaths cps = data.getMutationClassPaths();
 
-    final CodeSource code = new CodeSource(cps);
+    final CodeSource code = new CodeSource(cps, classInfoCache);
 
     final Timings timings = new Timings();
+    final Option<ClassDataSharing> sharing = classDataSharing(data);
+    final RunMetrics metrics = new RunMetrics(timings);
     final CoverageGenerator coverageDatabase = new DefaultCoverageGenerator(
         baseDir, coverageOptions, launchOptions, code,
-        settings.createCoverageExporter(), timings, !data.isVerbose());
+        settings.createCoverageExporter(), timings, !data.isVerbose(),
+        metrics, sharing, this.coverageCache);
 
-    final HistoryStore history = new ObjectOutputStreamHistoryStore(historyWriter, reader);
+    final HistoryStore history = settings.createHistoryStore(historyWriter,
+        reader);
 
     final MutationStrategies strategies = new MutationStrategies(
         settings.createEngine(), history, coverageDatabase, reportFactory,
         reportOutput);
 
     final MutationCoverage report = new MutationCoverage(strategies, baseDir,
-        code, data, settings, timings);
+        code, data, settings, timings, metrics);
 
     try {
       return AnalysisResult.success(report.runReport());
@@ -120,8 +172,80 @@ public class EntryPoint {
       jac.close();
       ja.close();
       historyWriter.close();
+      for (final ClassDataSharing each : sharing) {
+        each.close();
+      }
+      writeClassInfoCache(data, classInfoCache);
+    }
+
+  }
+
+  private Option<ClassInfoCache> readClassInfoCache(ReportOptions data) {
+    if (this.classInfoCache.hasSome()
+        || (data.getClassInfoCacheLocation() == null)) {
+      return this.classInfoCache;
     }
+    final ClassInfoCache cache = ClassInfoCache.read(data
+        .getClassInfoCacheLocation());
+    Log.getLogger().fine("Read " + cache.size() + " cached classes");
+    return Option.some(cache);
+  }
+
+  private static void writeClassInfoCache(ReportOptions data,
+      Option<ClassInfoCache> cache) {
+    if (data.getClassInfoCacheLocation() == null) {
+      return;
+    }
+    for (final ClassInfoCache each : cache) {
+      each.write(data.getClassInfoCacheLocation());
+    }
+  }
+
+  private static Option<ClassDataSharing> classDataSharing(
+      ReportOptions data) {
+    if (!data.isClassDataSharing()) {
+      return Option.none();
+    }
+    try {
+      return Option.some(ClassDataSharing.inTempDirectory());
+    } catch (IOException e) {
+      Log.getLogger().warning(
+          "Could not create directory for class data sharing archive " + e);
+      return Option.none();
+    }
+  }
 
+  /**
+   * Narrows the target classes to those changed since the configured git
+   * revision. An empty selection is not an error, as a change may touch no
+   * code.
+   */
+  private static void restrictToChangedClasses(File baseDir,
+      ReportOptions data, Option<ClassInfoCache> classInfoCache) {
+    final Set<String> paths = new GitChanges(baseDir)
+        .changedPathsSince(data.getChangesSince());
+    final Collection<ClassInfo> code = new CodeSource(
+        data.getMutationClassPaths(), classInfoCache).getCode();
+    final Set<ClassName> changed = new ChangedClassSelector(paths)
+        .select(code);
+
+    Log.getLogger().info(changed.size() + " of " + code.size()
+        + " classes changed since " + data.getChangesSince());
+    for (final ClassName each : changed) {
+      Log.getLogger().fine("Will mutate changed class " + each);
+    }
+
+    data.restrictTargetClasses(FCollection.map(changed, asJavaName()));
+    data.setFailWhenNoMutations(false);
+  }
+
+  private static F<ClassName, String> asJavaName() {
+    return new F<ClassName, String>() {
+      @Override
+      public String apply(ClassName a) {
+        return a.asJavaName();
+      }
+    };
   }
 
   private void selectTestPlugin(ReportOptions data) {
@@ -33,6 +33,8 @@ import org.pitest.util.Unchecked;
 
 import sun.pitest.CodeCoverageStore;
 import sun.pitest.InvokeReceiver;
+import sun.pitest.LoopBudget;
+import sun.pitest.LoopBudgetExceededError;
 
 public class JarCreatingJarFinder implements JavaAgent {
 
@@ -98,6 +100,8 @@ public class JarCreatingJarFinder implements JavaAgent {
       addClass(HotSwapAgent.class, jos);
       addClass(CodeCoverageStore.class, jos);
       addClass(InvokeReceiver.class, jos);
+      addClass(LoopBudget.class, jos);
+      addClass(LoopBudgetExceededError.class, jos);
     }
   }
 
@@ -112,6 +116,9 @@ public class JarCreatingJarFinder implements JavaAgent {
     jos.putNextEntry(ze);
     jos.write(classBytes(className));
     jos.closeEntry();
+    for (final Class<?> each : clazz.getDeclaredClasses()) {
+      addClass(each, jos);
+    }
   }
 
   private byte[] classBytes(final String className) {
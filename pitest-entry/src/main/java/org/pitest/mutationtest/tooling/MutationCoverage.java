@@ -45,32 +45,45 @@ import org.pitest.mutationtest.ListenerArguments;
 import org.pitest.mutationtest.MutationAnalyser;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.build.MutationAnalysisUnit;
 import org.pitest.mutationtest.build.MutationGrouper;
 import org.pitest.mutationtest.build.MutationInterceptor;
+import org.pitest.mutationtest.build.MutationSampler;
 import org.pitest.mutationtest.build.MutationSource;
 import org.pitest.mutationtest.build.MutationTestBuilder;
 import org.pitest.mutationtest.build.PercentAndConstantTimeoutStrategy;
+import org.pitest.mutationtest.build.PercentileTimeoutStrategy;
 import org.pitest.mutationtest.build.TestPrioritiser;
+import org.pitest.mutationtest.build.TimingInterceptor;
 import org.pitest.mutationtest.build.WorkerFactory;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MinionMemory;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.execute.StoppingCondition;
 import org.pitest.mutationtest.incremental.DefaultCodeHistory;
 import org.pitest.mutationtest.incremental.HistoryListener;
 import org.pitest.mutationtest.incremental.IncrementalAnalyser;
+import org.pitest.mutationtest.metrics.MetricsFileWriter;
+import org.pitest.mutationtest.metrics.MetricsListener;
+import org.pitest.mutationtest.metrics.RunMetrics;
+import org.pitest.mutationtest.statistics.ConfidenceIntervalStoppingCondition;
 import org.pitest.mutationtest.statistics.MutationStatisticsListener;
+import org.pitest.mutationtest.statistics.SlowestMutationsListener;
 import org.pitest.mutationtest.statistics.Score;
+import org.pitest.process.MinionHosts;
 import org.pitest.util.Log;
 import org.pitest.util.StringUtil;
 import org.pitest.util.Timings;
 
 public class MutationCoverage {
 
-  private static final int         MB  = 1024 * 1024;
+  private static final int         MB               = 1024 * 1024;
+  private static final int         SLOWEST_REPORTED = 5;
 
-  private static final Logger      LOG = Log.getLogger();
+  private static final Logger      LOG              = Log.getLogger();
   private final ReportOptions      data;
 
   private final MutationStrategies strategies;
@@ -78,19 +91,54 @@ public class MutationCoverage {
   private final CodeSource         code;
   private final File               baseDir;
   private final SettingsFactory    settings;
+  private final RunMetrics         metrics;
 
   public MutationCoverage(final MutationStrategies strategies,
       final File baseDir, final CodeSource code, final ReportOptions data,
       final SettingsFactory settings, final Timings timings) {
+    this(strategies, baseDir, code, data, settings, timings, new RunMetrics(
+        timings));
+  }
+
+  public MutationCoverage(final MutationStrategies strategies,
+      final File baseDir, final CodeSource code, final ReportOptions data,
+      final SettingsFactory settings, final Timings timings,
+      final RunMetrics metrics) {
     this.strategies = strategies;
     this.data = data;
     this.settings = settings;
     this.timings = timings;
     this.code = code;
     this.baseDir = baseDir;
+    this.metrics = metrics;
   }
 
   public CombinedStatistics runReport() throws IOException {
+    this.metrics.register();
+    final Option<MetricsFileWriter> metricsFile = startMetricsFile();
+    try {
+      return runAnalysis();
+    } finally {
+      for (final MetricsFileWriter each : metricsFile) {
+        each.stop();
+      }
+      this.metrics.unregister();
+    }
+  }
+
+  private Option<MetricsFileWriter> startMetricsFile() {
+    if (this.data.getMetricsInterval() <= 0) {
+      return Option.none();
+    }
+    final MetricsFileWriter writer = new MetricsFileWriter(this.metrics,
+        this.strategies.output().createWriterForFile(
+            MetricsFileWriter.FILE_NAME),
+        this.data.getMetricsInterval() * 1000L);
+    writer.start();
+    return Option.some(writer);
+  }
+
+  private CombinedStatistics runAnalysis() throws IOException {
 
     Log.setVerbose(this.data.isVerbose());
 
@@ -119,23 +167,29 @@ public class MutationCoverage {
     LOG.fine("Free Memory after coverage calculation "
         + (runtime.freeMemory() / MB) + " mb");
 
-    final MutationStatisticsListener stats = new MutationStatisticsListener();
-
     EngineArguments args = EngineArguments.arguments()
         .withExcludedMethods(data.getExcludedMethods())
         .withMutators(data.getMutators());
     final MutationEngine engine = this.strategies.factory().createEngine(args);
 
-    final List<MutationResultListener> config = createConfig(t0, coverageData,
-        stats, engine);
-
+    this.timings.registerStart(Timings.Stage.LOAD_HISTORY);
     history().initialize();
+    this.timings.registerEnd(Timings.Stage.LOAD_HISTORY);
+
+    final Option<MutationSampler> sampler = sampler();
 
     this.timings.registerStart(Timings.Stage.BUILD_MUTATION_TESTS);
     final List<MutationAnalysisUnit> tus = buildMutationTests(coverageData,
-        engine, args);
+        engine, args, sampler);
     this.timings.registerEnd(Timings.Stage.BUILD_MUTATION_TESTS);
 
+    final MutationStatisticsListener stats = createStatisticsListener(sampler);
+    final SlowestMutationsListener slowest = new SlowestMutationsListener(
+        SLOWEST_REPORTED);
+
+    final List<MutationResultListener> config = createConfig(t0, coverageData,
+        stats, slowest, engine);
+
     LOG.info("Created  " + tus.size() + " mutation test units");
     checkMutationsFound(tus);
 
@@ -147,20 +201,46 @@ public class MutationCoverage {
         + " mb");
 
     final MutationAnalysisExecutor mae = new MutationAnalysisExecutor(
-        numberOfThreads(), config);
+        numberOfThreads(), config, stoppingCondition(stats), this.metrics);
     this.timings.registerStart(Timings.Stage.RUN_MUTATION_TESTS);
     mae.run(tus);
     this.timings.registerEnd(Timings.Stage.RUN_MUTATION_TESTS);
 
     LOG.info("Completed in " + timeSpan(t0));
 
-    printStats(stats);
+    printStats(stats, slowest);
 
     return new CombinedStatistics(stats.getStatistics(),
         coverageData.createSummary());
 
   }
 
+  private Option<MutationSampler> sampler() {
+    if (!this.data.isSampling()) {
+      return Option.none();
+    }
+    return Option.some(new MutationSampler(this.data.getSamplingSeed(),
+        this.data.getMutationUnitSize()));
+  }
+
+  private MutationStatisticsListener createStatisticsListener(
+      final Option<MutationSampler> sampler) {
+    if (sampler.hasNone()) {
+      return new MutationStatisticsListener();
+    }
+    return new MutationStatisticsListener(sampler.value().getPopulation(),
+        this.data.getSamplingConfidence());
+  }
+
+  private StoppingCondition stoppingCondition(
+      final MutationStatisticsListener stats) {
+    if (!this.data.isSampling()) {
+      return StoppingCondition.NEVER;
+    }
+    return new ConfidenceIntervalStoppingCondition(stats,
+        this.data.getSamplingMargin());
+  }
+
   private void checkExcludedRunners() {
     Collection<String> excludedRunners = this.data.getExcludedRunners();
     if (!excludedRunners.isEmpty()) {
@@ -180,19 +260,23 @@ private int numberOfThreads() {
 
   private List<MutationResultListener> createConfig(final long t0,
       final CoverageDatabase coverageData,
-      final MutationStatisticsListener stats, final MutationEngine engine) {
+      final MutationStatisticsListener stats,
+      final SlowestMutationsListener slowest, final MutationEngine engine) {
     final List<MutationResultListener> ls = new ArrayList<>();
 
     ls.add(stats);
+    ls.add(slowest);
 
     final ListenerArguments args = new ListenerArguments(
         this.strategies.output(), coverageData, new SmartSourceLocator(
-            this.data.getSourceDirs()), engine, t0);
+            this.data.getSourceDirs()), engine, t0, stats,
+        this.data.shouldReportTimings());
 
     final MutationResultListener mutationReportListener = this.strategies
         .listenerFactory().getListener(this.data.getFreeFormProperties(), args);
 
-    ls.add(mutationReportListener);
+    ls.add(new TimingListener(mutationReportListener, this.timings));
+    ls.add(new MetricsListener(this.metrics));
     ls.add(new HistoryListener(history()));
 
     if (!this.data.isVerbose()) {
@@ -223,7 +307,8 @@ private int numberOfThreads() {
     this.strategies.buildVerifier().verify(this.code);
   }
 
-  private void printStats(final MutationStatisticsListener stats) {
+  private void printStats(final MutationStatisticsListener stats,
+      final SlowestMutationsListener slowest) {
     final PrintStream ps = System.out;
     ps.println(StringUtil.separatorLine('='));
     ps.println("- Timings");
@@ -242,10 +327,18 @@ private int numberOfThreads() {
       each.report(ps);
       ps.println(StringUtil.separatorLine());
     }
+
+    if (slowest.hasTimings()) {
+      ps.println(StringUtil.separatorLine('='));
+      ps.println("- Slowest mutations");
+      ps.println(StringUtil.separatorLine('='));
+      slowest.report(ps);
+    }
   }
 
   private List<MutationAnalysisUnit> buildMutationTests(
-      final CoverageDatabase coverageData, final MutationEngine engine, EngineArguments args) {
+      final CoverageDatabase coverageData, final MutationEngine engine,
+      EngineArguments args, final Option<MutationSampler> sampler) {
 
     final MutationConfig mutationConfig = new MutationConfig(engine, coverage()
         .getLaunchOptions());
@@ -257,8 +350,8 @@ private int numberOfThreads() {
         .makeTestPrioritiser(this.data.getFreeFormProperties(), this.code,
             coverageData);
 
-    MutationInterceptor interceptor = this.settings.getInterceptor()
-        .createInterceptor(this.data, bas);
+    MutationInterceptor interceptor = new TimingInterceptor(this.settings
+        .getInterceptor().createInterceptor(this.data, bas), this.timings);
     
     final MutationSource source = new MutationSource(mutationConfig, testPrioritiser, bas, interceptor);
 
@@ -267,19 +360,31 @@ private int numberOfThreads() {
 
     final WorkerFactory wf = new WorkerFactory(this.baseDir, coverage()
         .getConfiguration(), mutationConfig, args,
-        new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
-            this.data.getTimeoutConstant()), this.data.isVerbose(), this.data
-            .getClassPath().getLocalClassPath());
+        timeoutStrategy(), this.data.isVerbose(), this.data
+            .getClassPath().getLocalClassPath(), this.metrics,
+        new MinionMemory(this.data.getMaxMinionHeap() * 1024L * 1024L),
+        new MinionHosts(this.data.getWorkerAgents(), true),
+        this.data.getMinionOptions());
 
     MutationGrouper grouper = this.settings.getMutationGrouper().makeFactory(
         this.data.getFreeFormProperties(), this.code,
         this.data.getNumberOfThreads(), this.data.getMutationUnitSize());
     final MutationTestBuilder builder = new MutationTestBuilder(wf, analyser,
-        source, grouper);
+        source, grouper, sampler);
 
     return builder.createMutationTestUnits(this.code.getCodeUnderTestNames());
   }
 
+  private TimeoutLengthStrategy timeoutStrategy() {
+    if (this.data.getTimeoutPercentile() > 0) {
+      return new PercentileTimeoutStrategy(this.data.getTimeoutFactor(),
+          this.data.getTimeoutConstant(), this.data.getTimeoutPercentile(),
+          history().getHistoricTestDurations());
+    }
+    return new PercentAndConstantTimeoutStrategy(this.data.getTimeoutFactor(),
+        this.data.getTimeoutConstant());
+  }
+
   private void checkMutationsFound(final List<MutationAnalysisUnit> tus) {
     if (tus.isEmpty()) {
       if (this.data.shouldFailWhenNoMutations()) {
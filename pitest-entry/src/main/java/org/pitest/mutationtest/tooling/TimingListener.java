@@ -0,0 +1,48 @@
+package org.pitest.mutationtest.tooling;
+
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.util.Timings;
+import org.pitest.util.Timings.Stage;
+
+/**
+ * Adds the time spent in a report listener to the write reports stage
+ */
+public class TimingListener implements MutationResultListener {
+
+  private final MutationResultListener child;
+  private final Timings                timings;
+
+  public TimingListener(final MutationResultListener child,
+      final Timings timings) {
+    this.child = child;
+    this.timings = timings;
+  }
+
+  @Override
+  public void runStart() {
+    final long t0 = System.currentTimeMillis();
+    this.child.runStart();
+    record(t0);
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    final long t0 = System.currentTimeMillis();
+    this.child.handleMutationResult(results);
+    record(t0);
+  }
+
+  @Override
+  public void runEnd() {
+    final long t0 = System.currentTimeMillis();
+    this.child.runEnd();
+    record(t0);
+  }
+
+  private void record(final long t0) {
+    this.timings.registerDuration(Stage.WRITE_REPORTS,
+        System.currentTimeMillis() - t0);
+  }
+
+}
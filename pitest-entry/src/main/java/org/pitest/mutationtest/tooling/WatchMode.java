@@ -0,0 +1,128 @@
+package org.pitest.mutationtest.tooling;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.logging.Logger;
+
+import org.pitest.classinfo.ClassInfoCache;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.execute.CoverageCache;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.incremental.InMemoryHistoryStore;
+import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.util.Log;
+
+/**
+ * Analyses a project, then analyses it again each time its compiled classes
+ * change, until the process is stopped.
+ *
+ * Class information, coverage and results are held in memory between
+ * analyses. Only tests whose coverage may have changed are run again, and
+ * only mutants in changed classes, or covered by changed tests, are analysed
+ * again. Reports are rewritten after each analysis.
+ */
+public class WatchMode {
+
+  private static final Logger        LOG          = Log.getLogger();
+
+  private static final long          QUIET_PERIOD = 500;
+
+  private final File                 baseDir;
+  private final ReportOptions        data;
+  private final PluginServices       plugins;
+  private final Map<String, String>  environmentVariables;
+  private final CoverageCache        coverage     = new CoverageCache();
+  private final HistoryStore         history      = new InMemoryHistoryStore();
+  private final EntryPoint           entryPoint;
+
+  public WatchMode(final File baseDir, final ReportOptions data,
+      final PluginServices plugins,
+      final Map<String, String> environmentVariables) {
+    this.baseDir = baseDir;
+    this.data = data;
+    this.plugins = plugins;
+    this.environmentVariables = environmentVariables;
+    this.entryPoint = new EntryPoint(Option.some(new ClassInfoCache()),
+        Option.some(this.coverage));
+  }
+
+  public void run() throws IOException, InterruptedException {
+    try (ClassDirectoryWatcher watcher = new ClassDirectoryWatcher(
+        findClassDirectories(), QUIET_PERIOD)) {
+      while (true) {
+        analyse();
+        LOG.info("Watching for changes to compiled classes");
+        classesChanged(watcher.awaitChanges());
+      }
+    }
+  }
+
+  /**
+   * Runs a single analysis, reusing what is held from earlier ones. A failed
+   * analysis is reported rather than thrown, so that watching can continue
+   * once the cause is fixed.
+   */
+  public Option<CombinedStatistics> analyse() {
+    try {
+      final AnalysisResult result = this.entryPoint.execute(this.baseDir,
+          this.data, createSettings(), this.environmentVariables);
+      for (final Exception each : result.getError()) {
+        LOG.warning("Analysis failed : " + each.getMessage());
+      }
+      return result.getStatistics();
+    } catch (final RuntimeException ex) {
+      LOG.warning("Analysis failed : " + ex.getMessage());
+      return Option.none();
+    }
+  }
+
+  void classesChanged(final Option<Set<ClassName>> changed) {
+    if (changed.hasNone()) {
+      LOG.info("Too many classes changed to track, will gather all coverage");
+      this.coverage.clear();
+      return;
+    }
+    LOG.info(changed.value().size() + " classes changed");
+    for (final ClassName each : changed.value()) {
+      // a change to a class shared by tests, but that is neither code nor a
+      // test, could alter the coverage of any test
+      if (!this.coverage.isTracked(each)) {
+        LOG.info(each.asJavaName()
+            + " is neither code nor a test, will gather all coverage");
+        this.coverage.clear();
+        return;
+      }
+    }
+  }
+
+  private SettingsFactory createSettings() {
+    return new SettingsFactory(this.data, this.plugins) {
+      @Override
+      public HistoryStore createHistoryStore(final WriterFactory output,
+          final Option<Reader> input) {
+        return WatchMode.this.history;
+      }
+    };
+  }
+
+  private Collection<File> findClassDirectories() {
+    final Collection<File> directories = new ArrayList<>();
+    for (final String each : this.data.getClassPathElements()) {
+      final File file = new File(each);
+      if (file.isDirectory()) {
+        directories.add(file);
+      }
+    }
+    return directories;
+  }
+
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+/**
+ * Handshake between a {@link RemoteProcess} and a {@link WorkerAgent}.
+ *
+ * The worker agent challenges the parent to prove it holds the shared
+ * secret. The parent then offers the hashes of the class path and agent jar,
+ * the worker agent replies with those it does not hold, the parent sends them and then
+ * the details needed to launch the minion. After that the connection carries
+ * the usual traffic between minion and parent.
+ */
+final class AgentProtocol {
+
+  static final int         MAGIC     = 0x50495441;
+
+  private static final int MAX_BYTES = 1024;
+
+  private AgentProtocol() {
+  }
+
+  static void writeStrings(final DataOutputStream out,
+      final List<String> values) throws IOException {
+    out.writeInt(values.size());
+    for (final String each : values) {
+      out.writeUTF(each);
+    }
+  }
+
+  static List<String> readStrings(final DataInputStream in)
+      throws IOException {
+    final int size = in.readInt();
+    final List<String> values = new ArrayList<>(size);
+    for (int i = 0; i != size; i++) {
+      values.add(in.readUTF());
+    }
+    return values;
+  }
+
+  static void writeBytes(final DataOutputStream out, final byte[] values)
+      throws IOException {
+    out.writeInt(values.length);
+    out.write(values);
+  }
+
+  static byte[] readBytes(final DataInputStream in) throws IOException {
+    final int size = in.readInt();
+    if ((size < 0) || (size > MAX_BYTES)) {
+      throw new IOException("Unexpected length " + size);
+    }
+    final byte[] values = new byte[size];
+    in.readFully(values);
+    return values;
+  }
+
+  static void writeMap(final DataOutputStream out,
+      final Map<String, String> values) throws IOException {
+    out.writeInt(values.size());
+    for (final Entry<String, String> each : values.entrySet()) {
+      out.writeUTF(each.getKey());
+      out.writeUTF(each.getValue());
+    }
+  }
+
+  static Map<String, String> readMap(final DataInputStream in)
+      throws IOException {
+    final int size = in.readInt();
+    final Map<String, String> values = new LinkedHashMap<>();
+    for (int i = 0; i != size; i++) {
+      values.put(in.readUTF(), in.readUTF());
+    }
+    return values;
+  }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.BufferedOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Class path files received by a worker agent, stored under the hash of
+ * their content.
+ */
+final class BlobCache {
+
+  private static final Pattern HASH        = Pattern.compile("[0-9a-f]{64}");
+  private static final int     BUFFER_SIZE = 8192;
+
+  private final File           dir;
+
+  BlobCache(final File dir) {
+    this.dir = dir;
+  }
+
+  List<String> missing(final Collection<String> hashes) {
+    final List<String> missing = new ArrayList<>();
+    for (final String each : hashes) {
+      if (!file(each).exists() && !missing.contains(each)) {
+        missing.add(each);
+      }
+    }
+    return missing;
+  }
+
+  File file(final String hash) {
+    if (!HASH.matcher(hash).matches()) {
+      throw new IllegalArgumentException("Not a content hash " + hash);
+    }
+    return new File(this.dir, hash + ".jar");
+  }
+
+  /**
+   * Reads length bytes and stores them, provided they match the hash
+   */
+  void store(final String hash, final InputStream in, final long length)
+      throws IOException {
+    final File target = file(hash);
+    final File temp = File.createTempFile(hash, ".part", this.dir);
+    try {
+      final MessageDigest digest = ContentAddressedClassPath.newDigest();
+      try (OutputStream out = new BufferedOutputStream(new FileOutputStream(
+          temp))) {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        long remaining = length;
+        while (remaining > 0) {
+          final int read = in.read(buffer, 0,
+              (int) Math.min(buffer.length, remaining));
+          if (read == -1) {
+            throw new EOFException("Class path file " + hash + " truncated");
+          }
+          digest.update(buffer, 0, read);
+          out.write(buffer, 0, read);
+          remaining = remaining - read;
+        }
+      }
+      if (!hash.equals(ContentAddressedClassPath.toHex(digest.digest()))) {
+        throw new IOException("Class path file does not match hash " + hash);
+      }
+      Files.move(temp.toPath(), target.toPath(),
+          StandardCopyOption.REPLACE_EXISTING);
+    } finally {
+      Files.deleteIfExists(temp.toPath());
+    }
+  }
+
+}
@@ -0,0 +1,204 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.lang.ProcessBuilder.Redirect;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.classpath.ClassListLoader;
+import org.pitest.functional.Option;
+import org.pitest.util.Log;
+
+/**
+ * Shares the classes minions load through an application class data sharing
+ * archive, so that each minion maps them in rather than loading and
+ * verifying them again.
+ *
+ * The classes loaded by the coverage minion are recorded and archived once
+ * coverage is complete. The JVM will only archive classes from jars, and
+ * only uses an archive when the class path begins with the one it was built
+ * from, so the archive holds classes from the JDK and from any jars at the
+ * start of the class path. If the JVM does not support class data sharing
+ * minions are launched as normal.
+ */
+public class ClassDataSharing {
+
+  private static final Logger LOG               = Log.getLogger();
+
+  private static final int    MEASUREMENT_RUNS  = 3;
+
+  private final File          dir;
+  private final File          classList;
+  private final File          archive;
+  private final File          log;
+  private boolean             recording;
+
+  public ClassDataSharing(final File dir) {
+    this.dir = dir;
+    this.classList = new File(dir, "minion.classlist");
+    this.archive = new File(dir, "minion.jsa");
+    this.log = new File(dir, "cds.log");
+  }
+
+  public static ClassDataSharing inTempDirectory() throws IOException {
+    return new ClassDataSharing(Files.createTempDirectory("pit-cds").toFile());
+  }
+
+  /**
+   * Deletes the archive and the files used to create it
+   */
+  public void close() {
+    final File[] files = this.dir.listFiles();
+    if (files != null) {
+      for (final File each : files) {
+        each.delete();
+      }
+    }
+    this.dir.delete();
+  }
+
+  static List<String> sharingArgs(final String archive) {
+    return Arrays.asList("-XX:SharedArchiveFile=" + archive, "-Xshare:auto");
+  }
+
+  /**
+   * Options for the minion whose classes are to be shared, which record the
+   * classes it loads if the JVM supports class data sharing
+   */
+  public LaunchOptions recording(final LaunchOptions options) {
+    final List<String> probe = new ArrayList<>(options.getChildJVMArgs());
+    probe.add("-XX:DumpLoadedClassList="
+        + new File(this.dir, "probe.classlist").getAbsolutePath());
+    probe.addAll(sharingArgs(this.archive.getAbsolutePath()));
+    probe.add("-version");
+    if (run(options.getJavaExecutable(), probe) != 0) {
+      LOG.info("Class data sharing is not supported by "
+          + options.getJavaExecutable() + ", minions will load classes as usual");
+      return options;
+    }
+    this.recording = true;
+    return options.withJvmArg("-XX:DumpLoadedClassList="
+        + this.classList.getAbsolutePath());
+  }
+
+  /**
+   * Options for later minions, sharing the classes recorded from the given
+   * class path if an archive of them could be created
+   */
+  public LaunchOptions sharing(final LaunchOptions options,
+      final String classPath) {
+    if (!this.recording || !this.classList.isFile()) {
+      return options;
+    }
+    final List<String> dump = new ArrayList<>(options.getChildJVMArgs());
+    dump.add("-Xshare:dump");
+    dump.add("-XX:SharedClassListFile=" + this.classList.getAbsolutePath());
+    dump.add("-XX:SharedArchiveFile=" + this.archive.getAbsolutePath());
+    dump.add("-cp");
+    dump.add(leadingJars(classPath));
+    if ((run(options.getJavaExecutable(), dump) != 0)
+        || !this.archive.isFile()) {
+      LOG.info("Could not create class data sharing archive, see "
+          + this.log + ". Minions will load classes as usual");
+      return options;
+    }
+    LOG.fine("Created class data sharing archive " + this.archive);
+    return options.withSharedArchive(this.archive.getAbsolutePath());
+  }
+
+  /**
+   * Milliseconds each minion saves loading its classes from the archive,
+   * if this can be measured
+   */
+  public Option<Long> measureSaving(final LaunchOptions options,
+      final String classPath) {
+    if (options.getSharedArchive().hasNone()) {
+      return Option.none();
+    }
+    final List<String> load = Arrays.asList("-cp", classPath,
+        ClassListLoader.class.getName(), this.classList.getAbsolutePath());
+    final List<String> unshared = new ArrayList<>(options.getChildJVMArgs());
+    unshared.add("-Xshare:off");
+    unshared.addAll(load);
+    final List<String> shared = new ArrayList<>(options.getChildJVMArgs());
+    shared.addAll(sharingArgs(options.getSharedArchive().value()));
+    shared.addAll(load);
+
+    // take the fastest of several runs of each to reduce noise
+    long withoutArchive = Long.MAX_VALUE;
+    long withArchive = Long.MAX_VALUE;
+    for (int i = 0; i != MEASUREMENT_RUNS; i++) {
+      final Option<Long> without = time(options.getJavaExecutable(), unshared);
+      final Option<Long> with = time(options.getJavaExecutable(), shared);
+      if (without.hasNone() || with.hasNone()) {
+        return Option.none();
+      }
+      withoutArchive = Math.min(withoutArchive, without.value());
+      withArchive = Math.min(withArchive, with.value());
+    }
+    return Option.some(withoutArchive - withArchive);
+  }
+
+  /**
+   * The jars at the start of the class path, before any directory
+   */
+  static String leadingJars(final String classPath) {
+    final StringBuilder jars = new StringBuilder();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      if (each.isEmpty() || !new File(each).isFile()) {
+        break;
+      }
+      if (jars.length() != 0) {
+        jars.append(File.pathSeparator);
+      }
+      jars.append(each);
+    }
+    return jars.toString();
+  }
+
+  private Option<Long> time(final String java, final List<String> args) {
+    final long start = System.nanoTime();
+    if (run(java, args) != 0) {
+      return Option.none();
+    }
+    return Option.some((System.nanoTime() - start) / 1000000);
+  }
+
+  private int run(final String java, final List<String> args) {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add(java);
+    cmd.addAll(args);
+    final ProcessBuilder builder = new ProcessBuilder(cmd);
+    builder.redirectErrorStream(true);
+    builder.redirectOutput(Redirect.appendTo(this.log));
+    try {
+      return builder.start().waitFor();
+    } catch (final IOException ex) {
+      LOG.log(Level.FINE, "Could not run " + cmd, ex);
+      return -1;
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      return -1;
+    }
+  }
+
+}
@@ -0,0 +1,172 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.pitest.util.PitError;
+
+/**
+ * The files making up a class path, each named by a hash of its content so
+ * that a worker agent need only be sent the files it has not already seen.
+ *
+ * Directories are packed into jars. Each file is hashed, and each directory
+ * packed, once, so the class path should not change while this is in use.
+ */
+public class ContentAddressedClassPath {
+
+  private static final String    HASH_ALGORITHM = "SHA-256";
+  // zip entries need a fixed time so that packing is repeatable
+  private static final long      ENTRY_TIME     = 315532800000L;
+  private static final int       BUFFER_SIZE    = 8192;
+
+  private final Map<File, Entry> entries        = new HashMap<>();
+  private File                   packDir;
+
+  /**
+   * Entries for each file and directory on the class path that exists, in
+   * class path order
+   */
+  public List<Entry> entriesFor(final String classPath) throws IOException {
+    final List<Entry> found = new ArrayList<>();
+    for (final String each : classPath.split(File.pathSeparator)) {
+      final File file = new File(each);
+      if (!each.isEmpty() && file.exists()) {
+        found.add(entryFor(file));
+      }
+    }
+    return found;
+  }
+
+  public synchronized Entry entryFor(final File file) throws IOException {
+    final File canonical = file.getCanonicalFile();
+    Entry entry = this.entries.get(canonical);
+    if (entry == null) {
+      final File content = canonical.isDirectory() ? pack(canonical)
+          : canonical;
+      entry = new Entry(hash(content), content);
+      this.entries.put(canonical, entry);
+    }
+    return entry;
+  }
+
+  private File pack(final File directory) throws IOException {
+    if (this.packDir == null) {
+      this.packDir = Files.createTempDirectory("pit-classpath").toFile();
+      this.packDir.deleteOnExit();
+    }
+    final File jar = File.createTempFile("dir", ".jar", this.packDir);
+    jar.deleteOnExit();
+    try (ZipOutputStream zos = new ZipOutputStream(new BufferedOutputStream(
+        new FileOutputStream(jar)))) {
+      addDirectory(zos, directory, "");
+    }
+    return jar;
+  }
+
+  private static void addDirectory(final ZipOutputStream zos,
+      final File directory, final String prefix) throws IOException {
+    final File[] children = directory.listFiles();
+    if (children == null) {
+      return;
+    }
+    Arrays.sort(children);
+    for (final File each : children) {
+      final String name = prefix + each.getName();
+      if (each.isDirectory()) {
+        zos.putNextEntry(entry(name + "/"));
+        zos.closeEntry();
+        addDirectory(zos, each, name + "/");
+      } else if (each.isFile()) {
+        zos.putNextEntry(entry(name));
+        Files.copy(each.toPath(), zos);
+        zos.closeEntry();
+      }
+    }
+  }
+
+  private static ZipEntry entry(final String name) {
+    final ZipEntry entry = new ZipEntry(name);
+    entry.setTime(ENTRY_TIME);
+    return entry;
+  }
+
+  static String hash(final File file) throws IOException {
+    try (InputStream is = new FileInputStream(file)) {
+      final MessageDigest digest = newDigest();
+      final byte[] buffer = new byte[BUFFER_SIZE];
+      int read = is.read(buffer);
+      while (read != -1) {
+        digest.update(buffer, 0, read);
+        read = is.read(buffer);
+      }
+      return toHex(digest.digest());
+    }
+  }
+
+  static MessageDigest newDigest() {
+    try {
+      return MessageDigest.getInstance(HASH_ALGORITHM);
+    } catch (final NoSuchAlgorithmException ex) {
+      throw new PitError(HASH_ALGORITHM + " not available", ex);
+    }
+  }
+
+  static String toHex(final byte[] bytes) {
+    final StringBuilder sb = new StringBuilder(bytes.length * 2);
+    for (final byte each : bytes) {
+      sb.append(Character.forDigit((each >> 4) & 0xF, 16));
+      sb.append(Character.forDigit(each & 0xF, 16));
+    }
+    return sb.toString();
+  }
+
+  /**
+   * A file on the class path and the hash of its content
+   */
+  public static final class Entry {
+    private final String hash;
+    private final File   file;
+
+    Entry(final String hash, final File file) {
+      this.hash = hash;
+      this.file = file;
+    }
+
+    public String getHash() {
+      return this.hash;
+    }
+
+    public File getFile() {
+      return this.file;
+    }
+  }
+
+}
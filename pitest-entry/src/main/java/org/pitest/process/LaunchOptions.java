@@ -14,17 +14,23 @@
  */
 package org.pitest.process;
 
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import org.pitest.functional.Option;
+
 public class LaunchOptions {
 
+  private static final String         MAX_HEAP = "-Xmx";
+
   private final JavaAgent             javaAgentFinder;
   private final List<String>          childJVMArgs;
   private final JavaExecutableLocator javaExecutable;
   private final Map<String, String>   environmentVariables;
+  private final Option<String>        sharedArchive;
 
   public LaunchOptions(JavaAgent javaAgentFinder) {
     this(javaAgentFinder, new DefaultJavaExecutableLocator(), Collections
@@ -34,10 +40,18 @@ public class LaunchOptions {
   public LaunchOptions(JavaAgent javaAgentFinder,
       JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
       Map<String, String> environmentVariables) {
+    this(javaAgentFinder, javaExecutable, childJVMArgs, environmentVariables,
+        Option.<String> none());
+  }
+
+  private LaunchOptions(JavaAgent javaAgentFinder,
+      JavaExecutableLocator javaExecutable, List<String> childJVMArgs,
+      Map<String, String> environmentVariables, Option<String> sharedArchive) {
     this.javaAgentFinder = javaAgentFinder;
     this.childJVMArgs = childJVMArgs;
     this.javaExecutable = javaExecutable;
     this.environmentVariables = environmentVariables;
+    this.sharedArchive = sharedArchive;
   }
 
   public JavaAgent getJavaAgentFinder() {
@@ -55,4 +69,90 @@ public class LaunchOptions {
   public Map<String, String> getEnvironmentVariables() {
     return this.environmentVariables;
   }
+
+  /**
+   * Class data sharing archive child JVMs should use, if any
+   */
+  public Option<String> getSharedArchive() {
+    return this.sharedArchive;
+  }
+
+  /**
+   * Copy of these options with an additional child JVM argument
+   */
+  public LaunchOptions withJvmArg(final String arg) {
+    final List<String> args = new ArrayList<>(this.childJVMArgs);
+    args.add(arg);
+    return new LaunchOptions(this.javaAgentFinder, this.javaExecutable, args,
+        this.environmentVariables, this.sharedArchive);
+  }
+
+  /**
+   * Copy of these options with child JVMs using the given class data sharing
+   * archive
+   */
+  public LaunchOptions withSharedArchive(final String archive) {
+    return new LaunchOptions(this.javaAgentFinder, this.javaExecutable,
+        this.childJVMArgs, this.environmentVariables, Option.some(archive));
+  }
+
+  /**
+   * Maximum heap in bytes set by the child JVM arguments, if any
+   */
+  public Option<Long> getMaxHeap() {
+    Option<Long> heap = Option.none();
+    for (final String each : this.childJVMArgs) {
+      if (each.startsWith(MAX_HEAP)) {
+        heap = parseMemory(each.substring(MAX_HEAP.length()));
+      }
+    }
+    return heap;
+  }
+
+  /**
+   * Copy of these options with the maximum heap of the child JVM replaced
+   */
+  public LaunchOptions withMaxHeap(final long bytes) {
+    final List<String> args = new ArrayList<>();
+    for (final String each : this.childJVMArgs) {
+      if (!each.startsWith(MAX_HEAP)) {
+        args.add(each);
+      }
+    }
+    args.add(MAX_HEAP + (bytes / 1024) + "k");
+    return new LaunchOptions(this.javaAgentFinder, this.javaExecutable, args,
+        this.environmentVariables, this.sharedArchive);
+  }
+
+  static Option<Long> parseMemory(final String value) {
+    if (value.isEmpty()) {
+      return Option.none();
+    }
+    final char unit = Character.toLowerCase(value.charAt(value.length() - 1));
+    try {
+      if (Character.isDigit(unit)) {
+        return Option.some(Long.parseLong(value));
+      }
+      return Option.some(Long.parseLong(value.substring(0,
+          value.length() - 1)) * multiplier(unit));
+    } catch (final NumberFormatException ex) {
+      return Option.none();
+    }
+  }
+
+  private static long multiplier(final char unit) {
+    switch (unit) {
+    case 'k':
+      return 1024L;
+    case 'm':
+      return 1024L * 1024;
+    case 'g':
+      return 1024L * 1024 * 1024;
+    case 't':
+      return 1024L * 1024 * 1024 * 1024;
+    default:
+      throw new NumberFormatException("Unknown unit " + unit);
+    }
+  }
+
 }
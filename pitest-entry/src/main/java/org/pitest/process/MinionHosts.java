@@ -0,0 +1,214 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.util.Log;
+
+/**
+ * Decides where each minion runs. A minion goes to whichever host, this
+ * machine or a {@link WorkerAgent}, has the fewest minions running, so the
+ * number of threads still bounds the minions running in total.
+ *
+ * An agent that cannot be reached, or that does not accept the secret read
+ * from {@link #AGENT_SECRET}, is not used again and the minion that
+ * would have run on it is run locally instead.
+ */
+public class MinionHosts {
+
+  /**
+   * File from which parents and worker agents read the secret they share
+   */
+  public static final File                AGENT_SECRET = SharedSecret
+      .defaultFile("agent-secret");
+
+  private static final Logger             LOG       = Log.getLogger();
+
+  private final List<Host>                hosts     = new ArrayList<>();
+  private final Host                      local     = new Host(null);
+  private final ContentAddressedClassPath classPath = new ContentAddressedClassPath();
+  private final Option<SharedSecret>      secret;
+
+  /**
+   * @param agents
+   *          host:port of each worker agent
+   * @param runLocally
+   *          whether minions should also run on this machine while agents are
+   *          available
+   */
+  public MinionHosts(final Collection<String> agents,
+      final boolean runLocally) {
+    this(agents, runLocally, agents.isEmpty() ? Option.<SharedSecret> none()
+        : agentSecret());
+  }
+
+  /**
+   * @param secret
+   *          secret with which to answer worker agents
+   */
+  public MinionHosts(final Collection<String> agents,
+      final boolean runLocally, final Option<SharedSecret> secret) {
+    this.secret = secret;
+    if (runLocally || agents.isEmpty()) {
+      this.hosts.add(this.local);
+    }
+    for (final String each : agents) {
+      this.hosts.add(new Host(parseAddress(each)));
+    }
+  }
+
+  public static MinionHosts localOnly() {
+    return new MinionHosts(Collections.<String> emptyList(), true);
+  }
+
+  private static Option<SharedSecret> agentSecret() {
+    try {
+      return SharedSecret.read(AGENT_SECRET);
+    } catch (final IOException ex) {
+      LOG.log(Level.WARNING, "Could not read worker agent secret", ex);
+      return Option.none();
+    }
+  }
+
+  static InetSocketAddress parseAddress(final String agent) {
+    final int colon = agent.lastIndexOf(':');
+    if (colon <= 0) {
+      throw new IllegalArgumentException("Worker agent " + agent
+          + " should be given as host:port");
+    }
+    return InetSocketAddress.createUnresolved(agent.substring(0, colon),
+        Integer.parseInt(agent.substring(colon + 1)));
+  }
+
+  /**
+   * A process for a minion that will connect to the given port, running on
+   * the least busy host
+   */
+  public MinionProcess create(final int port, final ProcessArgs args,
+      final Class<?> minionClass) {
+    return new HostedProcess(acquire(), port, args, minionClass);
+  }
+
+  synchronized Host acquire() {
+    Host best = null;
+    for (final Host each : this.hosts) {
+      if (each.reachable && ((best == null) || (each.running < best.running))) {
+        best = each;
+      }
+    }
+    if (best == null) {
+      best = this.local;
+    }
+    best.running++;
+    return best;
+  }
+
+  synchronized void release(final Host host) {
+    host.running--;
+  }
+
+  synchronized void unreachable(final Host host) {
+    host.reachable = false;
+  }
+
+  static final class Host {
+    private final InetSocketAddress address;
+    private int                     running;
+    private boolean                 reachable = true;
+
+    Host(final InetSocketAddress address) {
+      this.address = address;
+    }
+
+    boolean isLocal() {
+      return this.address == null;
+    }
+
+    @Override
+    public String toString() {
+      return isLocal() ? "localhost" : this.address.getHostString() + ":"
+          + this.address.getPort();
+    }
+  }
+
+  private final class HostedProcess implements MinionProcess {
+    private final Host        host;
+    private final int         port;
+    private final ProcessArgs args;
+    private final Class<?>    minionClass;
+    private MinionProcess     process;
+    private boolean           released;
+
+    HostedProcess(final Host host, final int port, final ProcessArgs args,
+        final Class<?> minionClass) {
+      this.host = host;
+      this.port = port;
+      this.args = args;
+      this.minionClass = minionClass;
+    }
+
+    @Override
+    public void start() throws IOException {
+      if (!this.host.isLocal()) {
+        try {
+          if (MinionHosts.this.secret.hasNone()) {
+            throw new IOException("No worker agent secret found in "
+                + AGENT_SECRET);
+          }
+          final RemoteProcess remote = new RemoteProcess(
+              new InetSocketAddress(this.host.address.getHostString(),
+                  this.host.address.getPort()), this.port, this.args,
+              this.minionClass, MinionHosts.this.classPath,
+              MinionHosts.this.secret.value());
+          remote.start();
+          this.process = remote;
+          return;
+        } catch (final IOException ex) {
+          LOG.log(Level.WARNING, "Could not use worker agent " + this.host
+              + ", running minions locally instead", ex);
+          unreachable(this.host);
+        }
+      }
+      this.process = new WrappingProcess(this.port, this.args,
+          this.minionClass);
+      this.process.start();
+    }
+
+    @Override
+    public synchronized void destroy() {
+      try {
+        if (this.process != null) {
+          this.process.destroy();
+        }
+      } finally {
+        if (!this.released) {
+          this.released = true;
+          release(this.host);
+        }
+      }
+    }
+  }
+
+}
@@ -23,6 +23,7 @@ import java.util.List;
 import java.util.Map;
 
 import org.pitest.classpath.ClassPath;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 
 public final class ProcessArgs {
@@ -35,6 +36,7 @@ public final class ProcessArgs {
   private File                workingDir = null;
   private String              javaExecutable;
   private Map<String, String> environmentVariables;
+  private Option<String>      sharedArchive = Option.none();
 
   private ProcessArgs(final String launchClassPath) {
     this.launchClassPath = launchClassPath;
@@ -108,9 +110,14 @@ public final class ProcessArgs {
     this.javaAgentFinder = launchOptions.getJavaAgentFinder();
     this.javaExecutable = launchOptions.getJavaExecutable();
     this.environmentVariables = launchOptions.getEnvironmentVariables();
+    this.sharedArchive = launchOptions.getSharedArchive();
     return this;
   }
 
+  public Option<String> getSharedArchive() {
+    return this.sharedArchive;
+  }
+
   public Map<String, String> getEnvironmentVariables() {
     return this.environmentVariables;
   }
@@ -0,0 +1,86 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.Socket;
+import java.util.concurrent.CountDownLatch;
+
+/**
+ * Copies bytes between two sockets in both directions until either side
+ * closes, then closes both.
+ */
+final class Relay {
+
+  private static final int     BUFFER_SIZE = 8192;
+
+  private final CountDownLatch ended       = new CountDownLatch(1);
+
+  private Relay() {
+  }
+
+  static Relay between(final Socket a, final Socket b) throws IOException {
+    final Relay relay = new Relay();
+    relay.pump(a.getInputStream(), b.getOutputStream(), a, b);
+    relay.pump(b.getInputStream(), a.getOutputStream(), a, b);
+    return relay;
+  }
+
+  void awaitEnd() throws InterruptedException {
+    this.ended.await();
+  }
+
+  private void pump(final InputStream in, final OutputStream out,
+      final Closeable... onEnd) {
+    final Thread thread = new Thread() {
+      @Override
+      public void run() {
+        final byte[] buffer = new byte[BUFFER_SIZE];
+        try {
+          int read = in.read(buffer);
+          while (read != -1) {
+            out.write(buffer, 0, read);
+            out.flush();
+            read = in.read(buffer);
+          }
+        } catch (final IOException ex) {
+          // other end has gone away
+        } finally {
+          closeQuietly(onEnd);
+          Relay.this.ended.countDown();
+        }
+      }
+    };
+    thread.setDaemon(true);
+    thread.setName("pit relay");
+    thread.start();
+  }
+
+  static void closeQuietly(final Closeable... closeables) {
+    for (final Closeable each : closeables) {
+      try {
+        if (each != null) {
+          each.close();
+        }
+      } catch (final IOException ex) {
+        // nothing useful to do
+      }
+    }
+  }
+
+}
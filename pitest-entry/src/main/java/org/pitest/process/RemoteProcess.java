@@ -0,0 +1,150 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.Socket;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.pitest.functional.Option;
+import org.pitest.process.ContentAddressedClassPath.Entry;
+
+/**
+ * A minion launched by a {@link WorkerAgent} on another machine. The agent
+ * relays the minion's connection back to this one, so the parent talks to it
+ * exactly as it would a local minion.
+ */
+public class RemoteProcess implements MinionProcess {
+
+  private static final int                CONNECT_TIMEOUT = 10000;
+
+  private final InetSocketAddress         agent;
+  private final int                       port;
+  private final ProcessArgs               processArgs;
+  private final Class<?>                  minionClass;
+  private final ContentAddressedClassPath classPath;
+  private final SharedSecret              secret;
+
+  private Socket                          toAgent;
+  private Socket                          toParent;
+
+  public RemoteProcess(final InetSocketAddress agent, final int port,
+      final ProcessArgs processArgs, final Class<?> minionClass,
+      final ContentAddressedClassPath classPath, final SharedSecret secret) {
+    this.agent = agent;
+    this.port = port;
+    this.processArgs = processArgs;
+    this.minionClass = minionClass;
+    this.classPath = classPath;
+    this.secret = secret;
+  }
+
+  @Override
+  public void start() throws IOException {
+    this.toAgent = new Socket();
+    try {
+      this.toAgent.connect(this.agent, CONNECT_TIMEOUT);
+      handshake();
+      this.toParent = new Socket(InetAddress.getLoopbackAddress(), this.port);
+      Relay.between(this.toAgent, this.toParent);
+    } catch (final IOException ex) {
+      destroy();
+      throw ex;
+    }
+  }
+
+  private void handshake() throws IOException {
+    final List<Entry> entries = this.classPath.entriesFor(this.processArgs
+        .getLaunchClassPath());
+    final Option<Entry> javaAgent = javaAgent();
+
+    final Map<String, Entry> byHash = new HashMap<>();
+    final List<String> hashes = new ArrayList<>();
+    for (final Entry each : entries) {
+      byHash.put(each.getHash(), each);
+      hashes.add(each.getHash());
+    }
+    for (final Entry each : javaAgent) {
+      byHash.put(each.getHash(), each);
+    }
+
+    // reads are unbuffered so that nothing sent by the minion is consumed
+    final DataInputStream in = new DataInputStream(
+        this.toAgent.getInputStream());
+    final DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(this.toAgent.getOutputStream()));
+
+    out.writeInt(AgentProtocol.MAGIC);
+    out.flush();
+    AgentProtocol.writeBytes(out,
+        this.secret.respond(AgentProtocol.readBytes(in)));
+    AgentProtocol.writeStrings(out, hashes);
+    out.writeUTF(javaAgent.hasSome() ? javaAgent.value().getHash() : "");
+    out.flush();
+
+    for (final String each : AgentProtocol.readStrings(in)) {
+      final Entry entry = byHash.get(each);
+      if (entry == null) {
+        throw new IOException("Worker agent asked for unknown file " + each);
+      }
+      out.writeUTF(each);
+      out.writeLong(entry.getFile().length());
+      Files.copy(entry.getFile().toPath(), out);
+    }
+
+    final List<String> jvmArgs = new ArrayList<>(
+        this.processArgs.getJvmArgs());
+    jvmArgs.addAll(WrappingProcess.launchSystemProperties());
+    AgentProtocol.writeStrings(out, jvmArgs);
+    AgentProtocol.writeMap(out, environment());
+    out.writeUTF(this.minionClass.getName());
+    out.flush();
+  }
+
+  private Option<Entry> javaAgent() throws IOException {
+    final Option<String> location = this.processArgs.getJavaAgentFinder()
+        .getJarLocation();
+    if (location.hasNone()) {
+      return Option.none();
+    }
+    return Option.some(this.classPath.entryFor(new File(location.value())));
+  }
+
+  private Map<String, String> environment() {
+    final Map<String, String> environment = this.processArgs
+        .getEnvironmentVariables();
+    if (environment == null) {
+      return Collections.emptyMap();
+    }
+    return environment;
+  }
+
+  @Override
+  public void destroy() {
+    Relay.closeQuietly(this.toAgent, this.toParent);
+  }
+
+}
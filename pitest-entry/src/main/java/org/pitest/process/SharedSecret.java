@@ -0,0 +1,164 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.util.Set;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.pitest.functional.Option;
+import org.pitest.util.PitError;
+
+/**
+ * Secret shared between a server and the clients it accepts, kept in a file
+ * readable only by its owner.
+ *
+ * Clients prove they hold the secret by answering a random challenge, so the
+ * secret itself is never sent.
+ */
+public final class SharedSecret {
+
+  /**
+   * Length in bytes of challenges and of the responses to them
+   */
+  public static final int           LENGTH    = 32;
+
+  private static final String       ALGORITHM = "HmacSHA256";
+  private static final SecureRandom RANDOM    = new SecureRandom();
+
+  private final byte[]              key;
+
+  SharedSecret(final byte[] key) {
+    this.key = key.clone();
+  }
+
+  public static SharedSecret random() {
+    final byte[] key = new byte[LENGTH];
+    RANDOM.nextBytes(key);
+    return new SharedSecret(toHex(key).getBytes(StandardCharsets.US_ASCII));
+  }
+
+  /**
+   * Default location of a secret file in the user's home directory
+   */
+  public static File defaultFile(final String name) {
+    return new File(new File(System.getProperty("user.home"), ".pitest"),
+        name);
+  }
+
+  /**
+   * Reads the secret from a file, if it exists. Files that other users may
+   * read are rejected.
+   */
+  public static Option<SharedSecret> read(final File file) throws IOException {
+    if (!file.isFile()) {
+      return Option.none();
+    }
+    checkPrivate(file.toPath());
+    final String secret = new String(Files.readAllBytes(file.toPath()),
+        StandardCharsets.US_ASCII).trim();
+    if (secret.isEmpty()) {
+      throw new IOException("Secret file " + file + " is empty");
+    }
+    return Option.some(new SharedSecret(secret
+        .getBytes(StandardCharsets.US_ASCII)));
+  }
+
+  /**
+   * Reads the secret from a file, first writing a random secret to it if it
+   * does not exist.
+   */
+  public static SharedSecret readOrCreate(final File file) throws IOException {
+    final Option<SharedSecret> existing = read(file);
+    if (existing.hasSome()) {
+      return existing.value();
+    }
+    final SharedSecret secret = random();
+    secret.writeTo(file);
+    return secret;
+  }
+
+  public byte[] challenge() {
+    final byte[] challenge = new byte[LENGTH];
+    RANDOM.nextBytes(challenge);
+    return challenge;
+  }
+
+  public byte[] respond(final byte[] challenge) {
+    try {
+      final Mac mac = Mac.getInstance(ALGORITHM);
+      mac.init(new SecretKeySpec(this.key, ALGORITHM));
+      return mac.doFinal(challenge);
+    } catch (final GeneralSecurityException ex) {
+      throw new PitError("Could not answer challenge", ex);
+    }
+  }
+
+  public boolean accepts(final byte[] challenge, final byte[] response) {
+    return MessageDigest.isEqual(respond(challenge), response);
+  }
+
+  private void writeTo(final File file) throws IOException {
+    final Path path = file.toPath();
+    Files.createDirectories(path.getParent());
+    try {
+      Files.createFile(path, PosixFilePermissions
+          .asFileAttribute(PosixFilePermissions.fromString("rw-------")));
+    } catch (final UnsupportedOperationException ex) {
+      Files.createFile(path);
+      if (!(file.setReadable(false, false) && file.setReadable(true, true)
+          && file.setWritable(false, false) && file.setWritable(true, true))) {
+        throw new IOException("Could not restrict access to " + file);
+      }
+    }
+    Files.write(path, this.key);
+  }
+
+  private static void checkPrivate(final Path path) throws IOException {
+    final PosixFileAttributeView view = Files.getFileAttributeView(path,
+        PosixFileAttributeView.class);
+    if (view == null) {
+      return;
+    }
+    final Set<PosixFilePermission> permissions = view.readAttributes()
+        .permissions();
+    if (permissions.contains(PosixFilePermission.GROUP_READ)
+        || permissions.contains(PosixFilePermission.OTHERS_READ)) {
+      throw new IOException("Secret file " + path
+          + " must be readable only by its owner");
+    }
+  }
+
+  private static String toHex(final byte[] bytes) {
+    final StringBuilder sb = new StringBuilder();
+    for (final byte each : bytes) {
+      sb.append(String.format("%02x", each & 0xff));
+    }
+    return sb.toString();
+  }
+
+}
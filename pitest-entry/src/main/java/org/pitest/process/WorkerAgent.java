@@ -0,0 +1,246 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.process;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+
+import org.pitest.functional.SideEffect1;
+import org.pitest.util.Log;
+
+/**
+ * Launches minions on behalf of a parent process running on another machine.
+ *
+ * Class path files are received once and cached by content hash, so later
+ * minions for the same project only cost the parent a list of hashes. Each
+ * minion connects to the agent, which relays its traffic to the parent.
+ *
+ * Started with
+ *
+ * <pre>
+ * java -cp pitest.jar:pitest-entry.jar org.pitest.process.WorkerAgent --port 8097
+ * </pre>
+ *
+ * optionally with --host to choose the address to listen on, --cache for the
+ * directory in which to keep class path files and --secret-file for the file
+ * holding the secret parents must prove they know before a minion is
+ * launched. The agent listens on the loopback address unless a host is given.
+ * A random secret is written to ~/.pitest/agent-secret if no secret file
+ * exists; the parent reads it from the same location.
+ */
+public class WorkerAgent implements Runnable {
+
+  private static final Logger LOG                   = Log.getLogger();
+
+  private static final int    MINION_CONNECT_TIMEOUT = 60000;
+
+  private final ServerSocket  server;
+  private final BlobCache     cache;
+  private final SharedSecret  secret;
+
+  public WorkerAgent(final ServerSocket server, final File cacheDir,
+      final SharedSecret secret) {
+    this.server = server;
+    this.cache = new BlobCache(cacheDir);
+    this.secret = secret;
+  }
+
+  public static void main(final String[] args) throws IOException {
+    String host = null;
+    int port = 0;
+    File cacheDir = new File(System.getProperty("java.io.tmpdir"),
+        "pit-agent-cache");
+    File secretFile = MinionHosts.AGENT_SECRET;
+    for (int i = 0; i < (args.length - 1); i = i + 2) {
+      if (args[i].equals("--host")) {
+        host = args[i + 1];
+      } else if (args[i].equals("--port")) {
+        port = Integer.parseInt(args[i + 1]);
+      } else if (args[i].equals("--cache")) {
+        cacheDir = new File(args[i + 1]);
+      } else if (args[i].equals("--secret-file")) {
+        secretFile = new File(args[i + 1]);
+      } else {
+        throw new IllegalArgumentException("Unknown argument " + args[i]);
+      }
+    }
+
+    if (!cacheDir.isDirectory() && !cacheDir.mkdirs()) {
+      throw new IOException("Could not create cache directory " + cacheDir);
+    }
+
+    final SharedSecret secret = SharedSecret.readOrCreate(secretFile);
+
+    final ServerSocket server = new ServerSocket();
+    server.bind(host == null ? new InetSocketAddress(
+        InetAddress.getLoopbackAddress(), port) : new InetSocketAddress(host,
+        port));
+    final WorkerAgent agent = new WorkerAgent(server, cacheDir, secret);
+    LOG.info("Worker agent listening on " + server.getLocalSocketAddress()
+        + ", parents must hold the secret in " + secretFile);
+    agent.run();
+  }
+
+  public int getPort() {
+    return this.server.getLocalPort();
+  }
+
+  /**
+   * Accepts parents until stopped
+   */
+  @Override
+  public void run() {
+    while (!this.server.isClosed()) {
+      try {
+        final Socket parent = this.server.accept();
+        final Thread thread = new Thread() {
+          @Override
+          public void run() {
+            serve(parent);
+          }
+        };
+        thread.setDaemon(true);
+        thread.setName("pit worker agent");
+        thread.start();
+      } catch (final IOException ex) {
+        if (!this.server.isClosed()) {
+          LOG.log(Level.WARNING, "Could not accept connection", ex);
+        }
+      }
+    }
+  }
+
+  public void stop() {
+    Relay.closeQuietly(this.server);
+  }
+
+  private void serve(final Socket parent) {
+    JavaProcess process = null;
+    try {
+      process = launch(parent);
+    } catch (final IOException ex) {
+      LOG.log(Level.WARNING, "Could not launch minion for "
+          + parent.getRemoteSocketAddress(), ex);
+      Relay.closeQuietly(parent);
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+    } finally {
+      if (process != null) {
+        process.destroy();
+      }
+    }
+  }
+
+  private JavaProcess launch(final Socket parent) throws IOException,
+      InterruptedException {
+    // reads are unbuffered so that nothing meant for the minion is consumed
+    final DataInputStream in = new DataInputStream(parent.getInputStream());
+    final DataOutputStream out = new DataOutputStream(
+        new BufferedOutputStream(parent.getOutputStream()));
+
+    if (in.readInt() != AgentProtocol.MAGIC) {
+      throw new IOException("Not a pitest parent");
+    }
+    final byte[] challenge = this.secret.challenge();
+    AgentProtocol.writeBytes(out, challenge);
+    out.flush();
+    if (!this.secret.accepts(challenge, AgentProtocol.readBytes(in))) {
+      throw new IOException("Parent does not hold the agent secret");
+    }
+    final List<String> classPath = AgentProtocol.readStrings(in);
+    final String javaAgent = in.readUTF();
+
+    final List<String> wanted = new ArrayList<>(classPath);
+    if (!javaAgent.isEmpty()) {
+      wanted.add(javaAgent);
+    }
+    final List<String> missing = this.cache.missing(wanted);
+    AgentProtocol.writeStrings(out, missing);
+    out.flush();
+    for (int i = 0; i != missing.size(); i++) {
+      final String hash = in.readUTF();
+      this.cache.store(hash, in, in.readLong());
+    }
+
+    final List<String> jvmArgs = AgentProtocol.readStrings(in);
+    final Map<String, String> environment = AgentProtocol.readMap(in);
+    final String mainClass = in.readUTF();
+
+    try (ServerSocket forMinion = new ServerSocket(0, 1,
+        InetAddress.getLoopbackAddress())) {
+      forMinion.setSoTimeout(MINION_CONNECT_TIMEOUT);
+      final JavaProcess process = start(classPath, javaAgent, jvmArgs,
+          environment, mainClass, forMinion.getLocalPort());
+      try {
+        final Socket minion = forMinion.accept();
+        Relay.between(parent, minion).awaitEnd();
+        return process;
+      } catch (final IOException ex) {
+        process.destroy();
+        throw ex;
+      }
+    }
+  }
+
+  private JavaProcess start(final List<String> classPath,
+      final String javaAgent, final List<String> jvmArgs,
+      final Map<String, String> environment, final String mainClass,
+      final int port) throws IOException {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add(System.getProperty("java.home") + File.separator + "bin"
+        + File.separator + "java");
+    cmd.addAll(jvmArgs);
+    if (!javaAgent.isEmpty()) {
+      cmd.add("-javaagent:" + this.cache.file(javaAgent).getAbsolutePath());
+    }
+    cmd.add(mainClass);
+    cmd.add("" + port);
+
+    final StringBuilder cp = new StringBuilder();
+    for (final String each : classPath) {
+      if (cp.length() != 0) {
+        cp.append(File.pathSeparator);
+      }
+      cp.append(this.cache.file(each).getAbsolutePath());
+    }
+
+    final ProcessBuilder builder = new ProcessBuilder(cmd);
+    builder.environment().putAll(environment);
+    builder.environment().put("CLASSPATH", cp.toString());
+    return new JavaProcess(builder.start(), log(), log());
+  }
+
+  private static SideEffect1<String> log() {
+    return new SideEffect1<String>() {
+      @Override
+      public void apply(final String a) {
+        LOG.fine("minion : " + a);
+      }
+    };
+  }
+
+}
@@ -16,7 +16,7 @@ import org.pitest.functional.FunctionalList;
 import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 
-public class WrappingProcess {
+public class WrappingProcess implements MinionProcess {
 
   private final int         port;
   private final ProcessArgs processArgs;
@@ -30,11 +30,12 @@ public class WrappingProcess {
     this.minionClass = minionClass;
   }
 
+  @Override
   public void start() throws IOException {
     final String[] args = { "" + this.port };
 
     ProcessBuilder processBuilder = createProcessBuilder(
-        this.processArgs.getJavaExecutable(), this.processArgs.getJvmArgs(),
+        this.processArgs.getJavaExecutable(), jvmArgs(this.processArgs),
         this.minionClass, Arrays.asList(args),
         this.processArgs.getJavaAgentFinder());
 
@@ -47,6 +48,14 @@ public class WrappingProcess {
         this.processArgs.getStdErr());
   }
 
+  private static List<String> jvmArgs(ProcessArgs processArgs) {
+    List<String> args = new ArrayList<>(processArgs.getJvmArgs());
+    for (String each : processArgs.getSharedArchive()) {
+      args.addAll(ClassDataSharing.sharingArgs(each));
+    }
+    return args;
+  }
+
   private void configureProcessBuilder(ProcessBuilder processBuilder,
       File workingDirectory, String initialClassPath,
       Map<String, String> environmentVariables) {
@@ -59,6 +68,7 @@ public class WrappingProcess {
     }
   }
 
+  @Override
   public void destroy() {
     this.process.destroy();
   }
@@ -114,6 +124,18 @@ public class WrappingProcess {
     cmd.addAll(agents);
   }
 
+  /**
+   * System properties this JVM was launched with, which are passed on to
+   * minions
+   */
+  static List<String> launchSystemProperties() {
+    RuntimeMXBean rt = ManagementFactory.getRuntimeMXBean();
+    List<String> properties = FCollection.filter(rt.getInputArguments(),
+        isEnvironmentSetting());
+    removeClassPathProperties(properties);
+    return properties;
+  }
+
   private static Predicate<String> isEnvironmentSetting() {
     return new Predicate<String>() {
       @Override
@@ -14,10 +14,13 @@
  */
 package org.pitest.util;
 
+import java.io.OutputStream;
 import java.io.Writer;
 
 public interface ResultOutputStrategy {
 
   Writer createWriterForFile(String sourceFile);
 
+  OutputStream createOutputStreamForFile(String sourceFile);
+
 }
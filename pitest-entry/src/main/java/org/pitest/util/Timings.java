@@ -24,12 +24,29 @@ public class Timings {
   public enum Stage {
     BUILD_MUTATION_TESTS("build mutation tests"), RUN_MUTATION_TESTS(
         "run mutation analysis"), SCAN_CLASS_PATH("scan classpath"), COVERAGE(
-            "coverage and dependency analysis");
+            "coverage and dependency analysis"), LOAD_HISTORY("load history"),
+    MUTATION_INTERCEPTORS("mutation interceptors", true), WRITE_REPORTS(
+        "write reports", true), CLASS_DATA_SHARING(
+            "create class data sharing archive");
 
-    private final String description;
+    private final String  description;
+    private final boolean nested;
 
     Stage(final String desc) {
+      this(desc, false);
+    }
+
+    /**
+     * A nested stage accumulates time spent within another stage, so is not
+     * counted again in the total
+     */
+    Stage(final String desc, final boolean nested) {
       this.description = desc;
+      this.nested = nested;
+    }
+
+    public boolean isNested() {
+      return this.nested;
     }
 
     @Override
@@ -39,25 +56,73 @@ public class Timings {
   }
 
   private final Map<Stage, TimeSpan> timings = new LinkedHashMap<>();
+  private final Map<String, Long>    savings = new LinkedHashMap<>();
 
-  public void registerStart(final Stage stage) {
+  public synchronized void registerStart(final Stage stage) {
     this.timings.put(stage, new TimeSpan(System.currentTimeMillis(), 0));
   }
 
-  public void registerEnd(final Stage stage) {
+  public synchronized void registerEnd(final Stage stage) {
     final long end = System.currentTimeMillis();
     this.timings.get(stage).setEnd(end);
   }
 
-  public void report(final PrintStream ps) {
+  /**
+   * Adds time spent in a stage that is entered many times
+   */
+  public synchronized void registerDuration(final Stage stage,
+      final long millis) {
+    final TimeSpan span = this.timings.get(stage);
+    if (span == null) {
+      this.timings.put(stage, new TimeSpan(0, millis));
+    } else {
+      span.setEnd(span.getEnd() + millis);
+    }
+  }
+
+  /**
+   * Records time saved by an optimisation, reported after the stages
+   */
+  public synchronized void registerSaving(final String description,
+      final long millis) {
+    this.savings.put(description, millis);
+  }
+
+  /**
+   * Milliseconds spent in each stage so far, including stages still in
+   * progress
+   */
+  public synchronized Map<Stage, Long> getDurations() {
+    final long now = System.currentTimeMillis();
+    final Map<Stage, Long> durations = new LinkedHashMap<>();
+    for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
+      final TimeSpan span = each.getValue();
+      final long end = span.getEnd() < span.getStart() ? now : span.getEnd();
+      durations.put(each.getKey(), end - span.getStart());
+    }
+    return durations;
+  }
+
+  public synchronized void report(final PrintStream ps) {
     long total = 0;
     for (final Entry<Stage, TimeSpan> each : this.timings.entrySet()) {
-      total = total + each.getValue().duration();
-      ps.println("> " + each.getKey() + " : " + each.getValue());
+      if (each.getKey().isNested()) {
+        ps.println(">   of which " + each.getKey() + " : " + each.getValue());
+      } else {
+        total = total + each.getValue().duration();
+        ps.println("> " + each.getKey() + " : " + each.getValue());
+      }
     }
     ps.println(StringUtil.separatorLine());
     ps.println("> Total " + " : " + new TimeSpan(0, total));
     ps.println(StringUtil.separatorLine());
+    if (!this.savings.isEmpty()) {
+      for (final Entry<String, Long> each : this.savings.entrySet()) {
+        ps.println("> saved by " + each.getKey() + " : " + each.getValue()
+            + " ms");
+      }
+      ps.println(StringUtil.separatorLine());
+    }
   }
 
 }
@@ -0,0 +1,12 @@
+package com.example.coverage.execute.samples.parallel;
+
+public class PooledTestee {
+
+  public int foo(final int i) {
+    if (i > 0) {
+      return i;
+    }
+    return -i;
+  }
+
+}
@@ -0,0 +1,17 @@
+package com.example.coverage.execute.samples.parallel;
+
+import static org.junit.Assert.assertEquals;
+
+import javax.annotation.concurrent.ThreadSafe;
+
+import org.junit.Test;
+
+@ThreadSafe
+public class SecondPooledTest {
+
+  @Test
+  public void testFoo() throws Exception {
+    assertEquals(1, SharedPool.foo(-1));
+  }
+
+}
@@ -0,0 +1,23 @@
+package com.example.coverage.execute.samples.parallel;
+
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Pool shared by tests, as the common fork join pool and parallel streams
+ * are, so its threads are not started by any one test
+ */
+public class SharedPool {
+
+  private static final ForkJoinPool POOL = new ForkJoinPool(2);
+
+  public static int foo(final int i) throws Exception {
+    return POOL.submit(new Callable<Integer>() {
+      @Override
+      public Integer call() {
+        return new PooledTestee().foo(i);
+      }
+    }).get();
+  }
+
+}
@@ -35,6 +35,15 @@ public class ClassInfoMother {
     return new ClassInfo(parent, new DefaultClassPointer(null), data);
   }
 
+  public static ClassInfo make(final ClassName name, final String fileName,
+      final ClassInfo parent) {
+    final ClassInfoBuilder data = new ClassInfoBuilder();
+    data.id = new ClassIdentifier(1, name);
+    data.sourceFile = fileName;
+    return new ClassInfo(new DefaultClassPointer(parent),
+        new DefaultClassPointer(null), data);
+  }
+
   public static ClassInfo make(final String name) {
     return make(new ClassIdentifier(1, ClassName.fromString(name)));
   }
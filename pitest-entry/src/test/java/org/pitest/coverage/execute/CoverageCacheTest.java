@@ -0,0 +1,122 @@
+package org.pitest.coverage.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.coverage.CoverageMother.aCoverageResult;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockLocation;
+import org.pitest.coverage.CoverageResult;
+import org.pitest.testapi.Description;
+
+public class CoverageCacheTest {
+
+  private final CoverageCache testee  = new CoverageCache();
+
+  private final ClassInfo     foo     = make("Foo", 1);
+  private final ClassInfo     bar     = make("Bar", 1);
+  private final ClassInfo     fooTest = make("FooTest", 1);
+  private final ClassInfo     barTest = make("BarTest", 1);
+
+  @Test
+  public void shouldRunAllTestsWhenNothingCached() {
+    assertThat(findTestsToRun(this.foo, this.bar)).containsOnly(this.fooTest,
+        this.barTest);
+  }
+
+  @Test
+  public void shouldRunNoTestsWhenNothingChanged() {
+    runTests(this.foo, this.bar);
+    assertThat(findTestsToRun(this.foo, this.bar)).isEmpty();
+    assertThat(cachedTests()).containsOnly("FooTest", "BarTest");
+  }
+
+  @Test
+  public void shouldRunTestsThatCoveredAChangedClass() {
+    runTests(this.foo, this.bar);
+    assertThat(findTestsToRun(make("Foo", 2), this.bar)).containsOnly(
+        this.fooTest);
+    assertThat(cachedTests()).containsOnly("BarTest");
+  }
+
+  @Test
+  public void shouldRunTestsThatChanged() {
+    runTests(this.foo, this.bar);
+    final ClassInfo changedTest = make("BarTest", 2);
+    assertThat(
+        this.testee.findTestsToRun(Arrays.asList(this.foo, this.bar),
+            Arrays.asList(this.fooTest, changedTest))).containsOnly(
+        changedTest);
+  }
+
+  @Test
+  public void shouldForgetTestsThatWereRemoved() {
+    runTests(this.foo, this.bar);
+    this.testee.findTestsToRun(Arrays.asList(this.foo, this.bar),
+        Collections.singletonList(this.fooTest));
+    assertThat(cachedTests()).containsOnly("FooTest");
+  }
+
+  @Test
+  public void shouldRunAllTestsWhenAResultCannotBeAttributedToATest() {
+    findTestsToRun(this.foo, this.bar);
+    this.testee.record(Arrays.asList(this.fooTest, this.barTest),
+        Collections.singletonList(coverageOf(make("SuiteTest", 1), this.foo)));
+    assertThat(findTestsToRun(this.foo, this.bar)).hasSize(2);
+  }
+
+  @Test
+  public void shouldTrackCodeAndTestClasses() {
+    findTestsToRun(this.foo, this.bar);
+    assertTrue(this.testee.isTracked(this.foo.getName()));
+    assertTrue(this.testee.isTracked(this.fooTest.getName()));
+    assertFalse(this.testee.isTracked(ClassName.fromString("Helper")));
+  }
+
+  private List<ClassInfo> findTestsToRun(final ClassInfo... code) {
+    return this.testee.findTestsToRun(Arrays.asList(code),
+        Arrays.asList(this.fooTest, this.barTest));
+  }
+
+  private List<String> cachedTests() {
+    final List<String> tests = new ArrayList<String>();
+    for (final CoverageResult each : this.testee.getCachedResults()) {
+      tests.add(each.getTestUnitDescription().getFirstTestClass());
+    }
+    return tests;
+  }
+
+  private void runTests(final ClassInfo fooCode, final ClassInfo barCode) {
+    final List<ClassInfo> ran = findTestsToRun(fooCode, barCode);
+    this.testee.record(ran, Arrays.asList(coverageOf(this.fooTest, fooCode),
+        coverageOf(this.barTest, barCode)));
+  }
+
+  private static CoverageResult coverageOf(final ClassInfo test,
+      final ClassInfo code) {
+    final BlockLocation block = aBlockLocation().withLocation(
+        aLocation().withClass(code.getName())).build();
+    return aCoverageResult()
+        .withTestUnitDescription(
+            new Description("test", test.getName().asJavaName()))
+        .withVisitedBlocks(Collections.singletonList(block)).build();
+  }
+
+  private static ClassInfo make(final String name, final int hash) {
+    return ClassInfoMother.make(new ClassIdentifier(hash, ClassName
+        .fromString(name)));
+  }
+
+}
@@ -11,6 +11,7 @@ import java.io.PrintWriter;
 import java.io.StringReader;
 import java.io.StringWriter;
 import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.ExecutionException;
 
@@ -44,6 +45,9 @@ import com.example.coverage.execute.samples.exceptions.TestsClassWithException;
 import com.example.coverage.execute.samples.exceptions.ThrowsExceptionFromLargeMethodTestee;
 import com.example.coverage.execute.samples.exceptions.ThrowsExceptionInFinallyBlockTestee;
 import com.example.coverage.execute.samples.exceptions.ThrowsExceptionTestee;
+import com.example.coverage.execute.samples.parallel.FirstPooledTest;
+import com.example.coverage.execute.samples.parallel.PooledTestee;
+import com.example.coverage.execute.samples.parallel.SecondPooledTest;
 import com.example.coverage.execute.samples.simple.Testee;
 import com.example.coverage.execute.samples.simple.Testee2;
 import com.example.coverage.execute.samples.simple.TesteeWithComplexConstructorsTest;
@@ -295,6 +299,18 @@ public class CoverageProcessSystemTest {
     assertFalse(coveredClasses.contains(failingTest()));
   }
 
+  @Test
+  public void shouldAttributeHitsFromSharedPoolsToThreadSafeTests()
+      throws Exception {
+    final FunctionalList<CoverageResult> coveredClasses = new MutableList<>();
+    runCoverageProcess(
+        Arrays.<Class<?>> asList(FirstPooledTest.class, SecondPooledTest.class),
+        4, coveredClasses);
+    assertEquals(2, coveredClasses.size());
+    assertEquals(2, coveredClasses.filter(coverageFor(PooledTestee.class))
+        .size());
+  }
+
   @Test
   public void shouldFailWithExitCode() throws Exception {
     final SideEffect1<CoverageResult> noOpHandler = new SideEffect1<CoverageResult>() {
@@ -353,6 +369,13 @@ public class CoverageProcessSystemTest {
   private void runCoverageProcess(final Class<?> test,
       final FunctionalList<CoverageResult> coveredClasses) throws IOException,
       InterruptedException {
+    runCoverageProcess(Collections.<Class<?>> singletonList(test), 1,
+        coveredClasses);
+  }
+
+  private void runCoverageProcess(final List<Class<?>> tests,
+      final int threads, final FunctionalList<CoverageResult> coveredClasses)
+      throws IOException, InterruptedException {
     final SideEffect1<CoverageResult> handler = new SideEffect1<CoverageResult>() {
 
       @Override
@@ -362,16 +385,17 @@ public class CoverageProcessSystemTest {
 
     };
 
-    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(), excludeTests(), TestPluginArguments.defaults(), true, -1);  
-    
+    final CoverageOptions sa = new CoverageOptions(coverOnlyTestees(),
+        excludeTests(), TestPluginArguments.defaults(), true, -1, null, threads);
+
     final JarCreatingJarFinder agent = new JarCreatingJarFinder();
     try {
       final LaunchOptions lo = new LaunchOptions(agent);
       final SocketFinder sf = new SocketFinder();
       final CoverageProcess process = new CoverageProcess(ProcessArgs
           .withClassPath(new ClassPath()).andLaunchOptions(lo), sa,
-          sf.getNextAvailableServerSocket(), Arrays.asList(test.getName()),
-          handler);
+          sf.getNextAvailableServerSocket(),
+          FCollection.map(tests, className()), handler);
       process.start();
 
       final ExitCode exitCode = process.waitToDie();
@@ -381,6 +405,15 @@ public class CoverageProcessSystemTest {
     }
   }
 
+  private static F<Class<?>, String> className() {
+    return new F<Class<?>, String>() {
+      @Override
+      public String apply(final Class<?> a) {
+        return a.getName();
+      }
+    };
+  }
+
   private F<CoverageResult, Boolean> coverageFor(final Class<?> class1) {
     return new F<CoverageResult, Boolean>() {
 
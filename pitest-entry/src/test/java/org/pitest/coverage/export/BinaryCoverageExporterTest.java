@@ -0,0 +1,143 @@
+package org.pitest.coverage.export;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assert.assertSame;
+import static org.pitest.coverage.CoverageMother.aBlockLocation;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.BlockCoverage;
+import org.pitest.coverage.CoverageMother.BlockLocationBuilder;
+import org.pitest.functional.SideEffect1;
+import org.pitest.mutationtest.LocationMother.LocationBuilder;
+import org.pitest.util.ResultOutputStrategy;
+
+public class BinaryCoverageExporterTest {
+
+  private BinaryCoverageExporter      testee;
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  @Before
+  public void setup() {
+    this.testee = new BinaryCoverageExporter(createOutputStrategy());
+  }
+
+  private ResultOutputStrategy createOutputStrategy() {
+    return new ResultOutputStrategy() {
+
+      @Override
+      public Writer createWriterForFile(final String sourceFile) {
+        throw new UnsupportedOperationException();
+      }
+
+      @Override
+      public OutputStream createOutputStreamForFile(final String sourceFile) {
+        return BinaryCoverageExporterTest.this.out;
+      }
+
+    };
+  }
+
+  @Test
+  public void shouldReadBackNoCoverage() throws IOException {
+    this.testee.recordCoverage(Collections.<BlockCoverage> emptyList());
+    assertThat(readBack()).isEmpty();
+  }
+
+  @Test
+  public void shouldReadBackSuppliedCoverage() throws IOException {
+    final LocationBuilder loc = aLocation().withMethod("method");
+    final BlockLocationBuilder block = aBlockLocation().withBlock(42);
+    final BlockCoverage foo = new BlockCoverage(block.withLocation(
+        loc.withClass(ClassName.fromString("Foo"))).build(), Arrays.asList(
+        "Test1", "Test2"));
+    final BlockCoverage bar = new BlockCoverage(block.withLocation(
+        loc.withClass(ClassName.fromString("Bar"))).build(), Arrays.asList(
+        "Test3", "Test4"));
+    this.testee.recordCoverage(Arrays.asList(foo, bar));
+
+    final List<BlockCoverage> actual = readBack();
+    assertThat(actual).hasSize(2);
+    assertSameCoverage(bar, actual.get(0));
+    assertSameCoverage(foo, actual.get(1));
+  }
+
+  @Test
+  public void shouldReadBackTestsCoveringMostOfABlock() throws IOException {
+    final List<String> tests = new ArrayList<>();
+    for (int i = 0; i != 300; i++) {
+      if ((i % 7) != 0) {
+        tests.add(String.format("Test%03d", i));
+      }
+    }
+    final BlockCoverage most = new BlockCoverage(aBlockLocation().withBlock(1)
+        .build(), tests);
+    final BlockCoverage one = new BlockCoverage(aBlockLocation().withBlock(2)
+        .build(), Arrays.asList("Test000"));
+    this.testee.recordCoverage(Arrays.asList(most, one));
+
+    final List<BlockCoverage> actual = readBack();
+    assertSameCoverage(most, actual.get(0));
+    assertSameCoverage(one, actual.get(1));
+  }
+
+  @Test
+  public void shouldShareTestNamesBetweenBlocks() throws IOException {
+    final BlockCoverage first = new BlockCoverage(aBlockLocation()
+        .withBlock(1).build(), Arrays.asList("Test1"));
+    final BlockCoverage second = new BlockCoverage(aBlockLocation()
+        .withBlock(2).build(), Arrays.asList("Test1"));
+    this.testee.recordCoverage(Arrays.asList(first, second));
+
+    final List<BlockCoverage> actual = readBack();
+    assertSame(actual.get(0).getTests().iterator().next(), actual.get(1)
+        .getTests().iterator().next());
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectDataThatIsNotABinaryCoverageExport()
+      throws IOException {
+    final GZIPOutputStream gzip = new GZIPOutputStream(this.out);
+    gzip.write("<coverage>".getBytes("UTF-8"));
+    gzip.close();
+    readBack();
+  }
+
+  private List<BlockCoverage> readBack() throws IOException {
+    final List<BlockCoverage> blocks = new ArrayList<>();
+    try (BinaryCoverageReader reader = new BinaryCoverageReader(
+        new ByteArrayInputStream(this.out.toByteArray()))) {
+      reader.read(new SideEffect1<BlockCoverage>() {
+        @Override
+        public void apply(final BlockCoverage a) {
+          blocks.add(a);
+        }
+      });
+    }
+    return blocks;
+  }
+
+  private static void assertSameCoverage(final BlockCoverage expected,
+      final BlockCoverage actual) {
+    assertThat(actual.getBlock()).isEqualTo(expected.getBlock());
+    final Collection<String> tests = expected.getTests();
+    assertThat(actual.getTests()).containsOnlyElementsOf(tests).hasSize(
+        tests.size());
+  }
+
+}
@@ -4,6 +4,8 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.pitest.coverage.CoverageMother.aBlockLocation;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
 import java.io.StringWriter;
 import java.io.Writer;
 import java.util.Arrays;
@@ -37,6 +39,11 @@ public class DefaultCoverageExporterTest {
         return DefaultCoverageExporterTest.this.out;
       }
 
+      @Override
+      public OutputStream createOutputStreamForFile(final String sourceFile) {
+        return new ByteArrayOutputStream();
+      }
+
     };
   }
 
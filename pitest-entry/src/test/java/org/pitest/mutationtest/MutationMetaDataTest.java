@@ -50,6 +50,25 @@ public class MutationMetaDataTest {
     assertThat(testee.toClassResults()).isEmpty();
   }
 
+  @Test
+  public void shouldReportDuplicateMutationsWithStatusOfTheirRepresentative() {
+    MutationDetails representative = aMutationDetail()
+        .withId(aMutationId().withIndex(1)).build();
+    MutationDetails duplicate = aMutationDetail()
+        .withId(aMutationId().withIndex(2)).build();
+    representative.addDuplicates(Collections.singletonList(duplicate));
+
+    MutationMetaData testee = new MutationMetaData(
+        Collections.singletonList(new MutationResult(representative,
+            new MutationStatusTestPair(3, DetectionStatus.KILLED, "aTest"))));
+
+    assertThat(testee.getMutations()).containsExactly(
+        new MutationResult(representative,
+            new MutationStatusTestPair(3, DetectionStatus.KILLED, "aTest")),
+        new MutationResult(duplicate,
+            new MutationStatusTestPair(0, DetectionStatus.KILLED, "aTest")));
+  }
+
   @Test
   public void shouldObeyHashcodeEqualsContract() {
     EqualsVerifier.forClass(MutationMetaData.class).verify();
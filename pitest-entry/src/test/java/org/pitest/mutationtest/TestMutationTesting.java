@@ -15,6 +15,7 @@
 package org.pitest.mutationtest;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
 import static org.pitest.mutationtest.DetectionStatus.KILLED;
 import static org.pitest.mutationtest.DetectionStatus.MEMORY_ERROR;
 import static org.pitest.mutationtest.DetectionStatus.NON_VIABLE;
@@ -22,6 +23,10 @@ import static org.pitest.mutationtest.DetectionStatus.NO_COVERAGE;
 import static org.pitest.mutationtest.DetectionStatus.SURVIVED;
 import static org.pitest.mutationtest.DetectionStatus.TIMED_OUT;
 
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.nio.file.Files;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
@@ -48,6 +53,7 @@ import org.pitest.coverage.execute.CoverageOptions;
 import org.pitest.coverage.execute.DefaultCoverageGenerator;
 import org.pitest.coverage.export.NullCoverageExporter;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.mutationtest.build.CompoundMutationInterceptor;
@@ -64,11 +70,16 @@ import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.execute.MinionMemory;
 import org.pitest.mutationtest.execute.MutationAnalysisExecutor;
+import org.pitest.mutationtest.metrics.RunMetrics;
 import org.pitest.mutationtest.tooling.JarCreatingJarFinder;
 import org.pitest.process.DefaultJavaExecutableLocator;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
+import org.pitest.process.MinionHosts;
+import org.pitest.process.SharedSecret;
+import org.pitest.process.WorkerAgent;
 import org.pitest.simpletest.SimpleTestPlugin;
 import org.pitest.simpletest.TestAnnotationForTesting;
 import org.pitest.util.IsolationUtils;
@@ -85,6 +96,8 @@ public class TestMutationTesting {
 
   private MetaDataExtractor        metaDataExtractor;
 
+  private final SharedSecret       agentSecret = SharedSecret.random();
+
   @Before
   public void setUp() {
     MockitoAnnotations.initMocks(this);
@@ -221,6 +234,14 @@ public class TestMutationTesting {
     verifyResults(KILLED, TIMED_OUT);
   }
 
+  @Test(timeout = 30000)
+  public void shouldTimeOutInfiniteLoopsWithinMinionWhenLoopBudgetSet() {
+    run(InfiniteLoop.class, InfiniteLoopTest.class, 100, "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+    // tests are only counted when the minion survives the timed out mutant
+    assertEquals(2, this.metaDataExtractor.getNumberOfTestsRun());
+  }
+
   public static class OneMutationFullTestWithSystemPropertyDependency {
     @TestAnnotationForTesting
     public void testReturnOne() {
@@ -289,6 +310,85 @@ public class TestMutationTesting {
     verifyResults(KILLED, MEMORY_ERROR);
   }
 
+  @Test
+  public void shouldDetectMixOfSurvivingAndKilledMutationsWhenMutantsIsolated() {
+    runIsolated(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        2, "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
+  @Test
+  public void shouldEscapeFromInfiniteLoopsWhenMutantsIsolated() {
+    runIsolated(InfiniteLoop.class, InfiniteLoopTest.class, 2, "INCREMENTS");
+    verifyResults(KILLED, TIMED_OUT);
+  }
+
+  @Test
+  public void shouldRunMinionsOnWorkerAgents() throws IOException {
+    final File firstCache = Files.createTempDirectory("pit-agent").toFile();
+    final File secondCache = Files.createTempDirectory("pit-agent").toFile();
+    final WorkerAgent first = startAgent(firstCache);
+    final WorkerAgent second = startAgent(secondCache);
+    try {
+      runOnAgents(ThreeMutations.class,
+          ThreeMutationsTwoMeaningfullTests.class,
+          Arrays.asList("localhost:" + first.getPort(), "localhost:"
+              + second.getPort()), "RETURN_VALS");
+      verifyResults(SURVIVED, KILLED, KILLED);
+      assertTrue((firstCache.list().length + secondCache.list().length) > 0);
+    } finally {
+      first.stop();
+      second.stop();
+    }
+  }
+
+  @Test
+  public void shouldIsolateMutantsOnWorkerAgents() throws IOException {
+    final File cache = Files.createTempDirectory("pit-agent").toFile();
+    final WorkerAgent agent = startAgent(cache, this.agentSecret);
+    try {
+      final ReportOptions data = new ReportOptions();
+      data.setWorkerAgents(Collections.singletonList("localhost:"
+          + agent.getPort()));
+      data.setIsolateMutants(true);
+      run(data, ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+          "RETURN_VALS");
+      verifyResults(SURVIVED, KILLED, KILLED);
+      assertTrue(cache.list().length > 0);
+    } finally {
+      agent.stop();
+    }
+  }
+
+  @Test
+  public void shouldNotLaunchMinionsForParentsWithoutTheAgentSecret()
+      throws IOException {
+    final File cache = Files.createTempDirectory("pit-agent").toFile();
+    final WorkerAgent agent = startAgent(cache, SharedSecret.random());
+    try {
+      runOnAgents(ThreeMutations.class,
+          ThreeMutationsTwoMeaningfullTests.class,
+          Collections.singletonList("localhost:" + agent.getPort()),
+          "RETURN_VALS");
+      verifyResults(SURVIVED, KILLED, KILLED);
+      assertEquals(0, cache.list().length);
+    } finally {
+      agent.stop();
+    }
+  }
+
+  @Test
+  public void shouldRunMinionsLocallyWhenWorkerAgentUnreachable()
+      throws IOException {
+    final int unused;
+    try (ServerSocket socket = new ServerSocket(0)) {
+      unused = socket.getLocalPort();
+    }
+    runOnAgents(ThreeMutations.class, ThreeMutationsTwoMeaningfullTests.class,
+        Collections.singletonList("localhost:" + unused), "RETURN_VALS");
+    verifyResults(SURVIVED, KILLED, KILLED);
+  }
+
   @Test
   public void shouldIsolateMutationsFromNestedClasses() {
     // see http://code.google.com/p/pitestrunner/issues/detail?id=17 for full
@@ -308,8 +408,47 @@ public class TestMutationTesting {
 
   private void run(final Class<?> clazz, final Class<?> test,
       final String ... mutators) {
+    run(clazz, test, 0, mutators);
+  }
 
+  private void run(final Class<?> clazz, final Class<?> test,
+      final long loopBudget, final String ... mutators) {
     final ReportOptions data = new ReportOptions();
+    data.setLoopBudget(loopBudget);
+    run(data, clazz, test, mutators);
+  }
+
+  private void runIsolated(final Class<?> clazz, final Class<?> test,
+      final int threads, final String ... mutators) {
+    final ReportOptions data = new ReportOptions();
+    data.setIsolateMutants(true);
+    data.setMutantThreads(threads);
+    run(data, clazz, test, mutators);
+  }
+
+  private void runOnAgents(final Class<?> clazz, final Class<?> test,
+      final List<String> agents, final String ... mutators) {
+    final ReportOptions data = new ReportOptions();
+    data.setWorkerAgents(agents);
+    run(data, clazz, test, mutators);
+  }
+
+  private WorkerAgent startAgent(final File cache) throws IOException {
+    return startAgent(cache, this.agentSecret);
+  }
+
+  private static WorkerAgent startAgent(final File cache,
+      final SharedSecret secret) throws IOException {
+    final WorkerAgent agent = new WorkerAgent(new ServerSocket(0), cache,
+        secret);
+    final Thread thread = new Thread(agent);
+    thread.setDaemon(true);
+    thread.start();
+    return agent;
+  }
+
+  private void run(final ReportOptions data, final Class<?> clazz,
+      final Class<?> test, final String ... mutators) {
 
     final Set<Predicate<String>> tests = Collections.singleton(Prelude
         .isEqualTo(test.getName()));
@@ -381,7 +520,9 @@ public class TestMutationTesting {
         coverageOptions.getPitConfig(), mutationConfig, arguments,
         new PercentAndConstantTimeoutStrategy(data.getTimeoutFactor(),
             data.getTimeoutConstant()), data.isVerbose(), data.getClassPath()
-            .getLocalClassPath());
+            .getLocalClassPath(), new RunMetrics(), MinionMemory.unmanaged(),
+        new MinionHosts(data.getWorkerAgents(), data.getWorkerAgents()
+            .isEmpty(), Option.some(this.agentSecret)), data.getMinionOptions());
     
     
     
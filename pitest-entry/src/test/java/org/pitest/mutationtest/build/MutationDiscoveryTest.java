@@ -188,6 +188,23 @@ public class MutationDiscoveryTest {
     assertThat(actual).isEmpty();
   }
   
+  @Test
+  public void filtersDuplicateMutantsWhenFeatureEnabled() {
+    data.setMutators(Collections.singletonList("CRCR"));
+    Collection<MutationDetails> actualWithoutFilter = findMutants(ReturnsOne.class);
+
+    data.setFeatures(Collections.singletonList("+FDUPLICATE"));
+    Collection<MutationDetails> actual = findMutants(ReturnsOne.class);
+
+    assertThat(actual.size()).isLessThan(actualWithoutFilter.size());
+  }
+
+  public static class ReturnsOne {
+    public int one() {
+      return 1;
+    }
+  }
+
   public static class AnnotatedToAvoidMethod {
     public int a() {
       return 1;
@@ -0,0 +1,109 @@
+package org.pitest.mutationtest.build;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class MutationSamplerTest {
+
+  @Test
+  public void shouldOrderMutationsTheSameWayForTheSameSeed() {
+    final List<MutationResult> mutations = mutations("foo", "mutator", 20);
+
+    assertThat(new MutationSampler(42, 0).order(mutations))
+        .containsExactlyElementsOf(new MutationSampler(42, 0).order(mutations));
+  }
+
+  @Test
+  public void shouldOrderMutationsDifferentlyForDifferentSeeds() {
+    final List<MutationResult> mutations = mutations("foo", "mutator", 20);
+
+    assertThat(new MutationSampler(1, 0).order(mutations)).isNotEqualTo(
+        new MutationSampler(2, 0).order(mutations));
+  }
+
+  @Test
+  public void shouldIncludeEveryMutationOnce() {
+    final List<MutationResult> mutations = mutations("foo", "mutator", 20);
+    mutations.addAll(mutations("bar", "mutator", 5));
+
+    assertThat(new MutationSampler(42, 0).order(mutations))
+        .containsOnlyElementsOf(mutations).hasSameSizeAs(mutations);
+  }
+
+  @Test
+  public void shouldSampleEachStratumInProportionToItsSize() {
+    final List<MutationResult> mutations = mutations("foo", "a", 40);
+    mutations.addAll(mutations("foo", "b", 10));
+    mutations.addAll(mutations("bar", "a", 50));
+
+    final List<MutationResult> firstTen = new MutationSampler(42, 0).order(
+        mutations).subList(0, 10);
+
+    assertThat(count(firstTen, "foo", "a")).isEqualTo(4);
+    assertThat(count(firstTen, "foo", "b")).isEqualTo(1);
+    assertThat(count(firstTen, "bar", "a")).isEqualTo(5);
+  }
+
+  @Test
+  public void shouldSplitSampleIntoBatchesOfRequestedSize() {
+    final List<List<MutationResult>> actual = new MutationSampler(42, 4)
+        .batches(mutations("foo", "mutator", 10));
+
+    assertThat(actual).hasSize(3);
+    assertThat(actual.get(0)).hasSize(4);
+    assertThat(actual.get(2)).hasSize(2);
+  }
+
+  @Test
+  public void shouldCountDuplicatesInPopulationOfTheirMutator() {
+    final List<MutationResult> mutations = mutations("foo", "a", 2);
+    mutations.get(0).getDetails().addDuplicates(Collections
+        .singletonList(details("foo", "b", 99)));
+
+    final MutationSampler testee = new MutationSampler(42, 0);
+    testee.batches(mutations);
+
+    assertThat(testee.getPopulation()).containsEntry("a", 2L).containsEntry(
+        "b", 1L);
+  }
+
+  private static int count(List<MutationResult> results, String clazz,
+      String mutator) {
+    int count = 0;
+    for (final MutationResult each : results) {
+      if (each.getDetails().getClassName().asJavaName().equals(clazz)
+          && each.getDetails().getMutator().equals(mutator)) {
+        count++;
+      }
+    }
+    return count;
+  }
+
+  private static List<MutationResult> mutations(String clazz, String mutator,
+      int number) {
+    final List<MutationResult> mutations = new ArrayList<>();
+    for (int i = 0; i != number; i++) {
+      mutations.add(new MutationResult(details(clazz, mutator, i),
+          new MutationStatusTestPair(0, DetectionStatus.NOT_STARTED)));
+    }
+    return mutations;
+  }
+
+  private static MutationDetails details(String clazz, String mutator,
+      int index) {
+    return new MutationDetails(aMutationId().withLocation(aLocation(clazz))
+        .withMutator(mutator).withIndex(index).build(), "", "desc", 42, 0);
+  }
+
+}
@@ -76,6 +76,27 @@ public class MutationSourceTest {
     assertEquals(expected, actual.getTestsInOrder());
   }
 
+  @Test
+  public void shouldAssignTestsForDuplicateMutantsToTheirRepresentative() {
+    final MutationDetails representative = makeMutation("foo");
+    final MutationDetails duplicate = makeMutation("bar");
+    representative.addDuplicates(Collections.singletonList(duplicate));
+    final TestInfo fooTest = new TestInfo("foo", "fooTest", 0,
+        Option.<ClassName> none(), 0);
+    final TestInfo barTest = new TestInfo("foo", "barTest", 0,
+        Option.<ClassName> none(), 0);
+
+    when(this.prioritiser.assignTests(representative)).thenReturn(
+        Arrays.asList(fooTest));
+    when(this.prioritiser.assignTests(duplicate)).thenReturn(
+        Arrays.asList(barTest, fooTest));
+    when(this.mutater.findMutations(any(ClassName.class)))
+    .thenReturn(Arrays.asList(representative));
+    final MutationDetails actual = this.testee.createMutations(this.foo)
+        .iterator().next();
+    assertEquals(Arrays.asList(fooTest, barTest), actual.getTestsInOrder());
+  }
+
   private List<TestInfo> makeTestInfos(final Integer... times) {
     return new ArrayList<>(FCollection.map(Arrays.asList(times),
         timeToTestInfo()));
@@ -7,6 +7,7 @@ import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
@@ -16,8 +17,10 @@ import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.NullAnalyser;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.PoisonStatus;
 
 public class MutationTestBuilderTest {
 
@@ -80,6 +83,59 @@ public class MutationTestBuilderTest {
     assertTrue(actual.get(0).priority() > actual.get(1).priority());
   }
 
+  @Test
+  public void shouldCreateOneUnitPerBatchInSampleOrderWhenSampling() {
+    this.testee = new MutationTestBuilder(this.wf, new NullAnalyser(),
+        this.source, new DefaultGrouper(0), Option.some(new MutationSampler(
+            42, 2)));
+    final ClassName foo = ClassName.fromString("foo");
+    final ClassName bar = ClassName.fromString("bar");
+    when(this.source.createMutations(foo)).thenReturn(
+        Arrays.asList(createDetails("foo")));
+    when(this.source.createMutations(bar)).thenReturn(
+        Arrays.asList(createDetails("bar"), createDetails("bar")));
+    final List<MutationAnalysisUnit> actual = this.testee
+        .createMutationTestUnits(Arrays.asList(foo, bar));
+    assertEquals(2, actual.size());
+    assertEquals(2, actual.get(0).priority());
+    assertEquals(1, actual.get(1).priority());
+  }
+
+  @Test
+  public void shouldCreateAUnitForEachMutationThatMayPoisonTheJVM() {
+    final List<MutationAnalysisUnit> actual = createUnitsForTwoPoisonedMutations();
+    assertEquals(Arrays.asList(2, 1, 1), priorities(actual));
+  }
+
+  @Test
+  public void shouldGroupMutationsThatMayPoisonTheJVMWhenMutantsAreIsolated() {
+    when(this.wf.isolatesMutants()).thenReturn(true);
+    final List<MutationAnalysisUnit> actual = createUnitsForTwoPoisonedMutations();
+    assertEquals(Arrays.asList(2, 2), priorities(actual));
+  }
+
+  private List<MutationAnalysisUnit> createUnitsForTwoPoisonedMutations() {
+    when(this.source.createMutations(any(ClassName.class))).thenReturn(
+        Arrays.asList(createDetails("foo"), createDetails("foo"),
+            poisoned("foo"), poisoned("foo")));
+    return this.testee.createMutationTestUnits(Arrays.asList(ClassName
+        .fromString("foo")));
+  }
+
+  private static List<Integer> priorities(
+      final List<MutationAnalysisUnit> units) {
+    final List<Integer> priorities = new ArrayList<>();
+    for (final MutationAnalysisUnit each : units) {
+      priorities.add(each.priority());
+    }
+    return priorities;
+  }
+
+  private static MutationDetails poisoned(final String clazz) {
+    return createDetails(clazz).withPoisonStatus(
+        PoisonStatus.IS_STATIC_INITIALIZER_CODE);
+  }
+
   private void assertCreatesOneTestUnitForTwoMutations() {
     final MutationDetails mutation1 = createDetails("foo");
     final MutationDetails mutation2 = createDetails("foo");
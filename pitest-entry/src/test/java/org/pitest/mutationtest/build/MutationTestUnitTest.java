@@ -1,31 +1,48 @@
 package org.pitest.mutationtest.build;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.anyCollectionOf;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aMutationId;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.mockito.invocation.InvocationOnMock;
+import org.mockito.stubbing.Answer;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.MutationConfig;
 import org.pitest.mutationtest.MutationMetaData;
 import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusMap;
 import org.pitest.mutationtest.MutationStatusTestPair;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.mutationtest.config.TestPluginArguments;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationDetailsMother;
 import org.pitest.mutationtest.engine.MutationEngine;
+import org.pitest.mutationtest.execute.MutationTestProcess;
 import org.pitest.process.JavaAgent;
 import org.pitest.process.LaunchOptions;
 import org.pitest.testapi.Configuration;
+import org.pitest.util.ExitCode;
 
 public class MutationTestUnitTest {
 
@@ -78,6 +95,198 @@ public class MutationTestUnitTest {
     assertThat(this.testee.priority()).isEqualTo(42);
   }
 
+  @Test
+  public void shouldRunSubsumedMutationsInTheSameMinionAsThoseSubsumingThem()
+      throws Exception {
+    final MutationDetails subsuming = coveredMutation(1);
+    final MutationDetails subsumed = coveredMutation(2);
+    subsumed.addSubsumingMutations(Collections.singletonList(subsuming.getId()));
+    final WorkerFactory factory = workerReporting(subsuming,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "aTest"));
+
+    this.testee = new MutationTestUnit(Arrays.asList(subsumed, subsuming),
+        this.tests, factory);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(factory).createWorker(anyCollectionOf(MutationDetails.class),
+        eq(this.tests));
+    verifyNoMoreInteractions(factory);
+    assertThat(actual.getMutations()).hasSize(2);
+  }
+
+  @Test
+  public void shouldInferKillsMadeByAnEarlierMinion() throws Exception {
+    final MutationDetails subsuming = coveredMutation(1);
+    final MutationDetails subsumed = coveredMutation(2);
+    subsumed.addSubsumingMutations(Collections.singletonList(subsuming.getId()));
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    final MutationTestProcess outOfMemory = mock(MutationTestProcess.class);
+    when(outOfMemory.waitToDie()).thenReturn(ExitCode.OUT_OF_MEMORY);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ((MutationStatusMap) invocation.getArguments()[0]).setStatusForMutation(
+            subsuming, new MutationStatusTestPair(1, DetectionStatus.KILLED,
+                "aTest"));
+        return null;
+      }
+    }).when(outOfMemory).results(any(MutationStatusMap.class));
+    when(factory.createWorker(anyCollectionOf(MutationDetails.class),
+        eq(this.tests))).thenReturn(outOfMemory);
+    when(factory.largerHeap(outOfMemory)).thenReturn(Option.some(1024L));
+
+    this.testee = new MutationTestUnit(Arrays.asList(subsumed, subsuming),
+        this.tests, factory);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(factory).createWorker(anyCollectionOf(MutationDetails.class),
+        eq(this.tests));
+    verify(factory).largerHeap(outOfMemory);
+    verifyNoMoreInteractions(factory);
+    assertThat(actual.getMutations()).contains(new MutationResult(subsumed,
+        new MutationStatusTestPair(0, DetectionStatus.INFERRED_KILLED,
+            "aTest")));
+  }
+
+  @Test
+  public void shouldRunMutationsThatSubsumeEachOtherTogether()
+      throws Exception {
+    final MutationDetails first = coveredMutation(1);
+    final MutationDetails second = coveredMutation(2);
+    first.addSubsumingMutations(Collections.singletonList(second.getId()));
+    second.addSubsumingMutations(Collections.singletonList(first.getId()));
+    final WorkerFactory factory = workerReporting(first,
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+
+    this.testee = new MutationTestUnit(Arrays.asList(first, second),
+        this.tests, factory);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(factory).createWorker(anyCollectionOf(MutationDetails.class),
+        eq(this.tests));
+    assertThat(actual.getMutations()).hasSize(2);
+  }
+
+  @Test
+  public void shouldRetryMinionThatRanOutOfMemoryWithLargerHeap()
+      throws Exception {
+    final MutationDetails mutation = coveredMutation(1);
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    final MutationTestProcess outOfMemory = mock(MutationTestProcess.class);
+    when(outOfMemory.waitToDie()).thenReturn(ExitCode.OUT_OF_MEMORY);
+    final MutationTestProcess retry = mock(MutationTestProcess.class);
+    when(retry.waitToDie()).thenReturn(ExitCode.OK);
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        ((MutationStatusMap) invocation.getArguments()[0]).setStatusForMutation(
+            mutation, new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+        return null;
+      }
+    }).when(retry).results(any(MutationStatusMap.class));
+    when(factory.createWorker(Collections.singletonList(mutation), this.tests))
+        .thenReturn(outOfMemory);
+    when(factory.largerHeap(outOfMemory)).thenReturn(Option.some(1024L));
+    when(factory.createWorker(Collections.singletonList(mutation), this.tests,
+        1024L)).thenReturn(retry);
+
+    this.testee = new MutationTestUnit(Collections.singletonList(mutation),
+        this.tests, factory);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(factory).createWorker(Collections.singletonList(mutation),
+        this.tests, 1024L);
+    assertThat(actual.getMutations()).contains(new MutationResult(mutation,
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED)));
+  }
+
+  @Test
+  public void shouldReportMemoryErrorWhenNoLargerHeapAllowed()
+      throws Exception {
+    final MutationDetails mutation = coveredMutation(1);
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    final MutationTestProcess outOfMemory = mock(MutationTestProcess.class);
+    when(outOfMemory.waitToDie()).thenReturn(ExitCode.OUT_OF_MEMORY);
+    when(factory.createWorker(Collections.singletonList(mutation), this.tests))
+        .thenReturn(outOfMemory);
+    when(factory.largerHeap(outOfMemory)).thenReturn(Option.<Long> none());
+
+    this.testee = new MutationTestUnit(Collections.singletonList(mutation),
+        this.tests, factory);
+    final MutationMetaData actual = this.testee.call();
+
+    assertThat(actual.getMutations()).contains(new MutationResult(mutation,
+        new MutationStatusTestPair(0, DetectionStatus.MEMORY_ERROR)));
+  }
+
+  @Test
+  public void shouldRetryMutantsOneAtATimeWhenGroupedMinionDies()
+      throws Exception {
+    final MutationDetails mutation = coveredMutation(1);
+    final WorkerFactory grouping = mock(WorkerFactory.class);
+    final MutationTestProcess timedOut = mock(MutationTestProcess.class);
+    when(timedOut.waitToDie()).thenReturn(ExitCode.TIMEOUT);
+    when(grouping.createWorker(Collections.singletonList(mutation),
+        this.tests)).thenReturn(timedOut);
+    when(grouping.largerHeap(timedOut)).thenReturn(Option.<Long> none());
+    when(grouping.runsMutantsTogether()).thenReturn(true);
+    final WorkerFactory ungrouped = workerReporting(mutation,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "aTest"));
+    when(grouping.runningMutantsSeparately()).thenReturn(ungrouped);
+
+    this.testee = new MutationTestUnit(Collections.singletonList(mutation),
+        this.tests, grouping);
+    final MutationMetaData actual = this.testee.call();
+
+    verify(ungrouped).createWorker(Collections.singletonList(mutation),
+        this.tests);
+    assertThat(actual.getMutations()).contains(new MutationResult(mutation,
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "aTest")));
+  }
+
+  private MutationDetails coveredMutation(int index) {
+    return MutationDetailsMother.aMutationDetail()
+        .withId(aMutationId().withIndex(index))
+        .withTestsInOrder(Collections.singletonList(new TestInfo("foo",
+            "aTest", 0, Option.<ClassName> none(), 0)))
+        .build();
+  }
+
+  // minions report the given status for the given mutation and survival for
+  // any others they are asked to run
+  private WorkerFactory workerReporting(final MutationDetails mutation,
+      final MutationStatusTestPair status) throws Exception {
+    final WorkerFactory factory = mock(WorkerFactory.class);
+    final List<MutationDetails> running = new ArrayList<>();
+    final MutationTestProcess process = mock(MutationTestProcess.class);
+    when(process.waitToDie()).thenReturn(ExitCode.OK);
+    when(factory.createWorker(anyCollectionOf(MutationDetails.class),
+        anyCollectionOf(ClassName.class))).thenAnswer(
+        new Answer<MutationTestProcess>() {
+          @SuppressWarnings("unchecked")
+          @Override
+          public MutationTestProcess answer(InvocationOnMock invocation) {
+            running.clear();
+            running.addAll((Collection<MutationDetails>) invocation
+                .getArguments()[0]);
+            return process;
+          }
+        });
+    doAnswer(new Answer<Void>() {
+      @Override
+      public Void answer(InvocationOnMock invocation) {
+        final MutationStatusMap map = (MutationStatusMap) invocation
+            .getArguments()[0];
+        for (final MutationDetails each : running) {
+          map.setStatusForMutation(each, each.equals(mutation) ? status
+              : new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+        }
+        return null;
+      }
+    }).when(process).results(any(MutationStatusMap.class));
+    return factory;
+  }
+
   private void addMutation() {
     this.mutations.add(new MutationDetails(aMutationId().build(), "file", "desc",
         0, 0));
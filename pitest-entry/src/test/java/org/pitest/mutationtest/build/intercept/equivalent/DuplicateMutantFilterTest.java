@@ -0,0 +1,134 @@
+package org.pitest.mutationtest.build.intercept.equivalent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+
+public class DuplicateMutantFilterTest {
+
+  ClassByteArraySource  source = ClassloaderByteArraySource.fromContext();
+  DuplicateMutantFilter testee = new DuplicateMutantFilter();
+
+  @Test
+  public void shouldDeclareTypeAsFilter() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.FILTER);
+  }
+
+  @Test
+  public void shouldFilterMutantsThatFoldToTheSameConstant() {
+    // replacing 1 with 0 and subtracting 1 from 1 give the same method
+    final GregorMutater mutator = createMutator("CRCR_REPLACE_ZERO",
+        "CRCR_SUB_ONE");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(ReturnsOne.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = intercept(mutations, mutator,
+        ReturnsOne.class);
+
+    assertThat(actual).hasSize(1);
+    final MutationDetails representative = actual.iterator().next();
+    assertThat(representative).isEqualTo(mutations.get(0));
+    assertThat(representative.getDuplicates()).containsExactly(mutations.get(1));
+  }
+
+  @Test
+  public void shouldNotFilterMutantsThatProduceDifferentMethods() {
+    final GregorMutater mutator = createMutator("CRCR_ADD_ONE",
+        "CRCR_SUB_ONE");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(ReturnsOne.class));
+
+    final Collection<MutationDetails> actual = intercept(mutations, mutator,
+        ReturnsOne.class);
+
+    assertThat(actual).containsExactlyElementsOf(mutations);
+  }
+
+  @Test
+  public void shouldNotFilterIdenticalMutantsInDifferentMethods() {
+    final GregorMutater mutator = createMutator("CRCR_REPLACE_ZERO");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(TwoMethodsReturningOne.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = intercept(mutations, mutator,
+        TwoMethodsReturningOne.class);
+
+    assertThat(actual).hasSize(2);
+  }
+
+  @Test
+  public void shouldFilterMutantsThatDifferOnlyInDeadCode() {
+    // whichever way the conditional is forced the other branch is dead
+    final GregorMutater mutator = createMutator("REMOVE_CONDITIONALS_EQ_IF",
+        "REMOVE_CONDITIONALS_EQ_ELSE");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(BranchesReturnSameValue.class));
+    assertThat(mutations).hasSize(2);
+
+    final Collection<MutationDetails> actual = intercept(mutations, mutator,
+        BranchesReturnSameValue.class);
+
+    assertThat(actual).hasSize(1);
+  }
+
+  private Collection<MutationDetails> intercept(
+      List<MutationDetails> mutations, GregorMutater mutator, Class<?> clazz) {
+    this.testee.begin(forClass(clazz));
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations,
+        mutator);
+    this.testee.end();
+    return actual;
+  }
+
+  GregorMutater createMutator(String... mutators) {
+    return new GregorMutater(this.source, True.<MethodInfo> all(),
+        Mutator.fromStrings(Arrays.asList(mutators)));
+  }
+
+  ClassTree forClass(Class<?> clazz) {
+    final byte[] bs = this.source.getBytes(clazz.getName()).value();
+    return ClassTree.fromBytes(bs);
+  }
+
+  static class ReturnsOne {
+    int one() {
+      return 1;
+    }
+  }
+
+  static class TwoMethodsReturningOne {
+    int a() {
+      return 1;
+    }
+
+    int b() {
+      return 1;
+    }
+  }
+
+  static class BranchesReturnSameValue {
+    int branch(int i) {
+      if (i == 0) {
+        return 1;
+      }
+      return 1;
+    }
+  }
+
+}
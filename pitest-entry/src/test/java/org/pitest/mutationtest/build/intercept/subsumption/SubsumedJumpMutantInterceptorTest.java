@@ -0,0 +1,154 @@
+package org.pitest.mutationtest.build.intercept.subsumption;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.bytecode.analysis.ClassTree;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.build.InterceptorType;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+import org.pitest.mutationtest.engine.gregor.GregorMutater;
+import org.pitest.mutationtest.engine.gregor.MethodInfo;
+import org.pitest.mutationtest.engine.gregor.config.Mutator;
+import org.pitest.mutationtest.engine.gregor.mutators.RelationalOperatorReplacementMutator;
+
+public class SubsumedJumpMutantInterceptorTest {
+
+  private static final String ROR = RelationalOperatorReplacementMutator.class
+      .getName() + "-";
+
+  ClassByteArraySource          source = ClassloaderByteArraySource
+      .fromContext();
+  SubsumedJumpMutantInterceptor testee = new SubsumedJumpMutantInterceptor();
+
+  @Test
+  public void shouldDeclareTypeAsModify() {
+    assertThat(this.testee.type()).isEqualTo(InterceptorType.MODIFY);
+  }
+
+  @Test
+  public void shouldNotRemoveAnyMutants() {
+    final GregorMutater mutator = createMutator("ROR");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(LessThan.class));
+
+    assertThat(intercept(mutations, mutator, LessThan.class))
+        .containsExactlyElementsOf(mutations);
+  }
+
+  @Test
+  public void shouldRecordRelationalMutantsSubsumedByOthersAtTheSameJump() {
+    // a < b jumps when a >= b. Replacing with == or > changes only one
+    // outcome, every other replacement changes a superset of these
+    final GregorMutater mutator = createMutator("ROR");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(LessThan.class));
+    intercept(mutations, mutator, LessThan.class);
+
+    final MutationDetails eq = find(mutations, ROR + "EQ");
+    final MutationDetails gt = find(mutations, ROR + "GT");
+
+    assertThat(eq.getSubsumingMutations()).isEmpty();
+    assertThat(gt.getSubsumingMutations()).isEmpty();
+    assertThat(find(mutations, ROR + "NE").getSubsumingMutations())
+        .containsExactly(gt.getId());
+    assertThat(find(mutations, ROR + "LE").getSubsumingMutations())
+        .containsExactly(eq.getId());
+    assertThat(find(mutations, ROR + "LT").getSubsumingMutations())
+        .containsOnly(eq.getId(), gt.getId());
+  }
+
+  @Test
+  public void shouldTreatRemovedConditionalsAsConstantJumps() {
+    // never jumping changes only the a >= b outcomes, so subsumes always
+    // jumping the other way
+    final GregorMutater mutator = createMutator("REMOVE_CONDITIONALS_ORD_IF",
+        "RELATION_REPLACE_LT");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(LessThan.class));
+    intercept(mutations, mutator, LessThan.class);
+
+    final MutationDetails removed = find(mutations, "_ORDER_IF");
+    assertThat(find(mutations, ROR + "LT").getSubsumingMutations())
+        .containsExactly(removed.getId());
+  }
+
+  @Test
+  public void shouldNotRecordSubsumptionBetweenDifferentJumps() {
+    final GregorMutater mutator = createMutator("RELATION_REPLACE_EQ",
+        "RELATION_REPLACE_LT");
+    final List<MutationDetails> mutations = mutator
+        .findMutations(ClassName.fromClass(TwoComparisons.class));
+    intercept(mutations, mutator, TwoComparisons.class);
+
+    // only the < replacement of a < b is subsumed
+    int subsumed = 0;
+    for (final MutationDetails each : mutations) {
+      for (final MutationIdentifier subsuming : each.getSubsumingMutations()) {
+        assertThat(subsuming.getFirstIndex())
+            .isEqualTo(each.getFirstIndex());
+        subsumed++;
+      }
+    }
+    assertThat(subsumed).isEqualTo(1);
+  }
+
+  private MutationDetails find(List<MutationDetails> mutations,
+      String mutatorSuffix) {
+    for (final MutationDetails each : mutations) {
+      if (each.getMutator().endsWith(mutatorSuffix)) {
+        return each;
+      }
+    }
+    throw new AssertionError("No mutant for " + mutatorSuffix);
+  }
+
+  private Collection<MutationDetails> intercept(
+      List<MutationDetails> mutations, GregorMutater mutator, Class<?> clazz) {
+    this.testee.begin(forClass(clazz));
+    final Collection<MutationDetails> actual = this.testee.intercept(mutations,
+        mutator);
+    this.testee.end();
+    return actual;
+  }
+
+  GregorMutater createMutator(String... mutators) {
+    return new GregorMutater(this.source, True.<MethodInfo> all(),
+        Mutator.fromStrings(Arrays.asList(mutators)));
+  }
+
+  ClassTree forClass(Class<?> clazz) {
+    final byte[] bs = this.source.getBytes(clazz.getName()).value();
+    return ClassTree.fromBytes(bs);
+  }
+
+  static class LessThan {
+    boolean lessThan(int a, int b) {
+      if (a < b) {
+        return true;
+      }
+      return false;
+    }
+  }
+
+  static class TwoComparisons {
+    int compare(int a, int b) {
+      if (a < b) {
+        return 1;
+      }
+      if (a > b) {
+        return 2;
+      }
+      return 0;
+    }
+  }
+
+}
@@ -7,6 +7,7 @@ import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
 import org.pitest.mutationtest.filter.LimitNumberOfMutationsPerClassFilterFactory;
+import org.pitest.mutationtest.report.columnar.ColumnarReportFactory;
 import org.pitest.mutationtest.report.csv.CSVReportFactory;
 
 public class PluginServicesTest {
@@ -25,6 +26,12 @@ public class PluginServicesTest {
         theClass(CSVReportFactory.class)));
   }
 
+  @Test
+  public void shouldListColumnarReportAsToolClasspathPlugin() {
+    assertTrue(FCollection.contains(this.testee.findToolClasspathPlugins(),
+        theClass(ColumnarReportFactory.class)));
+  }
+
   @Test
   public void shouldListDefaultMutationFilterAsToolClasspathPlugin() {
     assertTrue(FCollection.contains(this.testee.findToolClasspathPlugins(),
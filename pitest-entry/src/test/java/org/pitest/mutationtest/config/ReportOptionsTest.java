@@ -14,10 +14,17 @@
  */
 package org.pitest.mutationtest.config;
 
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import java.util.Arrays;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.mutationtest.execute.MinionOptions;
+import org.pitest.util.Glob;
 
 public class ReportOptionsTest {
   private ReportOptions testee;
@@ -32,4 +39,44 @@ public class ReportOptionsTest {
     assertFalse(this.testee.shouldExportLineCoverage());
   }
 
+  @Test
+  public void shouldKeepRunningUnchangedTestsWhenOnlyProductionClassChanged() {
+    this.testee.setTargetClasses(Collections.singletonList("com.example.*"));
+    this.testee.restrictTargetClasses(Collections
+        .singletonList("com.example.Foo"));
+    assertTrue(this.testee.getTargetTestsFilter().apply(
+        "com.example.FooTest"));
+    assertTrue(this.testee.getTargetClassesFilter().apply("com.example.Foo"));
+    assertFalse(this.testee.getTargetClassesFilter()
+        .apply("com.example.Bar"));
+  }
+
+  @Test
+  public void shouldKeepGivenTargetTestsWhenRestrictingTargetClasses() {
+    this.testee.setTargetClasses(Collections.singletonList("com.example.*"));
+    this.testee.setTargetTests(Glob.toGlobPredicates(Arrays
+        .asList("com.example.FooTest")));
+    this.testee.restrictTargetClasses(Collections
+        .singletonList("com.example.Foo"));
+    assertTrue(this.testee.getTargetTestsFilter().apply(
+        "com.example.FooTest"));
+    assertFalse(this.testee.getTargetTestsFilter().apply(
+        "com.example.BarTest"));
+  }
+
+  @Test
+  public void shouldPassMinionSettingsToMinionOptions() {
+    this.testee.setLoopBudget(42);
+    this.testee.setIsolateMutants(true);
+    this.testee.setMutantThreads(3);
+    this.testee.setGroupMutants(true);
+    this.testee.setInfectionPrefilter(true);
+    final MinionOptions actual = this.testee.getMinionOptions();
+    assertEquals(42, actual.getLoopBudget());
+    assertTrue(actual.isolatesMutants());
+    assertEquals(3, actual.getMutantThreads());
+    assertTrue(actual.groupsMutants());
+    assertTrue(actual.prefiltersInfection());
+  }
+
 }
@@ -8,22 +8,33 @@ import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 import java.io.File;
+import java.io.Reader;
 import java.util.Arrays;
 import java.util.Collections;
 
 import org.junit.Before;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.mockito.Mockito;
 import org.pitest.coverage.execute.CoverageOptions;
+import org.pitest.coverage.export.BinaryCoverageExporter;
+import org.pitest.coverage.export.DefaultCoverageExporter;
 import org.pitest.coverage.export.NullCoverageExporter;
+import org.pitest.functional.Option;
 import org.pitest.functional.SideEffect1;
 import org.pitest.mutationtest.engine.gregor.config.GregorEngineFactory;
+import org.pitest.mutationtest.incremental.NullWriterFactory;
+import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
 import org.pitest.plugin.Feature;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.util.PitError;
 
 public class SettingsFactoryTest {
 
+  @Rule
+  public TemporaryFolder       folder  = new TemporaryFolder();
+
   private final ReportOptions  options = new ReportOptions();
 
   private final PluginServices plugins = PluginServices.makeForContextLoader();
@@ -42,6 +53,38 @@ public class SettingsFactoryTest {
     assertTrue(this.testee.createCoverageExporter() instanceof NullCoverageExporter);
   }
 
+  @Test
+  public void shouldReturnAnXMLCoverageExporterByDefault() {
+    exportLineCoverageTo(this.folder.getRoot());
+    assertTrue(this.testee.createCoverageExporter() instanceof DefaultCoverageExporter);
+  }
+
+  @Test
+  public void shouldReturnABinaryCoverageExporterWhenRequested() {
+    exportLineCoverageTo(this.folder.getRoot());
+    this.options.setLineCoverageFormat("binary");
+    assertTrue(this.testee.createCoverageExporter() instanceof BinaryCoverageExporter);
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldThrowErrorWhenRequestedLineCoverageFormatUnknown() {
+    this.options.setExportLineCoverage(true);
+    this.options.setLineCoverageFormat("csv");
+    this.testee.createCoverageExporter();
+  }
+
+  @Test
+  public void shouldStoreHistoryInASingleStreamByDefault() {
+    assertTrue(this.testee.createHistoryStore(new NullWriterFactory(),
+        Option.<Reader> none()) instanceof ObjectOutputStreamHistoryStore);
+  }
+
+  private void exportLineCoverageTo(final File dir) {
+    this.options.setExportLineCoverage(true);
+    this.options.setReportDir(dir.getAbsolutePath());
+    this.options.setShouldCreateTimestampedReports(false);
+  }
+
   @Test
   public void shouldReturnEngineWhenRequestedEngineIsKnown() {
     assertTrue(this.testee.createEngine() instanceof GregorEngineFactory);
@@ -0,0 +1,161 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.execute.MinionMemory.HostMemory;
+import org.pitest.mutationtest.execute.MinionMemory.Reservation;
+
+public class MinionMemoryTest {
+
+  private static final long MB     = 1024 * 1024;
+
+  @Rule
+  public TemporaryFolder    folder = new TemporaryFolder();
+
+  private long              free;
+
+  private final HostMemory  host = new HostMemory() {
+                                   @Override
+                                   public long free() {
+                                     return MinionMemoryTest.this.free;
+                                   }
+                                 };
+
+  @Test
+  public void shouldAlwaysAllowOneMinionToRun() throws Exception {
+    this.free = 0;
+    final MinionMemory testee = new MinionMemory(1024 * MB, this.host);
+    testee.reserve(512 * MB);
+    assertThat(testee.running()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldStartMinionsThatFitInFreeMemory() throws Exception {
+    this.free = 2048 * MB;
+    final MinionMemory testee = new MinionMemory(1024 * MB, this.host);
+    testee.reserve(512 * MB);
+    testee.reserve(512 * MB);
+    assertThat(testee.running()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldNotLimitMinionsWhenUnmanaged() throws Exception {
+    this.free = 0;
+    final MinionMemory testee = new MinionMemory(0, this.host);
+    testee.reserve(512 * MB);
+    testee.reserve(512 * MB);
+    assertThat(testee.running()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldWaitForRunningMinionToBeReleasedWhenMemoryShort()
+      throws Exception {
+    this.free = 600 * MB;
+    final MinionMemory testee = new MinionMemory(1024 * MB, this.host);
+    final Reservation first = testee.reserve(512 * MB);
+
+    final CountDownLatch started = new CountDownLatch(1);
+    final Thread second = new Thread() {
+      @Override
+      public void run() {
+        try {
+          testee.reserve(512 * MB);
+          started.countDown();
+        } catch (final InterruptedException e) {
+          // test will fail
+        }
+      }
+    };
+    second.start();
+
+    assertThat(started.await(100, TimeUnit.MILLISECONDS)).isFalse();
+    first.release();
+    assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+  }
+
+  @Test
+  public void shouldCountHeapAlreadyUsedByRunningMinionsAsAvailable()
+      throws Exception {
+    this.free = 600 * MB;
+    final MinionMemory testee = new MinionMemory(1024 * MB, this.host);
+    final Reservation first = testee.reserve(512 * MB);
+    first.apply(512 * MB);
+    testee.reserve(512 * MB);
+    assertThat(testee.running()).isEqualTo(2);
+  }
+
+  @Test
+  public void shouldDoubleHeapOfMinionThatRanOutOfMemory() throws Exception {
+    final MinionMemory testee = new MinionMemory(2048 * MB, this.host);
+    final Reservation failed = testee.reserve(512 * MB);
+    assertThat(testee.largerHeap(failed)).isEqualTo(Option.some(1024 * MB));
+  }
+
+  @Test
+  public void shouldNotRetryWithMoreThanMaximumHeap() throws Exception {
+    final MinionMemory testee = new MinionMemory(768 * MB, this.host);
+    final Reservation first = testee.reserve(512 * MB);
+    assertThat(testee.largerHeap(first)).isEqualTo(Option.some(768 * MB));
+    first.release();
+    assertThat(testee.largerHeap(testee.reserve(768 * MB))).isEqualTo(
+        Option.<Long> none());
+  }
+
+  @Test
+  public void shouldNotRetryWhenUnmanaged() throws Exception {
+    final MinionMemory testee = new MinionMemory(0, this.host);
+    assertThat(testee.largerHeap(testee.reserve(512 * MB))).isEqualTo(
+        Option.<Long> none());
+  }
+
+  @Test
+  public void shouldReadAvailableRatherThanFreeMemoryFromMeminfo()
+      throws Exception {
+    final File meminfo = meminfo("MemTotal:       16314460 kB",
+        "MemFree:          262144 kB", "MemAvailable:    4194304 kB",
+        "Buffers:          524288 kB");
+    this.free = 1;
+    assertThat(new MinionMemory.ProcMeminfo(meminfo, this.host).free())
+        .isEqualTo(4096 * MB);
+  }
+
+  @Test
+  public void shouldFallBackWhenMeminfoHasNoAvailableMemory()
+      throws Exception {
+    final File meminfo = meminfo("MemTotal:       16314460 kB",
+        "MemFree:          262144 kB");
+    this.free = 42;
+    assertThat(new MinionMemory.ProcMeminfo(meminfo, this.host).free())
+        .isEqualTo(42);
+  }
+
+  @Test
+  public void shouldFallBackWhenThereIsNoMeminfo() {
+    this.free = 42;
+    assertThat(
+        new MinionMemory.ProcMeminfo(new File(this.folder.getRoot(),
+            "missing"), this.host).free()).isEqualTo(42);
+  }
+
+  private File meminfo(final String... lines) throws IOException {
+    final File meminfo = this.folder.newFile("meminfo");
+    try (Writer writer = new FileWriter(meminfo)) {
+      for (final String each : lines) {
+        writer.write(each + "\n");
+      }
+    }
+    return meminfo;
+  }
+
+}
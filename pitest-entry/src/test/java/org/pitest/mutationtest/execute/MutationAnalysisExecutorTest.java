@@ -0,0 +1,131 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.Test;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationMetaData;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.build.KnownStatusMutationTestUnit;
+import org.pitest.mutationtest.build.MutationAnalysisUnit;
+import org.pitest.mutationtest.metrics.MetricsListener;
+import org.pitest.mutationtest.metrics.RunMetrics;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class MutationAnalysisExecutorTest {
+
+  private final RecordingListener listener = new RecordingListener();
+
+  @Test
+  public void shouldReportResultsOfAllUnits() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> singletonList(this.listener));
+    testee.run(units(3));
+    assertThat(this.listener.results).hasSize(3);
+    assertThat(this.listener.ended).isTrue();
+  }
+
+  @Test
+  public void shouldStopReportingResultsWhenStoppingConditionMet() {
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> singletonList(this.listener),
+        new StoppingCondition() {
+          @Override
+          public boolean shouldStop() {
+            return MutationAnalysisExecutorTest.this.listener.results.size() == 2;
+          }
+        });
+    testee.run(units(5));
+    assertThat(this.listener.results).hasSize(2);
+    assertThat(this.listener.ended).isTrue();
+  }
+
+  @Test
+  public void shouldRecordUnitsAndMutantsInMetrics() {
+    final RunMetrics metrics = new RunMetrics();
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(2,
+        Collections.<MutationResultListener> singletonList(
+            new MetricsListener(metrics)), StoppingCondition.NEVER, metrics);
+    testee.run(units(4));
+    assertThat(metrics.getMutantsAnalysed()).isEqualTo(4);
+    assertThat(metrics.getQueuedUnits()).isEqualTo(0);
+    assertThat(metrics.getStatusCounts()).containsEntry("KILLED", 4L);
+  }
+
+  @Test
+  public void shouldNotReportCancelledUnitsAsQueued() throws Exception {
+    final RunMetrics metrics = new RunMetrics();
+    final CountDownLatch release = new CountDownLatch(1);
+    final MutationAnalysisExecutor testee = new MutationAnalysisExecutor(1,
+        Collections.<MutationResultListener> singletonList(this.listener),
+        new StoppingCondition() {
+          @Override
+          public boolean shouldStop() {
+            return true;
+          }
+        }, metrics);
+    final List<MutationAnalysisUnit> units = units(1);
+    units.add(blockingUnit(release));
+    units.addAll(units(2));
+    try {
+      testee.run(units);
+      assertThat(metrics.getQueuedUnits()).isEqualTo(0);
+    } finally {
+      release.countDown();
+    }
+  }
+
+  private static MutationAnalysisUnit blockingUnit(final CountDownLatch release) {
+    return new MutationAnalysisUnit() {
+      @Override
+      public MutationMetaData call() throws Exception {
+        release.await();
+        return new MutationMetaData(Collections.<MutationResult> emptyList());
+      }
+
+      @Override
+      public int priority() {
+        return 0;
+      }
+    };
+  }
+
+  private static List<MutationAnalysisUnit> units(int number) {
+    final List<MutationAnalysisUnit> units = new ArrayList<>();
+    for (int i = 0; i != number; i++) {
+      units.add(new KnownStatusMutationTestUnit(Arrays.asList(new MutationResult(
+          MutationTestResultMother.createDetails(), new MutationStatusTestPair(
+              0, DetectionStatus.KILLED)))));
+    }
+    return units;
+  }
+
+  private static class RecordingListener implements MutationResultListener {
+    private final List<MutationResult> results = new ArrayList<>();
+    private boolean                    ended;
+
+    @Override
+    public void runStart() {
+    }
+
+    @Override
+    public void handleMutationResult(ClassMutationResults metaData) {
+      this.results.addAll(metaData.getMutations());
+    }
+
+    @Override
+    public void runEnd() {
+      this.ended = true;
+    }
+  }
+
+}
@@ -0,0 +1,68 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoMother;
+import org.pitest.classinfo.ClassName;
+
+public class ChangedClassSelectorTest {
+
+  private static final ClassName FOO   = ClassName.fromString("com.example.Foo");
+  private static final ClassName BAR   = ClassName.fromString("com.example.Bar");
+  private static final ClassName OTHER = ClassName
+                                           .fromString("com.other.Foo");
+
+  @Test
+  public void shouldSelectClassesWhoseSourceFileChanged() {
+    final ChangedClassSelector testee = new ChangedClassSelector(
+        Collections.singleton("module/src/main/java/com/example/Foo.java"));
+
+    assertThat(testee.select(Arrays.asList(
+        ClassInfoMother.make(FOO, "Foo.java"),
+        ClassInfoMother.make(BAR, "Bar.java")))).containsExactly(FOO);
+  }
+
+  @Test
+  public void shouldNotSelectClassesWithSameSourceFileNameInOtherPackages() {
+    final ChangedClassSelector testee = new ChangedClassSelector(
+        Collections.singleton("src/com/example/Foo.java"));
+
+    assertThat(testee.select(Arrays.asList(ClassInfoMother.make(OTHER,
+        "Foo.java")))).isEmpty();
+  }
+
+  @Test
+  public void shouldSelectClassesInDefaultPackage() {
+    final ClassName foo = ClassName.fromString("Foo");
+    final ChangedClassSelector testee = new ChangedClassSelector(
+        Collections.singleton("Foo.java"));
+
+    assertThat(testee.select(Arrays.asList(ClassInfoMother.make(foo,
+        "Foo.java")))).containsExactly(foo);
+  }
+
+  @Test
+  public void shouldSelectClassesWhoseSuperClassChanged() {
+    final ClassInfo foo = ClassInfoMother.make(FOO, "Foo.java");
+    final ChangedClassSelector testee = new ChangedClassSelector(
+        Collections.singleton("src/com/example/Foo.java"));
+
+    assertThat(testee.select(Arrays.asList(foo,
+        ClassInfoMother.make(BAR, "Bar.java", foo)))).containsExactly(FOO,
+        BAR);
+  }
+
+  @Test
+  public void shouldNotSelectClassesWithoutSourceFile() {
+    final ChangedClassSelector testee = new ChangedClassSelector(
+        Collections.singleton("src/com/example/Foo.java"));
+
+    assertThat(testee.select(Arrays.asList(ClassInfoMother.make(FOO)))).isEmpty();
+  }
+
+}
@@ -0,0 +1,106 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.util.PitError;
+
+public class GitChangesTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private File           repo;
+
+  private GitChanges     testee;
+
+  @Before
+  public void setUp() throws Exception {
+    this.repo = this.folder.getRoot();
+    git("init", "-q");
+    write("src/Base.java");
+    write("src/Deleted.java");
+    git("add", ".");
+    commit("base");
+    git("tag", "base");
+    this.testee = new GitChanges(new File(this.repo, "src"));
+  }
+
+  @Test
+  public void shouldReportCommittedChanges() throws Exception {
+    write("src/a/Committed.java");
+    git("add", ".");
+    commit("change");
+
+    assertThat(this.testee.changedPathsSince("base")).containsExactly(
+        "src/a/Committed.java");
+  }
+
+  @Test
+  public void shouldReportUncommittedAndUntrackedChanges() throws Exception {
+    write("src/Base.java");
+    write("src/New.java");
+    write("other/New.java");
+
+    assertThat(this.testee.changedPathsSince("base")).containsOnly(
+        "src/Base.java", "src/New.java", "other/New.java");
+  }
+
+  @Test
+  public void shouldNotReportDeletedFiles() throws Exception {
+    git("rm", "-q", "src/Deleted.java");
+
+    assertThat(this.testee.changedPathsSince("base")).isEmpty();
+  }
+
+  @Test
+  public void shouldIgnoreChangesMadeOnRevisionSinceBranching()
+      throws Exception {
+    git("checkout", "-q", "-b", "feature");
+    git("checkout", "-q", "-b", "upstream", "base");
+    write("src/Upstream.java");
+    git("add", ".");
+    commit("upstream");
+    git("checkout", "-q", "feature");
+
+    assertThat(this.testee.changedPathsSince("upstream")).isEmpty();
+  }
+
+  @Test(expected = PitError.class)
+  public void shouldErrorForUnknownRevision() {
+    this.testee.changedPathsSince("doesNotExist");
+  }
+
+  private void write(final String path) throws IOException {
+    final File file = new File(this.repo, path);
+    file.getParentFile().mkdirs();
+    Files.write(file.toPath(),
+        ("// " + System.nanoTime()).getBytes(StandardCharsets.UTF_8));
+  }
+
+  private void commit(final String message) throws Exception {
+    git("-c", "user.name=pit", "-c", "user.email=pit@example.com", "commit",
+        "-q", "-m", message);
+  }
+
+  private void git(final String... args) throws Exception {
+    final List<String> cmd = new ArrayList<>();
+    cmd.add("git");
+    cmd.addAll(Arrays.asList(args));
+    final Process process = new ProcessBuilder(cmd).directory(this.repo)
+        .inheritIO().start();
+    assertThat(process.waitFor()).isEqualTo(0);
+  }
+
+}
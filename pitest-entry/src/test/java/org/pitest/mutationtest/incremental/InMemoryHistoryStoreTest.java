@@ -0,0 +1,113 @@
+package org.pitest.mutationtest.incremental;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.when;
+
+import java.math.BigInteger;
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassIdentifier;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+
+public class InMemoryHistoryStoreTest {
+
+  private static final HierarchicalClassId FOO    = new HierarchicalClassId(
+      new ClassIdentifier(0, ClassName.fromString("foo")), "");
+
+  private final InMemoryHistoryStore       testee = new InMemoryHistoryStore();
+
+  @Mock
+  private CoverageDatabase                 coverage;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    when(this.coverage.getCoverageIdForClass(any(ClassName.class)))
+        .thenReturn(BigInteger.TEN);
+  }
+
+  @Test
+  public void shouldHaveNoHistoryBeforeFirstAnalysis() {
+    this.testee.initialize();
+    assertTrue(this.testee.getHistoricResults().isEmpty());
+    assertTrue(this.testee.getHistoricClassPath().isEmpty());
+  }
+
+  @Test
+  public void shouldNotMakeResultsHistoricUntilNextAnalysis() {
+    this.testee.initialize();
+    this.testee.recordResult(aKilledResult());
+    assertTrue(this.testee.getHistoricResults().isEmpty());
+  }
+
+  @Test
+  public void shouldRetrieveResultsOfPreviousAnalysis() {
+    final MutationResult result = aKilledResult();
+    this.testee.initialize();
+    this.testee.recordResult(result);
+    this.testee.initialize();
+    assertEquals(result.getStatusTestPair(), this.testee
+        .getHistoricResults().get(result.getDetails().getId()));
+  }
+
+  @Test
+  public void shouldKeepResultsOfEarlierAnalysesNotRepeated() {
+    final MutationResult result = aKilledResult();
+    this.testee.initialize();
+    this.testee.recordResult(result);
+    this.testee.initialize();
+    this.testee.initialize();
+    assertEquals(1, this.testee.getHistoricResults().size());
+  }
+
+  @Test
+  public void shouldRetrieveClassPathOfPreviousAnalysis() {
+    this.testee.initialize();
+    this.testee.recordClassPath(Collections.singletonList(FOO), this.coverage);
+    this.testee.initialize();
+    assertEquals(new ClassHistory(FOO, BigInteger.TEN.toString(16)),
+        this.testee.getHistoricClassPath().get(FOO.getName()));
+  }
+
+  @Test
+  public void shouldRetrieveTestDurationsFromEachAnalysis() {
+    this.testee.initialize();
+    givenTestOfFooTakes(5);
+    this.testee.recordClassPath(Collections.singletonList(FOO), this.coverage);
+    this.testee.initialize();
+    givenTestOfFooTakes(7);
+    this.testee.recordClassPath(Collections.singletonList(FOO), this.coverage);
+    this.testee.initialize();
+    assertArrayEquals(new long[] { 5, 7 }, this.testee
+        .getHistoricTestDurations().get("fooTest"));
+  }
+
+  private void givenTestOfFooTakes(final int time) {
+    final TestInfo test = new TestInfo("FooTest", "fooTest", time,
+        Option.<ClassName> none(), 1);
+    when(this.coverage.getTestsForClass(FOO.getName())).thenReturn(
+        Collections.singletonList(test));
+  }
+
+  private static MutationResult aKilledResult() {
+    return new MutationResult(MutationTestResultMother.createDetails("foo"),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, "fooTest"));
+  }
+
+}
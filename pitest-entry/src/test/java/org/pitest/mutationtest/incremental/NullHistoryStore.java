@@ -35,6 +35,11 @@ public class NullHistoryStore implements HistoryStore {
     return Collections.emptyMap();
   }
 
+  @Override
+  public Map<String, long[]> getHistoricTestDurations() {
+    return Collections.emptyMap();
+  }
+
   @Override
   public void recordClassPath(final Collection<HierarchicalClassId> ids,
       final CoverageDatabase coverageInfo) {
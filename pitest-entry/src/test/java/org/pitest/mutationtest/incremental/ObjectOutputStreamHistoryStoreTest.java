@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.incremental;
 
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.fail;
@@ -14,6 +15,7 @@ import org.pitest.classinfo.ClassIdentifier;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.HierarchicalClassId;
 import org.pitest.coverage.CoverageDatabase;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.Option;
 import org.pitest.mutationtest.ClassHistory;
 import org.pitest.mutationtest.DetectionStatus;
@@ -27,10 +29,10 @@ import java.io.PrintWriter;
 import java.io.Reader;
 import java.io.StringReader;
 import java.io.StringWriter;
-import java.io.Writer;
 import java.math.BigInteger;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.Map;
 
@@ -43,7 +45,7 @@ public class ObjectOutputStreamHistoryStoreTest {
     @Mock
     private CoverageDatabase                coverage;
 
-    private final Writer                    output        = new StringWriter();
+    private final StringWriter              output        = new StringWriter();
 
     private final WriterFactory             writerFactory = new WriterFactory() {
 
@@ -108,6 +110,31 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertEquals(expected, this.testee.getHistoricResults());
     }
 
+    @Test
+    public void shouldRecordAndRetrieveTestDurationsFromEachRun() {
+        final HierarchicalClassId foo = new HierarchicalClassId(
+            new ClassIdentifier(0, ClassName.fromString("foo")), "");
+        givenTestOfFooTakes(5);
+        recordClassPathWithTestee(foo);
+
+        final Reader firstRun = new StringReader(this.output.toString());
+        this.output.getBuffer().setLength(0);
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Option.some(firstRun));
+        this.testee.initialize();
+        givenTestOfFooTakes(7);
+        this.testee.recordClassPath(Collections.singletonList(foo),
+            this.coverage);
+
+        final Reader secondRun = new StringReader(this.output.toString());
+        this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
+            Option.some(secondRun));
+        this.testee.initialize();
+
+        assertArrayEquals(new long[] { 5, 7 },
+            this.testee.getHistoricTestDurations().get("fooTest"));
+    }
+
     @Test
     public void shouldNotAttemptToWriteToFileWhenNoneSupplied() {
         try {
@@ -140,6 +167,13 @@ public class ObjectOutputStreamHistoryStoreTest {
         assertFalse(this.testee.getHistoricResults().isEmpty());
     }
 
+    private void givenTestOfFooTakes(final int time) {
+        final TestInfo test = new TestInfo("FooTest", "fooTest", time,
+            Option.<ClassName> none(), 1);
+        when(this.coverage.getTestsForClass(ClassName.fromString("foo")))
+            .thenReturn(Collections.singletonList(test));
+    }
+
     private void recordClassPathWithTestee(
         final HierarchicalClassId... classIdentifiers) {
         this.testee = new ObjectOutputStreamHistoryStore(this.writerFactory,
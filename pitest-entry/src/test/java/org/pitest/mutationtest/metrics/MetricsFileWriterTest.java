@@ -0,0 +1,41 @@
+package org.pitest.mutationtest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.StringWriter;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+
+public class MetricsFileWriterTest {
+
+  private final RunMetrics   metrics = new RunMetrics();
+
+  private final StringWriter out     = new StringWriter();
+
+  @Test
+  public void shouldWriteFinalLineWhenStopped() {
+    final MetricsFileWriter testee = new MetricsFileWriter(this.metrics,
+        this.out, 60000);
+    testee.start();
+    this.metrics.mutantAnalysed(DetectionStatus.KILLED);
+    testee.stop();
+
+    final String[] lines = this.out.toString().split("\\r?\\n");
+    assertThat(lines).hasSize(1);
+    assertThat(lines[0]).matches("\\d+ testsCovered=.*")
+        .contains("mutantsAnalysed=1");
+  }
+
+  @Test
+  public void shouldWriteALinePerInterval() throws Exception {
+    final MetricsFileWriter testee = new MetricsFileWriter(this.metrics,
+        this.out, 10);
+    testee.start();
+    Thread.sleep(100);
+    testee.stop();
+
+    assertThat(this.out.toString().split("\\r?\\n").length).isGreaterThan(2);
+  }
+
+}
@@ -0,0 +1,115 @@
+package org.pitest.mutationtest.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.lang.management.ManagementFactory;
+
+import javax.management.ObjectName;
+
+import org.junit.Test;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.util.Timings;
+import org.pitest.util.Timings.Stage;
+
+public class RunMetricsTest {
+
+  private final Timings    timings = new Timings();
+
+  private final RunMetrics testee  = new RunMetrics(this.timings);
+
+  @Test
+  public void shouldCountAnalysedMutantsByStatus() {
+    this.testee.mutantAnalysed(DetectionStatus.KILLED);
+    this.testee.mutantAnalysed(DetectionStatus.KILLED);
+    this.testee.mutantAnalysed(DetectionStatus.SURVIVED);
+
+    assertThat(this.testee.getMutantsAnalysed()).isEqualTo(3);
+    assertThat(this.testee.getStatusCounts()).containsEntry("KILLED", 2L)
+        .containsEntry("SURVIVED", 1L).containsEntry("TIMED_OUT", 0L);
+  }
+
+  @Test
+  public void shouldReportNoRateBeforeAnalysisStarts() {
+    this.testee.mutantAnalysed(DetectionStatus.KILLED);
+    assertThat(this.testee.getMutantsPerSecond()).isEqualTo(0d);
+  }
+
+  @Test
+  public void shouldReportRateOnceAnalysisStarted() {
+    this.testee.analysisStarted();
+    this.testee.mutantAnalysed(DetectionStatus.KILLED);
+    this.testee.analysisEnded();
+    assertThat(this.testee.getMutantsPerSecond()).isGreaterThan(0d);
+  }
+
+  @Test
+  public void shouldTrackQueuedAndRunningUnits() {
+    this.testee.unitsQueued(3);
+    this.testee.unitStarted();
+    this.testee.unitStarted();
+    this.testee.unitFinished();
+
+    assertThat(this.testee.getQueuedUnits()).isEqualTo(1);
+    assertThat(this.testee.getRunningUnits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldNotCountCancelledUnitsAsQueued() {
+    this.testee.unitsQueued(3);
+    this.testee.unitStarted();
+    this.testee.unitCancelled();
+    this.testee.unitCancelled();
+
+    assertThat(this.testee.getQueuedUnits()).isEqualTo(0);
+    assertThat(this.testee.getRunningUnits()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldTrackLiveMinionsAndStartUpLatency() {
+    this.testee.minionStarted();
+    this.testee.minionStarted();
+    this.testee.minionReady(100);
+    this.testee.minionReady(300);
+    this.testee.minionExited();
+
+    assertThat(this.testee.getLiveMinions()).isEqualTo(1);
+    assertThat(this.testee.getMinionsStarted()).isEqualTo(2);
+    assertThat(this.testee.getMeanMinionStartUpMillis()).isEqualTo(200d);
+    assertThat(this.testee.getMaxMinionStartUpMillis()).isEqualTo(300);
+  }
+
+  @Test
+  public void shouldIncludeStageTimings() {
+    this.timings.registerDuration(Stage.WRITE_REPORTS, 42);
+    assertThat(this.testee.getStageMillis()).containsEntry("WRITE_REPORTS",
+        42L);
+  }
+
+  @Test
+  public void shouldDescribeMetricsAsKeyValuePairs() {
+    this.testee.mutantAnalysed(DetectionStatus.KILLED);
+    assertThat(this.testee.describe()).contains("mutantsAnalysed=1").contains(
+        "status.KILLED=1");
+  }
+
+  @Test
+  public void shouldPublishToPlatformMBeanServerUntilUnregistered()
+      throws Exception {
+    this.testee.register();
+    try {
+      this.testee.mutantAnalysed(DetectionStatus.KILLED);
+      final ObjectName name = ManagementFactory.getPlatformMBeanServer()
+          .queryNames(new ObjectName("org.pitest:type=RunMetrics,*"), null)
+          .iterator().next();
+      assertThat(
+          ManagementFactory.getPlatformMBeanServer().getAttribute(name,
+              "MutantsAnalysed")).isEqualTo(1L);
+    } finally {
+      this.testee.unregister();
+    }
+    assertThat(
+        ManagementFactory.getPlatformMBeanServer().queryNames(
+            new ObjectName("org.pitest:type=RunMetrics,*"), null)).isEmpty();
+  }
+
+}
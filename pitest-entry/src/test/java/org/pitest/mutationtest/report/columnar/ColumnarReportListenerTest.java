@@ -0,0 +1,119 @@
+package org.pitest.mutationtest.report.columnar;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.mutationtest.report.columnar.ColumnarReportReader.RowGroup;
+
+public class ColumnarReportListenerTest {
+
+  private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+  private ColumnarReportListener      testee;
+
+  @Before
+  public void setup() {
+    this.testee = new ColumnarReportListener(this.out);
+  }
+
+  @Test
+  public void shouldReadNoGroupsWhenNoResultsWritten() throws IOException {
+    this.testee.runStart();
+    this.testee.runEnd();
+    assertFalse(read().nextGroup().hasSome());
+  }
+
+  @Test
+  public void shouldReadBackAllFieldsOfAResult() throws IOException {
+    final MutationDetails details = MutationTestResultMother.createDetails();
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(new MutationResult(details,
+            new MutationStatusTestPair(3, DetectionStatus.KILLED, "foo"))));
+    this.testee.runEnd();
+
+    final RowGroup group = read().nextGroup().value();
+    assertEquals(1, group.size());
+    assertEquals("file", group.getSourceFile(0));
+    assertEquals(details.getClassName().asJavaName(),
+        group.getMutatedClass(0));
+    assertEquals(details.getMethod().name(), group.getMutatedMethod(0));
+    assertEquals(details.getId().getLocation().getMethodDesc(),
+        group.getMethodDescription(0));
+    assertEquals(details.getMutator(), group.getMutator(0));
+    assertEquals(Option.some("foo"), group.getKillingTest(0));
+    assertEquals("desc", group.getDescription(0));
+    assertEquals(DetectionStatus.KILLED, group.getStatus(0));
+    assertEquals(42, group.getLineNumber(0));
+    assertEquals(details.getFirstIndex(), group.getIndex(0));
+    assertEquals(0, group.getBlock(0));
+    assertEquals(3, group.getNumberOfTestsRun(0));
+  }
+
+  @Test
+  public void shouldReadNoKillingTestWhenNoneFound() throws IOException {
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(new MutationResult(MutationTestResultMother
+            .createDetails(), new MutationStatusTestPair(1,
+            DetectionStatus.SURVIVED))));
+    this.testee.runEnd();
+
+    assertEquals(Option.<String> none(), read().nextGroup().value()
+        .getKillingTest(0));
+  }
+
+  @Test
+  public void shouldWriteAGroupForEachClassAndShareDictionaryBetweenThem()
+      throws IOException {
+    final MutationResult first = new MutationResult(
+        MutationTestResultMother.createDetails("a"),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+    final MutationResult second = new MutationResult(
+        MutationTestResultMother.createDetails("b"),
+        new MutationStatusTestPair(1, DetectionStatus.NO_COVERAGE));
+    this.testee.runStart();
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(first));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(first, second));
+    this.testee.runEnd();
+
+    final ColumnarReportReader reader = read();
+    final RowGroup one = reader.nextGroup().value();
+    final RowGroup two = reader.nextGroup().value();
+    assertFalse(reader.nextGroup().hasSome());
+
+    assertEquals(1, one.size());
+    assertEquals(2, two.size());
+    assertEquals("a", two.getSourceFile(0));
+    assertEquals("b", two.getSourceFile(1));
+    assertEquals(DetectionStatus.NO_COVERAGE, two.getStatus(1));
+    assertSame(one.getMutatedClass(0), two.getMutatedClass(1));
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectDataThatIsNotAColumnarReport() throws IOException {
+    new ColumnarReportReader(new ByteArrayInputStream(
+        "<mutations>".getBytes("UTF-8")));
+  }
+
+  private ColumnarReportReader read() throws IOException {
+    return new ColumnarReportReader(new ByteArrayInputStream(
+        this.out.toByteArray()));
+  }
+
+}
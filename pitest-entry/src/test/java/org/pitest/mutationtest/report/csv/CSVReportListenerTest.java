@@ -18,14 +18,17 @@ import static org.mockito.Mockito.verify;
 
 import java.io.IOException;
 import java.io.Writer;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.MutationTimings;
 import org.pitest.mutationtest.report.MutationTestResultMother;
 
 public class CSVReportListenerTest {
@@ -68,4 +71,31 @@ public class CSVReportListenerTest {
     verify(this.out).write(expected);
   }
 
+  @Test
+  public void shouldOutputTimingsWhenRequested() throws IOException {
+    this.testee = new CSVReportListener(this.out, true);
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
+            DetectionStatus.KILLED, "foo").withTimings(new MutationTimings(1,
+            2, Collections.singletonMap("foo", 3L), Option.some(3L), 7)));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    final String expected = "file,clazz,mutator,method,42,KILLED,foo,1,2,3,3,7"
+        + NEW_LINE;
+    verify(this.out).write(expected);
+  }
+
+  @Test
+  public void shouldOutputEmptyTimingsWhenNoneRecorded() throws IOException {
+    this.testee = new CSVReportListener(this.out, true);
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
+            DetectionStatus.SURVIVED));
+    this.testee.handleMutationResult(MutationTestResultMother
+        .createClassResults(mr));
+    final String expected = "file,clazz,mutator,method,42,SURVIVED,none,,,,,"
+        + NEW_LINE;
+    verify(this.out).write(expected);
+  }
+
 }
@@ -15,18 +15,26 @@
 package org.pitest.mutationtest.report.xml;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
 import java.io.IOException;
 import java.io.StringWriter;
 import java.io.Writer;
+import java.util.Collections;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationResult;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.MutationTimings;
 import org.pitest.mutationtest.report.MutationTestResultMother;
+import org.pitest.mutationtest.statistics.MutationStatistics;
+import org.pitest.mutationtest.statistics.MutationStatisticsSource;
+import org.pitest.mutationtest.statistics.Score;
+import org.pitest.mutationtest.statistics.ScoreInterval;
 
 public class XMLReportListenerTest {
 
@@ -48,6 +56,36 @@ public class XMLReportListenerTest {
     assertEquals(expected, this.out.toString());
   }
 
+  @Test
+  public void shouldOutputScoreIntervalWhenMutationsSampled() {
+    this.testee = new XMLReportListener(this.out,
+        Option.<MutationStatisticsSource> some(statistics(ScoreInterval
+            .estimate(10, 8, 100, 95))));
+    this.testee.runStart();
+    this.testee.runEnd();
+    assertTrue(this.out.toString().contains(
+        "<sample size='10' population='100' confidence='95' scoreLowerBound='"));
+  }
+
+  @Test
+  public void shouldNotOutputScoreIntervalWhenAllMutationsAnalysed() {
+    this.testee = new XMLReportListener(this.out,
+        Option.<MutationStatisticsSource> some(statistics(null)));
+    this.testee.runStart();
+    this.testee.runEnd();
+    assertFalse(this.out.toString().contains("<sample"));
+  }
+
+  private MutationStatisticsSource statistics(final ScoreInterval interval) {
+    return new MutationStatisticsSource() {
+      @Override
+      public MutationStatistics getStatistics() {
+        return new MutationStatistics(Collections.<Score> emptyList(), 10, 8,
+            10, interval);
+      }
+    };
+  }
+
   @Test
   public void shouldOutputKillingTestWhenOneFound() throws IOException {
     final MutationResult mr = createdKilledMutationWithKillingTestOf("foo");
@@ -82,6 +120,31 @@ public class XMLReportListenerTest {
     assertEquals(expected, this.out.toString());
   }
 
+  @Test
+  public void shouldOutputTimingsWhenRequested() {
+    this.testee = new XMLReportListener(this.out,
+        Option.<MutationStatisticsSource> none(), true);
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
+            DetectionStatus.SURVIVED).withTimings(new MutationTimings(1, 2,
+            Collections.singletonMap("foo", 3L), Option.<Long> none(), 7)));
+    this.testee
+        .handleMutationResult(MutationTestResultMother.createClassResults(mr));
+    assertTrue(this.out.toString().contains(
+        "numberOfTestsRun='1' generationMillis='1' hotSwapMillis='2' testMillis='3' totalMillis='7'>"));
+  }
+
+  @Test
+  public void shouldNotOutputTimingsUnlessRequested() {
+    final MutationResult mr = new MutationResult(
+        MutationTestResultMother.createDetails(), new MutationStatusTestPair(1,
+            DetectionStatus.SURVIVED).withTimings(new MutationTimings(1, 2,
+            Collections.singletonMap("foo", 3L), Option.<Long> none(), 7)));
+    this.testee
+        .handleMutationResult(MutationTestResultMother.createClassResults(mr));
+    assertFalse(this.out.toString().contains("Millis"));
+  }
+
   private MutationResult createSurvivingMutant() {
     final MutationResult mr = new MutationResult(
         MutationTestResultMother.createDetails(),
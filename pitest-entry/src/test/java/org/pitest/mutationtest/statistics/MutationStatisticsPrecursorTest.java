@@ -129,6 +129,34 @@ public class MutationStatisticsPrecursorTest {
     assertEquals(">> Ran 43 tests (21.5 tests per mutation)", actual[1]);
   }
 
+  @Test
+  public void shouldReportExactScoreWhenNoPopulationGiven() {
+    this.testee.registerResults(Arrays.asList(
+        makeResult(DetectionStatus.SURVIVED),
+        makeResult(DetectionStatus.KILLED)));
+    final MutationStatistics actual = this.testee.toStatistics();
+    assertFalse(actual.isSampled());
+    assertEquals(50, actual.getScoreLowerBound());
+    assertEquals(50, actual.getScoreUpperBound());
+  }
+
+  @Test
+  public void shouldReportScoreIntervalWhenMutationsSampledFromPopulation() {
+    final MutationResult mr = makeResult(DetectionStatus.KILLED);
+    this.testee = new MutationStatisticsPrecursor(Collections.singletonMap(mr
+        .getDetails().getMutator(), 100L), 95);
+    this.testee.registerResults(Arrays.asList(mr, mr, mr,
+        makeResult(DetectionStatus.SURVIVED)));
+    final MutationStatistics actual = this.testee.toStatistics();
+    assertTrue(actual.isSampled());
+    assertEquals(100, actual.getScoreInterval().getPopulationSize());
+    assertTrue(actual.getScoreLowerBound() < 75);
+    assertTrue(actual.getScoreUpperBound() > 75);
+    assertTrue(actual.getScores().iterator().next().getScoreInterval()
+        .isSampled());
+    assertEquals(">> " + actual.getScoreInterval(), generateReportLines()[1]);
+  }
+
   private F<Score, Boolean> hasResultForMutator(final String mutator) {
     return new F<Score, Boolean>() {
 
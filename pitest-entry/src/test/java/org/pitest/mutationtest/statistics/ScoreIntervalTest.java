@@ -0,0 +1,69 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+
+import org.junit.Test;
+
+public class ScoreIntervalTest {
+
+  @Test
+  public void shouldHoldOnlyTheScoreWhenExact() {
+    final ScoreInterval testee = ScoreInterval.exact(10, 70);
+    assertThat(testee.isSampled()).isFalse();
+    assertThat(testee.getLowerBound()).isEqualTo(70);
+    assertThat(testee.getUpperBound()).isEqualTo(70);
+    assertThat(testee.getHalfWidth()).isEqualTo(0d);
+  }
+
+  @Test
+  public void shouldUseNormalCriticalValuesForConfidenceLevel() {
+    assertThat(ScoreInterval.zScore(90)).isCloseTo(1.645, offset(0.001));
+    assertThat(ScoreInterval.zScore(95)).isCloseTo(1.960, offset(0.001));
+    assertThat(ScoreInterval.zScore(99)).isCloseTo(2.576, offset(0.001));
+  }
+
+  @Test
+  public void shouldContainSampleScore() {
+    final ScoreInterval testee = ScoreInterval.estimate(100, 70, 10000, 95);
+    assertThat(testee.isSampled()).isTrue();
+    assertThat(testee.getLowerBound()).isEqualTo(60);
+    assertThat(testee.getUpperBound()).isEqualTo(79);
+  }
+
+  @Test
+  public void shouldNarrowAsSampleGrows() {
+    final ScoreInterval small = ScoreInterval.estimate(100, 70, 10000, 95);
+    final ScoreInterval large = ScoreInterval.estimate(1000, 700, 10000, 95);
+    assertThat(large.getHalfWidth()).isLessThan(small.getHalfWidth());
+  }
+
+  @Test
+  public void shouldWidenWithConfidence() {
+    final ScoreInterval ninety = ScoreInterval.estimate(100, 70, 10000, 90);
+    final ScoreInterval ninetyNine = ScoreInterval.estimate(100, 70, 10000,
+        99);
+    assertThat(ninetyNine.getHalfWidth()).isGreaterThan(ninety.getHalfWidth());
+  }
+
+  @Test
+  public void shouldCollapseToScoreWhenWholePopulationSampled() {
+    final ScoreInterval testee = ScoreInterval.estimate(100, 70, 100, 95);
+    assertThat(testee.isSampled()).isFalse();
+    assertThat(testee.getLowerBound()).isEqualTo(70);
+    assertThat(testee.getUpperBound()).isEqualTo(70);
+  }
+
+  @Test
+  public void shouldCoverAllScoresWhenNothingSampled() {
+    final ScoreInterval testee = ScoreInterval.estimate(0, 0, 100, 95);
+    assertThat(testee.getLowerBound()).isEqualTo(0);
+    assertThat(testee.getUpperBound()).isEqualTo(100);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectConfidenceOfOneHundredPercent() {
+    ScoreInterval.estimate(10, 5, 100, 100);
+  }
+
+}
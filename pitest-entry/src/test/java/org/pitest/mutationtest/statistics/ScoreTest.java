@@ -70,6 +70,18 @@ public class ScoreTest {
     assertEquals("> KILLED 0 SURVIVED 0 TIMED_OUT 0 NON_VIABLE 0 ", ss[2]);
   }
 
+  @Test
+  public void shouldPrintScoreIntervalInThirdLineWhenSampled() {
+    registerResults(DetectionStatus.KILLED, 8);
+    registerResults(DetectionStatus.SURVIVED, 2);
+    final Score score = this.testee.toSampledScore(100, 95);
+    final ByteArrayOutputStream s = new ByteArrayOutputStream();
+    score.report(new PrintStream(s));
+    final String[] ss = new String(s.toByteArray()).split(StringUtil.newLine());
+    assertEquals(">> " + score.getScoreInterval(), ss[2]);
+    assertTrue(ss[2].startsWith(">> Sampled 10 of 100 mutations, score between "));
+  }
+
   private String[] generateReportLines() {
     final ByteArrayOutputStream s = new ByteArrayOutputStream();
     final PrintStream out = new PrintStream(s);
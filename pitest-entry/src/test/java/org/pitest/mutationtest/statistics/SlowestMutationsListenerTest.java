@@ -0,0 +1,69 @@
+package org.pitest.mutationtest.statistics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.pitest.mutationtest.LocationMother.aLocation;
+import static org.pitest.mutationtest.LocationMother.aMutationId;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.Test;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.MutationTimings;
+import org.pitest.mutationtest.engine.MutationDetails;
+
+public class SlowestMutationsListenerTest {
+
+  private final SlowestMutationsListener testee = new SlowestMutationsListener(
+      2);
+
+  @Test
+  public void shouldHaveNoTimingsWhenNoneReported() {
+    this.testee.handleMutationResult(results(new MutationResult(details("foo",
+        1), new MutationStatusTestPair(1, DetectionStatus.KILLED))));
+    assertThat(this.testee.hasTimings()).isFalse();
+  }
+
+  @Test
+  public void shouldListSlowestMutationsFirstUpToLimit() {
+    this.testee.handleMutationResult(results(timed("foo", 1, 10),
+        timed("foo", 2, 30), timed("bar", 3, 20)));
+    assertThat(this.testee.getSlowestMutations()).hasSize(2);
+    assertThat(this.testee.getSlowestMutations().get(0)).startsWith(
+        "30 ms foo::").contains("line 2");
+    assertThat(this.testee.getSlowestMutations().get(1)).startsWith(
+        "20 ms bar::");
+  }
+
+  @Test
+  public void shouldSumTimeSpentOnEachClass() {
+    this.testee.handleMutationResult(results(timed("foo", 1, 10),
+        timed("foo", 2, 30), timed("bar", 3, 35)));
+    assertThat(this.testee.getSlowestClasses()).containsExactly("40 ms foo",
+        "35 ms bar");
+  }
+
+  private static ClassMutationResults results(final MutationResult... mrs) {
+    final List<MutationResult> list = new ArrayList<>();
+    Collections.addAll(list, mrs);
+    return new ClassMutationResults(list);
+  }
+
+  private static MutationResult timed(final String clazz, final int line,
+      final long millis) {
+    return new MutationResult(details(clazz, line), new MutationStatusTestPair(
+        1, DetectionStatus.SURVIVED).withTimings(new MutationTimings(0, 0,
+        Collections.<String, Long> emptyMap(), Option.<Long> none(), millis)));
+  }
+
+  private static MutationDetails details(final String clazz, final int line) {
+    return new MutationDetails(aMutationId().withLocation(aLocation(clazz))
+        .withIndex(line).build(), "", "desc", line, 0);
+  }
+
+}
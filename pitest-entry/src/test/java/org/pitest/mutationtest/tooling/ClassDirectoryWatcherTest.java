@@ -0,0 +1,67 @@
+package org.pitest.mutationtest.tooling;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.Set;
+
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+
+public class ClassDirectoryWatcherTest {
+
+  @Rule
+  public TemporaryFolder        folder = new TemporaryFolder();
+
+  private ClassDirectoryWatcher testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.folder.newFolder("com", "example");
+    this.testee = new ClassDirectoryWatcher(
+        Collections.singletonList(this.folder.getRoot()), 200);
+  }
+
+  @After
+  public void tearDown() throws IOException {
+    this.testee.close();
+  }
+
+  @Test
+  public void shouldReportClassesAddedToWatchedDirectories()
+      throws Exception {
+    this.folder.newFile("com/example/Foo.class");
+    assertThat(awaitChanges()).containsOnly(
+        ClassName.fromString("com.example.Foo"));
+  }
+
+  @Test
+  public void shouldReportClassesWithinNewDirectories() throws Exception {
+    final File dir = this.folder.newFolder("com", "example", "sub");
+    new File(dir, "Bar$Inner.class").createNewFile();
+    assertThat(awaitChanges()).contains(
+        ClassName.fromString("com.example.sub.Bar$Inner"));
+  }
+
+  @Test
+  public void shouldIgnoreFilesThatAreNotClasses() throws Exception {
+    this.folder.newFile("com/example/notes.txt");
+    this.folder.newFile("com/example/Foo.class");
+    assertThat(awaitChanges()).containsOnly(
+        ClassName.fromString("com.example.Foo"));
+  }
+
+  private Set<ClassName> awaitChanges() throws InterruptedException {
+    final Option<Set<ClassName>> changes = this.testee.awaitChanges();
+    assertThat(changes.hasSome()).isTrue();
+    return changes.value();
+  }
+
+}
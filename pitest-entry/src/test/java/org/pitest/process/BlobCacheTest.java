@@ -0,0 +1,64 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Arrays;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class BlobCacheTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  private BlobCache      testee;
+
+  @Before
+  public void setUp() throws IOException {
+    this.testee = new BlobCache(this.folder.newFolder());
+  }
+
+  @Test
+  public void shouldReportFilesNotYetStoredAsMissing() throws IOException {
+    final byte[] content = "content".getBytes("UTF-8");
+    final String hash = hashOf(content);
+    assertThat(this.testee.missing(Arrays.asList(hash, hash))).containsExactly(
+        hash);
+  }
+
+  @Test
+  public void shouldNotReportStoredFilesAsMissing() throws IOException {
+    final byte[] content = "content".getBytes("UTF-8");
+    final String hash = hashOf(content);
+    this.testee.store(hash, new ByteArrayInputStream(content), content.length);
+    assertThat(this.testee.missing(Arrays.asList(hash))).isEmpty();
+    assertThat(Files.readAllBytes(this.testee.file(hash).toPath())).isEqualTo(
+        content);
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectContentNotMatchingHash() throws IOException {
+    final byte[] content = "content".getBytes("UTF-8");
+    this.testee.store(hashOf("other".getBytes("UTF-8")),
+        new ByteArrayInputStream(content), content.length);
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectNamesThatAreNotHashes() {
+    this.testee.file("../escape");
+  }
+
+  private String hashOf(final byte[] content) throws IOException {
+    final File file = this.folder.newFile();
+    Files.write(file.toPath(), content);
+    return ContentAddressedClassPath.hash(file);
+  }
+
+}
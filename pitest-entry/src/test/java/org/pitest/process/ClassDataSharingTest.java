@@ -0,0 +1,68 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.HashMap;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ClassDataSharingTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldTakeJarsAtStartOfClassPath() throws IOException {
+    final String a = this.folder.newFile("a.jar").getAbsolutePath();
+    final String b = this.folder.newFile("b.jar").getAbsolutePath();
+    final String dir = this.folder.newFolder("classes").getAbsolutePath();
+    final String c = this.folder.newFile("c.jar").getAbsolutePath();
+    assertThat(ClassDataSharing.leadingJars(join(a, b, dir, c))).isEqualTo(
+        join(a, b));
+  }
+
+  @Test
+  public void shouldTakeNoJarsWhenClassPathStartsWithDirectory()
+      throws IOException {
+    final String dir = this.folder.newFolder("classes").getAbsolutePath();
+    final String a = this.folder.newFile("a.jar").getAbsolutePath();
+    assertThat(ClassDataSharing.leadingJars(join(dir, a))).isEmpty();
+  }
+
+  @Test
+  public void shouldLeaveOptionsUnchangedWhenJvmCannotShareClasses()
+      throws IOException {
+    final LaunchOptions options = new LaunchOptions(null,
+        new KnownLocationJavaExecutableLocator("/no/such/java"),
+        Collections.<String> emptyList(), new HashMap<String, String>());
+    final ClassDataSharing testee = new ClassDataSharing(
+        this.folder.newFolder());
+    assertThat(testee.recording(options)).isSameAs(options);
+    assertThat(testee.sharing(options, "")).isSameAs(options);
+  }
+
+  @Test
+  public void shouldDeleteItsFilesWhenClosed() throws IOException {
+    final File dir = this.folder.newFolder();
+    new File(dir, "minion.jsa").createNewFile();
+    new ClassDataSharing(dir).close();
+    assertThat(dir).doesNotExist();
+  }
+
+  private static String join(final String... paths) {
+    final StringBuilder sb = new StringBuilder();
+    for (final String each : paths) {
+      if (sb.length() != 0) {
+        sb.append(File.pathSeparator);
+      }
+      sb.append(each);
+    }
+    return sb.toString();
+  }
+
+}
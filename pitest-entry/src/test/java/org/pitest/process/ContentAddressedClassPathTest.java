@@ -0,0 +1,73 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ContentAddressedClassPathTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldGiveFilesWithSameContentTheSameHash() throws IOException {
+    final File a = write(this.folder.newFolder(), "a.jar", "content");
+    final File b = write(this.folder.newFolder(), "b.jar", "content");
+    final ContentAddressedClassPath testee = new ContentAddressedClassPath();
+    assertThat(testee.entryFor(a).getHash()).isEqualTo(
+        testee.entryFor(b).getHash());
+  }
+
+  @Test
+  public void shouldGiveFilesWithDifferentContentDifferentHashes()
+      throws IOException {
+    final File a = write(this.folder.newFolder(), "a.jar", "content");
+    final File b = write(this.folder.newFolder(), "b.jar", "other");
+    final ContentAddressedClassPath testee = new ContentAddressedClassPath();
+    assertThat(testee.entryFor(a).getHash()).isNotEqualTo(
+        testee.entryFor(b).getHash());
+  }
+
+  @Test
+  public void shouldPackIdenticalDirectoriesToIdenticalJars()
+      throws IOException {
+    final File a = this.folder.newFolder();
+    write(new File(a, "com/example"), "Foo.class", "foo");
+    write(a, "bar.properties", "bar");
+    final File b = this.folder.newFolder();
+    write(b, "bar.properties", "bar");
+    write(new File(b, "com/example"), "Foo.class", "foo");
+
+    final ContentAddressedClassPath.Entry first = new ContentAddressedClassPath()
+        .entryFor(a);
+    final ContentAddressedClassPath.Entry second = new ContentAddressedClassPath()
+        .entryFor(b);
+
+    assertThat(first.getFile().getName()).endsWith(".jar");
+    assertThat(first.getHash()).isEqualTo(second.getHash());
+  }
+
+  @Test
+  public void shouldSkipClassPathEntriesThatDoNotExist() throws IOException {
+    final File a = write(this.folder.newFolder(), "a.jar", "content");
+    final String classPath = a.getAbsolutePath() + File.pathSeparator
+        + new File(this.folder.getRoot(), "missing.jar").getAbsolutePath();
+    assertThat(new ContentAddressedClassPath().entriesFor(classPath))
+        .hasSize(1);
+  }
+
+  private static File write(final File dir, final String name,
+      final String content) throws IOException {
+    dir.mkdirs();
+    final File file = new File(dir, name);
+    Files.write(file.toPath(), content.getBytes("UTF-8"));
+    return file;
+  }
+
+}
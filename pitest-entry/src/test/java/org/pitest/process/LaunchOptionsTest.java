@@ -0,0 +1,72 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+
+import org.junit.Test;
+import org.pitest.functional.Option;
+
+public class LaunchOptionsTest {
+
+  private static final long MB = 1024 * 1024;
+
+  @Test
+  public void shouldReadMaxHeapFromChildJvmArgs() {
+    final LaunchOptions testee = new LaunchOptions(null, null,
+        Arrays.asList("-Xss1m", "-Xmx512m"), null);
+    assertThat(testee.getMaxHeap()).isEqualTo(Option.some(512 * MB));
+  }
+
+  @Test
+  public void shouldUseLastMaxHeapArgument() {
+    final LaunchOptions testee = new LaunchOptions(null, null,
+        Arrays.asList("-Xmx512m", "-Xmx2g"), null);
+    assertThat(testee.getMaxHeap()).isEqualTo(Option.some(2048 * MB));
+  }
+
+  @Test
+  public void shouldReportNoMaxHeapWhenNotSet() {
+    final LaunchOptions testee = new LaunchOptions(null, null,
+        Arrays.asList("-Xss1m"), null);
+    assertThat(testee.getMaxHeap()).isEqualTo(Option.<Long> none());
+  }
+
+  @Test
+  public void shouldReplaceMaxHeapWhenHeapSet() {
+    final LaunchOptions testee = new LaunchOptions(null, null,
+        Arrays.asList("-Xmx512m", "-Xss1m"), null).withMaxHeap(1024 * MB);
+    assertThat(testee.getChildJVMArgs()).containsExactly("-Xss1m",
+        "-Xmx1048576k");
+    assertThat(testee.getMaxHeap()).isEqualTo(Option.some(1024 * MB));
+  }
+
+  @Test
+  public void shouldParseMemorySizesInEachUnit() {
+    assertThat(LaunchOptions.parseMemory("1024")).isEqualTo(Option.some(1024L));
+    assertThat(LaunchOptions.parseMemory("2k")).isEqualTo(Option.some(2048L));
+    assertThat(LaunchOptions.parseMemory("1G")).isEqualTo(
+        Option.some(1024 * MB));
+    assertThat(LaunchOptions.parseMemory("lots")).isEqualTo(
+        Option.<Long> none());
+  }
+
+  @Test
+  public void shouldKeepSharedArchiveWhenHeapReplaced() {
+    final LaunchOptions testee = new LaunchOptions(null, null,
+        Arrays.asList("-Xmx512m"), null).withSharedArchive("minion.jsa")
+        .withMaxHeap(1024 * MB);
+    assertThat(testee.getSharedArchive()).isEqualTo(Option.some("minion.jsa"));
+  }
+
+  @Test
+  public void shouldAddJvmArgWithoutChangingOriginal() {
+    final LaunchOptions original = new LaunchOptions(null, null,
+        Arrays.asList("-Xss1m"), null);
+    final LaunchOptions testee = original.withJvmArg("-Xshare:auto");
+    assertThat(testee.getChildJVMArgs()).containsExactly("-Xss1m",
+        "-Xshare:auto");
+    assertThat(original.getChildJVMArgs()).containsExactly("-Xss1m");
+  }
+
+}
@@ -0,0 +1,65 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.process.MinionHosts.Host;
+
+public class MinionHostsTest {
+
+  @Test
+  public void shouldRunOnlyLocallyWhenNoAgentsGiven() {
+    final MinionHosts testee = new MinionHosts(
+        Collections.<String> emptyList(), false);
+    assertThat(testee.acquire().isLocal()).isTrue();
+    assertThat(testee.acquire().isLocal()).isTrue();
+  }
+
+  @Test
+  public void shouldSpreadMinionsAcrossHosts() {
+    final MinionHosts testee = new MinionHosts(Arrays.asList("alpha:8097",
+        "beta:8097"), true);
+    assertThat(testee.acquire().toString()).isEqualTo("localhost");
+    assertThat(testee.acquire().toString()).isEqualTo("alpha:8097");
+    assertThat(testee.acquire().toString()).isEqualTo("beta:8097");
+    assertThat(testee.acquire().toString()).isEqualTo("localhost");
+  }
+
+  @Test
+  public void shouldReuseHostOnceMinionReleased() {
+    final MinionHosts testee = new MinionHosts(Arrays.asList("alpha:8097"),
+        false);
+    final Host first = testee.acquire();
+    testee.release(first);
+    assertThat(testee.acquire()).isSameAs(first);
+  }
+
+  @Test
+  public void shouldStopUsingUnreachableAgents() {
+    final MinionHosts testee = new MinionHosts(Arrays.asList("alpha:8097",
+        "beta:8097"), false);
+    final Host alpha = testee.acquire();
+    testee.unreachable(alpha);
+    testee.release(alpha);
+    assertThat(testee.acquire().toString()).isEqualTo("beta:8097");
+    assertThat(testee.acquire().toString()).isEqualTo("beta:8097");
+  }
+
+  @Test
+  public void shouldRunLocallyWhenNoAgentReachable() {
+    final MinionHosts testee = new MinionHosts(Arrays.asList("alpha:8097"),
+        false);
+    final Host alpha = testee.acquire();
+    testee.unreachable(alpha);
+    assertThat(testee.acquire().isLocal()).isTrue();
+  }
+
+  @Test(expected = IllegalArgumentException.class)
+  public void shouldRejectAgentsWithoutPort() {
+    new MinionHosts(Arrays.asList("alpha"), true);
+  }
+
+}
@@ -0,0 +1,88 @@
+package org.pitest.process;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.Assume.assumeTrue;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.nio.file.attribute.PosixFilePermissions;
+import java.util.EnumSet;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class SharedSecretTest {
+
+  @Rule
+  public TemporaryFolder folder = new TemporaryFolder();
+
+  @Test
+  public void shouldAcceptResponsesFromTheSameSecret() {
+    final SharedSecret testee = SharedSecret.random();
+    final byte[] challenge = testee.challenge();
+    assertThat(testee.accepts(challenge, testee.respond(challenge))).isTrue();
+  }
+
+  @Test
+  public void shouldRejectResponsesFromOtherSecrets() {
+    final SharedSecret testee = SharedSecret.random();
+    final byte[] challenge = testee.challenge();
+    assertThat(
+        testee.accepts(challenge, SharedSecret.random().respond(challenge)))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldRejectResponsesToOtherChallenges() {
+    final SharedSecret testee = SharedSecret.random();
+    assertThat(
+        testee.accepts(testee.challenge(), testee.respond(testee.challenge())))
+        .isFalse();
+  }
+
+  @Test
+  public void shouldReadBackCreatedSecret() throws IOException {
+    final File file = new File(this.folder.getRoot(), "dir/secret");
+    final SharedSecret created = SharedSecret.readOrCreate(file);
+    final SharedSecret read = SharedSecret.read(file).value();
+    final byte[] challenge = created.challenge();
+    assertThat(created.accepts(challenge, read.respond(challenge))).isTrue();
+  }
+
+  @Test
+  public void shouldFindNoSecretWhenFileMissing() throws IOException {
+    assertThat(
+        SharedSecret.read(new File(this.folder.getRoot(), "missing"))
+            .hasNone()).isTrue();
+  }
+
+  @Test
+  public void shouldCreateFileReadableOnlyByOwner() throws IOException {
+    assumePosix();
+    final File file = new File(this.folder.getRoot(), "secret");
+    SharedSecret.readOrCreate(file);
+    assertThat(Files.getPosixFilePermissions(file.toPath())).isEqualTo(
+        EnumSet.of(PosixFilePermission.OWNER_READ,
+            PosixFilePermission.OWNER_WRITE));
+  }
+
+  @Test(expected = IOException.class)
+  public void shouldRejectFilesOthersCanRead() throws IOException {
+    assumePosix();
+    final File file = this.folder.newFile("secret");
+    Files.write(file.toPath(), "secret".getBytes("ASCII"));
+    Files.setPosixFilePermissions(file.toPath(),
+        PosixFilePermissions.fromString("rw-r--r--"));
+    SharedSecret.read(file);
+  }
+
+  private void assumePosix() {
+    assumeTrue(Files.getFileAttributeView(this.folder.getRoot().toPath(),
+        PosixFileAttributeView.class) != null);
+  }
+
+}
@@ -8,6 +8,7 @@ class ConfidenceMap {
 
   private static final EnumSet<DetectionStatus> HIGH = EnumSet
       .of(DetectionStatus.KILLED,
+          DetectionStatus.INFERRED_KILLED,
           DetectionStatus.SURVIVED,
           DetectionStatus.NO_COVERAGE,
           DetectionStatus.NON_VIABLE);
@@ -12,6 +12,11 @@ public class ConfidenceMapTest {
     assertTrue(ConfidenceMap.hasHighConfidence(DetectionStatus.KILLED));
   }
   
+  @Test
+  public void shouldHaveHighConfidenceForInferredKilled() {
+    assertTrue(ConfidenceMap.hasHighConfidence(DetectionStatus.INFERRED_KILLED));
+  }
+  
   @Test
   public void shouldHaveHighConfidenceForSurvived() {
     assertTrue(ConfidenceMap.hasHighConfidence(DetectionStatus.SURVIVED));
@@ -38,7 +38,8 @@ public class AbstractPitMojo extends AbstractMojo {
   // Concrete List types declared for all fields to work around maven 2 bug
   
   /**
-   * Test plugin to use
+   * Test plugin to use. testng-methods runs each independent TestNG test
+   * method as a unit of its own.
    */
   @Parameter(property = "testPlugin", defaultValue = "")
   private String testPlugin;
@@ -119,6 +120,19 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "-1", property = "maxDependencyDistance")
   private int                         maxDependencyDistance;
 
+  /**
+   * File in which to cache class dependencies between runs. Only used when
+   * maxDependencyDistance is set.
+   */
+  @Parameter(property = "dependencyCacheFile")
+  private File                        dependencyCacheFile;
+
+  /**
+   * File in which to cache information read from classes between runs
+   */
+  @Parameter(property = "classInfoCacheFile")
+  private File                        classInfoCacheFile;
+
   /**
    * Number of threads to use
    */
@@ -162,6 +176,13 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "3000", property = "timeoutConstant")
   private long                        timeoutConstant;
 
+  /**
+   * Percentile of each test's observed durations to apply the timeout factor
+   * to, with the timeout constant as a minimum. 0 adds the constant instead.
+   */
+  @Parameter(defaultValue = "0", property = "timeoutPercentile")
+  private int                         timeoutPercentile;
+
   /**
    * Maximum number of mutations to allow per class
    */
@@ -232,7 +253,99 @@ public class AbstractPitMojo extends AbstractMojo {
   private boolean                     exportLineCoverage;
 
   /**
-   * Mutation score threshold at which to fail build
+   * Format of exported line coverage, XML or BINARY
+   */
+  @Parameter(defaultValue = "XML", property = "lineCoverageFormat")
+  private String                      lineCoverageFormat;
+
+  /**
+   * Seconds between lines of the run metrics file written to the report
+   * directory. 0 writes no metrics file.
+   */
+  @Parameter(defaultValue = "0", property = "metricsInterval")
+  private int                         metricsInterval;
+
+  /**
+   * Add the time spent in each phase of analysing a mutation to the csv and
+   * xml reports
+   */
+  @Parameter(defaultValue = "false", property = "reportTimings")
+  private boolean                     reportTimings;
+
+  /**
+   * Backward jumps a mutated class may take during a single test, on top of
+   * twice those taken by the unmutated code in the test's coverage run,
+   * before the mutation is considered to have timed out. 0 places no limit.
+   */
+  @Parameter(defaultValue = "0", property = "loopBudget")
+  private long                        loopBudget;
+
+  /**
+   * Largest heap in megabytes a minion may be given. When set minions are
+   * only started while there is memory free for them, and minions that run
+   * out of memory are retried with a larger heap. 0 leaves minion memory
+   * unmanaged.
+   */
+  @Parameter(defaultValue = "0", property = "maxMinionHeap")
+  private int                         maxMinionHeap;
+
+  /**
+   * Run each mutant in its own classloader rather than hot swapping it into
+   * the minion's. Only suitable for tests free of JVM wide side effects.
+   * Mutants in static initializers then share minions rather than each
+   * needing a fresh one.
+   */
+  @Parameter(defaultValue = "false", property = "isolateMutants")
+  private boolean                     isolateMutants;
+
+  /**
+   * Run mutants in different methods of a class together while they survive,
+   * splitting any group that is killed. Speeds up analysis of code where
+   * many mutants survive.
+   */
+  @Parameter(defaultValue = "false", property = "groupMutants")
+  private boolean                     groupMutants;
+
+  /**
+   * Run the tests for each class once against probes for its mutants, and
+   * report mutants that no test infects as surviving without running them.
+   * Infected mutants are run against only the tests that infect them.
+   */
+  @Parameter(defaultValue = "false", property = "infectionPrefilter")
+  private boolean                     infectionPrefilter;
+
+  /**
+   * Threads on which the coverage minion runs test classes annotated as
+   * thread safe (net.jcip or javax.annotation.concurrent ThreadSafe). Other
+   * test classes always run one at a time, as do thread safe classes that
+   * use threads they did not start, such as those of a shared pool.
+   */
+  @Parameter(defaultValue = "1", property = "coverageThreads")
+  private int                         coverageThreads;
+
+  /**
+   * Mutants each minion runs at once when mutants are isolated
+   */
+  @Parameter(defaultValue = "1", property = "mutantThreads")
+  private int                         mutantThreads;
+
+  /**
+   * host:port of worker agents on which minions may also be run. The agents'
+   * secret must be copied to ~/.pitest/agent-secret on this machine.
+   */
+  @Parameter(property = "workerAgents")
+  private ArrayList<String>           workerAgents;
+
+  /**
+   * Share the classes loaded by the coverage minion with later minions
+   * through a class data sharing archive, where the JVM supports it
+   */
+  @Parameter(defaultValue = "false", property = "classDataSharing")
+  private boolean                     classDataSharing;
+
+  /**
+   * Mutation score threshold at which to fail build. Mutants inferred to be
+   * killed by the SUBSUMPTION feature count as detected.
    */
   @Parameter(defaultValue = "0", property = "mutationThreshold")
   private int                         mutationThreshold;
@@ -249,6 +362,26 @@ public class AbstractPitMojo extends AbstractMojo {
   @Parameter(defaultValue = "0", property = "coverageThreshold")
   private int                         coverageThreshold;
 
+  /**
+   * Half width, in percentage points, of the confidence interval at which to
+   * stop analysing a random sample of mutations. When set the
+   * mutationThreshold is checked against the lower bound of the interval.
+   */
+  @Parameter(defaultValue = "0", property = "samplingMargin")
+  private float                       samplingMargin;
+
+  /**
+   * Confidence level, as a percentage, of the sampled mutation score interval
+   */
+  @Parameter(defaultValue = "95", property = "samplingConfidence")
+  private int                         samplingConfidence = 95;
+
+  /**
+   * Seed for the random sample of mutations
+   */
+  @Parameter(defaultValue = "0", property = "samplingSeed")
+  private long                        samplingSeed;
+
   /**
    * Path to java executable to use when running tests. Will default to
    * executable in JAVA_HOME if none set.
@@ -413,13 +546,20 @@ public class AbstractPitMojo extends AbstractMojo {
   private void throwErrorIfScoreBelowThreshold(final MutationStatistics result)
       throws MojoFailureException {
     if ((this.mutationThreshold != 0)
-        && (result.getPercentageDetected() < this.mutationThreshold)) {
-      throw new MojoFailureException("Mutation score of "
-          + result.getPercentageDetected() + " is below threshold of "
-          + this.mutationThreshold);
+        && (result.getScoreLowerBound() < this.mutationThreshold)) {
+      throw new MojoFailureException(describeScore(result)
+          + " is below threshold of " + this.mutationThreshold);
     }
   }
   
+  private String describeScore(final MutationStatistics result) {
+    if (result.isSampled()) {
+      return "Lower bound of sampled mutation score of "
+          + result.getScoreLowerBound();
+    }
+    return "Mutation score of " + result.getPercentageDetected();
+  }
+
   private void throwErrorIfMoreThanMaximumSurvivors(final MutationStatistics result)
       throws MojoFailureException {
     if ((this.maxSurviving >= 0)
@@ -475,6 +615,14 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.maxDependencyDistance;
   }
 
+  public File getDependencyCacheFile() {
+    return this.dependencyCacheFile;
+  }
+
+  public File getClassInfoCacheFile() {
+    return this.classInfoCacheFile;
+  }
+
   public int getThreads() {
     return this.threads;
   }
@@ -495,6 +643,10 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.timeoutConstant;
   }
 
+  public int getTimeoutPercentile() {
+    return this.timeoutPercentile;
+  }
+
   public ArrayList<String> getExcludedTestClasses() {
     return excludedTestClasses;
   }
@@ -543,6 +695,18 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.mutationUnitSize;
   }
 
+  public float getSamplingMargin() {
+    return this.samplingMargin;
+  }
+
+  public int getSamplingConfidence() {
+    return this.samplingConfidence;
+  }
+
+  public long getSamplingSeed() {
+    return this.samplingSeed;
+  }
+
   public boolean isTimestampedReports() {
     return this.timestampedReports;
   }
@@ -567,7 +731,69 @@ public class AbstractPitMojo extends AbstractMojo {
     return this.exportLineCoverage;
   }
 
+  public String getLineCoverageFormat() {
+    return this.lineCoverageFormat;
+  }
+
+  public int getMetricsInterval() {
+    return this.metricsInterval;
+  }
+
+  public boolean isReportTimings() {
+    return this.reportTimings;
+  }
+
+  public long getLoopBudget() {
+    return this.loopBudget;
+  }
+
+  public int getMaxMinionHeap() {
+    return this.maxMinionHeap;
+  }
+
+  public boolean isIsolateMutants() {
+    return this.isolateMutants;
+  }
+
+  public boolean isGroupMutants() {
+    return this.groupMutants;
+  }
+
+  public boolean isInfectionPrefilter() {
+    return this.infectionPrefilter;
+  }
+
+  public int getCoverageThreads() {
+    return this.coverageThreads;
+  }
+
+  public int getMutantThreads() {
+    return this.mutantThreads;
+  }
+
+  public ArrayList<String> getWorkerAgents() {
+    return this.workerAgents;
+  }
+
+  public boolean isClassDataSharing() {
+    return this.classDataSharing;
+  }
+
   protected RunDecision shouldRun() {
+    RunDecision decision = checkSkipFlags();
+
+    if ("pom".equalsIgnoreCase(this.project.getPackaging())) {
+      decision.addReason("Packaging is POM.");
+    }
+
+    if (!isAnalysable(project)) {
+      decision.addReason("Project has no tests, it is empty.");
+    }
+
+    return decision;
+  }
+
+  protected RunDecision checkSkipFlags() {
     RunDecision decision = new RunDecision();
 
     if (this.skip) {
@@ -578,17 +804,13 @@ public class AbstractPitMojo extends AbstractMojo {
       decision.addReason("Test execution should be skipped (-DskipTests).");
     }
 
-    if ("pom".equalsIgnoreCase(this.project.getPackaging())) {
-      decision.addReason("Packaging is POM.");
-    }
-
-    if (!notEmptyProject.apply(project)) {
-      decision.addReason("Project has no tests, it is empty.");
-    }
-
     return decision;
   }
 
+  protected boolean isAnalysable(final MavenProject candidate) {
+    return this.notEmptyProject.apply(candidate);
+  }
+
   public String getMutationEngine() {
     return this.mutationEngine;
   }
@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 
 public interface GoalStrategy {
@@ -27,4 +28,8 @@ public interface GoalStrategy {
   CombinedStatistics execute(File baseDir, ReportOptions options,
       PluginServices plugins, Map<String, String> environmentVariables)
       throws MojoExecutionException;
+
+  CombinedStatistics execute(File baseDir, ReportOptions options,
+      SettingsFactory settings, Map<String, String> environmentVariables)
+      throws MojoExecutionException;
 }
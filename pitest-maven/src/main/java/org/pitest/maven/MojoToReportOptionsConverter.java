@@ -96,6 +96,8 @@ public class MojoToReportOptionsConverter {
     data.setTestPlugin(this.mojo.getTestPlugin());
     data.setClassPathElements(classPath);
     data.setDependencyAnalysisMaxDistance(this.mojo.getMaxDependencyDistance());
+    data.setDependencyCacheLocation(this.mojo.getDependencyCacheFile());
+    data.setClassInfoCacheLocation(this.mojo.getClassInfoCacheFile());
     data.setFailWhenNoMutations(shouldFailWhenNoMutations());
 
     data.setTargetClasses(determineTargetClasses());
@@ -118,6 +120,7 @@ public class MojoToReportOptionsConverter {
     data.setMutators(determineMutators());
     data.setFeatures(determineFeatures());
     data.setTimeoutConstant(this.mojo.getTimeoutConstant());
+    data.setTimeoutPercentile(this.mojo.getTimeoutPercentile());
     data.setTimeoutFactor(this.mojo.getTimeoutFactor());
     if (hasValue(this.mojo.getAvoidCallsTo())) {
       data.setLoggingClasses(this.mojo.getAvoidCallsTo());
@@ -134,12 +137,27 @@ public class MojoToReportOptionsConverter {
     setTestGroups(data);
 
     data.setMutationUnitSize(this.mojo.getMutationUnitSize());
+    data.setSamplingMargin(this.mojo.getSamplingMargin());
+    data.setSamplingConfidence(this.mojo.getSamplingConfidence());
+    data.setSamplingSeed(this.mojo.getSamplingSeed());
     data.setShouldCreateTimestampedReports(this.mojo.isTimestampedReports());
     data.setDetectInlinedCode(this.mojo.isDetectInlinedCode());
 
     determineHistory(data);
     
     data.setExportLineCoverage(this.mojo.isExportLineCoverage());
+    data.setLineCoverageFormat(this.mojo.getLineCoverageFormat());
+    data.setMetricsInterval(this.mojo.getMetricsInterval());
+    data.setReportTimings(this.mojo.isReportTimings());
+    data.setLoopBudget(this.mojo.getLoopBudget());
+    data.setMaxMinionHeap(this.mojo.getMaxMinionHeap());
+    data.setIsolateMutants(this.mojo.isIsolateMutants());
+    data.setGroupMutants(this.mojo.isGroupMutants());
+    data.setInfectionPrefilter(this.mojo.isInfectionPrefilter());
+    data.setCoverageThreads(this.mojo.getCoverageThreads());
+    data.setMutantThreads(this.mojo.getMutantThreads());
+    data.setWorkerAgents(determineWorkerAgents());
+    data.setClassDataSharing(this.mojo.isClassDataSharing());
     data.setMutationEngine(this.mojo.getMutationEngine());
     data.setJavaExecutable(this.mojo.getJavaExecutable());
     data.setFreeFormProperties(createPluginProperties());
@@ -255,6 +273,13 @@ public class MojoToReportOptionsConverter {
       }
   }  
   
+  private Collection<String> determineWorkerAgents() {
+    if (this.mojo.getWorkerAgents() != null) {
+      return this.mojo.getWorkerAgents();
+    }
+    return Collections.emptyList();
+  }
+
   private Collection<String> determineTargetClasses() {
     return useConfiguredTargetClassesOrFindOccupiedPackages(this.mojo.getTargetClasses());
   }
@@ -0,0 +1,94 @@
+package org.pitest.maven;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HierarchicalClassId;
+import org.pitest.coverage.CoverageDatabase;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.ClassHistory;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Keeps the history of a reactor wide run in a store for each module, so that
+ * each module's history can still be used when it is analysed alone.
+ */
+class ReactorHistoryStore implements HistoryStore {
+
+  private final ReactorModules                                  modules;
+  private final Map<ReactorModule, HistoryStore>                stores;
+  private final Map<MutationIdentifier, MutationStatusTestPair> previousResults   = new HashMap<>();
+  private final Map<ClassName, ClassHistory>                    previousClassPath = new HashMap<>();
+  private final Map<String, long[]>                             previousDurations = new HashMap<>();
+
+  ReactorHistoryStore(final ReactorModules modules,
+      final Map<ReactorModule, HistoryStore> stores) {
+    this.modules = modules;
+    this.stores = stores;
+  }
+
+  @Override
+  public void initialize() {
+    for (final HistoryStore each : this.stores.values()) {
+      each.initialize();
+      this.previousResults.putAll(each.getHistoricResults());
+      this.previousClassPath.putAll(each.getHistoricClassPath());
+      this.previousDurations.putAll(each.getHistoricTestDurations());
+    }
+  }
+
+  @Override
+  public void recordClassPath(final Collection<HierarchicalClassId> ids,
+      final CoverageDatabase coverageInfo) {
+    // every store must record a classpath, even an empty one, before any
+    // results are written to it
+    final Map<ReactorModule, List<HierarchicalClassId>> split = new LinkedHashMap<>();
+    for (final ReactorModule each : this.stores.keySet()) {
+      split.put(each, new ArrayList<HierarchicalClassId>());
+    }
+    for (final HierarchicalClassId each : ids) {
+      for (final ReactorModule owner : this.modules.ownerOf(each.getName())) {
+        split.get(owner).add(each);
+      }
+    }
+    for (final Entry<ReactorModule, List<HierarchicalClassId>> each : split
+        .entrySet()) {
+      this.stores.get(each.getKey()).recordClassPath(each.getValue(),
+          coverageInfo);
+    }
+  }
+
+  @Override
+  public void recordResult(final MutationResult result) {
+    final Option<ReactorModule> owner = this.modules.ownerOf(result
+        .getDetails().getClassName());
+    for (final ReactorModule each : owner) {
+      this.stores.get(each).recordResult(result);
+    }
+  }
+
+  @Override
+  public Map<MutationIdentifier, MutationStatusTestPair> getHistoricResults() {
+    return this.previousResults;
+  }
+
+  @Override
+  public Map<ClassName, ClassHistory> getHistoricClassPath() {
+    return this.previousClassPath;
+  }
+
+  @Override
+  public Map<String, long[]> getHistoricTestDurations() {
+    return this.previousDurations;
+  }
+
+}
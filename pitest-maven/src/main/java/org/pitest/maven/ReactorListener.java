@@ -0,0 +1,47 @@
+package org.pitest.maven;
+
+import java.util.Map;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.MutationResultListener;
+
+/**
+ * Passes the results for each class to the listener of the module that built
+ * it, so each module receives a report of its own code only.
+ */
+class ReactorListener implements MutationResultListener {
+
+  private final ReactorModules                             modules;
+  private final Map<ReactorModule, MutationResultListener> listeners;
+
+  ReactorListener(final ReactorModules modules,
+      final Map<ReactorModule, MutationResultListener> listeners) {
+    this.modules = modules;
+    this.listeners = listeners;
+  }
+
+  @Override
+  public void runStart() {
+    for (final MutationResultListener each : this.listeners.values()) {
+      each.runStart();
+    }
+  }
+
+  @Override
+  public void handleMutationResult(final ClassMutationResults results) {
+    final Option<ReactorModule> owner = this.modules.ownerOf(results
+        .getMutatedClass());
+    for (final ReactorModule each : owner) {
+      this.listeners.get(each).handleMutationResult(results);
+    }
+  }
+
+  @Override
+  public void runEnd() {
+    for (final MutationResultListener each : this.listeners.values()) {
+      each.runEnd();
+    }
+  }
+
+}
@@ -0,0 +1,44 @@
+package org.pitest.maven;
+
+import java.io.File;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.config.ReportOptions;
+
+/**
+ * A module analysed as part of a reactor wide run, together with the options
+ * it would have been analysed with on its own.
+ */
+class ReactorModule {
+
+  private final String        name;
+  private final ReportOptions options;
+
+  ReactorModule(final String name, final ReportOptions options) {
+    this.name = name;
+    this.options = options;
+  }
+
+  String getName() {
+    return this.name;
+  }
+
+  ReportOptions getOptions() {
+    return this.options;
+  }
+
+  boolean owns(final ClassName clazz) {
+    for (final String each : this.options.getCodePaths()) {
+      if (new File(each, clazz.asInternalName() + ".class").exists()) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  @Override
+  public String toString() {
+    return this.name;
+  }
+
+}
@@ -0,0 +1,77 @@
+package org.pitest.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.config.ReportOptions;
+
+/**
+ * The modules of a reactor wide run. Combines their options into those for a
+ * single analysis, and maps each class back to the module that built it.
+ */
+class ReactorModules {
+
+  private final List<ReactorModule>                    modules;
+  private final Map<ClassName, Option<ReactorModule>> owners = new HashMap<>();
+
+  ReactorModules(final List<ReactorModule> modules) {
+    this.modules = modules;
+  }
+
+  List<ReactorModule> getModules() {
+    return this.modules;
+  }
+
+  /**
+   * Widens the supplied options to cover the code, tests and sources of every
+   * module. The code of each module is placed on the classpath ahead of any
+   * dependency, so a jar built from a sibling module cannot shadow it.
+   */
+  ReportOptions combine(final ReportOptions data) {
+    final Set<String> codePaths = new LinkedHashSet<>();
+    final Set<String> classPath = new LinkedHashSet<>();
+    final Set<File> sourceDirs = new LinkedHashSet<>();
+    final Set<String> targetClasses = new LinkedHashSet<>();
+    for (final ReactorModule each : this.modules) {
+      codePaths.addAll(each.getOptions().getCodePaths());
+      sourceDirs.addAll(each.getOptions().getSourceDirs());
+      targetClasses.addAll(each.getOptions().getTargetClasses());
+    }
+    classPath.addAll(codePaths);
+    for (final ReactorModule each : this.modules) {
+      classPath.addAll(each.getOptions().getClassPathElements());
+    }
+
+    data.setCodePaths(codePaths);
+    data.setClassPathElements(new ArrayList<>(classPath));
+    data.setSourceDirs(sourceDirs);
+    data.setTargetClasses(targetClasses);
+    return data;
+  }
+
+  synchronized Option<ReactorModule> ownerOf(final ClassName clazz) {
+    Option<ReactorModule> owner = this.owners.get(clazz);
+    if (owner == null) {
+      owner = findOwner(clazz);
+      this.owners.put(clazz, owner);
+    }
+    return owner;
+  }
+
+  private Option<ReactorModule> findOwner(final ClassName clazz) {
+    for (final ReactorModule each : this.modules) {
+      if (each.owns(clazz)) {
+        return Option.some(each);
+      }
+    }
+    return Option.none();
+  }
+
+}
@@ -0,0 +1,133 @@
+package org.pitest.maven;
+
+import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.apache.maven.artifact.Artifact;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.plugins.annotations.ResolutionScope;
+import org.apache.maven.project.MavenProject;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.tooling.CombinedStatistics;
+import org.pitest.util.Glob;
+
+/**
+ * Goal which runs a single coverage mutation report across the modules of a
+ * reactor. Coverage is gathered once and all mutants are analysed by one pool
+ * of minions, then a report is written for each module in its own build
+ * directory.
+ */
+@Mojo(name = "reactorMutationCoverage",
+      defaultPhase = LifecyclePhase.VERIFY,
+      requiresDependencyResolution = ResolutionScope.TEST,
+      aggregator = true,
+      threadSafe = true)
+public class ReactorPitMojo extends AbstractPitMojo {
+
+  /**
+   * Artifact ids of the modules to analyse. Globs may be used. When not set
+   * all modules with code and tests are analysed.
+   */
+  @Parameter(property = "reactorModules")
+  private ArrayList<String>  reactorModules;
+
+  /**
+   * <i>Internal</i>: Projects in the reactor.
+   */
+  @Parameter(property = "reactorProjects", readonly = true)
+  private List<MavenProject> reactorProjects;
+
+  public ReactorPitMojo(final GoalStrategy strategy,
+      final Predicate<Artifact> filter, final PluginServices plugins,
+      final Predicate<MavenProject> emptyProjectCheck) {
+    super(strategy, filter, plugins, emptyProjectCheck);
+  }
+
+  public ReactorPitMojo() {
+
+  }
+
+  @Override
+  protected RunDecision shouldRun() {
+    final RunDecision decision = checkSkipFlags();
+
+    if (selectModules().isEmpty()) {
+      decision.addReason("No module in the reactor has code and tests.");
+    }
+
+    return decision;
+  }
+
+  @Override
+  protected Option<CombinedStatistics> analyse() throws MojoExecutionException {
+    final List<MavenProject> selected = selectModules();
+    final List<ReactorModule> modules = new ArrayList<>();
+    for (final MavenProject each : selected) {
+      this.getLog().info("Will analyse module " + each.getArtifactId());
+      final ReportOptions options = convert(each);
+      options.setReportDir(new File(each.getBuild().getDirectory(),
+          "pit-reports").getAbsolutePath());
+      modules.add(new ReactorModule(each.getArtifactId(), options));
+    }
+
+    final ReactorModules reactor = new ReactorModules(modules);
+    final ReportOptions data = reactor.combine(convert(selected.get(0)));
+    if (useHistory()) {
+      // history is written to each module's file instead
+      data.setHistoryInputLocation(null);
+      data.setHistoryOutputLocation(null);
+    }
+
+    final ReactorSettingsFactory settings = new ReactorSettingsFactory(data,
+        this.plugins, reactor, useHistory());
+    try {
+      return Option.some(this.goalStrategy.execute(detectBaseDir(), data,
+          settings, getEnvironmentVariables()));
+    } finally {
+      settings.closeHistory();
+    }
+  }
+
+  private ReportOptions convert(final MavenProject module) {
+    final MavenProject root = this.project;
+    this.project = module;
+    try {
+      return new MojoToReportOptionsConverter(this,
+          new SurefireConfigConverter(), this.filter).convert();
+    } finally {
+      this.project = root;
+    }
+  }
+
+  private List<MavenProject> selectModules() {
+    return FCollection.filter(this.reactorProjects,
+        new Predicate<MavenProject>() {
+          @Override
+          public Boolean apply(final MavenProject a) {
+            return !"pom".equalsIgnoreCase(a.getPackaging())
+                && isAnalysable(a) && isSelected(a);
+          }
+        });
+  }
+
+  private boolean isSelected(final MavenProject module) {
+    if ((this.reactorModules == null) || this.reactorModules.isEmpty()) {
+      return true;
+    }
+    for (final String each : this.reactorModules) {
+      if (new Glob(each).matches(module.getArtifactId())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
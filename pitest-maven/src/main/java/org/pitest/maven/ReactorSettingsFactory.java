@@ -0,0 +1,112 @@
+package org.pitest.maven;
+
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import org.pitest.functional.Option;
+import org.pitest.mutationtest.HistoryStore;
+import org.pitest.mutationtest.ListenerArguments;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
+import org.pitest.mutationtest.incremental.ObjectOutputStreamHistoryStore;
+import org.pitest.mutationtest.incremental.WriterFactory;
+import org.pitest.mutationtest.statistics.MutationStatisticsSource;
+import org.pitest.mutationtest.tooling.SmartSourceLocator;
+
+/**
+ * Settings for a reactor wide run. Reports are written to the report
+ * directory of each module, and history optionally kept for each module.
+ */
+class ReactorSettingsFactory extends SettingsFactory {
+
+  private final ReactorModules      modules;
+  private final boolean             splitHistory;
+  private final List<WriterFactory> historyWriters = new ArrayList<>();
+
+  ReactorSettingsFactory(final ReportOptions options,
+      final PluginServices plugins, final ReactorModules modules,
+      final boolean splitHistory) {
+    super(options, plugins);
+    this.modules = modules;
+    this.splitHistory = splitHistory;
+  }
+
+  @Override
+  public MutationResultListenerFactory createListener() {
+    final MutationResultListenerFactory formats = super.createListener();
+    return new MutationResultListenerFactory() {
+
+      @Override
+      public MutationResultListener getListener(final Properties props,
+          final ListenerArguments args) {
+        final Map<ReactorModule, MutationResultListener> listeners = new LinkedHashMap<>();
+        for (final ReactorModule each : ReactorSettingsFactory.this.modules
+            .getModules()) {
+          listeners.put(each,
+              formats.getListener(props, argumentsFor(each, args)));
+        }
+        return new ReactorListener(ReactorSettingsFactory.this.modules,
+            listeners);
+      }
+
+      @Override
+      public String name() {
+        return "REACTOR";
+      }
+
+      @Override
+      public String description() {
+        return "Writes the reports for each module to its own report directory";
+      }
+
+    };
+  }
+
+  @Override
+  public HistoryStore createHistoryStore(final WriterFactory output,
+      final Option<Reader> input) {
+    if (!this.splitHistory) {
+      return super.createHistoryStore(output, input);
+    }
+    final Map<ReactorModule, HistoryStore> stores = new LinkedHashMap<>();
+    for (final ReactorModule each : this.modules.getModules()) {
+      final WriterFactory writer = each.getOptions().createHistoryWriter();
+      this.historyWriters.add(writer);
+      stores.put(each, new ObjectOutputStreamHistoryStore(writer, each
+          .getOptions().createHistoryReader()));
+    }
+    return new ReactorHistoryStore(this.modules, stores);
+  }
+
+  /**
+   * Closes the history files of each module, once analysis is complete
+   */
+  void closeHistory() {
+    for (final WriterFactory each : this.historyWriters) {
+      each.close();
+    }
+  }
+
+  private static ListenerArguments argumentsFor(final ReactorModule module,
+      final ListenerArguments args) {
+    final ReportOptions options = module.getOptions();
+    final SmartSourceLocator locator = new SmartSourceLocator(
+        options.getSourceDirs());
+    if (args.getStatistics().hasNone()) {
+      return new ListenerArguments(options.getReportDirectoryStrategy(),
+          args.getCoverage(), locator, args.getEngine(), args.getStartTime());
+    }
+    final MutationStatisticsSource statistics = args.getStatistics().value();
+    return new ListenerArguments(options.getReportDirectoryStrategy(),
+        args.getCoverage(), locator, args.getEngine(), args.getStartTime(),
+        statistics, args.isReportingTimings());
+  }
+
+}
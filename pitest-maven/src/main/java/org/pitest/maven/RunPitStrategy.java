@@ -20,6 +20,7 @@ import java.util.Map;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
 import org.pitest.mutationtest.tooling.AnalysisResult;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 import org.pitest.mutationtest.tooling.EntryPoint;
@@ -31,8 +32,17 @@ public class RunPitStrategy implements GoalStrategy {
       PluginServices plugins, Map<String, String> environmentVariables)
           throws MojoExecutionException {
 
+    return execute(baseDir, data, new SettingsFactory(data, plugins),
+        environmentVariables);
+  }
+
+  @Override
+  public CombinedStatistics execute(File baseDir, ReportOptions data,
+      SettingsFactory settings, Map<String, String> environmentVariables)
+          throws MojoExecutionException {
+
     EntryPoint e = new EntryPoint();
-    AnalysisResult result = e.execute(baseDir, data, plugins,
+    AnalysisResult result = e.execute(baseDir, data, settings,
         environmentVariables);
     if (result.getError().hasSome()) {
       throw new MojoExecutionException("fail", result.getError().value());
@@ -47,7 +47,7 @@ import org.pitest.mutationtest.config.UndatedReportDirCreationStrategy;
 public class PitAggregationMojo extends PitReportMojo {
 
   private static final String MUTATION_RESULT_FILTER = "target/pit-reports/mutations.xml";
-  private static final String LINECOVERAGE_FILTER    = "target/pit-reports/linecoverage.xml";
+  private static final String LINECOVERAGE_FILTER    = "target/pit-reports/linecoverage.xml,target/pit-reports/linecoverage.bin";
   /**
    * The projects in the reactor.
    */
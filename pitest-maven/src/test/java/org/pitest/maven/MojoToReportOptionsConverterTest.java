@@ -141,6 +141,11 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(42, actual.getTimeoutConstant());
   }
 
+  public void testParsesTimeOutPercentile() {
+    final ReportOptions actual = parseConfig("<timeoutPercentile>95</timeoutPercentile>");
+    assertEquals(95, actual.getTimeoutPercentile());
+  }
+
   public void testParsesListOfTargetTestClassGlobs() {
     final String xml = "<targetTests>" + //
         "                      <param>foo*</param>" + //
@@ -279,6 +284,15 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
         actual.getMutationUnitSize());
   }
 
+  public void testParsesSamplingOptions() {
+    final ReportOptions actual = parseConfig("<samplingMargin>2.5</samplingMargin>"
+        + "<samplingConfidence>99</samplingConfidence>"
+        + "<samplingSeed>42</samplingSeed>");
+    assertEquals(2.5f, actual.getSamplingMargin(), 0.0001f);
+    assertEquals(99, actual.getSamplingConfidence());
+    assertEquals(42L, actual.getSamplingSeed());
+  }
+
   public void testParsesTimeStampedReports() {
     final ReportOptions actual = parseConfig("<timestampedReports>false</timestampedReports>");
     assertEquals(false, actual.shouldCreateTimeStampedReports());
@@ -289,6 +303,16 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertEquals(new File("foo"), actual.getHistoryInputLocation());
   }
 
+  public void testParsesDependencyCacheFile() {
+    final ReportOptions actual = parseConfig("<dependencyCacheFile>foo</dependencyCacheFile>");
+    assertEquals(new File("foo"), actual.getDependencyCacheLocation());
+  }
+
+  public void testParsesClassInfoCacheFile() {
+    final ReportOptions actual = parseConfig("<classInfoCacheFile>foo</classInfoCacheFile>");
+    assertEquals(new File("foo"), actual.getClassInfoCacheLocation());
+  }
+
   public void testParsesHistoryOutputFile() {
     final ReportOptions actual = parseConfig("<historyOutputFile>foo</historyOutputFile>");
     assertEquals(new File("foo"), actual.getHistoryOutputLocation());
@@ -313,6 +337,76 @@ public class MojoToReportOptionsConverterTest extends BasePitMojoTest {
     assertFalse(actual.shouldExportLineCoverage());
   }
 
+  public void testParsesLineCoverageFormat() {
+    final ReportOptions actual = parseConfig("<lineCoverageFormat>BINARY</lineCoverageFormat>");
+    assertEquals("BINARY", actual.getLineCoverageFormat());
+  }
+
+  public void testParsesMetricsInterval() {
+    final ReportOptions actual = parseConfig("<metricsInterval>10</metricsInterval>");
+    assertEquals(10, actual.getMetricsInterval());
+  }
+
+  public void testParsesReportTimingsFlag() {
+    final ReportOptions actual = parseConfig("<reportTimings>true</reportTimings>");
+    assertTrue(actual.shouldReportTimings());
+  }
+
+  public void testParsesLoopBudget() {
+    final ReportOptions actual = parseConfig("<loopBudget>100000</loopBudget>");
+    assertEquals(100000, actual.getLoopBudget());
+  }
+
+  public void testParsesMaxMinionHeap() {
+    final ReportOptions actual = parseConfig("<maxMinionHeap>2048</maxMinionHeap>");
+    assertEquals(2048, actual.getMaxMinionHeap());
+  }
+
+  public void testParsesIsolateMutantsFlag() {
+    final ReportOptions actual = parseConfig("<isolateMutants>true</isolateMutants>");
+    assertTrue(actual.shouldIsolateMutants());
+  }
+
+  public void testParsesGroupMutantsFlag() {
+    final ReportOptions actual = parseConfig("<groupMutants>true</groupMutants>");
+    assertTrue(actual.shouldGroupMutants());
+  }
+
+  public void testParsesInfectionPrefilterFlag() {
+    final ReportOptions actual = parseConfig("<infectionPrefilter>true</infectionPrefilter>");
+    assertTrue(actual.shouldPrefilterInfection());
+  }
+
+  public void testParsesCoverageThreads() {
+    final ReportOptions actual = parseConfig("<coverageThreads>4</coverageThreads>");
+    assertEquals(4, actual.getCoverageThreads());
+  }
+
+  public void testParsesMutantThreads() {
+    final ReportOptions actual = parseConfig("<mutantThreads>4</mutantThreads>");
+    assertEquals(4, actual.getMutantThreads());
+  }
+
+  public void testParsesListOfWorkerAgents() {
+    final String xml = "<workerAgents>" + //
+        "                      <param>alpha:8097</param>" + //
+        "                      <param>beta:8098</param>" + //
+        "               </workerAgents>";
+    final ReportOptions actual = parseConfig(xml);
+    assertThat(actual.getWorkerAgents()).containsExactly("alpha:8097",
+        "beta:8098");
+  }
+
+  public void testParsesClassDataSharingFlag() {
+    final ReportOptions actual = parseConfig("<classDataSharing>true</classDataSharing>");
+    assertTrue(actual.isClassDataSharing());
+  }
+
+  public void testDefaultsToNoWorkerAgents() {
+    final ReportOptions actual = parseConfig("");
+    assertThat(actual.getWorkerAgents()).isEmpty();
+  }
+
   public void testParsesEngineWhenSet() {
     final ReportOptions actual = parseConfig("<mutationEngine>foo</mutationEngine>");
     assertEquals("foo", actual.getMutationEngine());
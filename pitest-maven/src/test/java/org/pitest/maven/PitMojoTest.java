@@ -18,6 +18,7 @@ import org.pitest.mutationtest.config.PluginServices;
 import org.pitest.mutationtest.config.ReportOptions;
 import org.pitest.mutationtest.statistics.MutationStatistics;
 import org.pitest.mutationtest.statistics.Score;
+import org.pitest.mutationtest.statistics.ScoreInterval;
 import org.pitest.mutationtest.tooling.CombinedStatistics;
 
 public class PitMojoTest extends BasePitMojoTest {
@@ -79,6 +80,24 @@ public class PitMojoTest extends BasePitMojoTest {
     }
   }
 
+  public void testThrowsMojoFailureExceptionWhenLowerBoundOfSampledScoreBelowThreshold()
+      throws Exception {
+    this.testee = createPITMojo(createPomWithConfiguration("<mutationThreshold>55</mutationThreshold>"));
+    final MutationStatistics stats = new MutationStatistics(
+        Collections.<Score> emptyList(), 100, 60, 0,
+        ScoreInterval.estimate(100, 60, 1000, 95));
+    when(
+        this.executionStrategy.execute(any(File.class),
+            any(ReportOptions.class), any(PluginServices.class), anyMap()))
+            .thenReturn(new CombinedStatistics(stats, new CoverageSummary(0, 0)));
+    try {
+      this.testee.execute();
+      fail();
+    } catch (final MojoFailureException ex) {
+      // pass
+    }
+  }
+
   public void testThrowsMojoFailureExceptionWhenSurvivingMutantsAboveThreshold()
       throws Exception {
     this.testee = createPITMojo(createPomWithConfiguration("<maxSurviving>19</maxSurviving>"));
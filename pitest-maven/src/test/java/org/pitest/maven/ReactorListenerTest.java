@@ -0,0 +1,105 @@
+package org.pitest.maven;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.classinfo.ClassName;
+import org.pitest.mutationtest.ClassMutationResults;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationResult;
+import org.pitest.mutationtest.MutationResultListener;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.engine.Location;
+import org.pitest.mutationtest.engine.MethodName;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+public class ReactorListenerTest {
+
+  @Rule
+  public TemporaryFolder         folder = new TemporaryFolder();
+
+  @Mock
+  private MutationResultListener listenerA;
+
+  @Mock
+  private MutationResultListener listenerB;
+
+  private ReactorListener        testee;
+
+  @Before
+  public void setUp() throws IOException {
+    MockitoAnnotations.initMocks(this);
+    final ReactorModule a = createModule("a", "com/a/Foo.class");
+    final ReactorModule b = createModule("b", "com/b/Bar.class");
+    final Map<ReactorModule, MutationResultListener> listeners = new LinkedHashMap<>();
+    listeners.put(a, this.listenerA);
+    listeners.put(b, this.listenerB);
+    this.testee = new ReactorListener(new ReactorModules(Arrays.asList(a, b)),
+        listeners);
+  }
+
+  @Test
+  public void shouldStartAndEndTheListenerOfEveryModule() {
+    this.testee.runStart();
+    this.testee.runEnd();
+    verify(this.listenerA).runStart();
+    verify(this.listenerB).runStart();
+    verify(this.listenerA).runEnd();
+    verify(this.listenerB).runEnd();
+  }
+
+  @Test
+  public void shouldPassResultsOnlyToTheModuleThatBuiltTheClass() {
+    final ClassMutationResults results = createResults("com.b.Bar");
+    this.testee.handleMutationResult(results);
+    verify(this.listenerB).handleMutationResult(results);
+    verify(this.listenerA, never()).handleMutationResult(
+        any(ClassMutationResults.class));
+  }
+
+  @Test
+  public void shouldPassResultsForInnerClassesToTheModuleThatBuiltThem()
+      throws IOException {
+    new File(this.folder.getRoot(), "a/com/a/Foo$Inner.class").createNewFile();
+    final ClassMutationResults results = createResults("com.a.Foo$Inner");
+    this.testee.handleMutationResult(results);
+    verify(this.listenerA).handleMutationResult(results);
+  }
+
+  private ReactorModule createModule(final String name, final String clazz)
+      throws IOException {
+    final File code = this.folder.newFolder(name);
+    final File file = new File(code, clazz);
+    file.getParentFile().mkdirs();
+    file.createNewFile();
+    final ReportOptions options = new ReportOptions();
+    options.setCodePaths(Collections.singleton(code.getAbsolutePath()));
+    return new ReactorModule(name, options);
+  }
+
+  private static ClassMutationResults createResults(final String clazz) {
+    final MutationIdentifier id = new MutationIdentifier(new Location(
+        ClassName.fromString(clazz), MethodName.fromString("method"), "()V"),
+        0, "mutator");
+    return new ClassMutationResults(Collections.singletonList(new MutationResult(
+        new MutationDetails(id, "file", "desc", 1, 0),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED))));
+  }
+
+}
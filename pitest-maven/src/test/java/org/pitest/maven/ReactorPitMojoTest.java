@@ -0,0 +1,140 @@
+package org.pitest.maven;
+
+import static org.mockito.Matchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+import org.apache.maven.model.Build;
+import org.apache.maven.project.MavenProject;
+import org.codehaus.plexus.util.FileUtils;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Matchers;
+import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.config.ReportOptions;
+import org.pitest.mutationtest.config.SettingsFactory;
+
+public class ReactorPitMojoTest extends BasePitMojoTest {
+
+  private ReactorPitMojo testee;
+
+  private File           codeA;
+
+  private File           codeB;
+
+  @Override
+  public void setUp() throws Exception {
+    super.setUp();
+    when(this.project.getPackaging()).thenReturn("pom");
+    this.codeA = createModuleCode("com/a/Foo.class");
+    this.codeB = createModuleCode("com/b/Bar.class");
+    this.testee = new ReactorPitMojo(this.executionStrategy, this.filter,
+        this.plugins, True.<MavenProject> all());
+  }
+
+  @Override
+  protected void tearDown() throws Exception {
+    FileUtils.deleteDirectory(this.codeA.getParentFile());
+    FileUtils.deleteDirectory(this.codeB.getParentFile());
+    super.tearDown();
+  }
+
+  public void testAnalysesAllModulesInASingleRun() throws Exception {
+    configure("");
+    this.testee.execute();
+
+    final ReportOptions data = captureOptions();
+    assertEquals(Arrays.asList(this.codeA.getAbsolutePath(),
+        this.codeB.getAbsolutePath()),
+        new ArrayList<>(data.getCodePaths()));
+    assertTrue(data.getTargetClasses().containsAll(
+        Arrays.asList("com.a.*", "com.b.*")));
+  }
+
+  public void testPlacesModuleCodeFirstOnClasspath() throws Exception {
+    configure("");
+    this.testee.execute();
+
+    final List<String> classPath = new ArrayList<>(captureOptions()
+        .getClassPathElements());
+    assertEquals(Arrays.asList(this.codeA.getAbsolutePath(),
+        this.codeB.getAbsolutePath()), classPath.subList(0, 2));
+    assertEquals(classPath.lastIndexOf(this.codeA.getAbsolutePath()),
+        classPath.indexOf(this.codeA.getAbsolutePath()));
+  }
+
+  public void testAnalysesOnlySelectedModules() throws Exception {
+    configure("<reactorModules><param>*-b</param></reactorModules>");
+    this.testee.execute();
+
+    assertEquals(Collections.singletonList(this.codeB.getAbsolutePath()),
+        new ArrayList<>(captureOptions().getCodePaths()));
+  }
+
+  public void testDoesNotAnalyseWhenNoModuleSelected() throws Exception {
+    configure("<reactorModules><param>missing</param></reactorModules>");
+    this.testee.execute();
+    verify(this.executionStrategy, never()).execute(any(File.class),
+        any(ReportOptions.class), any(SettingsFactory.class), anyMap());
+  }
+
+  public void testDoesNotAnalyseWithSkipFlagSet() throws Exception {
+    configure("<skip>true</skip>");
+    this.testee.execute();
+    verify(this.executionStrategy, never()).execute(any(File.class),
+        any(ReportOptions.class), any(SettingsFactory.class), anyMap());
+  }
+
+  private void configure(final String config) throws Exception {
+    configurePitMojo(this.testee, createPomWithConfiguration(config));
+    setVariableValueToObject(this.testee, "reactorProjects", Arrays.asList(
+        this.project, createModule("module-a", this.codeA),
+        createModule("module-b", this.codeB)));
+  }
+
+  private MavenProject createModule(final String artifactId, final File code)
+      throws Exception {
+    final MavenProject module = mock(MavenProject.class);
+    final Build build = new Build();
+    build.setOutputDirectory(code.getAbsolutePath());
+    build.setDirectory(code.getParent());
+    when(module.getBuild()).thenReturn(build);
+    when(module.getArtifactId()).thenReturn(artifactId);
+    when(module.getPackaging()).thenReturn("jar");
+    when(module.getTestClasspathElements()).thenReturn(
+        Arrays.asList(code.getAbsolutePath(), this.codeA.getAbsolutePath()));
+    return module;
+  }
+
+  private File createModuleCode(final String clazz) throws IOException {
+    final File build = Files.createTempDirectory("reactor").toFile();
+    final File code = new File(build, "classes");
+    final File file = new File(code, clazz);
+    file.getParentFile().mkdirs();
+    file.createNewFile();
+    return code;
+  }
+
+  private ReportOptions captureOptions() throws Exception {
+    final ArgumentCaptor<ReportOptions> options = ArgumentCaptor
+        .forClass(ReportOptions.class);
+    verify(this.executionStrategy).execute(any(File.class),
+        options.capture(), any(SettingsFactory.class), anyMap());
+    return options.getValue();
+  }
+
+  private Map<String, String> anyMap() {
+    return Matchers.<Map<String, String>> any();
+  }
+
+}
@@ -0,0 +1,26 @@
+package org.pitest.maven;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Collections;
+
+import org.junit.Test;
+import org.pitest.mutationtest.MutationResultListenerFactory;
+import org.pitest.mutationtest.config.PluginServices;
+import org.pitest.mutationtest.config.ReportOptions;
+
+public class ReactorSettingsFactoryTest {
+
+  private final ReactorSettingsFactory testee = new ReactorSettingsFactory(
+      new ReportOptions(), PluginServices.makeForContextLoader(),
+      new ReactorModules(Collections.<ReactorModule> emptyList()), false);
+
+  @Test
+  public void shouldDescribeTheReactorListener() {
+    final MutationResultListenerFactory listener = this.testee
+        .createListener();
+    assertThat(listener.name()).isEqualTo("REACTOR");
+    assertThat(listener.description()).isNotEmpty();
+  }
+
+}
@@ -0,0 +1,118 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.bytecode;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+
+import sun.pitest.LoopBudget;
+
+/**
+ * Calls LoopBudget before every backward jump, including switches with a
+ * backward target, so that a mutant stuck in a loop fails its test once the
+ * budget is spent. The call neither uses the stack nor adds locals, so
+ * existing frames remain valid.
+ */
+public class LoopCountingClassVisitor extends ClassVisitor {
+
+  public LoopCountingClassVisitor(final ClassVisitor cv) {
+    super(Opcodes.ASM6, cv);
+  }
+
+  public static byte[] instrument(final byte[] bytes) {
+    final ClassReader reader = new ClassReader(bytes);
+    final ClassWriter writer = new ClassWriter(reader, 0);
+    reader.accept(new LoopCountingClassVisitor(writer), 0);
+    return writer.toByteArray();
+  }
+
+  @Override
+  public MethodVisitor visitMethod(final int access, final String name,
+      final String desc, final String signature, final String[] exceptions) {
+    final MethodVisitor mv = super.visitMethod(access, name, desc, signature,
+        exceptions);
+    if (mv == null) {
+      return null;
+    }
+    return new LoopCountingMethodVisitor(mv);
+  }
+
+  private static class LoopCountingMethodVisitor extends MethodVisitor {
+
+    private final Set<Label> seen = new HashSet<>();
+
+    LoopCountingMethodVisitor(final MethodVisitor mv) {
+      super(Opcodes.ASM6, mv);
+    }
+
+    @Override
+    public void visitLabel(final Label label) {
+      this.seen.add(label);
+      super.visitLabel(label);
+    }
+
+    @Override
+    public void visitJumpInsn(final int opcode, final Label label) {
+      if ((opcode != Opcodes.JSR) && this.seen.contains(label)) {
+        tick();
+      }
+      super.visitJumpInsn(opcode, label);
+    }
+
+    @Override
+    public void visitTableSwitchInsn(final int min, final int max,
+        final Label dflt, final Label... labels) {
+      if (jumpsBack(dflt, labels)) {
+        tick();
+      }
+      super.visitTableSwitchInsn(min, max, dflt, labels);
+    }
+
+    @Override
+    public void visitLookupSwitchInsn(final Label dflt, final int[] keys,
+        final Label[] labels) {
+      if (jumpsBack(dflt, labels)) {
+        tick();
+      }
+      super.visitLookupSwitchInsn(dflt, keys, labels);
+    }
+
+    private boolean jumpsBack(final Label dflt, final Label[] labels) {
+      if (this.seen.contains(dflt)) {
+        return true;
+      }
+      for (final Label each : labels) {
+        if (this.seen.contains(each)) {
+          return true;
+        }
+      }
+      return false;
+    }
+
+    private void tick() {
+      super.visitMethodInsn(Opcodes.INVOKESTATIC, LoopBudget.CLASS_NAME,
+          LoopBudget.TICK_METHOD_NAME, "()V", false);
+    }
+
+  }
+
+}
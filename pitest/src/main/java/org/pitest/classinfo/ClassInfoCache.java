@@ -0,0 +1,193 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classinfo;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.Serializable;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Stores the information read from each class keyed by the hash and length of
+ * its bytecode, so that unchanged classes need not be re-parsed in a later
+ * run. Safe for use from multiple threads.
+ */
+public class ClassInfoCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 1;
+
+  private final ConcurrentMap<ClassName, CachedClass> entries = new ConcurrentHashMap<>();
+
+  Option<ClassInfoBuilder> get(final ClassName clazz, final long hash,
+      final int length) {
+    final CachedClass cached = this.entries.get(clazz);
+    if ((cached == null) || (cached.length != length)
+        || (cached.info.id.getHash() != hash)) {
+      return Option.none();
+    }
+    return Option.some(cached.info);
+  }
+
+  void put(final int length, final ClassInfoBuilder info) {
+    if (isSerializable(info)) {
+      this.entries.put(info.id.getName(), new CachedClass(length, info));
+    }
+  }
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  public static ClassInfoCache read(final File file) {
+    final ClassInfoCache cache = new ClassInfoCache();
+    if (!file.exists() || (file.length() == 0)) {
+      return cache;
+    }
+
+    try (FileInputStream fis = new FileInputStream(file)) {
+      final SafeDataInputStream is = new SafeDataInputStream(
+          new BufferedInputStream(fis));
+      if (is.readInt() != VERSION) {
+        LOG.info("Ignoring class info cache from incompatible version at "
+            + file);
+        return cache;
+      }
+      final int count = is.readInt();
+      for (int i = 0; i != count; i++) {
+        final int length = is.readInt();
+        cache.put(length, readClass(is));
+      }
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Could not read class info cache from " + file + " : "
+          + ex.getMessage());
+      return new ClassInfoCache();
+    }
+    return cache;
+  }
+
+  public void write(final File file) {
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      final SafeDataOutputStream os = new SafeDataOutputStream(
+          new BufferedOutputStream(fos));
+      os.writeInt(VERSION);
+      os.writeInt(this.entries.size());
+      for (final CachedClass each : this.entries.values()) {
+        os.writeInt(each.length);
+        writeClass(os, each.info);
+      }
+      os.flush();
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Could not write class info cache to " + file + " : "
+          + ex.getMessage());
+    }
+  }
+
+  private static ClassInfoBuilder readClass(final SafeDataInputStream is) {
+    final ClassInfoBuilder info = new ClassInfoBuilder();
+    final long hash = is.readLong();
+    info.id = new ClassIdentifier(hash, ClassName.fromString(is.readString()));
+    info.access = is.readInt();
+    info.outerClass = readNullableString(is);
+    info.superClass = readNullableString(is);
+    info.sourceFile = readNullableString(is);
+    final int lines = is.readInt();
+    for (int i = 0; i != lines; i++) {
+      info.registerCodeLine(is.readInt());
+    }
+    final int annotations = is.readInt();
+    for (int i = 0; i != annotations; i++) {
+      info.registerAnnotation(is.readString());
+    }
+    final int values = is.readInt();
+    for (int i = 0; i != values; i++) {
+      info.registerClassAnnotationValue(
+          ClassName.fromString(is.readString()), is.read(Serializable.class));
+    }
+    return info;
+  }
+
+  private static void writeClass(final SafeDataOutputStream os,
+      final ClassInfoBuilder info) {
+    os.writeLong(info.id.getHash());
+    os.writeString(info.id.getName().asInternalName());
+    os.writeInt(info.access);
+    writeNullableString(os, info.outerClass);
+    writeNullableString(os, info.superClass);
+    writeNullableString(os, info.sourceFile);
+    os.writeInt(info.codeLines.size());
+    for (final Integer each : info.codeLines) {
+      os.writeInt(each);
+    }
+    os.writeInt(info.annotations.size());
+    for (final String each : info.annotations) {
+      os.writeString(each);
+    }
+    os.writeInt(info.classAnnotationValues.size());
+    for (final Entry<ClassName, Object> each : info.classAnnotationValues
+        .entrySet()) {
+      os.writeString(each.getKey().asInternalName());
+      os.write((Serializable) each.getValue());
+    }
+  }
+
+  private static String readNullableString(final SafeDataInputStream is) {
+    if (is.readBoolean()) {
+      return is.readString();
+    }
+    return null;
+  }
+
+  private static void writeNullableString(final SafeDataOutputStream os,
+      final String value) {
+    os.writeBoolean(value != null);
+    if (value != null) {
+      os.writeString(value);
+    }
+  }
+
+  private static boolean isSerializable(final ClassInfoBuilder info) {
+    for (final Object each : info.classAnnotationValues.values()) {
+      if (!(each instanceof Serializable)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static class CachedClass {
+    private final int              length;
+    private final ClassInfoBuilder info;
+
+    CachedClass(final int length, final ClassInfoBuilder info) {
+      this.length = length;
+      this.info = info;
+    }
+  }
+
+}
@@ -0,0 +1,61 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classpath;
+
+import java.io.BufferedReader;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+
+/**
+ * Loads, without initialising, each class named in a list written by the
+ * JVM's -XX:DumpLoadedClassList option. Launched by the parent to time how
+ * long a minion spends loading its classes.
+ */
+public final class ClassListLoader {
+
+  private ClassListLoader() {
+  }
+
+  public static void main(final String[] args) throws IOException {
+    final ClassLoader loader = ClassLoader.getSystemClassLoader();
+    try (BufferedReader reader = new BufferedReader(new InputStreamReader(
+        new FileInputStream(args[0]), "UTF-8"))) {
+      String line = reader.readLine();
+      while (line != null) {
+        load(loader, line.trim());
+        line = reader.readLine();
+      }
+    }
+  }
+
+  private static void load(final ClassLoader loader, final String line) {
+    // later JVMs add comments, ids and lambda form entries to the list
+    if (line.isEmpty() || line.startsWith("#") || line.startsWith("@")) {
+      return;
+    }
+    final int space = line.indexOf(' ');
+    final String name = (space == -1 ? line : line.substring(0, space))
+        .replace('/', '.');
+    try {
+      Class.forName(name, false, loader);
+    } catch (final ClassNotFoundException ex) {
+      // classes defined at run time cannot be found
+    } catch (final LinkageError ex) {
+      // nor can some loaded by other loaders
+    }
+  }
+
+}
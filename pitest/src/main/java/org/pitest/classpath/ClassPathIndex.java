@@ -0,0 +1,128 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.classpath;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+
+import org.pitest.util.PitError;
+import org.pitest.util.Unchecked;
+
+/**
+ * Maps the name of each class held by a list of roots to the first root that
+ * holds it, so a class can be found without asking each root in turn.
+ *
+ * The roots are read in parallel, as reading each means walking a directory
+ * or the central directory of an archive.
+ */
+final class ClassPathIndex {
+
+  private final Map<String, ClassPathRoot> owners;
+
+  private ClassPathIndex(final Map<String, ClassPathRoot> owners) {
+    this.owners = owners;
+  }
+
+  static ClassPathIndex of(final List<? extends ClassPathRoot> roots) {
+    final List<Collection<String>> names = readNames(roots);
+    final Map<String, ClassPathRoot> owners = new LinkedHashMap<>();
+    for (int i = 0; i != roots.size(); i++) {
+      for (final String each : names.get(i)) {
+        if (!owners.containsKey(each)) {
+          owners.put(each, roots.get(i));
+        }
+      }
+    }
+    return new ClassPathIndex(owners);
+  }
+
+  /**
+   * The first root holding the named class, or null if no root holds it
+   */
+  ClassPathRoot ownerOf(final String javaName) {
+    return this.owners.get(javaName);
+  }
+
+  Collection<String> classNames() {
+    return this.owners.keySet();
+  }
+
+  private static List<Collection<String>> readNames(
+      final List<? extends ClassPathRoot> roots) {
+    final int threads = Math.min(roots.size(), Runtime.getRuntime()
+        .availableProcessors());
+    if (threads <= 1) {
+      final List<Collection<String>> names = new ArrayList<>();
+      for (final ClassPathRoot each : roots) {
+        names.add(each.classNames());
+      }
+      return names;
+    }
+
+    final ExecutorService pool = Executors.newFixedThreadPool(threads,
+        daemonThreads());
+    try {
+      final List<Future<Collection<String>>> futures = new ArrayList<>();
+      for (final ClassPathRoot each : roots) {
+        futures.add(pool.submit(namesOf(each)));
+      }
+      final List<Collection<String>> names = new ArrayList<>();
+      for (final Future<Collection<String>> each : futures) {
+        names.add(each.get());
+      }
+      return names;
+    } catch (final ExecutionException ex) {
+      if (ex.getCause() instanceof RuntimeException) {
+        throw (RuntimeException) ex.getCause();
+      }
+      throw Unchecked.translateCheckedException(ex.getCause());
+    } catch (final InterruptedException ex) {
+      Thread.currentThread().interrupt();
+      throw new PitError("Interrupted while reading class path", ex);
+    } finally {
+      pool.shutdownNow();
+    }
+  }
+
+  private static Callable<Collection<String>> namesOf(final ClassPathRoot root) {
+    return new Callable<Collection<String>>() {
+      @Override
+      public Collection<String> call() {
+        return root.classNames();
+      }
+    };
+  }
+
+  private static ThreadFactory daemonThreads() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r, "pit-classpath-index");
+        thread.setDaemon(true);
+        return thread;
+      }
+    };
+  }
+
+}
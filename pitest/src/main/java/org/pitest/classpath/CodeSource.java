@@ -9,6 +9,7 @@ import java.util.List;
 import java.util.Set;
 
 import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassInfoCache;
 import org.pitest.classinfo.ClassInfoSource;
 import org.pitest.classinfo.ClassName;
 import org.pitest.classinfo.NameToClassInfo;
@@ -27,8 +28,13 @@ public class CodeSource implements ClassInfoSource {
   private final Repository          classRepository;
 
   public CodeSource(final ProjectClassPaths classPath) {
+    this(classPath, Option.<ClassInfoCache> none());
+  }
+
+  public CodeSource(final ProjectClassPaths classPath,
+      final Option<ClassInfoCache> cache) {
     this(classPath, new Repository(new ClassPathByteArraySource(
-        classPath.getClassPath())));
+        classPath.getClassPath()), cache));
   }
 
   CodeSource(final ProjectClassPaths classPath,
@@ -3,6 +3,7 @@ package org.pitest.classpath;
 import java.io.File;
 import java.io.IOException;
 import java.io.InputStream;
+import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -10,13 +11,22 @@ import java.util.Collection;
 import java.util.Iterator;
 import java.util.List;
 
+import org.pitest.classinfo.ClassName;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
 
+/**
+ * Roots searched in order, the first holding a class supplying it.
+ *
+ * Roots that do expensive IO are indexed by class name on first use, so they
+ * are only asked for classes they hold. Other roots are asked in turn.
+ */
 public class CompoundClassPathRoot implements ClassPathRoot,
     Iterable<ClassPathRoot> {
 
-  private final List<ClassPathRoot> roots = new ArrayList<>();
+  private final List<ClassPathRoot>    roots = new ArrayList<>();
+
+  private SoftReference<ClassPathIndex> index;
 
   public CompoundClassPathRoot(final List<ClassPathRoot> roots) {
     this.roots.addAll(wrapToAvoidIOOperations(roots));
@@ -24,7 +34,12 @@ public class CompoundClassPathRoot implements ClassPathRoot,
 
   @Override
   public InputStream getData(final String name) throws IOException {
+    final ClassPathRoot owner = index().ownerOf(
+        ClassName.fromString(name).asJavaName());
     for (final ClassPathRoot each : this.roots) {
+      if (isIndexed(each) && (each != owner)) {
+        continue;
+      }
       final InputStream is = each.getData(name);
       if (is != null) {
         return is;
@@ -35,13 +50,37 @@ public class CompoundClassPathRoot implements ClassPathRoot,
 
   @Override
   public Collection<String> classNames() {
-    final List<String> arrayList = new ArrayList<>();
+    final List<String> arrayList = new ArrayList<>(index().classNames());
     for (final ClassPathRoot root : this.roots) {
-      arrayList.addAll(root.classNames());
+      if (!isIndexed(root)) {
+        arrayList.addAll(root.classNames());
+      }
     }
     return arrayList;
   }
 
+  private synchronized ClassPathIndex index() {
+    if (this.index != null) {
+      final ClassPathIndex cached = this.index.get();
+      if (cached != null) {
+        return cached;
+      }
+    }
+    final List<ClassPathRoot> indexed = new ArrayList<>();
+    for (final ClassPathRoot each : this.roots) {
+      if (isIndexed(each)) {
+        indexed.add(each);
+      }
+    }
+    final ClassPathIndex built = ClassPathIndex.of(indexed);
+    this.index = new SoftReference<>(built);
+    return built;
+  }
+
+  private static boolean isIndexed(final ClassPathRoot root) {
+    return root instanceof NameCachingRoot;
+  }
+
   @Override
   public URL getResource(String name) throws MalformedURLException {
     try {
@@ -6,11 +6,19 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
+import java.nio.file.FileVisitOption;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
 import java.util.Collection;
-import java.util.LinkedList;
+import java.util.EnumSet;
 import java.util.List;
 
 import org.pitest.functional.Option;
+import org.pitest.util.Unchecked;
 
 /*
  * Copyright 2010 Henry Coles
@@ -59,27 +67,38 @@ public class DirectoryClassPathRoot implements ClassPathRoot, IOHeavyRoot {
 
   @Override
   public Collection<String> classNames() {
-    return classNames(this.root);
-  }
+    final Path base = this.root.toPath();
+    final List<String> classNames = new ArrayList<>();
+    try {
+      Files.walkFileTree(base, EnumSet.of(FileVisitOption.FOLLOW_LINKS),
+          Integer.MAX_VALUE, new SimpleFileVisitor<Path>() {
+            @Override
+            public FileVisitResult visitFile(final Path file,
+                final BasicFileAttributes attrs) {
+              if (!attrs.isDirectory()
+                  && file.getFileName().toString().endsWith(".class")) {
+                classNames.add(fileToClassName(base.relativize(file)));
+              }
+              return FileVisitResult.CONTINUE;
+            }
 
-  private Collection<String> classNames(final File file) {
-    final List<String> classNames = new LinkedList<>();
-    for (final File f : file.listFiles()) {
-      if (f.isDirectory()) {
-        classNames.addAll(classNames(f));
-      } else if (f.getName().endsWith(".class")) {
-        classNames.add(fileToClassName(f));
-      }
+            @Override
+            public FileVisitResult visitFileFailed(final Path file,
+                final IOException ex) {
+              // unreadable entries and symlink cycles hold no classes
+              return FileVisitResult.CONTINUE;
+            }
+          });
+    } catch (final IOException ex) {
+      throw Unchecked.translateCheckedException(ex);
     }
     return classNames;
   }
 
-  private String fileToClassName(final File f) {
-    return f
-        .getAbsolutePath()
-        .substring(this.root.getAbsolutePath().length() + 1,
-            (f.getAbsolutePath().length() - ".class".length()))
-            .replace(File.separatorChar, '.');
+  private static String fileToClassName(final Path relative) {
+    final String path = relative.toString();
+    return path.substring(0, path.length() - ".class".length()).replace(
+        File.separatorChar, '.');
   }
 
   @Override
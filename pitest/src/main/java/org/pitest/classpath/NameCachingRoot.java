@@ -6,6 +6,7 @@ import java.lang.ref.SoftReference;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.Collection;
+import java.util.HashSet;
 
 import org.pitest.classinfo.ClassName;
 import org.pitest.functional.F;
@@ -41,14 +42,15 @@ public class NameCachingRoot implements ClassPathRoot {
   }
 
   @Override
-  public Collection<String> classNames() {
+  public synchronized Collection<String> classNames() {
     if (cache != null) {
       Collection<String> cachedNames = cache.get();
       if (cachedNames != null) {
         return cachedNames;
       }
     }
-    Collection<String> names = child.classNames();
+    // held as a set as getData checks membership on every lookup
+    Collection<String> names = new HashSet<>(child.classNames());
     cache = new SoftReference<>(names);
     return  names;
   }
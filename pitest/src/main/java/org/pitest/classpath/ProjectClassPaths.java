@@ -23,6 +23,9 @@ public class ProjectClassPaths {
   private final ClassFilter classFilter;
   private final PathFilter  pathFilter;
 
+  private ClassPath         codeComponent;
+  private ClassPath         testComponent;
+
   public ProjectClassPaths(final ClassPath classPath,
       final ClassFilter classFilter, final PathFilter pathFilter) {
     this.classPath = classPath;
@@ -31,19 +34,34 @@ public class ProjectClassPaths {
   }
 
   public Iterable<ClassName> code() {
-    return FCollection.filter(
-        this.classPath.getComponent(this.pathFilter.getCodeFilter())
+    return FCollection.filter(codeComponent()
         .findClasses(this.classFilter.getCode()),
         this.classFilter.getCode()).map(ClassName.stringToClassName());
   }
 
   public Iterable<ClassName> test() {
-    return FCollection.filter(
-        this.classPath.getComponent(this.pathFilter.getTestFilter())
+    return FCollection.filter(testComponent()
         .findClasses(this.classFilter.getTest()),
         this.classFilter.getTest()).map(ClassName.stringToClassName());
   }
 
+  // components are kept so their class name index is built only once
+  private synchronized ClassPath codeComponent() {
+    if (this.codeComponent == null) {
+      this.codeComponent = this.classPath.getComponent(this.pathFilter
+          .getCodeFilter());
+    }
+    return this.codeComponent;
+  }
+
+  private synchronized ClassPath testComponent() {
+    if (this.testComponent == null) {
+      this.testComponent = this.classPath.getComponent(this.pathFilter
+          .getTestFilter());
+    }
+    return this.testComponent;
+  }
+
   public ClassPath getClassPath() {
     return this.classPath;
   }
@@ -17,7 +17,7 @@
 
 package org.pitest.coverage;
 
-import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.MethodVisitor;
 import org.pitest.classinfo.BridgeMethodFilter;
 import org.pitest.classinfo.MethodFilteringAdapter;
@@ -33,7 +33,7 @@ public class CoverageClassVisitor extends MethodFilteringAdapter {
 
   private int       probeCount = 0;
 
-  public CoverageClassVisitor(final int classId, final ClassWriter writer) {
+  public CoverageClassVisitor(final int classId, final ClassVisitor writer) {
     super(writer, BridgeMethodFilter.INSTANCE);
     this.classId = classId;
   }
@@ -1,5 +1,7 @@
 package org.pitest.coverage;
 
+import java.util.Collection;
+
 import org.pitest.testapi.Description;
 
 import sun.pitest.InvokeReceiver;
@@ -8,7 +10,18 @@ public interface CoverageReceiver extends InvokeReceiver {
 
   void newTest();
 
+  /**
+   * @param backwardJumps
+   *          backward jumps taken by instrumented code during the test
+   */
   void recordTestOutcome(Description description, boolean wasGreen,
-      int executionTime);
+      int executionTime, long backwardJumps);
+
+  /**
+   * Records the outcome of a test that ran alongside others, whose hits were
+   * gathered by the caller
+   */
+  void recordTestOutcome(Description description, Collection<Long> hits,
+      boolean wasGreen, int executionTime, long backwardJumps);
 
 }
\ No newline at end of file
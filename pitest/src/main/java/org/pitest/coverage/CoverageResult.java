@@ -10,14 +10,22 @@ public class CoverageResult {
   private final int                       executionTime;
   private final Collection<BlockLocation> visitedBlocks;
   private final boolean                   greenSuite;
+  private final long                      backwardJumps;
 
   public CoverageResult(final Description testUnitDescription,
       final int executionTime, final boolean greenSuite,
       final Collection<BlockLocation> visitedBlocks) {
+    this(testUnitDescription, executionTime, greenSuite, visitedBlocks, 0);
+  }
+
+  public CoverageResult(final Description testUnitDescription,
+      final int executionTime, final boolean greenSuite,
+      final Collection<BlockLocation> visitedBlocks, final long backwardJumps) {
     this.testUnitDescription = testUnitDescription;
     this.executionTime = executionTime;
     this.visitedBlocks = visitedBlocks;
     this.greenSuite = greenSuite;
+    this.backwardJumps = backwardJumps;
   }
 
   public Description getTestUnitDescription() {
@@ -28,6 +36,14 @@ public class CoverageResult {
     return this.executionTime;
   }
 
+  /**
+   * Backward jumps taken by the code under test while the test ran, or 0 if
+   * they were not counted
+   */
+  public long getBackwardJumps() {
+    return this.backwardJumps;
+  }
+
   public Collection<BlockLocation> getCoverage() {
     return this.visitedBlocks;
   }
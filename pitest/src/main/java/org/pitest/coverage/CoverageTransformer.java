@@ -7,8 +7,10 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 
 import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.pitest.bytecode.FrameOptions;
+import org.pitest.bytecode.LoopCountingClassVisitor;
 import org.pitest.classinfo.ComputeClassWriter;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.functional.predicate.Predicate;
@@ -18,10 +20,22 @@ import sun.pitest.CodeCoverageStore;
 public class CoverageTransformer implements ClassFileTransformer {
 
   private final Predicate<String>   filter;
+  private final boolean             countLoops;
   private final Map<String, String> computeCache = new ConcurrentHashMap<>();
 
   public CoverageTransformer(final Predicate<String> filter) {
+    this(filter, false);
+  }
+
+  /**
+   * @param countLoops
+   *          also count the backward jumps each test takes, so that a loop
+   *          budget can be derived for mutants
+   */
+  public CoverageTransformer(final Predicate<String> filter,
+      final boolean countLoops) {
     this.filter = filter;
+    this.countLoops = countLoops;
   }
 
   @Override
@@ -51,7 +65,9 @@ public class CoverageTransformer implements ClassFileTransformer {
         FrameOptions.pickFlags(classfileBuffer));
 
     final int id = CodeCoverageStore.registerClass(className);
-    reader.accept(new CoverageClassVisitor(id, writer),
+    final ClassVisitor target = this.countLoops ? new LoopCountingClassVisitor(
+        writer) : writer;
+    reader.accept(new CoverageClassVisitor(id, target),
         ClassReader.EXPAND_FRAMES);
     return writer.toByteArray();
   }
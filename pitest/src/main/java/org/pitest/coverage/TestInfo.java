@@ -30,14 +30,27 @@ public final class TestInfo implements Serializable {
   private final int               time;
   private final int               blocks;
   private final Option<ClassName> testee;
+  private final long              backwardJumps;
 
   public TestInfo(final String definingClass, final String name,
       final int time, final Option<ClassName> testee, final int blocksCovered) {
+    this(definingClass, name, time, testee, blocksCovered, 0);
+  }
+
+  /**
+   * @param backwardJumps
+   *          backward jumps taken by the code under test during the coverage
+   *          run, 0 if not counted
+   */
+  public TestInfo(final String definingClass, final String name,
+      final int time, final Option<ClassName> testee, final int blocksCovered,
+      final long backwardJumps) {
     this.definingClass = internIfNotNull(definingClass);
     this.name = name;
     this.time = time;
     this.testee = testee;
     this.blocks = blocksCovered;
+    this.backwardJumps = backwardJumps;
   }
 
   public String getName() {
@@ -48,6 +61,10 @@ public final class TestInfo implements Serializable {
     return this.time;
   }
 
+  public long getBackwardJumps() {
+    return this.backwardJumps;
+  }
+
   public int getNumberOfBlocksCovered() {
     return this.blocks;
   }
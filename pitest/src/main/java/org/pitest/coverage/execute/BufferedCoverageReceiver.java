@@ -0,0 +1,86 @@
+package org.pitest.coverage.execute;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.pitest.coverage.CoverageReceiver;
+import org.pitest.testapi.Description;
+
+/**
+ * Holds back the outcomes of tests run alongside others until it is known
+ * that their coverage can be trusted. Classes and probes are passed on at
+ * once, as later outcomes may refer to them.
+ */
+class BufferedCoverageReceiver implements CoverageReceiver {
+
+  private final CoverageReceiver child;
+  private final List<Outcome>    outcomes = new ArrayList<>();
+
+  BufferedCoverageReceiver(final CoverageReceiver child) {
+    this.child = child;
+  }
+
+  @Override
+  public void registerClass(final int id, final String className) {
+    this.child.registerClass(id, className);
+  }
+
+  @Override
+  public void registerProbes(final int classId, final String methodName,
+      final String methodDesc, final int firstProbe, final int lastProbe) {
+    this.child.registerProbes(classId, methodName, methodDesc, firstProbe,
+        lastProbe);
+  }
+
+  @Override
+  public void newTest() {
+    this.child.newTest();
+  }
+
+  @Override
+  public void recordTestOutcome(final Description description,
+      final boolean wasGreen, final int executionTime,
+      final long backwardJumps) {
+    this.child.recordTestOutcome(description, wasGreen, executionTime,
+        backwardJumps);
+  }
+
+  @Override
+  public synchronized void recordTestOutcome(final Description description,
+      final Collection<Long> hits, final boolean wasGreen,
+      final int executionTime, final long backwardJumps) {
+    this.outcomes.add(new Outcome(description, hits, wasGreen, executionTime,
+        backwardJumps));
+  }
+
+  /**
+   * Passes on the outcomes held so far
+   */
+  synchronized void flush() {
+    for (final Outcome each : this.outcomes) {
+      this.child.recordTestOutcome(each.description, each.hits, each.wasGreen,
+          each.executionTime, each.backwardJumps);
+    }
+    this.outcomes.clear();
+  }
+
+  private static class Outcome {
+    private final Description      description;
+    private final Collection<Long> hits;
+    private final boolean          wasGreen;
+    private final int              executionTime;
+    private final long             backwardJumps;
+
+    Outcome(final Description description, final Collection<Long> hits,
+        final boolean wasGreen, final int executionTime,
+        final long backwardJumps) {
+      this.description = description;
+      this.hits = hits;
+      this.wasGreen = wasGreen;
+      this.executionTime = executionTime;
+      this.backwardJumps = backwardJumps;
+    }
+  }
+
+}
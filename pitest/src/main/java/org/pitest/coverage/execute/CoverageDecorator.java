@@ -25,25 +25,45 @@ import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.ExitingResultCollector;
 import org.pitest.util.Log;
 
+import sun.pitest.CodeCoverageStore;
+import sun.pitest.LoopBudget;
+
 public class CoverageDecorator extends TestUnitDecorator {
 
   private static final Logger    LOG     = Log.getLogger();
 
   private final CoverageReceiver invokeQueue;
+  private final boolean          onThread;
   private final ThreadMXBean     threads = ManagementFactory.getThreadMXBean();
 
   protected CoverageDecorator(final CoverageReceiver queue, final TestUnit child) {
+    this(queue, child, false);
+  }
+
+  /**
+   * @param onThread
+   *          gather coverage for the thread running the test alone, so that
+   *          other tests may run at the same time
+   */
+  protected CoverageDecorator(final CoverageReceiver queue,
+      final TestUnit child, final boolean onThread) {
     super(child);
     this.invokeQueue = queue;
+    this.onThread = onThread;
   }
 
   @Override
   public void execute(final ResultCollector rc) {
     LOG.fine("Gathering coverage for test " + child().getDescription());
+    if (this.onThread) {
+      executeOnThread(rc);
+      return;
+    }
     this.invokeQueue.newTest();
 
     final int threadsBeforeTest = this.threads.getThreadCount();
 
+    LoopBudget.start(LoopBudget.UNLIMITED);
     final long t0 = System.currentTimeMillis();
     final ExitingResultCollector wrappedCollector = new ExitingResultCollector(
         rc);
@@ -59,8 +79,26 @@ public class CoverageDecorator extends TestUnitDecorator {
     }
 
     this.invokeQueue.recordTestOutcome(child().getDescription(),
-        !wrappedCollector.shouldExit(), executionTime);
+        !wrappedCollector.shouldExit(), executionTime, LoopBudget.taken());
 
   }
 
+  // thread counts say nothing about a single test while others are running,
+  // so are not checked
+  private void executeOnThread(final ResultCollector rc) {
+    CodeCoverageStore.resetThread();
+
+    LoopBudget.start(LoopBudget.UNLIMITED);
+    final long t0 = System.currentTimeMillis();
+    final ExitingResultCollector wrappedCollector = new ExitingResultCollector(
+        rc);
+    this.child().execute(wrappedCollector);
+
+    final int executionTime = (int) (System.currentTimeMillis() - t0);
+
+    this.invokeQueue.recordTestOutcome(child().getDescription(),
+        CodeCoverageStore.getThreadHits(), !wrappedCollector.shouldExit(),
+        executionTime, LoopBudget.taken());
+  }
+
 }
@@ -17,6 +17,7 @@ package org.pitest.coverage.execute;
 import static org.pitest.util.Unchecked.translateCheckedException;
 
 import java.io.BufferedOutputStream;
+import java.io.File;
 import java.io.IOException;
 import java.net.Socket;
 import java.util.ArrayList;
@@ -31,7 +32,9 @@ import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.classpath.ClassloaderByteArraySource;
 import org.pitest.coverage.CoverageTransformer;
 import org.pitest.dependency.DependencyExtractor;
+import org.pitest.dependency.DependencyGraphCache;
 import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.prelude.Prelude;
 import org.pitest.help.PitHelpError;
@@ -79,13 +82,16 @@ public class CoverageMinion {
       CodeCoverageStore.init(invokeQueue);
 
       HotSwapAgent.addTransformer(new CoverageTransformer(
-          convertToJVMClassFilter(paramsFromParent.getFilter())));
+          convertToJVMClassFilter(paramsFromParent.getFilter()),
+          paramsFromParent.shouldCountLoops()));
 
       final List<TestUnit> tus = getTestsFromParent(dis, paramsFromParent);
 
       LOG.info(tus.size() + " tests received");
 
-      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus);
+      final CoverageWorker worker = new CoverageWorker(invokeQueue, tus,
+          paramsFromParent.getThreads(), new ThreadSafeTests(
+              ClassloaderByteArraySource.fromContext()));
 
       worker.run();
 
@@ -143,12 +149,15 @@ public class CoverageMinion {
     
     final List<TestUnit> tus = discoverTests(testPlugin, classes);
 
+    final DependencyGraphCache cache = readDependencyCache(paramsFromParent);
     final DependencyFilter filter = new DependencyFilter(
         new DependencyExtractor(new ClassPathByteArraySource(),
-            paramsFromParent.getDependencyAnalysisMaxDistance()),
+            paramsFromParent.getDependencyAnalysisMaxDistance(), cache,
+            Runtime.getRuntime().availableProcessors()),
         paramsFromParent.getFilter());
     final List<TestUnit> filteredTus = filter
         .filterTestsByDependencyAnalysis(tus);
+    writeDependencyCache(paramsFromParent, cache);
 
     LOG.info("Dependency analysis reduced number of potential tests by "
         + (tus.size() - filteredTus.size()));
@@ -156,6 +165,27 @@ public class CoverageMinion {
 
   }
 
+  private static DependencyGraphCache readDependencyCache(
+      final CoverageOptions paramsFromParent) {
+    final Option<File> location = paramsFromParent.getDependencyCacheLocation();
+    if (location.hasNone()
+        || (paramsFromParent.getDependencyAnalysisMaxDistance() < 0)) {
+      return new DependencyGraphCache();
+    }
+    final DependencyGraphCache cache = DependencyGraphCache.read(location
+        .value());
+    LOG.fine("Read " + cache.size() + " cached class dependencies");
+    return cache;
+  }
+
+  private static void writeDependencyCache(
+      final CoverageOptions paramsFromParent, final DependencyGraphCache cache) {
+    final Option<File> location = paramsFromParent.getDependencyCacheLocation();
+    if (location.hasSome() && (cache.size() != 0)) {
+      cache.write(location.value());
+    }
+  }
+
   private static List<TestUnit> discoverTests(final Configuration testPlugin,
  final List<ClassName> classes) {
     final FindTestUnits finder = new FindTestUnits(testPlugin);
@@ -1,9 +1,11 @@
 package org.pitest.coverage.execute;
 
+import java.io.File;
 import java.io.Serializable;
 import java.util.Collection;
 
 import org.pitest.functional.F;
+import org.pitest.functional.Option;
 
 /*
  * Copyright 2010 Henry Coles
@@ -35,16 +37,53 @@ public class CoverageOptions implements Serializable {
   private final boolean           verbose;
   private final TestPluginArguments pitConfig;
   private final int               maxDependencyDistance;
+  private final File              dependencyCacheLocation;
+  private final int               threads;
+  private final boolean           countLoops;
 
   public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
       final TestPluginArguments pitConfig, final boolean verbose,
       final int maxDependencyDistance) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance, null);
+  }
+
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final File dependencyCacheLocation) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance,
+        dependencyCacheLocation, 1);
+  }
+
+  /**
+   * @param threads
+   *          threads on which to run test classes annotated as thread safe
+   */
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final File dependencyCacheLocation,
+      final int threads) {
+    this(include, exclude, pitConfig, verbose, maxDependencyDistance,
+        dependencyCacheLocation, threads, false);
+  }
+
+  /**
+   * @param countLoops
+   *          count the backward jumps taken by the code under test during
+   *          each test, from which loop budgets for mutants are derived
+   */
+  public CoverageOptions(final Collection<String> include, final Collection<String> exclude,
+      final TestPluginArguments pitConfig, final boolean verbose,
+      final int maxDependencyDistance, final File dependencyCacheLocation,
+      final int threads, final boolean countLoops) {
     Preconditions.checkNotNull(pitConfig);
     this.include = include;
     this.exclude = exclude;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
     this.maxDependencyDistance = maxDependencyDistance;
+    this.dependencyCacheLocation = dependencyCacheLocation;
+    this.threads = threads;
+    this.countLoops = countLoops;
   }
 
   public Predicate<String> getFilter() {
@@ -64,6 +103,18 @@ public class CoverageOptions implements Serializable {
   public int getDependencyAnalysisMaxDistance() {
     return this.maxDependencyDistance;
   }
+
+  public Option<File> getDependencyCacheLocation() {
+    return Option.some(this.dependencyCacheLocation);
+  }
+
+  public int getThreads() {
+    return this.threads;
+  }
+
+  public boolean shouldCountLoops() {
+    return this.countLoops;
+  }
   
   private static F<String, Boolean> commonClasses() {
     return Prelude.or(
@@ -26,9 +26,22 @@ public class CoveragePipe implements CoverageReceiver {
 
   @Override
   public synchronized void recordTestOutcome(final Description description,
-      final boolean wasGreen, final int executionTime) {
-    final Collection<Long> hits = CodeCoverageStore.getHits();
+      final boolean wasGreen, final int executionTime,
+      final long backwardJumps) {
+    writeOutcome(description, CodeCoverageStore.getHits(), wasGreen,
+        executionTime, backwardJumps);
+  }
+
+  @Override
+  public void recordTestOutcome(final Description description,
+      final Collection<Long> hits, final boolean wasGreen,
+      final int executionTime, final long backwardJumps) {
+    writeOutcome(description, hits, wasGreen, executionTime, backwardJumps);
+  }
 
+  private synchronized void writeOutcome(final Description description,
+      final Collection<Long> hits, final boolean wasGreen,
+      final int executionTime, final long backwardJumps) {
     this.dos.writeByte(Id.OUTCOME);
     this.dos.write(description);
     this.dos.writeInt(hits.size());
@@ -37,6 +50,7 @@ public class CoveragePipe implements CoverageReceiver {
     }
     this.dos.writeBoolean(wasGreen);
     this.dos.writeInt(executionTime);
+    this.dos.writeLong(backwardJumps);
 
   }
 
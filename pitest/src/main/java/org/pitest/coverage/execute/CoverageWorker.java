@@ -19,29 +19,73 @@ import static org.pitest.util.Unchecked.translateCheckedException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.logging.Logger;
 
 import org.pitest.coverage.CoverageReceiver;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.predicate.False;
+import org.pitest.functional.predicate.Predicate;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.execute.Container;
 import org.pitest.testapi.execute.Pitest;
 import org.pitest.testapi.execute.containers.UnContainer;
+import org.pitest.util.Log;
+
+import sun.pitest.CodeCoverageStore;
 
 public class CoverageWorker {
 
-  private final CoveragePipe   pipe;
-  private final List<TestUnit> tests;
+  private static final Logger       LOG = Log.getLogger();
+
+  private final CoverageReceiver    pipe;
+  private final List<TestUnit>      tests;
+  private final int                 threads;
+  private final Predicate<TestUnit> threadSafe;
+
+  public CoverageWorker(final CoverageReceiver pipe, final List<TestUnit> tests) {
+    this(pipe, tests, 1, False.<TestUnit> instance());
+  }
 
-  public CoverageWorker(final CoveragePipe pipe, final List<TestUnit> tests) {
+  /**
+   * @param threads
+   *          number of threads on which to run tests that are thread safe
+   * @param threadSafe
+   *          matches tests that may run at the same time as tests from other
+   *          classes
+   */
+  public CoverageWorker(final CoverageReceiver pipe, final List<TestUnit> tests,
+      final int threads, final Predicate<TestUnit> threadSafe) {
     this.pipe = pipe;
     this.tests = tests;
+    this.threads = threads;
+    this.threadSafe = threadSafe;
   }
 
   public void run() {
 
     try {
-      final List<TestUnit> decoratedTests = decorateForCoverage(this.tests,
-          this.pipe);
+      final List<TestUnit> serialTests = new ArrayList<>(this.tests);
+      if (this.threads > 1) {
+        final List<TestUnit> parallelTests = FCollection.filter(this.tests,
+            this.threadSafe);
+        serialTests.removeAll(parallelTests);
+        LOG.fine("Gathering coverage for " + parallelTests.size()
+            + " tests on " + this.threads + " threads");
+        serialTests.addAll(runInParallel(parallelTests));
+      }
+
+      final List<TestUnit> decoratedTests = decorateForCoverage(serialTests,
+          this.pipe, false);
 
       Collections.sort(decoratedTests, testComparator());
 
@@ -56,6 +100,89 @@ public class CoverageWorker {
 
   }
 
+  /**
+   * Tests from the same class run one after another on the same thread, as
+   * they may share state, while classes run alongside each other with hits
+   * recorded separately for each thread.
+   *
+   * Hits made on threads a test did not start, such as those of a pool
+   * created earlier, cannot be attributed to it. The classes that were running
+   * when such hits were made are returned, so that they can be run again one
+   * at a time.
+   */
+  private List<TestUnit> runInParallel(final List<TestUnit> parallelTests)
+      throws InterruptedException, ExecutionException {
+    final Map<String, List<TestUnit>> byClass = new TreeMap<>();
+    for (final TestUnit each : parallelTests) {
+      final String testClass = each.getDescription().getFirstTestClass();
+      if (!byClass.containsKey(testClass)) {
+        byClass.put(testClass, new ArrayList<TestUnit>());
+      }
+      byClass.get(testClass).add(each);
+    }
+
+    final List<TestUnit> toRerun = new ArrayList<>();
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        this.threads, daemonThreads());
+    try {
+      final List<Future<Boolean>> results = new ArrayList<>();
+      for (final List<TestUnit> each : byClass.values()) {
+        results.add(executor.submit(runTests(each, this.pipe)));
+      }
+      final Iterator<List<TestUnit>> classes = byClass.values().iterator();
+      for (final Future<Boolean> each : results) {
+        final List<TestUnit> tests = classes.next();
+        if (!each.get()) {
+          toRerun.addAll(tests);
+        }
+      }
+    } finally {
+      executor.shutdownNow();
+      CodeCoverageStore.endThreadHits();
+    }
+
+    if (!toRerun.isEmpty()) {
+      LOG.info("Coverage of " + toRerun.size()
+          + " thread safe tests could not be attributed, rerunning serially");
+    }
+    return toRerun;
+  }
+
+  private static Callable<Boolean> runTests(final List<TestUnit> tests,
+      final CoverageReceiver pipe) {
+    return new Callable<Boolean>() {
+      @Override
+      public Boolean call() {
+        final BufferedCoverageReceiver buffer = new BufferedCoverageReceiver(
+            pipe);
+        final List<TestUnit> decorated = decorateForCoverage(tests, buffer,
+            true);
+        Collections.sort(decorated, testComparator());
+
+        final long unattributed = CodeCoverageStore.getUnattributedHits();
+        final Pitest pit = new Pitest(new ErrorListener());
+        pit.run(new UnContainer(), decorated);
+        if (CodeCoverageStore.getUnattributedHits() != unattributed) {
+          return false;
+        }
+        buffer.flush();
+        return true;
+      }
+    };
+  }
+
+  private static ThreadFactory daemonThreads() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName("pit coverage");
+        return thread;
+      }
+    };
+  }
+
   private static Comparator<TestUnit> testComparator() {
     return new Comparator<TestUnit>() {
       @Override
@@ -68,10 +195,10 @@ public class CoverageWorker {
   }
 
   private static List<TestUnit> decorateForCoverage(final List<TestUnit> plainTests,
-      final CoverageReceiver queue) {
+      final CoverageReceiver queue, final boolean onThread) {
     final List<TestUnit> decorated = new ArrayList<>(plainTests.size());
     for (final TestUnit each : plainTests) {
-      decorated.add(new CoverageDecorator(queue, each));
+      decorated.add(new CoverageDecorator(queue, each, onThread));
     }
     return decorated;
   }
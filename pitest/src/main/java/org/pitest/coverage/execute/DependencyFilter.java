@@ -1,16 +1,16 @@
 package org.pitest.coverage.execute;
 
-import java.io.IOException;
-import java.util.HashMap;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import org.pitest.dependency.DependencyExtractor;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.testapi.TestUnit;
-import org.pitest.util.Unchecked;
 
 class DependencyFilter {
 
@@ -27,32 +27,28 @@ class DependencyFilter {
     if (this.analyser.getMaxDistance() < 0) {
       return tus;
     } else {
-      return FCollection.filter(tus, isWithinReach());
+      return FCollection.filter(tus, isWithinReach(analyseTestClasses(tus)));
     }
   }
 
-  private F<TestUnit, Boolean> isWithinReach() {
+  private Map<String, Collection<String>> analyseTestClasses(
+      final List<TestUnit> tus) {
+    final Set<String> testClasses = new LinkedHashSet<>();
+    for (final TestUnit each : tus) {
+      testClasses.add(each.getDescription().getFirstTestClass());
+    }
+    return this.analyser.extractCallDependenciesForPackages(testClasses,
+        this.filter);
+  }
 
-    return new F<TestUnit, Boolean>() {
-      private final Map<String, Boolean> cache = new HashMap<>();
+  private static F<TestUnit, Boolean> isWithinReach(
+      final Map<String, Collection<String>> dependencies) {
 
+    return new F<TestUnit, Boolean>() {
       @Override
       public Boolean apply(final TestUnit testUnit) {
         final String testClass = testUnit.getDescription().getFirstTestClass();
-        try {
-          if (this.cache.containsKey(testClass)) {
-            return this.cache.get(testClass);
-          } else {
-            final boolean inReach = !DependencyFilter.this.analyser
-                .extractCallDependenciesForPackages(testClass,
-                    DependencyFilter.this.filter).isEmpty();
-            this.cache.put(testClass, inReach);
-            return inReach;
-          }
-
-        } catch (final IOException e) {
-          throw Unchecked.translateCheckedException(e);
-        }
+        return !dependencies.get(testClass).isEmpty();
       }
 
     };
@@ -0,0 +1,64 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.coverage.execute;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassInfo;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.Repository;
+import org.pitest.functional.Option;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.testapi.TestUnit;
+
+/**
+ * Matches tests whose class is annotated as thread safe, and so may gather
+ * coverage at the same time as tests from other classes. Annotations are
+ * read from the bytecode, so those without runtime retention are seen too.
+ */
+class ThreadSafeTests implements Predicate<TestUnit> {
+
+  private static final List<ClassName> THREAD_SAFE = Arrays.asList(
+      ClassName.fromString("net.jcip.annotations.ThreadSafe"),
+      ClassName.fromString("javax.annotation.concurrent.ThreadSafe"));
+
+  private final Repository             repository;
+
+  ThreadSafeTests(final ClassByteArraySource source) {
+    this.repository = new Repository(source);
+  }
+
+  @Override
+  public Boolean apply(final TestUnit a) {
+    final String testClass = a.getDescription().getFirstTestClass();
+    if (testClass == null) {
+      return false;
+    }
+    final Option<ClassInfo> info = this.repository.fetchClass(ClassName
+        .fromString(testClass));
+    if (info.hasNone()) {
+      return false;
+    }
+    for (final ClassName each : THREAD_SAFE) {
+      if (info.value().hasAnnotation(each)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
@@ -0,0 +1,104 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.dependency;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Immutable class level call dependency graph. Classes are held as dense
+ * integer ids with an adjacency list per class so that the graph can be built
+ * once and then queried for many test classes without further IO.
+ *
+ * Class names are in JVM internal form (i.e com/example/Foo).
+ */
+public class DependencyGraph {
+
+  private final String[]             names;
+  private final Map<String, Integer> ids;
+  private final int[][]              edges;
+
+  DependencyGraph(final String[] names, final Map<String, Integer> ids,
+      final int[][] edges) {
+    this.names = names;
+    this.ids = ids;
+    this.edges = edges;
+  }
+
+  public int size() {
+    return this.names.length;
+  }
+
+  public boolean contains(final String clazz) {
+    return this.ids.containsKey(clazz);
+  }
+
+  /**
+   * Returns the classes reachable from the supplied class by following at
+   * most maxDistance calls. A distance of 0 means unbounded. The supplied
+   * class itself is not included in the result.
+   */
+  public Set<String> reachableFrom(final String clazz, final int maxDistance) {
+    final Integer start = this.ids.get(clazz);
+    if (start == null) {
+      return Collections.emptySet();
+    }
+
+    final Set<String> reached = new LinkedHashSet<>();
+    final BitSet visited = new BitSet(this.names.length);
+    visited.set(start);
+
+    int[] frontier = { start };
+    int distance = 0;
+    while ((frontier.length != 0)
+        && ((maxDistance == 0) || (distance < maxDistance))) {
+      frontier = expand(frontier, visited, reached);
+      distance++;
+    }
+    return reached;
+  }
+
+  private int[] expand(final int[] frontier, final BitSet visited,
+      final Set<String> reached) {
+    int[] next = new int[frontier.length];
+    int count = 0;
+    for (final int node : frontier) {
+      for (final int dependency : this.edges[node]) {
+        if (!visited.get(dependency)) {
+          visited.set(dependency);
+          reached.add(this.names[dependency]);
+          if (count == next.length) {
+            next = grow(next);
+          }
+          next[count] = dependency;
+          count++;
+        }
+      }
+    }
+    final int[] trimmed = new int[count];
+    System.arraycopy(next, 0, trimmed, 0, count);
+    return trimmed;
+  }
+
+  private static int[] grow(final int[] values) {
+    final int[] bigger = new int[(values.length * 2) + 1];
+    System.arraycopy(values, 0, bigger, 0, values.length);
+    return bigger;
+  }
+
+}
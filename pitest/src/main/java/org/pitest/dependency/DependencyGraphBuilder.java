@@ -0,0 +1,201 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.dependency;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import org.objectweb.asm.ClassReader;
+import org.pitest.bytecode.NullVisitor;
+import org.pitest.classinfo.AddlerHash;
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classinfo.HashFunction;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect1;
+import org.pitest.functional.predicate.Predicate;
+import org.pitest.util.Log;
+import org.pitest.util.Unchecked;
+
+/**
+ * Builds a {@link DependencyGraph} by breadth first traversal from a set of
+ * root classes. Each class is read and parsed at most once, and each level of
+ * the traversal is parsed in parallel.
+ */
+class DependencyGraphBuilder {
+
+  private static final Logger              LOG  = Log.getLogger();
+
+  private final ClassByteArraySource       source;
+  private final Predicate<DependencyAccess> filter;
+  private final DependencyGraphCache       cache;
+  private final int                        threads;
+  private final HashFunction               hash = new AddlerHash();
+
+  private final List<String>               names = new ArrayList<>();
+  private final Map<String, Integer>       ids   = new HashMap<>();
+  private final List<int[]>                edges = new ArrayList<>();
+
+  DependencyGraphBuilder(final ClassByteArraySource source,
+      final Predicate<DependencyAccess> filter,
+      final DependencyGraphCache cache, final int threads) {
+    this.source = source;
+    this.filter = filter;
+    this.cache = cache;
+    this.threads = threads;
+  }
+
+  DependencyGraph build(final Collection<String> roots) {
+    List<String> frontier = new ArrayList<>();
+    for (final String each : roots) {
+      final String name = ClassName.fromString(each).asInternalName();
+      if (!this.ids.containsKey(name)) {
+        register(name);
+        frontier.add(name);
+      }
+    }
+
+    final ExecutorService executor = Executors.newFixedThreadPool(
+        Math.max(1, this.threads));
+    try {
+      while (!frontier.isEmpty()) {
+        frontier = link(frontier, parse(frontier, executor));
+      }
+    } finally {
+      executor.shutdown();
+    }
+
+    LOG.fine("Dependency graph contains " + this.names.size() + " classes");
+    return toGraph();
+  }
+
+  private List<List<String>> parse(final List<String> classes,
+      final ExecutorService executor) {
+    final List<Future<List<String>>> futures = new ArrayList<>(
+        classes.size());
+    for (final String each : classes) {
+      futures.add(executor.submit(directDependencies(each)));
+    }
+
+    final List<List<String>> results = new ArrayList<>(classes.size());
+    try {
+      for (final Future<List<String>> each : futures) {
+        results.add(each.get());
+      }
+    } catch (final InterruptedException ex) {
+      throw Unchecked.translateCheckedException(ex);
+    } catch (final ExecutionException ex) {
+      throw Unchecked.translateCheckedException(ex.getCause());
+    }
+    return results;
+  }
+
+  private List<String> link(final List<String> classes,
+      final List<List<String>> dependencies) {
+    final List<String> next = new ArrayList<>();
+    for (int i = 0; i != classes.size(); i++) {
+      final List<String> each = dependencies.get(i);
+      final int[] targets = new int[each.size()];
+      for (int j = 0; j != targets.length; j++) {
+        final String dependency = each.get(j);
+        Integer id = this.ids.get(dependency);
+        if (id == null) {
+          id = register(dependency);
+          next.add(dependency);
+        }
+        targets[j] = id;
+      }
+      this.edges.set(this.ids.get(classes.get(i)), targets);
+    }
+    return next;
+  }
+
+  private int register(final String clazz) {
+    final int id = this.names.size();
+    this.names.add(clazz);
+    this.ids.put(clazz, id);
+    this.edges.add(null);
+    return id;
+  }
+
+  private DependencyGraph toGraph() {
+    final int[][] adjacency = new int[this.edges.size()][];
+    for (int i = 0; i != adjacency.length; i++) {
+      final int[] each = this.edges.get(i);
+      adjacency[i] = each != null ? each : new int[0];
+    }
+    return new DependencyGraph(this.names.toArray(new String[0]), this.ids,
+        adjacency);
+  }
+
+  private Callable<List<String>> directDependencies(final String clazz) {
+    return new Callable<List<String>>() {
+      @Override
+      public List<String> call() {
+        return extract(clazz);
+      }
+    };
+  }
+
+  private List<String> extract(final String clazz) {
+    final Option<byte[]> bytes = this.source.getBytes(clazz);
+    if (bytes.hasNone() || (bytes.value() == null)) {
+      LOG.warning("No bytes found for " + clazz);
+      return Collections.emptyList();
+    }
+
+    final long classHash = this.hash.hash(bytes.value());
+    final Option<List<String>> cached = this.cache.get(clazz, classHash);
+    if (cached.hasSome()) {
+      return cached.value();
+    }
+
+    final List<String> dependencies = parseDependencies(clazz, bytes.value());
+    this.cache.put(clazz, classHash, dependencies);
+    return dependencies;
+  }
+
+  private List<String> parseDependencies(final String clazz,
+      final byte[] bytes) {
+    final Set<String> dependencies = new LinkedHashSet<>();
+    final SideEffect1<DependencyAccess> collector = new SideEffect1<DependencyAccess>() {
+      @Override
+      public void apply(final DependencyAccess a) {
+        final String owner = a.getDest().getOwner();
+        if (!owner.equals(clazz) && DependencyGraphBuilder.this.filter.apply(a)) {
+          dependencies.add(owner);
+        }
+      }
+    };
+
+    final ClassReader reader = new ClassReader(bytes);
+    reader.accept(new DependencyClassVisitor(new NullVisitor(), collector),
+        ClassReader.SKIP_FRAMES);
+    return new ArrayList<>(dependencies);
+  }
+
+}
@@ -0,0 +1,133 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.dependency;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.logging.Logger;
+
+import org.pitest.functional.Option;
+import org.pitest.util.Log;
+import org.pitest.util.SafeDataInputStream;
+import org.pitest.util.SafeDataOutputStream;
+
+/**
+ * Stores the direct dependencies of each class keyed by a hash of its
+ * bytecode, so that unchanged classes need not be re-parsed when a dependency
+ * graph is rebuilt in a later run.
+ *
+ * Cached dependencies have already been filtered, so a cache must only be
+ * reused with the filter it was populated with.
+ */
+public class DependencyGraphCache {
+
+  private static final Logger LOG = Log.getLogger();
+
+  private static final int VERSION = 1;
+
+  private final ConcurrentMap<String, CachedDependencies> entries = new ConcurrentHashMap<>();
+
+  public Option<List<String>> get(final String clazz, final long hash) {
+    final CachedDependencies cached = this.entries.get(clazz);
+    if ((cached == null) || (cached.hash != hash)) {
+      return Option.none();
+    }
+    return Option.some(cached.dependencies);
+  }
+
+  public void put(final String clazz, final long hash,
+      final List<String> dependencies) {
+    this.entries.put(clazz, new CachedDependencies(hash, dependencies));
+  }
+
+  public int size() {
+    return this.entries.size();
+  }
+
+  public static DependencyGraphCache read(final File file) {
+    final DependencyGraphCache cache = new DependencyGraphCache();
+    if (!file.exists() || (file.length() == 0)) {
+      return cache;
+    }
+
+    try (FileInputStream fis = new FileInputStream(file)) {
+      final SafeDataInputStream is = new SafeDataInputStream(
+          new BufferedInputStream(fis));
+      if (is.readInt() != VERSION) {
+        LOG.info("Ignoring dependency cache from incompatible version at "
+            + file);
+        return cache;
+      }
+      final int count = is.readInt();
+      for (int i = 0; i != count; i++) {
+        final String clazz = is.readString();
+        final long hash = is.readLong();
+        final int dependencyCount = is.readInt();
+        final List<String> dependencies = new ArrayList<>(dependencyCount);
+        for (int j = 0; j != dependencyCount; j++) {
+          dependencies.add(is.readString());
+        }
+        cache.put(clazz, hash, dependencies);
+      }
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Could not read dependency cache from " + file + " : "
+          + ex.getMessage());
+      return new DependencyGraphCache();
+    }
+    return cache;
+  }
+
+  public void write(final File file) {
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      final SafeDataOutputStream os = new SafeDataOutputStream(
+          new BufferedOutputStream(fos));
+      os.writeInt(VERSION);
+      os.writeInt(this.entries.size());
+      for (final Entry<String, CachedDependencies> each : this.entries
+          .entrySet()) {
+        os.writeString(each.getKey());
+        os.writeLong(each.getValue().hash);
+        os.writeInt(each.getValue().dependencies.size());
+        for (final String dependency : each.getValue().dependencies) {
+          os.writeString(dependency);
+        }
+      }
+      os.flush();
+    } catch (final IOException | RuntimeException ex) {
+      LOG.warning("Could not write dependency cache to " + file + " : "
+          + ex.getMessage());
+    }
+  }
+
+  private static class CachedDependencies {
+    private final long         hash;
+    private final List<String> dependencies;
+
+    CachedDependencies(final long hash, final List<String> dependencies) {
+      this.hash = hash;
+      this.dependencies = dependencies;
+    }
+  }
+
+}
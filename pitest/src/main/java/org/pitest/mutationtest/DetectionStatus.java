@@ -65,7 +65,18 @@ public enum DetectionStatus {
   /**
    * Mutation is not covered by any test.
    */
-  NO_COVERAGE(false);
+  NO_COVERAGE(false),
+
+  /**
+   * Mutation was not run as a mutation that subsumes it was killed. Any test
+   * that kills the subsuming mutation is expected to kill this one too.
+   *
+   * The expectation can fail. This mutation also changes the branch taken for
+   * values the subsuming one does not, and those extra changes may cancel
+   * out the difference the killing test observed. Such mutations are still
+   * counted as detected, including towards the mutation score threshold.
+   */
+  INFERRED_KILLED(true);
 
   private final boolean detected;
 
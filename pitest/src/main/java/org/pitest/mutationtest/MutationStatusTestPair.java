@@ -22,9 +22,10 @@ public final class MutationStatusTestPair implements Serializable {
   
   private static final long serialVersionUID = 1L;
 
-  private final int             numberOfTestsRun;
-  private final DetectionStatus status;
-  private final Option<String>  killingTest;
+  private final int                     numberOfTestsRun;
+  private final DetectionStatus         status;
+  private final Option<String>          killingTest;
+  private final Option<MutationTimings> timings;
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status) {
@@ -33,9 +34,25 @@ public final class MutationStatusTestPair implements Serializable {
 
   public MutationStatusTestPair(final int numberOfTestsRun,
       final DetectionStatus status, final String killingTest) {
+    this(numberOfTestsRun, status, Option.some(killingTest), Option
+        .<MutationTimings> none());
+  }
+
+  private MutationStatusTestPair(final int numberOfTestsRun,
+      final DetectionStatus status, final Option<String> killingTest,
+      final Option<MutationTimings> timings) {
     this.status = status;
-    this.killingTest = Option.some(killingTest);
+    this.killingTest = killingTest;
     this.numberOfTestsRun = numberOfTestsRun;
+    this.timings = timings;
+  }
+
+  /**
+   * Timings are informational, so do not take part in equality
+   */
+  public MutationStatusTestPair withTimings(final MutationTimings timings) {
+    return new MutationStatusTestPair(this.numberOfTestsRun, this.status,
+        this.killingTest, Option.some(timings));
   }
 
   public DetectionStatus getStatus() {
@@ -50,6 +67,14 @@ public final class MutationStatusTestPair implements Serializable {
     return this.numberOfTestsRun;
   }
 
+  public Option<MutationTimings> getTimings() {
+    // absent when read from history written before timings were recorded
+    if (this.timings == null) {
+      return Option.none();
+    }
+    return this.timings;
+  }
+
   @Override
   public String toString() {
     if (this.killingTest.hasNone()) {
@@ -0,0 +1,96 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest;
+
+import java.io.Serializable;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.pitest.functional.Option;
+
+/**
+ * Time, in milliseconds, spent in each phase of analysing a mutation within
+ * a minion.
+ */
+public final class MutationTimings implements Serializable {
+
+  private static final long                 serialVersionUID = 1L;
+
+  private final long                        generation;
+  private final long                        hotSwap;
+  private final LinkedHashMap<String, Long> tests;
+  private final Option<Long>                kill;
+  private final long                        total;
+
+  /**
+   * @param generation
+   *          time to create the mutant
+   * @param hotSwap
+   *          time to replace the class under test with the mutant
+   * @param tests
+   *          time taken by each test run against the mutant, in run order
+   * @param kill
+   *          time from starting the tests until one first failed, if one did
+   * @param total
+   *          time to analyse the mutation, including time not spent in any
+   *          of the phases above
+   */
+  public MutationTimings(final long generation, final long hotSwap,
+      final Map<String, Long> tests, final Option<Long> kill,
+      final long total) {
+    this.generation = generation;
+    this.hotSwap = hotSwap;
+    this.tests = new LinkedHashMap<>(tests);
+    this.kill = kill;
+    this.total = total;
+  }
+
+  public long getGenerationMillis() {
+    return this.generation;
+  }
+
+  public long getHotSwapMillis() {
+    return this.hotSwap;
+  }
+
+  public Map<String, Long> getTestMillis() {
+    return Collections.unmodifiableMap(this.tests);
+  }
+
+  public long getTotalTestMillis() {
+    long sum = 0;
+    for (final Long each : this.tests.values()) {
+      sum = sum + each;
+    }
+    return sum;
+  }
+
+  public Option<Long> getKillMillis() {
+    return this.kill;
+  }
+
+  public long getTotalMillis() {
+    return this.total;
+  }
+
+  @Override
+  public String toString() {
+    return "MutationTimings [generation=" + this.generation + ", hotSwap="
+        + this.hotSwap + ", tests=" + this.tests + ", kill=" + this.kill
+        + ", total=" + this.total + "]";
+  }
+
+}
@@ -0,0 +1,74 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+package org.pitest.mutationtest.build;
+
+import java.util.Arrays;
+import java.util.Map;
+
+import org.pitest.mutationtest.PerTestTimeoutLengthStrategy;
+
+/**
+ * Allows each test a multiple of a percentile of the durations seen for it,
+ * but never less than a constant.
+ *
+ * The durations seen are the test's duration in the coverage run and its
+ * coverage durations in previous runs. Durations of runs against mutants are
+ * not used, as slow and looping mutants would inflate the timeout of every
+ * mutant run after them.
+ */
+public class PercentileTimeoutStrategy implements PerTestTimeoutLengthStrategy {
+
+  private static final long         serialVersionUID = 1L;
+
+  private final float               factor;
+  private final long                floor;
+  private final int                 percentile;
+  private final Map<String, long[]> previousDurations;
+
+  public PercentileTimeoutStrategy(final float factor, final long floor,
+      final int percentile, final Map<String, long[]> previousDurations) {
+    this.factor = factor;
+    this.floor = floor;
+    this.percentile = percentile;
+    this.previousDurations = previousDurations;
+  }
+
+  @Override
+  public long getAllowedTime(final long normalDuration) {
+    return bound(normalDuration);
+  }
+
+  @Override
+  public long getAllowedTime(final String test, final long normalDuration) {
+    final long[] previous = this.previousDurations.get(test);
+
+    final int size = 1 + (previous != null ? previous.length : 0);
+    final long[] durations = new long[size];
+    durations[0] = normalDuration;
+    if (previous != null) {
+      System.arraycopy(previous, 0, durations, 1, previous.length);
+    }
+
+    Arrays.sort(durations);
+    final int rank = (int) Math.ceil((this.percentile / 100d) * size);
+    return bound(durations[Math.max(0, rank - 1)]);
+  }
+
+  private long bound(final long duration) {
+    return Math.max(this.floor, Math.round(duration * this.factor));
+  }
+
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.engine;
+
+import java.util.Map;
+
+/**
+ * A class instrumented to record, without changing its behaviour, whether
+ * any of a set of mutants would have altered the state of a run
+ */
+public final class InfectionProbes {
+
+  private final byte[]                          bytes;
+  private final Map<MutationIdentifier, Integer> probes;
+
+  public InfectionProbes(final byte[] bytes,
+      final Map<MutationIdentifier, Integer> probes) {
+    this.bytes = bytes;
+    this.probes = probes;
+  }
+
+  /**
+   * Returns a byte array containing the instrumented class
+   *
+   * @return A byte array
+   */
+  public byte[] getBytes() {
+    return this.bytes;
+  }
+
+  /**
+   * Returns the index in sun.pitest.InfectionStore of the probe for each
+   * mutant that could be instrumented. Mutants that are missing could not be
+   * evaluated side by side with the original code.
+   *
+   * @return probe indexes by mutant
+   */
+  public Map<MutationIdentifier, Integer> getProbes() {
+    return this.probes;
+  }
+
+}
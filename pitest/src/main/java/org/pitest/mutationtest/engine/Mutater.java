@@ -14,6 +14,7 @@
  */
 package org.pitest.mutationtest.engine;
 
+import java.util.Collection;
 import java.util.List;
 
 import org.pitest.classinfo.ClassName;
@@ -32,6 +33,26 @@ public interface Mutater {
    */
   Mutant getMutation(MutationIdentifier id);
 
+  /**
+   * Creates a class in which all of the given mutants are active at once
+   *
+   * @param ids
+   *          the mutants to create, all of which must be in the same class
+   * @return the bytes of the mutated class
+   */
+  byte[] getCombinedMutation(Collection<MutationIdentifier> ids);
+
+  /**
+   * Instruments the class containing the given mutants so that it behaves as
+   * the original while recording which of the mutants would have altered the
+   * value of an expression had they been active
+   *
+   * @param ids
+   *          the mutants to probe, all of which must be in the same class
+   * @return the instrumented class and the probes that could be placed
+   */
+  InfectionProbes getInfectionProbes(Collection<MutationIdentifier> ids);
+
   /**
    * Scans for possible mutants in the given class
    * 
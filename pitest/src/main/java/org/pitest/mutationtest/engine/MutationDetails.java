@@ -38,6 +38,8 @@ public final class MutationDetails implements Serializable {
   private final int                 lineNumber;
   private final String              description;
   private final ArrayList<TestInfo> testsInOrder = new ArrayList<>();
+  private final ArrayList<MutationDetails> duplicates = new ArrayList<>();
+  private final ArrayList<MutationIdentifier> subsumedBy = new ArrayList<>();
   private final boolean             isInFinallyBlock;
   private final PoisonStatus        poison;
 
@@ -69,11 +71,23 @@ public final class MutationDetails implements Serializable {
   }
 
   public MutationDetails withDescription(String desc) {
-    return new MutationDetails(id, filename, desc, lineNumber, block, isInFinallyBlock, poison);
+    return copyRelations(new MutationDetails(id, filename, desc, lineNumber, block, isInFinallyBlock, poison));
   }
 
   public MutationDetails withPoisonStatus(PoisonStatus poisonStatus) {
-    return new MutationDetails(id, filename, description, lineNumber, block, isInFinallyBlock, poisonStatus);
+    return copyRelations(new MutationDetails(id, filename, description, lineNumber, block, isInFinallyBlock, poisonStatus));
+  }
+
+  public MutationDetails withTestsInOrder(Collection<TestInfo> tests) {
+    MutationDetails copy = copyRelations(new MutationDetails(id, filename, description, lineNumber, block, isInFinallyBlock, poison));
+    copy.addTestsInOrder(tests);
+    return copy;
+  }
+
+  private MutationDetails copyRelations(MutationDetails copy) {
+    copy.addDuplicates(this.duplicates);
+    copy.addSubsumingMutations(this.subsumedBy);
+    return copy;
   }
   
   /**
@@ -184,6 +198,49 @@ public final class MutationDetails implements Serializable {
     this.testsInOrder.trimToSize();
   }
 
+  /**
+   * Returns mutations that are known to produce the same program as this
+   * mutation. They are not run themselves but share its result.
+   * 
+   * @return a list of duplicate mutations
+   */
+  public List<MutationDetails> getDuplicates() {
+    return this.duplicates;
+  }
+
+  /**
+   * Records mutations that produce the same program as this mutation
+   * 
+   * @param mutations
+   *          The duplicate mutations
+   */
+  public void addDuplicates(final Collection<MutationDetails> mutations) {
+    this.duplicates.addAll(mutations);
+    this.duplicates.trimToSize();
+  }
+
+  /**
+   * Returns the mutations that subsume this mutation i.e. mutations for which
+   * any test that kills them will also kill this mutation.
+   * 
+   * @return ids of the subsuming mutations
+   */
+  public List<MutationIdentifier> getSubsumingMutations() {
+    return this.subsumedBy;
+  }
+
+  /**
+   * Records mutations that subsume this mutation
+   * 
+   * @param mutations
+   *          ids of the subsuming mutations
+   */
+  public void addSubsumingMutations(
+      final Collection<MutationIdentifier> mutations) {
+    this.subsumedBy.addAll(mutations);
+    this.subsumedBy.trimToSize();
+  }
+
   /**
    * Indicates if this mutation might poison state within the jvm (e.g affect
    * the values of static variable)
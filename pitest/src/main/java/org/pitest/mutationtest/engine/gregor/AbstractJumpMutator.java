@@ -19,8 +19,11 @@ import java.util.Map;
 import org.objectweb.asm.Label;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 
+import sun.pitest.InfectionStore;
+
 public abstract class AbstractJumpMutator extends MethodVisitor {
 
   private final MethodMutatorFactory factory;
@@ -67,8 +70,58 @@ public abstract class AbstractJumpMutator extends MethodVisitor {
     if (this.context.shouldMutate(newId)) {
       this.mv.visitJumpInsn(substitution.newCode, label);
     } else {
+      if (canProbe(opcode, substitution.newCode)) {
+        final Option<Integer> probe = this.context
+            .registerInfectionProbe(newId);
+        if (probe.hasSome()) {
+          probeInfection(opcode, substitution.newCode, probe.value());
+        }
+      }
       this.mv.visitJumpInsn(opcode, label);
     }
   }
 
+  /**
+   * Passes copies of the jump's operands to InfectionStore, which records
+   * whether the original and mutated jumps would branch differently. The
+   * stack is left as it was, so frames remain valid.
+   */
+  private void probeInfection(final int opcode, final int newCode,
+      final int probe) {
+    final String operands = operandDescriptor(opcode);
+    this.mv.visitInsn(operands.length() == 1 ? Opcodes.DUP : Opcodes.DUP2);
+    this.mv.visitLdcInsn(opcode);
+    this.mv.visitLdcInsn(newCode);
+    this.mv.visitLdcInsn(probe);
+    this.mv.visitMethodInsn(Opcodes.INVOKESTATIC, InfectionStore.CLASS_NAME,
+        InfectionStore.JUMP_METHOD_NAME, "(" + descriptorOf(operands)
+            + "III)V", false);
+  }
+
+  private static boolean canProbe(final int opcode, final int newCode) {
+    final String operands = operandDescriptor(opcode);
+    return !operands.isEmpty() && operands.equals(operandDescriptor(newCode));
+  }
+
+  // I for each int operand and A for each reference operand
+  private static String operandDescriptor(final int opcode) {
+    if ((opcode >= Opcodes.IFEQ) && (opcode <= Opcodes.IFLE)) {
+      return "I";
+    }
+    if ((opcode >= Opcodes.IF_ICMPEQ) && (opcode <= Opcodes.IF_ICMPLE)) {
+      return "II";
+    }
+    if ((opcode == Opcodes.IF_ACMPEQ) || (opcode == Opcodes.IF_ACMPNE)) {
+      return "AA";
+    }
+    if ((opcode == Opcodes.IFNULL) || (opcode == Opcodes.IFNONNULL)) {
+      return "A";
+    }
+    return "";
+  }
+
+  private static String descriptorOf(final String operands) {
+    return operands.replace("A", "Ljava/lang/Object;");
+  }
+
 }
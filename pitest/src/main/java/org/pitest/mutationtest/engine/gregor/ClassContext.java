@@ -16,7 +16,9 @@ package org.pitest.mutationtest.engine.gregor;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
@@ -31,15 +33,13 @@ class ClassContext implements BlockCounter {
   private ClassInfo                   classInfo;
   private String                      sourceFile;
 
-  private Option<MutationIdentifier>  target       = Option.none();
+  private final List<MutationIdentifier> targets = new ArrayList<>();
+  private final List<MutationIdentifier> probeRequests = new ArrayList<>();
+  private final Map<MutationIdentifier, Integer> probes = new LinkedHashMap<>();
   private final List<MutationDetails> mutations    = new ArrayList<>();
 
   private final ConcreteBlockCounter  blockCounter = new ConcreteBlockCounter();
 
-  public Option<MutationIdentifier> getTargetMutation() {
-    return this.target;
-  }
-
   public ClassInfo getClassInfo() {
     return this.classInfo;
   }
@@ -53,7 +53,41 @@ class ClassContext implements BlockCounter {
   }
 
   public void setTargetMutation(final Option<MutationIdentifier> target) {
-    this.target = target;
+    setTargetMutations(target);
+  }
+
+  public void setTargetMutations(final Iterable<MutationIdentifier> targets) {
+    this.targets.clear();
+    for (final MutationIdentifier each : targets) {
+      this.targets.add(each);
+    }
+  }
+
+  public void setInfectionProbes(final Iterable<MutationIdentifier> requests) {
+    this.probeRequests.clear();
+    this.probes.clear();
+    for (final MutationIdentifier each : requests) {
+      this.probeRequests.add(each);
+    }
+  }
+
+  /**
+   * Probes are numbered in the order requested, so a mutant that is visited
+   * more than once (e.g. in an inlined finally block) shares one probe.
+   */
+  public Option<Integer> registerInfectionProbe(final MutationIdentifier newId) {
+    for (int i = 0; i != this.probeRequests.size(); i++) {
+      final MutationIdentifier each = this.probeRequests.get(i);
+      if (each.matches(newId)) {
+        this.probes.put(each, i);
+        return Option.some(i);
+      }
+    }
+    return Option.none();
+  }
+
+  public Map<MutationIdentifier, Integer> getInfectionProbes() {
+    return this.probes;
   }
 
   public List<MutationDetails> getMutationDetails(final MutationIdentifier id) {
@@ -79,7 +113,7 @@ class ClassContext implements BlockCounter {
   }
 
   public boolean shouldMutate(final MutationIdentifier newId) {
-    return getTargetMutation().contains(idMatches(newId));
+    return FCollection.contains(this.targets, idMatches(newId));
   }
 
   private static F<MutationIdentifier, Boolean> idMatches(
@@ -18,8 +18,10 @@ import static org.pitest.functional.prelude.Prelude.and;
 import static org.pitest.functional.prelude.Prelude.not;
 
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +38,7 @@ import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
 import org.pitest.functional.Option;
 import org.pitest.functional.predicate.Predicate;
+import org.pitest.mutationtest.engine.InfectionProbes;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -94,33 +97,63 @@ public class GregorMutater implements Mutater {
   public Mutant getMutation(final MutationIdentifier id) {
 
     final ClassContext context = new ClassContext();
-    context.setTargetMutation(Option.some(id));
+    final byte[] bytes = mutate(context, Collections.singletonList(id));
 
-    final Option<byte[]> bytes = this.byteSource.getBytes(id.getClassName()
-        .asJavaName());
+    final List<MutationDetails> details = context.getMutationDetails(id);
+
+    return new Mutant(details.get(0), bytes);
+
+  }
+
+  @Override
+  public byte[] getCombinedMutation(final Collection<MutationIdentifier> ids) {
+    return mutate(new ClassContext(), ids);
+  }
+
+  @Override
+  public InfectionProbes getInfectionProbes(
+      final Collection<MutationIdentifier> ids) {
+    final ClassContext context = new ClassContext();
+    context.setInfectionProbes(ids);
+    final byte[] bytes = transform(context, ids);
+    return new InfectionProbes(bytes,
+        new LinkedHashMap<>(context.getInfectionProbes()));
+  }
+
+  private byte[] mutate(final ClassContext context,
+      final Collection<MutationIdentifier> ids) {
+    context.setTargetMutations(ids);
+    return transform(context, ids);
+  }
+
+  private byte[] transform(final ClassContext context,
+      final Collection<MutationIdentifier> ids) {
+    final Option<byte[]> bytes = this.byteSource.getBytes(ids.iterator()
+        .next().getClassName().asJavaName());
 
     final ClassReader reader = new ClassReader(bytes.value());
     final ClassWriter w = new ComputeClassWriter(this.byteSource,
         this.computeCache, FrameOptions.pickFlags(bytes.value()));
     final MutatingClassVisitor mca = new MutatingClassVisitor(w, context,
         filterMethods(), FCollection.filter(this.mutators,
-            isMutatorFor(id)));
+            isMutatorForAny(ids)));
     reader.accept(mca, ClassReader.EXPAND_FRAMES);
 
-    final List<MutationDetails> details = context.getMutationDetails(context
-        .getTargetMutation().value());
-
-    return new Mutant(details.get(0), w.toByteArray());
-
+    return w.toByteArray();
   }
 
-  private static Predicate<MethodMutatorFactory> isMutatorFor(
-      final MutationIdentifier id) {
+  private static Predicate<MethodMutatorFactory> isMutatorForAny(
+      final Collection<MutationIdentifier> ids) {
     return new Predicate<MethodMutatorFactory>() {
 
       @Override
       public Boolean apply(final MethodMutatorFactory a) {
-        return id.getMutator().equals(a.getGloballyUniqueId());
+        for (final MutationIdentifier each : ids) {
+          if (each.getMutator().equals(a.getGloballyUniqueId())) {
+            return true;
+          }
+        }
+        return false;
       }
 
     };
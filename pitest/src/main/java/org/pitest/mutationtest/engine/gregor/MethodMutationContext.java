@@ -3,6 +3,7 @@ package org.pitest.mutationtest.engine.gregor;
 import java.util.HashSet;
 import java.util.Set;
 
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.engine.Location;
 import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationIdentifier;
@@ -84,6 +85,11 @@ class MethodMutationContext implements MutationContext, InstructionCounter {
     return this.classContext.shouldMutate(newId);
   }
 
+  @Override
+  public Option<Integer> registerInfectionProbe(final MutationIdentifier newId) {
+    return this.classContext.registerInfectionProbe(newId);
+  }
+
   @Override
   public void disableMutations(final String reason) {
     this.mutationFindingDisabledReasons.add(reason);
@@ -1,5 +1,6 @@
 package org.pitest.mutationtest.engine.gregor;
 
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.blocks.BlockCounter;
 
@@ -14,6 +15,16 @@ public interface MutationContext extends BlockCounter {
 
   boolean shouldMutate(MutationIdentifier newId);
 
+  /**
+   * Claims the infection probe for a mutant that is not active, if one was
+   * requested for it
+   *
+   * @param newId
+   *          the mutant that will be evaluated alongside the original code
+   * @return index of the probe in sun.pitest.InfectionStore
+   */
+  Option<Integer> registerInfectionProbe(MutationIdentifier newId);
+
   void disableMutations(String reason);
 
   void enableMutatations(String reason);
@@ -20,14 +20,30 @@ import org.pitest.testapi.Description;
 import org.pitest.testapi.TestListener;
 import org.pitest.testapi.TestResult;
 
+import sun.pitest.LoopBudgetExceededError;
+
 public class CheckTestHasFailedResultListener implements TestListener {
 
   private Option<Description> lastFailingTest = Option.none();
   private int                 testsRun        = 0;
+  private boolean             loopBudgetSpent = false;
 
   @Override
   public void onTestFailure(final TestResult tr) {
     this.lastFailingTest = Option.some(tr.getDescription());
+    this.loopBudgetSpent = this.loopBudgetSpent
+        || isLoopBudgetExceeded(tr.getThrowable());
+  }
+
+  private static boolean isLoopBudgetExceeded(final Throwable t) {
+    Throwable each = t;
+    while (each != null) {
+      if (each instanceof LoopBudgetExceededError) {
+        return true;
+      }
+      each = each.getCause();
+    }
+    return false;
   }
 
   @Override
@@ -46,7 +62,9 @@ public class CheckTestHasFailedResultListener implements TestListener {
   }
 
   public DetectionStatus status() {
-    if (this.lastFailingTest.hasSome()) {
+    if (this.loopBudgetSpent) {
+      return DetectionStatus.TIMED_OUT;
+    } else if (this.lastFailingTest.hasSome()) {
       return DetectionStatus.KILLED;
     } else {
       return DetectionStatus.SURVIVED;
@@ -34,7 +34,7 @@ public class DefaultPITClassloader extends ClassLoader {
   protected Class<?> findClass(final String name) throws ClassNotFoundException {
 
     try {
-      final byte[] b = this.classPath.getClassData(name);
+      final byte[] b = classData(name);
       if (b == null) {
         throw new ClassNotFoundException(name);
       }
@@ -45,6 +45,10 @@ public class DefaultPITClassloader extends ClassLoader {
     }
   }
 
+  protected byte[] classData(final String name) throws IOException {
+    return this.classPath.getClassData(name);
+  }
+
   private void definePackage(final String name) {
     final int i = name.lastIndexOf('.');
     if (i != -1) {
@@ -48,6 +48,13 @@ public class DefaultReporter implements Reporter {
     this.w.flush();
   }
 
+  @Override
+  public synchronized void heapUsed(final long bytes) throws IOException {
+    this.w.writeByte(Id.HEAP);
+    this.w.writeLong(bytes);
+    this.w.flush();
+  }
+
   @Override
   public synchronized void done(final ExitCode exitCode) {
     this.w.writeByte(Id.DONE);
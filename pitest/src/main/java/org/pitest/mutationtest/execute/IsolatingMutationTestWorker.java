@@ -0,0 +1,234 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import static org.pitest.util.Unchecked.translateCheckedException;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.logging.Logger;
+
+import org.pitest.classpath.ClassPath;
+import org.pitest.functional.F;
+import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.mutationtest.engine.Mutant;
+import org.pitest.mutationtest.engine.Mutater;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.execute.MutationTestWorker.Phases;
+import org.pitest.testapi.TestUnit;
+import org.pitest.util.Log;
+import org.pitest.util.PitError;
+
+/**
+ * Runs each mutant in its own MutantClassLoader instead of hot swapping it
+ * into the minion's loader. The tests and the code they exercise are loaded
+ * afresh alongside each mutant, so mutants can run at the same time on
+ * different threads and mutants that change the shape of a class remain
+ * viable.
+ *
+ * Only suitable for tests free of JVM wide side effects, as mutants share
+ * static state held outside the isolated class path.
+ */
+public class IsolatingMutationTestWorker {
+
+  private static final Logger                  LOG = Log.getLogger();
+
+  private final Mutater                        mutater;
+  private final ClassPath                      isolated;
+  private final ClassLoader                    parent;
+  private final F<ClassLoader, List<TestUnit>> testFinder;
+  private final TimeoutLengthStrategy          timeoutStrategy;
+  private final int                            threads;
+  private final long                           loopBudget;
+  private final SubsumedMutations              subsumed = new SubsumedMutations();
+
+  /**
+   * @param isolated
+   *          classes loaded afresh for each mutant
+   * @param testFinder
+   *          finds the tests to run against a mutant within its loader
+   * @param loopBudget
+   *          backward jumps each mutant may take during a test, 0 for no
+   *          limit. Each test has its own budget, so mutants running at the
+   *          same time cannot spend each other's.
+   */
+  public IsolatingMutationTestWorker(final Mutater mutater,
+      final ClassPath isolated, final ClassLoader parent,
+      final F<ClassLoader, List<TestUnit>> testFinder,
+      final TimeoutLengthStrategy timeoutStrategy, final int threads,
+      final long loopBudget) {
+    this.mutater = mutater;
+    this.isolated = isolated;
+    this.parent = parent;
+    this.testFinder = testFinder;
+    this.timeoutStrategy = timeoutStrategy;
+    this.threads = Math.max(1, threads);
+    this.loopBudget = loopBudget;
+  }
+
+  /**
+   * Analyses the mutations, several at once. A mutant that times out cannot
+   * be stopped, so no further mutants are started and the minion exits with
+   * a timeout once those already running have been reported, leaving the
+   * parent to mark the mutant and run any that remain.
+   *
+   * Mutations are started after those that subsume them, and are not run if
+   * one of those has already been killed.
+   */
+  protected void run(final Collection<MutationDetails> range, final Reporter r)
+      throws InterruptedException {
+    final AtomicBoolean timedOut = new AtomicBoolean();
+    final ExecutorService pool = Executors.newFixedThreadPool(this.threads,
+        daemonThreads());
+    final List<Future<Void>> analyses = new ArrayList<>();
+    for (final MutationDetails each : SubsumedMutations.subsumingFirst(range)) {
+      analyses.add(pool.submit(new Callable<Void>() {
+        @Override
+        public Void call() throws Exception {
+          if (!timedOut.get()
+              && !IsolatingMutationTestWorker.this.subsumed.inferKill(r, each)) {
+            processMutation(r, each, timedOut);
+          }
+          return null;
+        }
+      }));
+    }
+    pool.shutdown();
+
+    try {
+      for (final Future<Void> each : analyses) {
+        each.get();
+      }
+    } catch (final ExecutionException ex) {
+      throw translateCheckedException(ex.getCause());
+    } finally {
+      pool.shutdownNow();
+    }
+
+    if (timedOut.get()) {
+      new TimeOutSystemExitSideEffect(r).apply();
+    }
+  }
+
+  private void processMutation(final Reporter r,
+      final MutationDetails mutationDetails, final AtomicBoolean timedOut)
+      throws Exception {
+    final Phases phases = new Phases();
+    final Mutant mutant = mutate(mutationDetails);
+    phases.generation = phases.elapsed();
+
+    r.describe(mutationDetails.getId());
+
+    final Option<MutationStatusTestPair> status = handleMutation(
+        mutationDetails, mutant, phases);
+    if (status.hasSome()) {
+      r.report(mutationDetails.getId(),
+          status.value().withTimings(phases.toTimings()));
+      this.subsumed.record(mutationDetails.getId(), status.value());
+    } else {
+      LOG.warning("Mutation " + mutationDetails.getId() + " timed out");
+      timedOut.set(true);
+    }
+  }
+
+  private Mutant mutate(final MutationDetails mutationDetails) {
+    synchronized (this.mutater) {
+      return this.mutater.getMutation(mutationDetails.getId());
+    }
+  }
+
+  private Option<MutationStatusTestPair> handleMutation(
+      final MutationDetails mutationDetails, final Mutant mutant,
+      final Phases phases) {
+    final long t0 = System.currentTimeMillis();
+    final ClassLoader loader = new MutantClassLoader(this.isolated,
+        this.parent, mutationDetails.getClassName(),
+        MutationTestWorker.classBytes(mutant, this.loopBudget > 0));
+
+    if (!isViable(mutationDetails, loader)) {
+      LOG.warning("Mutation " + mutationDetails.getId() + " was not viable ");
+      return Option.some(new MutationStatusTestPair(0,
+          DetectionStatus.NON_VIABLE));
+    }
+
+    final AtomicBoolean testTimedOut = new AtomicBoolean();
+    final List<TestUnit> tests = new TimeOutDecoratedTestSource(
+        this.timeoutStrategy, this.testFinder.apply(loader),
+        abandonMutant(testTimedOut), this.loopBudget)
+        .translateTests(mutationDetails.getTestsInOrder());
+    phases.hotSwap = System.currentTimeMillis() - t0;
+
+    if (tests.isEmpty()) {
+      LOG.info("No test coverage for mutation  " + mutationDetails.getId());
+      return Option.some(new MutationStatusTestPair(0,
+          DetectionStatus.RUN_ERROR));
+    }
+
+    try {
+      return Option.some(MutationTestWorker.doTestsDetectMutation(
+          MutationTestWorker.createNewContainer(phases), tests));
+    } catch (final PitError ex) {
+      if (testTimedOut.get()) {
+        return Option.none();
+      }
+      throw ex;
+    }
+  }
+
+  private static boolean isViable(final MutationDetails mutationDetails,
+      final ClassLoader loader) {
+    try {
+      Class.forName(mutationDetails.getClassName().asJavaName(), false, loader);
+      return true;
+    } catch (final ClassNotFoundException | LinkageError ex) {
+      return false;
+    }
+  }
+
+  private static SideEffect abandonMutant(final AtomicBoolean timedOut) {
+    return new SideEffect() {
+      @Override
+      public void apply() {
+        timedOut.set(true);
+        throw new PitError("Mutant timed out");
+      }
+    };
+  }
+
+  private static ThreadFactory daemonThreads() {
+    return new ThreadFactory() {
+      @Override
+      public Thread newThread(final Runnable r) {
+        final Thread thread = new Thread(r);
+        thread.setDaemon(true);
+        thread.setName("pit isolated mutant");
+        return thread;
+      }
+    };
+  }
+
+}
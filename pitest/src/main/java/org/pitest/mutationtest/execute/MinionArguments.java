@@ -34,11 +34,21 @@ public class MinionArguments implements Serializable {
   final TimeoutLengthStrategy       timeoutStrategy;
   final boolean                     verbose;
   final TestPluginArguments         pitConfig;
+  final MinionOptions               options;
 
   public MinionArguments(final Collection<MutationDetails> mutations,
       final Collection<ClassName> tests, final String engine,   final EngineArguments engineArgs,
       final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
       final TestPluginArguments pitConfig) {
+    this(mutations, tests, engine, engineArgs, timeoutStrategy, verbose,
+        pitConfig, MinionOptions.defaults());
+  }
+
+  public MinionArguments(final Collection<MutationDetails> mutations,
+      final Collection<ClassName> tests, final String engine,
+      final EngineArguments engineArgs,
+      final TimeoutLengthStrategy timeoutStrategy, final boolean verbose,
+      final TestPluginArguments pitConfig, final MinionOptions options) {
     this.mutations = mutations;
     this.testClasses = tests;
     this.engine = engine;
@@ -46,6 +56,7 @@ public class MinionArguments implements Serializable {
     this.timeoutStrategy = timeoutStrategy;
     this.verbose = verbose;
     this.pitConfig = pitConfig;
+    this.options = options;
   }
 
   public boolean isVerbose() {
@@ -0,0 +1,124 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.Serializable;
+
+/**
+ * How a minion runs the mutants it is given.
+ */
+public final class MinionOptions implements Serializable {
+
+  private static final long serialVersionUID = 1L;
+
+  private final long        loopBudget;
+  private final boolean     isolateMutants;
+  private final int         mutantThreads;
+  private final boolean     groupMutants;
+  private final boolean     prefilterInfection;
+
+  private MinionOptions(final long loopBudget, final boolean isolateMutants,
+      final int mutantThreads, final boolean groupMutants,
+      final boolean prefilterInfection) {
+    this.loopBudget = loopBudget;
+    this.isolateMutants = isolateMutants;
+    this.mutantThreads = mutantThreads;
+    this.groupMutants = groupMutants;
+    this.prefilterInfection = prefilterInfection;
+  }
+
+  /**
+   * Each mutant is hot swapped into the minion and run on its own, with no
+   * limit on its loops
+   */
+  public static MinionOptions defaults() {
+    return new MinionOptions(0, false, 1, false, false);
+  }
+
+  /**
+   * @param loopBudget
+   *          backward jumps a mutant may take during each test before the
+   *          mutation is considered timed out. 0 places no limit.
+   */
+  public MinionOptions withLoopBudget(final long loopBudget) {
+    return new MinionOptions(loopBudget, this.isolateMutants,
+        this.mutantThreads, this.groupMutants, this.prefilterInfection);
+  }
+
+  /**
+   * @param isolateMutants
+   *          run each mutant in its own classloader rather than hot swapping
+   *          it into the minion's
+   */
+  public MinionOptions withIsolateMutants(final boolean isolateMutants) {
+    return new MinionOptions(this.loopBudget, isolateMutants,
+        this.mutantThreads, this.groupMutants, this.prefilterInfection);
+  }
+
+  /**
+   * @param mutantThreads
+   *          mutants to run at once when they are isolated
+   */
+  public MinionOptions withMutantThreads(final int mutantThreads) {
+    return new MinionOptions(this.loopBudget, this.isolateMutants,
+        mutantThreads, this.groupMutants, this.prefilterInfection);
+  }
+
+  /**
+   * @param groupMutants
+   *          run surviving mutants in different methods of a class together,
+   *          so that they share a single run of their tests
+   */
+  public MinionOptions withGroupMutants(final boolean groupMutants) {
+    return new MinionOptions(this.loopBudget, this.isolateMutants,
+        this.mutantThreads, groupMutants, this.prefilterInfection);
+  }
+
+  /**
+   * @param prefilterInfection
+   *          run the tests for a class once against probes for its mutants,
+   *          so that mutants no test infects need not be run
+   */
+  public MinionOptions withPrefilterInfection(final boolean prefilterInfection) {
+    return new MinionOptions(this.loopBudget, this.isolateMutants,
+        this.mutantThreads, this.groupMutants, prefilterInfection);
+  }
+
+  /**
+   * Copy of these options under which each mutant runs on its own
+   */
+  public MinionOptions runningMutantsSeparately() {
+    return withGroupMutants(false).withPrefilterInfection(false);
+  }
+
+  public long getLoopBudget() {
+    return this.loopBudget;
+  }
+
+  public boolean limitsLoops() {
+    return this.loopBudget > 0;
+  }
+
+  public boolean isolatesMutants() {
+    return this.isolateMutants;
+  }
+
+  public int getMutantThreads() {
+    return this.mutantThreads;
+  }
+
+  public boolean groupsMutants() {
+    return this.groupMutants;
+  }
+
+  public boolean prefiltersInfection() {
+    return this.prefilterInfection;
+  }
+
+  /**
+   * True if a minion may run several mutants against a single run of the
+   * tests, either by grouping them or by probing them for infection
+   */
+  public boolean runsMutantsTogether() {
+    return this.groupMutants || this.prefilterInfection;
+  }
+
+}
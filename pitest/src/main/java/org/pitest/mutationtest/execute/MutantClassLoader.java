@@ -0,0 +1,71 @@
+/*
+ * Copyright 2010 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+
+/**
+ * Defines a mutant directly, along with fresh copies of the classes on the
+ * supplied class path, so that the mutant is seen only by code loaded through
+ * this loader.
+ *
+ * Classes on the supplied class path are loaded by this loader before its
+ * parent is asked, so the class path must not hold classes that are shared
+ * with the minion, such as pitest's own or those of the test framework. All
+ * other classes come from the parent.
+ */
+public class MutantClassLoader extends DefaultPITClassloader {
+
+  private final String mutantName;
+  private final byte[] mutant;
+
+  public MutantClassLoader(final ClassPath isolated, final ClassLoader parent,
+      final ClassName mutantName, final byte[] mutant) {
+    super(isolated, parent);
+    this.mutantName = mutantName.asJavaName();
+    this.mutant = mutant;
+  }
+
+  @Override
+  protected Class<?> loadClass(final String name, final boolean resolve)
+      throws ClassNotFoundException {
+    synchronized (getClassLoadingLock(name)) {
+      Class<?> clazz = findLoadedClass(name);
+      if (clazz == null) {
+        try {
+          clazz = findClass(name);
+        } catch (final ClassNotFoundException ex) {
+          return super.loadClass(name, resolve);
+        }
+      }
+      if (resolve) {
+        resolveClass(clazz);
+      }
+      return clazz;
+    }
+  }
+
+  @Override
+  protected byte[] classData(final String name) throws IOException {
+    if (name.equals(this.mutantName)) {
+      return this.mutant;
+    }
+    return super.classData(name);
+  }
+
+}
@@ -14,11 +14,21 @@
  */
 package org.pitest.mutationtest.execute;
 
+import java.io.File;
 import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
 import java.lang.management.MemoryNotificationInfo;
 import java.net.Socket;
+import java.net.URISyntaxException;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.Timer;
+import java.util.TimerTask;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -30,7 +40,9 @@ import org.pitest.boot.HotSwapAgent;
 import org.pitest.classinfo.CachingByteArraySource;
 import org.pitest.classinfo.ClassByteArraySource;
 import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
 import org.pitest.classpath.ClassloaderByteArraySource;
+import org.pitest.functional.F;
 import org.pitest.functional.F3;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.prelude.Prelude;
@@ -38,6 +50,7 @@ import org.pitest.mutationtest.EngineArguments;
 import org.pitest.mutationtest.config.ClientPluginServices;
 import org.pitest.mutationtest.config.MinionSettings;
 import org.pitest.mutationtest.config.TestPluginArguments;
+import org.pitest.mutationtest.engine.MutationDetails;
 import org.pitest.mutationtest.engine.MutationEngine;
 import org.pitest.mutationtest.mocksupport.BendJavassistToMyWillTransformer;
 import org.pitest.mutationtest.mocksupport.JavassistInputStreamInterceptorAdapater;
@@ -49,6 +62,7 @@ import org.pitest.util.ExitCode;
 import org.pitest.util.Glob;
 import org.pitest.util.IsolationUtils;
 import org.pitest.util.Log;
+import org.pitest.util.PitError;
 import org.pitest.util.SafeDataInputStream;
 
 public class MutationTestMinion {
@@ -59,6 +73,8 @@ public class MutationTestMinion {
   // Size is arbitrary but assumed to be large enough to cover likely max number of inner classes
   private static final int CACHE_SIZE = 12;
 
+  private static final long HEAP_SAMPLE_INTERVAL = 1000;
+
   private final SafeDataInputStream dis;
   private final Reporter            reporter;
   private final MinionSettings      plugins;
@@ -89,15 +105,34 @@ public class MutationTestMinion {
       MutationEngine engine = createEngine(paramsFromParent.engine, paramsFromParent.engineArgs);
       
       
-      final MutationTestWorker worker = new MutationTestWorker(hotswap,
-          engine.createMutator(byteSource), loader);
+      final Configuration testPlugin = createTestPlugin(paramsFromParent.pitConfig);
 
-      final List<TestUnit> tests = findTestsForTestClasses(loader,
-          paramsFromParent.testClasses, createTestPlugin(paramsFromParent.pitConfig));
-      
-      worker.run(paramsFromParent.mutations, this.reporter,
-          new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
-              tests, this.reporter));
+      final Timer heapSampler = sampleHeapUsage(this.reporter);
+      try {
+        final MinionOptions options = paramsFromParent.options;
+        if (options.isolatesMutants()) {
+          final IsolatingMutationTestWorker worker = new IsolatingMutationTestWorker(
+              engine.createMutator(byteSource),
+              isolatedClassPath(paramsFromParent), loader,
+              testsForTestClasses(paramsFromParent.testClasses, testPlugin),
+              paramsFromParent.timeoutStrategy, options.getMutantThreads(),
+              options.getLoopBudget());
+          worker.run(paramsFromParent.mutations, this.reporter);
+        } else {
+          final MutationTestWorker worker = new MutationTestWorker(hotswap,
+              engine.createMutator(byteSource), loader, options);
+
+          final List<TestUnit> tests = findTestsForTestClasses(loader,
+              paramsFromParent.testClasses, testPlugin);
+
+          worker.run(paramsFromParent.mutations, this.reporter,
+              new TimeOutDecoratedTestSource(paramsFromParent.timeoutStrategy,
+                  tests, new TimeOutSystemExitSideEffect(this.reporter),
+                  options.getLoopBudget()));
+        }
+      } finally {
+        heapSampler.cancel();
+      }
       
       this.reporter.done(ExitCode.OK);
     } catch (final Throwable ex) {
@@ -156,6 +191,59 @@ public class MutationTestMinion {
     return finder.findTestUnitsForAllSuppliedClasses(tcs);
   }
 
+  private static F<ClassLoader, List<TestUnit>> testsForTestClasses(
+      final Collection<ClassName> testClasses, final Configuration pitConfig) {
+    return new F<ClassLoader, List<TestUnit>>() {
+      @Override
+      public List<TestUnit> apply(final ClassLoader loader) {
+        return findTestsForTestClasses(loader, testClasses, pitConfig);
+      }
+    };
+  }
+
+  /**
+   * Classes in directories on the class path are the project's own code and
+   * tests, so are loaded afresh for each isolated mutant. Those in archives,
+   * and pitest's own classes, are shared.
+   */
+  /**
+   * Class path directories, along with any jars holding the tests or mutated
+   * classes. On a worker agent directories arrive packed into jars, so these
+   * would otherwise be loaded by the parent loader and never see a mutant.
+   */
+  private static ClassPath isolatedClassPath(final MinionArguments args)
+      throws IOException, URISyntaxException {
+    final File pitest = new File(MutationTestMinion.class.getProtectionDomain()
+        .getCodeSource().getLocation().toURI()).getCanonicalFile();
+    final Set<String> classes = new HashSet<>();
+    for (final ClassName each : args.testClasses) {
+      classes.add(each.asJavaName());
+    }
+    for (final MutationDetails each : args.mutations) {
+      classes.add(each.getClassName().asJavaName());
+    }
+
+    final List<File> roots = new ArrayList<>();
+    for (final File each : ClassPath.getClassPathElementsAsFiles()) {
+      if (!each.equals(pitest)
+          && (each.isDirectory() || (each.isFile() && holdsAny(each, classes)))) {
+        roots.add(each);
+      }
+    }
+    return new ClassPath(roots);
+  }
+
+  private static boolean holdsAny(final File jar, final Set<String> classes)
+      throws IOException {
+    final ClassPath cp = new ClassPath(Collections.singletonList(jar));
+    for (final String each : classes) {
+      if (cp.getClassData(each) != null) {
+        return true;
+      }
+    }
+    return false;
+  }
+
   private static void enablePowerMockSupport() {
     // Bwahahahahahahaha
     HotSwapAgent.addTransformer(new BendJavassistToMyWillTransformer(Prelude
@@ -172,6 +260,27 @@ public class MutationTestMinion {
     }
   }
 
+  /**
+   * Lets the parent see how much heap the minion needs, so that it can judge
+   * how many minions fit in memory at once
+   */
+  private static Timer sampleHeapUsage(final Reporter r) {
+    final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+    final Timer timer = new Timer("pit heap sampler", true);
+    timer.schedule(new TimerTask() {
+      @Override
+      public void run() {
+        try {
+          r.heapUsed(memory.getHeapMemoryUsage().getUsed());
+        } catch (final IOException | PitError e) {
+          // parent has stopped listening
+          cancel();
+        }
+      }
+    }, 0, HEAP_SAMPLE_INTERVAL);
+    return timer;
+  }
+
   private static void addMemoryWatchDog(final Reporter r) {
     final NotificationListener listener = new NotificationListener() {
 
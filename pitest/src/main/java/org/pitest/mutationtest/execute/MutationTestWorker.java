@@ -20,14 +20,29 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Set;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
+import org.pitest.bytecode.LoopCountingClassVisitor;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
+import org.pitest.functional.F;
 import org.pitest.functional.F3;
+import org.pitest.functional.FCollection;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.MutationTimings;
+import org.pitest.mutationtest.engine.InfectionProbes;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -43,6 +58,8 @@ import org.pitest.testapi.execute.containers.ConcreteResultCollector;
 import org.pitest.testapi.execute.containers.UnContainer;
 import org.pitest.util.Log;
 
+import sun.pitest.InfectionStore;
+
 public class MutationTestWorker {
 
   private static final Logger                               LOG   = Log
@@ -52,22 +69,57 @@ public class MutationTestWorker {
   private static final boolean                              DEBUG = LOG
       .isLoggable(Level.FINE);
 
+  private static final int                                  MAX_GROUP_SIZE = 16;
+
   private final Mutater                                     mutater;
   private final ClassLoader                                 loader;
   private final F3<ClassName, ClassLoader, byte[], Boolean> hotswap;
+  private final boolean                                     limitLoops;
+  private final boolean                                     groupMutants;
+  private final boolean                                     prefilterInfection;
+  private final SubsumedMutations                           subsumed = new SubsumedMutations();
+
+  private int                                               groupSize = 1;
 
   public MutationTestWorker(
       final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
       final Mutater mutater, final ClassLoader loader) {
+    this(hotswap, mutater, loader, MinionOptions.defaults());
+  }
+
+  public MutationTestWorker(
+      final F3<ClassName, ClassLoader, byte[], Boolean> hotswap,
+      final Mutater mutater, final ClassLoader loader,
+      final MinionOptions options) {
     this.loader = loader;
     this.mutater = mutater;
     this.hotswap = hotswap;
+    this.limitLoops = options.limitsLoops();
+    this.groupMutants = options.groupsMutants();
+    this.prefilterInfection = options.prefiltersInfection();
   }
 
-  protected void run(final Collection<MutationDetails> range, final Reporter r,
-      final TimeOutDecoratedTestSource testSource) throws IOException {
+  /**
+   * Analyses the mutations, running those subsumed by others afterwards so
+   * that they need not be run if a mutation subsuming them is killed.
+   */
+  protected void run(final Collection<MutationDetails> mutations,
+      final Reporter r, final TimeOutDecoratedTestSource testSource)
+      throws IOException {
+
+    final Collection<MutationDetails> range = SubsumedMutations
+        .subsumingFirst(this.prefilterInfection ? prefilterUninfected(
+            mutations, r, testSource) : mutations);
+
+    if (this.groupMutants) {
+      runInGroups(range, r, testSource);
+      return;
+    }
 
     for (final MutationDetails mutation : range) {
+      if (this.subsumed.inferKill(r, mutation)) {
+        continue;
+      }
       if (DEBUG) {
         LOG.fine("Running mutation " + mutation);
       }
@@ -81,12 +133,264 @@ public class MutationTestWorker {
 
   }
 
-  private void processMutation(final Reporter r,
+  /**
+   * Runs each test once against a copy of the class under test that records
+   * which mutants would have changed the value of an expression. A mutant no
+   * test infects leaves every test running exactly as it did against the
+   * original code, so it is reported as surviving without being run, while
+   * the remainder are run against only the tests that infect them.
+   *
+   * Mutants that cannot be probed are returned unchanged.
+   */
+  private Collection<MutationDetails> prefilterUninfected(
+      final Collection<MutationDetails> range, final Reporter r,
+      final TimeOutDecoratedTestSource testSource) throws IOException {
+    final Map<ClassName, List<MutationDetails>> byClass = new LinkedHashMap<>();
+    for (final MutationDetails each : range) {
+      if (canGroup(each)) {
+        if (!byClass.containsKey(each.getClassName())) {
+          byClass.put(each.getClassName(), new ArrayList<MutationDetails>());
+        }
+        byClass.get(each.getClassName()).add(each);
+      }
+    }
+
+    final Map<MutationIdentifier, Set<String>> infecting = new HashMap<>();
+    for (final List<MutationDetails> each : byClass.values()) {
+      infecting.putAll(findInfectingTests(each, testSource));
+    }
+
+    final List<MutationDetails> remaining = new ArrayList<>();
+    for (final MutationDetails each : range) {
+      final Set<String> tests = infecting.get(each.getId());
+      if (tests == null) {
+        remaining.add(each);
+      } else if (tests.isEmpty()) {
+        if (DEBUG) {
+          LOG.fine("Mutation " + each.getId() + " is never infected");
+        }
+        r.describe(each.getId());
+        r.report(each.getId(), new MutationStatusTestPair(0,
+            DetectionStatus.SURVIVED));
+      } else {
+        remaining.add(each.withTestsInOrder(FCollection.filter(
+            each.getTestsInOrder(), isNamed(tests))));
+      }
+    }
+    return remaining;
+  }
+
+  private Map<MutationIdentifier, Set<String>> findInfectingTests(
+      final List<MutationDetails> mutations,
+      final TimeOutDecoratedTestSource testSource) {
+    final List<MutationIdentifier> ids = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      ids.add(each.getId());
+    }
+    final InfectionProbes probes = this.mutater.getInfectionProbes(ids);
+    if (probes.getProbes().isEmpty()
+        || !this.hotswap.apply(mutations.get(0).getClassName(), this.loader,
+            probes.getBytes())) {
+      return Collections.emptyMap();
+    }
+
+    final Map<MutationIdentifier, Set<String>> infecting = new HashMap<>();
+    for (final MutationIdentifier each : probes.getProbes().keySet()) {
+      infecting.put(each, new HashSet<String>());
+    }
+
+    for (final TestInfo test : testsInOrder(mutations)) {
+      InfectionStore.reset(ids.size());
+      final List<TestUnit> units = testSource.translateTests(Collections
+          .singletonList(test));
+      // a test that fails against the original code tells us nothing, so
+      // is treated as infecting every mutant
+      final boolean green = !units.isEmpty()
+          && (doTestsDetectMutation(createNewContainer(new Phases()), units)
+              .getStatus() == DetectionStatus.SURVIVED);
+      for (final Entry<MutationIdentifier, Integer> each : probes.getProbes()
+          .entrySet()) {
+        if (!green || InfectionStore.isInfected(each.getValue())) {
+          infecting.get(each.getKey()).add(test.getName());
+        }
+      }
+    }
+    return infecting;
+  }
+
+  private static F<TestInfo, Boolean> isNamed(final Set<String> names) {
+    return new F<TestInfo, Boolean>() {
+      @Override
+      public Boolean apply(final TestInfo a) {
+        return names.contains(a.getName());
+      }
+    };
+  }
+
+  /**
+   * Runs mutants in different methods of the same class together when they
+   * share tests. A group whose tests all pass has survived as a whole, while
+   * a group that is detected is split in two and each half run again. As this
+   * only pays off when mutants survive, groups double in size each time a
+   * run survives and halve each time a mutant is killed.
+   *
+   * Should the minion die while a group runs, every mutant in it will have
+   * been described, so the parent can re-run them one at a time.
+   */
+  private void runInGroups(final Collection<MutationDetails> range,
+      final Reporter r, final TimeOutDecoratedTestSource testSource)
+      throws IOException {
+    final List<MutationDetails> pending = new LinkedList<>(range);
+    while (!pending.isEmpty()) {
+      removeInferredKills(r, pending);
+      if (!pending.isEmpty()) {
+        processGroup(r, testSource, takeGroup(pending));
+      }
+    }
+  }
+
+  private void removeInferredKills(final Reporter r,
+      final List<MutationDetails> pending) throws IOException {
+    final Iterator<MutationDetails> it = pending.iterator();
+    while (it.hasNext()) {
+      if (this.subsumed.inferKill(r, it.next())) {
+        it.remove();
+      }
+    }
+  }
+
+  private List<MutationDetails> takeGroup(final List<MutationDetails> pending) {
+    final MutationDetails first = pending.remove(0);
+    final List<MutationDetails> group = new ArrayList<>();
+    group.add(first);
+    if (!canGroup(first)) {
+      return group;
+    }
+
+    final Set<String> tests = testNames(first);
+    final Iterator<MutationDetails> it = pending.iterator();
+    while ((group.size() < this.groupSize) && it.hasNext()) {
+      final MutationDetails each = it.next();
+      if (canGroup(each) && each.getClassName().equals(first.getClassName())
+          && !hasMutantInMethod(group, each)
+          && !Collections.disjoint(tests, testNames(each))) {
+        group.add(each);
+        tests.addAll(testNames(each));
+        it.remove();
+      }
+    }
+    return group;
+  }
+
+  private void processGroup(final Reporter r,
+      final TimeOutDecoratedTestSource testSource,
+      final List<MutationDetails> group) throws IOException {
+    if (group.size() == 1) {
+      adjustGroupSize(processMutation(r, testSource, group.get(0)));
+      return;
+    }
+
+    final Phases phases = new Phases();
+    final List<MutationIdentifier> ids = new ArrayList<>();
+    for (final MutationDetails each : group) {
+      ids.add(each.getId());
+    }
+    final byte[] bytes = this.mutater.getCombinedMutation(ids);
+    phases.generation = phases.elapsed();
+    JavassistInterceptor.setMutant(new Mutant(group.get(0), bytes));
+
+    for (final MutationIdentifier each : ids) {
+      r.describe(each);
+    }
+
+    final Option<MutationStatusTestPair> survived = runGroup(group, bytes,
+        testSource, phases);
+    if (survived.hasSome()) {
+      if (DEBUG) {
+        LOG.fine(group.size() + " grouped mutations survived");
+      }
+      for (final MutationIdentifier each : ids) {
+        r.report(each, survived.value().withTimings(phases.toTimings()));
+      }
+      adjustGroupSize(survived.value());
+    } else {
+      final int half = group.size() / 2;
+      processGroup(r, testSource, new ArrayList<>(group.subList(0, half)));
+      processGroup(r, testSource,
+          new ArrayList<>(group.subList(half, group.size())));
+    }
+  }
+
+  private Option<MutationStatusTestPair> runGroup(
+      final List<MutationDetails> group, final byte[] bytes,
+      final TimeOutDecoratedTestSource testSource, final Phases phases) {
+    final Container c = createNewContainer(phases);
+    final long t0 = System.currentTimeMillis();
+    final boolean swapped = this.hotswap.apply(group.get(0).getClassName(),
+        this.loader, classBytes(bytes, this.limitLoops));
+    phases.hotSwap = System.currentTimeMillis() - t0;
+    if (!swapped) {
+      return Option.none();
+    }
+
+    final MutationStatusTestPair result = doTestsDetectMutation(c,
+        testSource.translateTests(testsInOrder(group)));
+    if (result.getStatus() == DetectionStatus.SURVIVED) {
+      return Option.some(result);
+    }
+    return Option.none();
+  }
+
+  private void adjustGroupSize(final MutationStatusTestPair result) {
+    if (result.getStatus() == DetectionStatus.SURVIVED) {
+      this.groupSize = Math.min(MAX_GROUP_SIZE, this.groupSize * 2);
+    } else if (result.getStatus() == DetectionStatus.KILLED) {
+      this.groupSize = Math.max(1, this.groupSize / 2);
+    }
+  }
+
+  private static boolean canGroup(final MutationDetails mutation) {
+    return !mutation.mayPoisonJVM() && !mutation.getTestsInOrder().isEmpty();
+  }
+
+  private static boolean hasMutantInMethod(final List<MutationDetails> group,
+      final MutationDetails mutation) {
+    for (final MutationDetails each : group) {
+      if (each.getId().getLocation().equals(mutation.getId().getLocation())) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static Set<String> testNames(final MutationDetails mutation) {
+    final Set<String> names = new HashSet<>();
+    for (final TestInfo each : mutation.getTestsInOrder()) {
+      names.add(each.getName());
+    }
+    return names;
+  }
+
+  private static List<TestInfo> testsInOrder(final List<MutationDetails> group) {
+    final Map<String, TestInfo> tests = new LinkedHashMap<>();
+    for (final MutationDetails mutation : group) {
+      for (final TestInfo each : mutation.getTestsInOrder()) {
+        if (!tests.containsKey(each.getName())) {
+          tests.put(each.getName(), each);
+        }
+      }
+    }
+    return new ArrayList<>(tests.values());
+  }
+
+  private MutationStatusTestPair processMutation(final Reporter r,
       final TimeOutDecoratedTestSource testSource,
       final MutationDetails mutationDetails) throws IOException {
 
+    final Phases phases = new Phases();
     final MutationIdentifier mutationId = mutationDetails.getId();
     final Mutant mutatedClass = this.mutater.getMutation(mutationId);
+    phases.generation = phases.elapsed();
 
     // For the benefit of mocking frameworks such as PowerMock
     // mess with the internals of Javassist so our mutated class
@@ -102,17 +406,19 @@ public class MutationTestWorker {
     r.describe(mutationId);
 
     final MutationStatusTestPair mutationDetected = handleMutation(
-        mutationDetails, mutatedClass, relevantTests);
+        mutationDetails, mutatedClass, relevantTests, phases);
 
-    r.report(mutationId, mutationDetected);
+    r.report(mutationId, mutationDetected.withTimings(phases.toTimings()));
+    this.subsumed.record(mutationId, mutationDetected);
     if (DEBUG) {
       LOG.fine("Mutation " + mutationId + " detected = " + mutationDetected);
     }
+    return mutationDetected;
   }
 
   private MutationStatusTestPair handleMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final Phases phases) {
     MutationStatusTestPair mutationDetected;
     if ((relevantTests == null) || relevantTests.isEmpty()) {
       LOG.info("No test coverage for mutation  " + mutationId + " in "
@@ -121,7 +427,7 @@ public class MutationTestWorker {
           DetectionStatus.RUN_ERROR);
     } else {
       mutationDetected = handleCoveredMutation(mutationId, mutatedClass,
-          relevantTests);
+          relevantTests, phases);
 
     }
     return mutationDetected;
@@ -129,20 +435,22 @@ public class MutationTestWorker {
 
   private MutationStatusTestPair handleCoveredMutation(
       final MutationDetails mutationId, final Mutant mutatedClass,
-      final List<TestUnit> relevantTests) {
+      final List<TestUnit> relevantTests, final Phases phases) {
     MutationStatusTestPair mutationDetected;
     if (DEBUG) {
       LOG.fine("" + relevantTests.size() + " relevant test for "
           + mutatedClass.getDetails().getMethod());
     }
 
-    final Container c = createNewContainer();
+    final Container c = createNewContainer(phases);
+    final byte[] bytes = classBytes(mutatedClass, this.limitLoops);
     final long t0 = System.currentTimeMillis();
-    if (this.hotswap.apply(mutationId.getClassName(), this.loader,
-        mutatedClass.getBytes())) {
+    final boolean swapped = this.hotswap.apply(mutationId.getClassName(),
+        this.loader, bytes);
+    phases.hotSwap = System.currentTimeMillis() - t0;
+    if (swapped) {
       if (DEBUG) {
-        LOG.fine("replaced class with mutant in "
-            + (System.currentTimeMillis() - t0) + " ms");
+        LOG.fine("replaced class with mutant in " + phases.hotSwap + " ms");
       }
       mutationDetected = doTestsDetectMutation(c, relevantTests);
     } else {
@@ -153,13 +461,26 @@ public class MutationTestWorker {
     return mutationDetected;
   }
 
-  private static Container createNewContainer() {
+  static byte[] classBytes(final Mutant mutatedClass, final boolean limitLoops) {
+    return classBytes(mutatedClass.getBytes(), limitLoops);
+  }
+
+  private static byte[] classBytes(final byte[] bytes,
+      final boolean limitLoops) {
+    if (limitLoops) {
+      return LoopCountingClassVisitor.instrument(bytes);
+    }
+    return bytes;
+  }
+
+  static Container createNewContainer(final Phases phases) {
     final Container c = new UnContainer() {
       @Override
       public List<TestResult> execute(final TestUnit group) {
         List<TestResult> results = new ArrayList<>();
-        final ExitingResultCollector rc = new ExitingResultCollector(
-            new ConcreteResultCollector(results));
+        final TimingResultCollector rc = new TimingResultCollector(
+            new ExitingResultCollector(new ConcreteResultCollector(results)));
+        phases.tests = Option.some(rc);
         group.execute(rc);
         return results;
       }
@@ -175,7 +496,7 @@ public class MutationTestWorker {
         + this.loader + ", hotswap=" + this.hotswap + "]";
   }
 
-  private MutationStatusTestPair doTestsDetectMutation(final Container c,
+  static MutationStatusTestPair doTestsDetectMutation(final Container c,
       final List<TestUnit> tests) {
     try {
       final CheckTestHasFailedResultListener listener = new CheckTestHasFailedResultListener();
@@ -190,7 +511,7 @@ public class MutationTestWorker {
 
   }
 
-  private MutationStatusTestPair createStatusTestPair(
+  private static MutationStatusTestPair createStatusTestPair(
       final CheckTestHasFailedResultListener listener) {
     if (listener.lastFailingTest().hasSome()) {
       return new MutationStatusTestPair(listener.getNumberOfTestsRun(),
@@ -202,8 +523,31 @@ public class MutationTestWorker {
     }
   }
 
-  private List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
+  private static List<TestUnit> createEarlyExitTestGroup(final List<TestUnit> tests) {
     return Collections.<TestUnit> singletonList(new MultipleTestGroup(tests));
   }
 
+  /**
+   * Times the phases of analysing a single mutation
+   */
+  static final class Phases {
+    private final long                    start = System.currentTimeMillis();
+    long                                  generation;
+    long                                  hotSwap;
+    private Option<TimingResultCollector> tests = Option.none();
+
+    long elapsed() {
+      return System.currentTimeMillis() - this.start;
+    }
+
+    MutationTimings toTimings() {
+      final Map<String, Long> testMillis = this.tests.hasSome() ? this.tests
+          .value().getTestMillis() : Collections.<String, Long> emptyMap();
+      final Option<Long> kill = this.tests.hasSome() ? this.tests.value()
+          .getKillMillis() : Option.<Long> none();
+      return new MutationTimings(this.generation, this.hotSwap, testMillis,
+          kill, elapsed());
+    }
+  }
+
 }
@@ -21,31 +21,47 @@ import java.util.concurrent.TimeoutException;
 
 import org.pitest.extension.common.TestUnitDecorator;
 import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.PerTestTimeoutLengthStrategy;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 import org.pitest.util.Unchecked;
 
+import sun.pitest.LoopBudget;
+
 public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
   private final TimeoutLengthStrategy timeOutStrategy;
   private final SideEffect            timeOutSideEffect;
   private final long                  executionTime;
+  private final long                  loopBudget;
 
   public MutationTimeoutDecorator(final TestUnit child,
       final SideEffect timeOutSideEffect,
       final TimeoutLengthStrategy timeStrategy, final long executionTime) {
+    this(child, timeOutSideEffect, timeStrategy, executionTime,
+        LoopBudget.UNLIMITED);
+  }
+
+  /**
+   * @param loopBudget
+   *          backward jumps instrumented code may take while the test runs
+   */
+  public MutationTimeoutDecorator(final TestUnit child,
+      final SideEffect timeOutSideEffect,
+      final TimeoutLengthStrategy timeStrategy, final long executionTime,
+      final long loopBudget) {
     super(child);
     this.timeOutSideEffect = timeOutSideEffect;
     this.executionTime = executionTime;
     this.timeOutStrategy = timeStrategy;
+    this.loopBudget = loopBudget;
   }
 
   @Override
   public void execute(final ResultCollector rc) {
 
-    final long maxTime = this.timeOutStrategy
-        .getAllowedTime(this.executionTime);
+    final long maxTime = allowedTime();
 
     final FutureTask<?> future = createFutureForChildTestUnit(rc);
     executeFutureWithTimeOut(maxTime, future, rc);
@@ -55,6 +71,18 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
 
   }
 
+  private long allowedTime() {
+    if (this.timeOutStrategy instanceof PerTestTimeoutLengthStrategy) {
+      return ((PerTestTimeoutLengthStrategy) this.timeOutStrategy)
+          .getAllowedTime(testName(), this.executionTime);
+    }
+    return this.timeOutStrategy.getAllowedTime(this.executionTime);
+  }
+
+  private String testName() {
+    return child().getDescription().getQualifiedName();
+  }
+
   private void executeFutureWithTimeOut(final long maxTime,
       final FutureTask<?> future, final ResultCollector rc) {
     try {
@@ -83,6 +111,9 @@ public final class MutationTimeoutDecorator extends TestUnitDecorator {
       @Override
       public void run() {
         try {
+          // each test gets a budget of its own, shared with any threads it
+          // starts
+          LoopBudget.start(MutationTimeoutDecorator.this.loopBudget);
           child().execute(rc);
         } catch (final Throwable ex) {
           rc.notifyEnd(child().getDescription(), ex);
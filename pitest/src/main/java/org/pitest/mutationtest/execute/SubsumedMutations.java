@@ -0,0 +1,87 @@
+package org.pitest.mutationtest.execute;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.pitest.mutationtest.DetectionStatus;
+import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
+
+/**
+ * Remembers the mutations a minion has killed, so that mutations they subsume
+ * can be reported as killed without being run.
+ */
+class SubsumedMutations {
+
+  private final Map<MutationIdentifier, MutationStatusTestPair> kills = new ConcurrentHashMap<>();
+
+  /**
+   * Orders the mutations so that each runs after those that subsume it.
+   * Mutations that subsume each other keep their given order.
+   */
+  static List<MutationDetails> subsumingFirst(
+      final Collection<MutationDetails> mutations) {
+    final Map<MutationIdentifier, MutationDetails> byId = new LinkedHashMap<>();
+    for (final MutationDetails each : mutations) {
+      byId.put(each.getId(), each);
+    }
+    final Set<MutationIdentifier> visited = new HashSet<>();
+    final List<MutationDetails> ordered = new ArrayList<>();
+    for (final MutationDetails each : mutations) {
+      addSubsumingFirst(each, byId, visited, ordered);
+    }
+    return ordered;
+  }
+
+  private static void addSubsumingFirst(final MutationDetails mutation,
+      final Map<MutationIdentifier, MutationDetails> byId,
+      final Set<MutationIdentifier> visited, final List<MutationDetails> ordered) {
+    if (!visited.add(mutation.getId())) {
+      return;
+    }
+    for (final MutationIdentifier each : mutation.getSubsumingMutations()) {
+      final MutationDetails subsuming = byId.get(each);
+      if (subsuming != null) {
+        addSubsumingFirst(subsuming, byId, visited, ordered);
+      }
+    }
+    ordered.add(mutation);
+  }
+
+  void record(final MutationIdentifier mutation,
+      final MutationStatusTestPair status) {
+    if (status.getStatus() == DetectionStatus.KILLED) {
+      this.kills.put(mutation, status);
+    }
+  }
+
+  /**
+   * Reports the mutation as killed if a mutation that subsumes it has been
+   * killed
+   *
+   * @return true if the kill was inferred, so the mutation need not be run
+   */
+  boolean inferKill(final Reporter r, final MutationDetails mutation)
+      throws IOException {
+    for (final MutationIdentifier each : mutation.getSubsumingMutations()) {
+      final MutationStatusTestPair kill = this.kills.get(each);
+      if (kill != null) {
+        r.describe(mutation.getId());
+        r.report(mutation.getId(), new MutationStatusTestPair(0,
+            DetectionStatus.INFERRED_KILLED, kill.getKillingTest()
+                .getOrElse(null)));
+        return true;
+      }
+    }
+    return false;
+  }
+
+}
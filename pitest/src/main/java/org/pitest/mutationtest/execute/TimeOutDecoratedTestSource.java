@@ -23,21 +23,51 @@ import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.Option;
+import org.pitest.functional.SideEffect;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
 import org.pitest.testapi.TestUnit;
 
+import sun.pitest.LoopBudget;
+
 public class TimeOutDecoratedTestSource {
 
+  /**
+   * Multiple of the backward jumps taken in the coverage run that a mutant
+   * may take before its loop budget is spent
+   */
+  public static final long            LOOP_FACTOR = 2;
+
   private final Map<String, TestUnit> allTests = new HashMap<>();
   private final TimeoutLengthStrategy timeoutStrategy;
-  private final Reporter              r;
+  private final SideEffect            timeOutSideEffect;
+  private final long                  loopBudget;
 
   public TimeOutDecoratedTestSource(
       final TimeoutLengthStrategy timeoutStrategy,
       final List<TestUnit> allTests, final Reporter r) {
+    this(timeoutStrategy, allTests, new TimeOutSystemExitSideEffect(r));
+  }
+
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final SideEffect timeOutSideEffect) {
+    this(timeoutStrategy, allTests, timeOutSideEffect, 0);
+  }
+
+  /**
+   * @param loopBudget
+   *          backward jumps instrumented code may take during each test, on
+   *          top of LOOP_FACTOR times those the unmutated code took in the
+   *          test's coverage run. 0 places no limit.
+   */
+  public TimeOutDecoratedTestSource(
+      final TimeoutLengthStrategy timeoutStrategy,
+      final List<TestUnit> allTests, final SideEffect timeOutSideEffect,
+      final long loopBudget) {
     this.timeoutStrategy = timeoutStrategy;
     mapTests(allTests);
-    this.r = r;
+    this.timeOutSideEffect = timeOutSideEffect;
+    this.loopBudget = loopBudget;
   }
 
   private void mapTests(final List<TestUnit> tests) {
@@ -60,9 +90,9 @@ public class TimeOutDecoratedTestSource {
         if (tu != null) {
           return Option
               .<TestUnit> some(new MutationTimeoutDecorator(tu,
-                  new TimeOutSystemExitSideEffect(
-                      TimeOutDecoratedTestSource.this.r),
-                      TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime()));
+                  TimeOutDecoratedTestSource.this.timeOutSideEffect,
+                  TimeOutDecoratedTestSource.this.timeoutStrategy, a.getTime(),
+                  allowedJumps(a)));
         }
         return Option.none();
       }
@@ -70,4 +100,11 @@ public class TimeOutDecoratedTestSource {
     };
   }
 
+  private long allowedJumps(final TestInfo test) {
+    if (this.loopBudget <= 0) {
+      return LoopBudget.UNLIMITED;
+    }
+    return (LOOP_FACTOR * test.getBackwardJumps()) + this.loopBudget;
+  }
+
 }
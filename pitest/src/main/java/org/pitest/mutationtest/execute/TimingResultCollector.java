@@ -0,0 +1,96 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package org.pitest.mutationtest.execute;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.pitest.functional.Option;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+/**
+ * Times tests as they run. Results reach a TestListener only once the whole
+ * group has finished, so timings must be taken here.
+ */
+public class TimingResultCollector implements ResultCollector {
+
+  private final ResultCollector   child;
+  private final Map<String, Long> testMillis = new LinkedHashMap<>();
+  private Option<Long>            killMillis = Option.none();
+  private long                    firstTestStart;
+  private long                    testStart;
+
+  public TimingResultCollector(final ResultCollector child) {
+    this.child = child;
+  }
+
+  @Override
+  public void notifyStart(final Description description) {
+    this.testStart = System.currentTimeMillis();
+    if (this.firstTestStart == 0) {
+      this.firstTestStart = this.testStart;
+    }
+    this.child.notifyStart(description);
+  }
+
+  @Override
+  public void notifySkipped(final Description description) {
+    this.child.notifySkipped(description);
+  }
+
+  @Override
+  public void notifyEnd(final Description description, final Throwable t) {
+    recordTime(description);
+    if ((t != null) && this.killMillis.hasNone()) {
+      this.killMillis = Option.some(System.currentTimeMillis()
+          - this.firstTestStart);
+    }
+    this.child.notifyEnd(description, t);
+  }
+
+  @Override
+  public void notifyEnd(final Description description) {
+    recordTime(description);
+    this.child.notifyEnd(description);
+  }
+
+  @Override
+  public boolean shouldExit() {
+    return this.child.shouldExit();
+  }
+
+  private void recordTime(final Description description) {
+    if (description != null) {
+      this.testMillis.put(description.getQualifiedName(),
+          System.currentTimeMillis() - this.testStart);
+    }
+  }
+
+  /**
+   * Time taken by each test that finished, in the order they ran
+   */
+  public Map<String, Long> getTestMillis() {
+    return this.testMillis;
+  }
+
+  /**
+   * Time from the start of the first test until a test first failed
+   */
+  public Option<Long> getKillMillis() {
+    return this.killMillis;
+  }
+
+}
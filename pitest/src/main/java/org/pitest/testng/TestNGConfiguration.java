@@ -27,15 +27,23 @@ public class TestNGConfiguration implements Configuration {
 
   private final TestGroupConfig config;
   private final Collection<String> includedTestMethods;
+  private final boolean splitByMethod;
 
   public TestNGConfiguration(final TestGroupConfig config, final Collection<String> includedTestMethods) {
+    this(config, includedTestMethods, false);
+  }
+
+  public TestNGConfiguration(final TestGroupConfig config,
+      final Collection<String> includedTestMethods, final boolean splitByMethod) {
     this.config = config;
     this.includedTestMethods = includedTestMethods;
+    this.splitByMethod = splitByMethod;
   }
 
   @Override
   public TestUnitFinder testUnitFinder() {
-    return new TestNGTestUnitFinder(this.config, this.includedTestMethods);
+    return new TestNGTestUnitFinder(this.config, this.includedTestMethods,
+        this.splitByMethod);
   }
 
   @Override
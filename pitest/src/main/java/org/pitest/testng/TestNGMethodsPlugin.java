@@ -0,0 +1,33 @@
+package org.pitest.testng;
+
+import java.util.Collection;
+
+import org.pitest.classinfo.ClassByteArraySource;
+import org.pitest.testapi.Configuration;
+import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestPluginFactory;
+
+/**
+ * TestNG plugin that runs each independent test method as a unit of its own,
+ * so that mutants are only run against the methods that cover them. Selected
+ * with testPlugin=testng-methods.
+ */
+public class TestNGMethodsPlugin implements TestPluginFactory {
+
+  @Override
+  public String description() {
+    return "TestNG plugin running a unit per test method";
+  }
+
+  @Override
+  public Configuration createTestFrameworkConfiguration(TestGroupConfig config,
+      ClassByteArraySource source, Collection<String> excludedRunner, Collection<String> includedTestMethods) {
+    return new TestNGConfiguration(config, includedTestMethods, true);
+  }
+
+  @Override
+  public String name() {
+    return "testng-methods";
+  }
+
+}
@@ -17,9 +17,12 @@ package org.pitest.testng;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
-
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
 import org.pitest.testapi.AbstractTestUnit;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestGroupConfig;
 import org.testng.IInvokedMethod;
@@ -35,31 +38,30 @@ import org.testng.xml.XmlSuite;
 import org.testng.xml.XmlTest;
 
 /**
- * Runs tests within a class via TestNG. It would be possible to create a test
- * unit per method using TestNG's filters but this is about ten times slower and
- * probably more than negates any advantage from more finely targeting the
- * tests.
+ * Runs tests within a class, or a single method of it, via TestNG.
+ *
+ * A fresh suite is built for every run, as TestNG keeps state in the suites
+ * it runs. TestNG instances are pooled rather than shared behind a lock, so units may
+ * execute concurrently when mutants are isolated in their own loaders.
  */
 public class TestNGTestUnit extends AbstractTestUnit {
 
-  // needs to be static as jmockit assumes only a single instance per jvm
-  private static final TestNG                TESTNG = new TestNG(false);
-  private static final MutableTestListenerWrapper LISTENER = new MutableTestListenerWrapper();
+  // jmockit assumes only a single instance per jvm, so instances are reused
+  // and another is only created when units execute at the same time
+  private static final Queue<TestNGRunner> IDLE = new ConcurrentLinkedQueue<>();
 
-  static {
-    TESTNG.addListener(LISTENER);
-    TESTNG.addInvokedMethodListener(new FailFast(LISTENER));
-  }
-  
   private final Class<?>                     clazz;
   private final TestGroupConfig              config;
   private final Collection<String> includedTestMethods;
 
-
-
   public TestNGTestUnit(
           final Class<?> clazz, final TestGroupConfig config, Collection<String> includedTestMethods) {
-    super(new org.pitest.testapi.Description("_", clazz));
+    this(new Description("_", clazz), clazz, config, includedTestMethods);
+  }
+
+  TestNGTestUnit(final Description description, final Class<?> clazz,
+      final TestGroupConfig config, final Collection<String> includedTestMethods) {
+    super(description);
     this.clazz = clazz;
     this.config = config;
     this.includedTestMethods = includedTestMethods;
@@ -67,28 +69,17 @@ public class TestNGTestUnit extends AbstractTestUnit {
 
   @Override
   public void execute(final ResultCollector rc) {
-    synchronized (TESTNG) {
-        executeInCurrentLoader(rc);
-    }
-  }
-
-
-
-  private void executeInCurrentLoader(final ResultCollector rc) {
     final TestNGAdapter listener = new TestNGAdapter(this.clazz,
         this.getDescription(), rc);
 
-    final XmlSuite suite = createSuite();
-
-    TESTNG.setDefaultSuiteName(suite.getName());
-    TESTNG.setXmlSuites(Collections.singletonList(suite));
-
-    LISTENER.setChild(listener);
+    TestNGRunner runner = IDLE.poll();
+    if (runner == null) {
+      runner = new TestNGRunner();
+    }
     try {
-      TESTNG.run();
+      runner.run(createSuite(), listener);
     } finally {
-      // yes this is hideous
-      LISTENER.setChild(null);
+      IDLE.add(runner);
     }
   }
 
@@ -98,7 +89,9 @@ public class TestNGTestUnit extends AbstractTestUnit {
     suite.setSkipFailedInvocationCounts(true);
     final XmlTest test = new XmlTest(suite);
     test.setName(this.clazz.getName());
-    final XmlClass xclass = new XmlClass(this.clazz.getName());
+    // pass the class itself so that TestNG does not look it up by name from
+    // a loader other than the one the unit was found in
+    final XmlClass xclass = new XmlClass(this.clazz);
     test.setXmlClasses(Collections.singletonList(xclass));
 
     if (!this.includedTestMethods.isEmpty()) {
@@ -123,6 +116,31 @@ public class TestNGTestUnit extends AbstractTestUnit {
 
 }
 
+class TestNGRunner {
+
+  private final TestNG                     testng   = new TestNG(false);
+  private final MutableTestListenerWrapper listener = new MutableTestListenerWrapper();
+
+  TestNGRunner() {
+    this.testng.addListener(this.listener);
+    this.testng.addInvokedMethodListener(new FailFast(this.listener));
+  }
+
+  void run(final XmlSuite suite, final TestNGAdapter child) {
+    this.testng.setDefaultSuiteName(suite.getName());
+    this.testng.setXmlSuites(Collections.singletonList(suite));
+
+    this.listener.setChild(child);
+    try {
+      this.testng.run();
+    } finally {
+      // yes this is hideous
+      this.listener.setChild(null);
+    }
+  }
+
+}
+
 class FailFast implements IInvokedMethodListener {
   
   private final FailureTracker listener;
@@ -14,37 +14,138 @@
  */
 package org.pitest.testng;
 
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
 
 import org.pitest.functional.FCollection;
 import org.pitest.reflection.IsAnnotatedWith;
 import org.pitest.reflection.Reflection;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestGroupConfig;
 import org.pitest.testapi.TestUnit;
 import org.pitest.testapi.TestUnitFinder;
+import org.testng.annotations.AfterClass;
+import org.testng.annotations.AfterGroups;
+import org.testng.annotations.AfterSuite;
+import org.testng.annotations.AfterTest;
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.BeforeGroups;
+import org.testng.annotations.BeforeSuite;
+import org.testng.annotations.BeforeTest;
+import org.testng.annotations.Factory;
+import org.testng.annotations.Test;
 
+/**
+ * Creates a unit for each test class or, when asked, for each test method of
+ * a class where the methods can be run independently, so that mutants are
+ * only run against the methods that cover them. Classes with configuration
+ * shared between methods, or methods that depend on each other, are always
+ * run as a single unit.
+ */
 public class TestNGTestUnitFinder implements TestUnitFinder {
 
+  private static final List<Class<? extends Annotation>> SHARED_CONFIGURATION = Arrays
+      .<Class<? extends Annotation>> asList(BeforeClass.class,
+          AfterClass.class, BeforeTest.class, AfterTest.class,
+          BeforeSuite.class, AfterSuite.class, BeforeGroups.class,
+          AfterGroups.class, Factory.class);
+
   private final TestGroupConfig config;
   private final Collection<String> includedTestMethods;
+  private final boolean splitByMethod;
 
   public TestNGTestUnitFinder(final TestGroupConfig config, final Collection<String> includedTestMethods) {
+    this(config, includedTestMethods, false);
+  }
+
+  /**
+   * @param splitByMethod
+   *          whether to create a unit per method where methods can be run
+   *          independently, rather than one per class
+   */
+  public TestNGTestUnitFinder(final TestGroupConfig config,
+      final Collection<String> includedTestMethods, final boolean splitByMethod) {
     this.config = config;
     this.includedTestMethods = includedTestMethods;
+    this.splitByMethod = splitByMethod;
   }
 
   @Override
   public List<TestUnit> findTestUnits(final Class<?> clazz) {
     if (!isAbstract(clazz) && (hasClassAnnotation(clazz) || hasMethodAnnotation(clazz))) {
+      if (this.splitByMethod && canBeSplit(clazz)) {
+        return splitIntoMethodUnits(clazz);
+      }
       return Collections.<TestUnit> singletonList(new TestNGTestUnit(clazz, this.config, this.includedTestMethods));
     }
     return Collections.emptyList();
 
   }
 
+  private List<TestUnit> splitIntoMethodUnits(final Class<?> clazz) {
+    final Set<String> names = new TreeSet<>();
+    for (final Method each : Reflection.allMethods(clazz)) {
+      final Test test = each.getAnnotation(Test.class);
+      if ((test != null) && test.enabled() && isIncluded(each.getName())) {
+        names.add(each.getName());
+      }
+    }
+
+    final List<TestUnit> units = new ArrayList<>();
+    for (final String each : names) {
+      units.add(new TestNGTestUnit(new Description(each, clazz), clazz,
+          this.config, Collections.singletonList(each)));
+    }
+    return units;
+  }
+
+  private boolean isIncluded(final String method) {
+    return this.includedTestMethods.isEmpty()
+        || this.includedTestMethods.contains(method);
+  }
+
+  private boolean canBeSplit(final Class<?> clazz) {
+    if (hasClassAnnotation(clazz)) {
+      return false;
+    }
+    for (final Constructor<?> each : clazz.getDeclaredConstructors()) {
+      if (each.isAnnotationPresent(Factory.class)) {
+        return false;
+      }
+    }
+    for (final Method each : Reflection.allMethods(clazz)) {
+      if (hasSharedConfiguration(each) || hasDependencies(each)) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean hasSharedConfiguration(final Method method) {
+    for (final Class<? extends Annotation> each : SHARED_CONFIGURATION) {
+      if (method.isAnnotationPresent(each)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static boolean hasDependencies(final Method method) {
+    final Test test = method.getAnnotation(Test.class);
+    return (test != null)
+        && ((test.dependsOnMethods().length != 0) || (test
+            .dependsOnGroups().length != 0));
+  }
+
   private boolean hasClassAnnotation(final Class<?> clazz) {
     return clazz.getAnnotation(org.testng.annotations.Test.class) != null;
 
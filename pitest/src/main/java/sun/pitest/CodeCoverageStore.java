@@ -25,6 +25,8 @@ import java.util.Collection;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Store for line visit information.
@@ -51,6 +53,15 @@ public final class CodeCoverageStore {
   // investigated
   private static final Map<Integer, boolean[]> CLASS_HITS        = new ConcurrentHashMap<>();
 
+  // hits made while a test runs alongside others are recorded separately for
+  // the thread running it, and inherited by any threads that test starts
+  private static final ThreadLocal<ThreadHits> THREAD_HITS       = new InheritableThreadLocal<>();
+  private static volatile boolean              threadHitsInUse;
+
+  // hits made while tests run alongside each other that cannot be attributed
+  // to one of them
+  private static final AtomicLong              UNATTRIBUTED_HITS = new AtomicLong();
+
   public static void init(final InvokeReceiver invokeQueue) {
     CodeCoverageStore.invokeQueue = invokeQueue;
   }
@@ -58,15 +69,29 @@ public final class CodeCoverageStore {
   private CodeCoverageStore() {
   }
 
+  private static boolean[] hitsFor(final int classId) {
+    if (threadHitsInUse) {
+      final ThreadHits threadHits = THREAD_HITS.get();
+      // pooled threads inherit the hits of whichever test created them, so
+      // may be working for another test
+      if ((threadHits != null) && !threadHits.collected
+          && !(Thread.currentThread() instanceof ForkJoinWorkerThread)) {
+        return threadHits.hitsFor(classId);
+      }
+      UNATTRIBUTED_HITS.incrementAndGet();
+    }
+    return CLASS_HITS.get(classId);
+  }
+
   public static void visitSingleProbe(final int classId, final int probe) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     bs[probe + 1] = true;
   }
 
   public static void visitProbes(final int classId, final int offset,
       final boolean[] probes) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     for (int i = 0; i != probes.length; i++) {
       if (probes[i]) {
@@ -84,7 +109,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -93,7 +118,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -105,7 +130,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -120,7 +145,7 @@ public final class CodeCoverageStore {
 
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -139,7 +164,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -161,7 +186,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -186,7 +211,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -214,7 +239,7 @@ public final class CodeCoverageStore {
   public static void visitProbes(final int classId, final int offset,
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -246,7 +271,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -281,7 +306,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -319,7 +344,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -360,7 +385,7 @@ public final class CodeCoverageStore {
       final boolean p0, final boolean p1, final boolean p2, final boolean p3,
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -405,7 +430,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -453,7 +478,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -504,7 +529,7 @@ public final class CodeCoverageStore {
       final boolean p4, final boolean p5, final boolean p6, final boolean p7,
       final boolean p8, final boolean p9, final boolean p10, final boolean p11,
       final boolean p12, final boolean p13, final boolean p14) { // NO_UCD
-    final boolean[] bs = CLASS_HITS.get(classId);
+    final boolean[] bs = hitsFor(classId);
     bs[CLASS_HIT_INDEX] = true;
     if (p0) {
       bs[offset + 1] = true;
@@ -560,8 +585,53 @@ public final class CodeCoverageStore {
   }
 
   public static synchronized Collection<Long> getHits() {
+    return encodeHits(CLASS_HITS);
+  }
+
+  /**
+   * Starts recording the hits made by the calling thread, and by threads it
+   * goes on to start, apart from those made by any other thread
+   */
+  public static void resetThread() {
+    threadHitsInUse = true;
+    THREAD_HITS.set(new ThreadHits());
+  }
+
+  /**
+   * Returns the hits recorded since resetThread was called on this thread, and
+   * stops recording them separately
+   */
+  public static Collection<Long> getThreadHits() {
+    final ThreadHits threadHits = THREAD_HITS.get();
+    THREAD_HITS.remove();
+    if (threadHits == null) {
+      return new ArrayList<>();
+    }
+    threadHits.collected = true;
+    return encodeHits(threadHits.hits);
+  }
+
+  /**
+   * Stops recording hits separately for each thread, once no more tests will
+   * run alongside each other
+   */
+  public static void endThreadHits() {
+    threadHitsInUse = false;
+  }
+
+  /**
+   * Counts the hits made since resetThread was first called that could not be
+   * attributed to a thread, such as those made by threads from pools created
+   * before a test ran. Those hits are recorded globally, so will be lost when
+   * the store is next reset.
+   */
+  public static long getUnattributedHits() {
+    return UNATTRIBUTED_HITS.get();
+  }
+
+  private static Collection<Long> encodeHits(final Map<Integer, boolean[]> hits) {
     final Collection<Long> blockHits = new ArrayList<>();
-    for (final Entry<Integer, boolean[]> each : CLASS_HITS.entrySet()) {
+    for (final Entry<Integer, boolean[]> each : hits.entrySet()) {
       final boolean[] bs = each.getValue();
       // first entry tracks if class has been visited at all
       if (!bs[CLASS_HIT_INDEX]) {
@@ -612,6 +682,26 @@ public final class CodeCoverageStore {
 
   public static void resetAllStaticState() {
     CLASS_HITS.clear();
+    threadHitsInUse = false;
+  }
+
+  private static final class ThreadHits {
+
+    private final ConcurrentHashMap<Integer, boolean[]> hits = new ConcurrentHashMap<>();
+
+    // threads started by a test may outlive it
+    private volatile boolean                            collected;
+
+    boolean[] hitsFor(final int classId) {
+      final boolean[] bs = this.hits.get(classId);
+      if (bs != null) {
+        return bs;
+      }
+      final boolean[] created = new boolean[CLASS_HITS.get(classId).length];
+      final boolean[] existing = this.hits.putIfAbsent(classId, created);
+      return existing != null ? existing : created;
+    }
+
   }
 
 }
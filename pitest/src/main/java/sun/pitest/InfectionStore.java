@@ -0,0 +1,113 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+/**
+ * Records which mutants would have changed the state of a run had they been
+ * active. Probed code passes the operands of a conditional jump along with
+ * its original and mutated opcodes, and the probe is infected once the two
+ * would have branched differently.
+ *
+ * Probes may be hit from any thread. A hit that is missed can only make a
+ * mutant look infected when it is not, so flags are not synchronized.
+ */
+public final class InfectionStore {
+
+  public static final String CLASS_NAME       = InfectionStore.class.getName()
+                                                  .replace('.', '/');
+  public static final String JUMP_METHOD_NAME = "jump";
+
+  // jvm opcodes, duplicated here to avoid loading asm into the boot package
+  private static final int   IFEQ             = 153;
+  private static final int   IF_ICMPEQ        = 159;
+  private static final int   IF_ACMPEQ        = 165;
+  private static final int   IF_ACMPNE        = 166;
+  private static final int   IFNULL           = 198;
+  private static final int   IFNONNULL        = 199;
+
+  private static volatile boolean[] infected  = new boolean[0];
+
+  private InfectionStore() {
+  }
+
+  public static void reset(final int probes) {
+    infected = new boolean[probes];
+  }
+
+  public static boolean isInfected(final int probe) {
+    return infected[probe];
+  }
+
+  public static void jump(final int value, final int original, // NO_UCD
+      final int mutated, final int probe) {
+    jump(value, 0, original, mutated, probe);
+  }
+
+  public static void jump(final int a, final int b, final int original, // NO_UCD
+      final int mutated, final int probe) {
+    if (compare(original, a, b) != compare(mutated, a, b)) {
+      infected[probe] = true;
+    }
+  }
+
+  public static void jump(final Object value, final int original, // NO_UCD
+      final int mutated, final int probe) {
+    jump(value, null, original, mutated, probe);
+  }
+
+  public static void jump(final Object a, final Object b, // NO_UCD
+      final int original, final int mutated, final int probe) {
+    if (compare(original, a, b) != compare(mutated, a, b)) {
+      infected[probe] = true;
+    }
+  }
+
+  private static boolean compare(final int opcode, final int a, final int b) {
+    // IFEQ to IFLE and IF_ICMPEQ to IF_ICMPLE test the same six conditions
+    switch ((opcode - IFEQ) % (IF_ICMPEQ - IFEQ)) {
+    case 0:
+      return a == b;
+    case 1:
+      return a != b;
+    case 2:
+      return a < b;
+    case 3:
+      return a >= b;
+    case 4:
+      return a > b;
+    default:
+      return a <= b;
+    }
+  }
+
+  private static boolean compare(final int opcode, final Object a,
+      final Object b) {
+    switch (opcode) {
+    case IF_ACMPEQ:
+    case IFNULL:
+      return a == b;
+    case IF_ACMPNE:
+    case IFNONNULL:
+      return a != b;
+    default:
+      throw new IllegalArgumentException("Not a reference comparison "
+          + opcode);
+    }
+  }
+
+}
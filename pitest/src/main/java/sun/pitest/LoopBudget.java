@@ -0,0 +1,71 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+
+// placed in a sun package so non delegating classloaders are likely
+// to still delegate it's loading
+package sun.pitest;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Counts the backward jumps taken by an instrumented mutant so that infinite
+ * loops can be stopped without waiting for a timeout.
+ *
+ * Each test starts its own budget on the thread that runs it. Threads the
+ * test starts inherit and share that budget, while tests running at the same
+ * time on other threads have budgets of their own. Jumps taken on threads
+ * without a budget are not counted.
+ */
+public final class LoopBudget {
+
+  public static final String CLASS_NAME       = LoopBudget.class.getName()
+                                                  .replace('.', '/');
+  public static final String TICK_METHOD_NAME = "tick";
+
+  public static final long   UNLIMITED        = Long.MAX_VALUE;
+
+  private static final InheritableThreadLocal<Long>       BUDGET    = new InheritableThreadLocal<>();
+  private static final InheritableThreadLocal<AtomicLong> REMAINING = new InheritableThreadLocal<>();
+
+  private LoopBudget() {
+  }
+
+  /**
+   * Gives the calling thread, and threads it goes on to start, a new budget
+   */
+  public static void start(final long jumps) {
+    BUDGET.set(jumps);
+    REMAINING.set(new AtomicLong(jumps));
+  }
+
+  /**
+   * Backward jumps taken against the calling thread's budget since it started
+   */
+  public static long taken() {
+    final AtomicLong remaining = REMAINING.get();
+    if (remaining == null) {
+      return 0;
+    }
+    return BUDGET.get() - remaining.get();
+  }
+
+  public static void tick() { // NO_UCD
+    final AtomicLong remaining = REMAINING.get();
+    if ((remaining != null) && (remaining.decrementAndGet() < 0)) {
+      throw new LoopBudgetExceededError(BUDGET.get());
+    }
+  }
+
+}
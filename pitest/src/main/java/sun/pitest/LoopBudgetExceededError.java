@@ -0,0 +1,29 @@
+/*
+ * Copyright 2011 Henry Coles
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing,
+ * software distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and limitations under the License.
+ */
+package sun.pitest;
+
+/**
+ * Thrown into a test when a mutant takes more backward jumps than its budget
+ * allows. An Error so that code catching Exception does not swallow it.
+ */
+public class LoopBudgetExceededError extends Error {
+
+  private static final long serialVersionUID = 1L;
+
+  public LoopBudgetExceededError(final long budget) {
+    super("Mutant exceeded its budget of " + budget + " backward jumps");
+  }
+
+}
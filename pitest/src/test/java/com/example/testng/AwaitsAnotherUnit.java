@@ -0,0 +1,16 @@
+package com.example.testng;
+
+import java.util.concurrent.CyclicBarrier;
+import java.util.concurrent.TimeUnit;
+
+import org.testng.annotations.Test;
+
+public class AwaitsAnotherUnit {
+
+  public static final CyclicBarrier BARRIER = new CyclicBarrier(2);
+
+  @Test
+  public void awaits() throws Exception {
+    BARRIER.await(10, TimeUnit.SECONDS);
+  }
+}
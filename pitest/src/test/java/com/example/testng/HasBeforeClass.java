@@ -0,0 +1,22 @@
+package com.example.testng;
+
+import org.testng.annotations.BeforeClass;
+import org.testng.annotations.Test;
+
+public class HasBeforeClass {
+
+  @BeforeClass
+  public void setUpClass() {
+
+  }
+
+  @Test
+  public void aTest() {
+
+  }
+
+  @Test
+  public void anotherTest() {
+
+  }
+}
@@ -0,0 +1,16 @@
+package com.example.testng;
+
+import org.testng.annotations.Test;
+
+public class HasDependentMethods {
+
+  @Test
+  public void first() {
+
+  }
+
+  @Test(dependsOnMethods = "first")
+  public void second() {
+
+  }
+}
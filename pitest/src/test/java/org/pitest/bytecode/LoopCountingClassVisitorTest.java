@@ -0,0 +1,100 @@
+package org.pitest.bytecode;
+
+import static org.junit.Assert.assertEquals;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+import org.junit.After;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Opcodes;
+import org.pitest.coverage.codeassist.ClassUtils;
+
+import sun.pitest.LoopBudget;
+import sun.pitest.LoopBudgetExceededError;
+
+public class LoopCountingClassVisitorTest {
+
+  public static class Loops {
+    public static int count(final int n) {
+      int i = 0;
+      while (i < n) {
+        i++;
+      }
+      return i;
+    }
+  }
+
+  @After
+  public void tearDown() {
+    LoopBudget.start(LoopBudget.UNLIMITED);
+  }
+
+  @Test
+  public void shouldNotChangeBehaviourOfLoopsWithinBudget() throws Exception {
+    LoopBudget.start(100);
+    assertEquals(10, callCount(10));
+  }
+
+  @Test(expected = LoopBudgetExceededError.class)
+  public void shouldThrowWhenLoopsExceedBudget() throws Throwable {
+    LoopBudget.start(5);
+    try {
+      callCount(10);
+    } catch (final InvocationTargetException ex) {
+      throw ex.getCause();
+    }
+  }
+
+  @Test
+  public void shouldCountBackwardJumps() throws Exception {
+    LoopBudget.start(100);
+    callCount(10);
+    assertEquals(10, LoopBudget.taken());
+  }
+
+  @Test
+  public void shouldCountSwitchesThatJumpBackward() throws Exception {
+    LoopBudget.start(100);
+    final Class<?> clazz = ClassUtils.createClass(LoopCountingClassVisitor
+        .instrument(switchLoop()));
+    clazz.getMethod("spin", int.class).invoke(null, 10);
+    assertEquals(10, LoopBudget.taken());
+  }
+
+  private static int callCount(final int n) throws Exception {
+    final Class<?> clazz = ClassUtils.createClass(LoopCountingClassVisitor
+        .instrument(ClassUtils.classAsBytes(Loops.class)));
+    final Method m = clazz.getMethod("count", int.class);
+    return (Integer) m.invoke(null, n);
+  }
+
+  // javac does not emit switches with backward targets, so one is built
+  // directly. spin(n) decrements n, and loops through the switch's default
+  // until n is zero.
+  private static byte[] switchLoop() {
+    final ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+    cw.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC, "SwitchLoop", null,
+        "java/lang/Object", null);
+    final MethodVisitor mv = cw.visitMethod(Opcodes.ACC_PUBLIC
+        | Opcodes.ACC_STATIC, "spin", "(I)I", null, null);
+    mv.visitCode();
+    final Label top = new Label();
+    final Label done = new Label();
+    mv.visitLabel(top);
+    mv.visitIincInsn(0, -1);
+    mv.visitVarInsn(Opcodes.ILOAD, 0);
+    mv.visitLookupSwitchInsn(top, new int[] { 0 }, new Label[] { done });
+    mv.visitLabel(done);
+    mv.visitVarInsn(Opcodes.ILOAD, 0);
+    mv.visitInsn(Opcodes.IRETURN);
+    mv.visitMaxs(0, 0);
+    mv.visitEnd();
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+}
@@ -0,0 +1,93 @@
+package org.pitest.classinfo;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.experimental.categories.Category;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.coverage.codeassist.ClassUtils;
+
+public class ClassInfoCacheTest {
+
+  @Rule
+  public TemporaryFolder       folder = new TemporaryFolder();
+
+  private final ClassInfoCache testee = new ClassInfoCache();
+
+  @Test
+  public void shouldReturnInfoWhenHashAndLengthMatch() {
+    final ClassInfoBuilder info = makeInfo("foo", 1);
+    this.testee.put(10, info);
+    assertThat(this.testee.get(ClassName.fromString("foo"), 1, 10).value())
+        .isSameAs(info);
+  }
+
+  @Test
+  public void shouldReturnNoneWhenHashDiffers() {
+    this.testee.put(10, makeInfo("foo", 1));
+    assertThat(this.testee.get(ClassName.fromString("foo"), 2, 10).hasNone())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldReturnNoneWhenLengthDiffers() {
+    this.testee.put(10, makeInfo("foo", 1));
+    assertThat(this.testee.get(ClassName.fromString("foo"), 1, 11).hasNone())
+        .isTrue();
+  }
+
+  @Test
+  public void shouldReadWhatWasWritten() throws Exception {
+    final File file = this.folder.newFile();
+    final byte[] bytes = ClassUtils.classAsBytes(Cached.class.getName());
+    final ClassName name = ClassName.fromClass(Cached.class);
+    final ClassInfoBuilder expected = ClassInfoVisitor.getClassInfo(name,
+        bytes, 42);
+    this.testee.put(bytes.length, expected);
+    this.testee.write(file);
+
+    final ClassInfoCache actual = ClassInfoCache.read(file);
+    assertThat(actual.size()).isEqualTo(1);
+    final ClassInfoBuilder info = actual.get(name, 42, bytes.length).value();
+    assertThat(info.id).isEqualTo(expected.id);
+    assertThat(info.access).isEqualTo(expected.access);
+    assertThat(info.outerClass).isEqualTo(expected.outerClass);
+    assertThat(info.superClass).isEqualTo(expected.superClass);
+    assertThat(info.sourceFile).isEqualTo(expected.sourceFile);
+    assertThat(info.codeLines).isEqualTo(expected.codeLines);
+    assertThat(info.annotations).isEqualTo(expected.annotations);
+    assertThat((Object[]) info.classAnnotationValues.get(ClassName
+        .fromClass(Category.class))).containsExactly(String.class.getName());
+  }
+
+  @Test
+  public void shouldReturnEmptyCacheWhenFileDoesNotExist() {
+    final ClassInfoCache actual = ClassInfoCache.read(new File(
+        this.folder.getRoot(), "missing"));
+    assertThat(actual.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldReturnEmptyCacheWhenFileIsCorrupt() throws Exception {
+    final File file = this.folder.newFile();
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      fos.write(new byte[] { 0, 0, 0, 1, 0, 0, 0, 9, 1 });
+    }
+    assertThat(ClassInfoCache.read(file).size()).isEqualTo(0);
+  }
+
+  private static ClassInfoBuilder makeInfo(final String name, final long hash) {
+    final ClassInfoBuilder info = new ClassInfoBuilder();
+    info.id = new ClassIdentifier(hash, ClassName.fromString(name));
+    return info;
+  }
+
+  @Category(String.class)
+  private static class Cached {
+  }
+
+}
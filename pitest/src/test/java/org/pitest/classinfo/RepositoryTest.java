@@ -16,6 +16,7 @@ package org.pitest.classinfo;
 
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.anyString;
@@ -24,6 +25,12 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.io.Serializable;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 
 import org.junit.Before;
 import org.junit.Ignore;
@@ -283,6 +290,56 @@ public class RepositoryTest {
     verify(this.hashFunction).hash(any(byte[].class));
   }
 
+  @Test
+  public void shouldReuseInformationFromCacheWhenBytesMatch()
+      throws ClassNotFoundException {
+    final byte[] bytes = ClassUtils.classAsBytes(String.class);
+    final ClassInfoBuilder cached = ClassInfoVisitor.getClassInfo(
+        ClassName.fromString("foo"), bytes, new AddlerHash().hash(bytes));
+    cached.sourceFile = "Cached.java";
+    final ClassInfoCache cache = new ClassInfoCache();
+    cache.put(bytes.length, cached);
+    when(this.source.getBytes("foo")).thenReturn(Option.some(bytes));
+
+    this.testee = new Repository(this.source, Option.some(cache));
+    assertEquals("Cached.java", this.testee
+        .fetchClass(ClassName.fromString("foo")).value().getSourceFileName());
+  }
+
+  @Test
+  public void shouldStoreReadClassesInCache() throws ClassNotFoundException {
+    final ClassInfoCache cache = new ClassInfoCache();
+    when(this.source.getBytes("foo")).thenReturn(
+        Option.some(ClassUtils.classAsBytes(String.class)));
+    this.testee = new Repository(this.source, Option.some(cache));
+    this.testee.fetchClass(ClassName.fromString("foo"));
+    assertEquals(1, cache.size());
+  }
+
+  @Test
+  public void shouldReturnSameInfoToConcurrentCallers() throws Exception {
+    this.testee = new Repository(new ClassloaderByteArraySource(
+        IsolationUtils.getContextClassLoader()));
+    final ExecutorService executor = Executors.newFixedThreadPool(4);
+    try {
+      final List<Future<ClassInfo>> results = new ArrayList<>();
+      for (int i = 0; i != 20; i++) {
+        results.add(executor.submit(new Callable<ClassInfo>() {
+          @Override
+          public ClassInfo call() {
+            return RepositoryTest.this.testee.fetchClass(Bottom.class)
+                .value();
+          }
+        }));
+      }
+      for (final Future<ClassInfo> each : results) {
+        assertSame(results.get(0).get(), each.get());
+      }
+    } finally {
+      executor.shutdown();
+    }
+  }
+
   private String getOuterClassNameFor(final Class<?> clazz) {
     return this.testee.fetchClass(clazz).value().getOuterClass().value()
         .getName().asInternalName();
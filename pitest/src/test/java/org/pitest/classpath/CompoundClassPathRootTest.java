@@ -87,6 +87,50 @@ public class CompoundClassPathRootTest {
     verify(heavyChild).getData("Heavy");
   }
 
+  @Test
+  public void shouldOnlyQueryFirstHeavyRootHoldingAClass() throws IOException {
+    final IOHeavyRoot second = Mockito.mock(IOHeavyRoot.class);
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("com.example.Foo"));
+    when(second.classNames()).thenReturn(Collections.singletonList("com.example.Foo"));
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.heavyChild.getData("com.example.Foo")).thenReturn(is);
+    this.testee = new CompoundClassPathRoot(Arrays.<ClassPathRoot> asList(
+        this.heavyChild, second));
+
+    assertThat(this.testee.getData("com.example.Foo")).isSameAs(is);
+    verify(second, never()).getData(any(String.class));
+  }
+
+  @Test
+  public void shouldPreferEarlierRootsThatAreNotIndexed() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("Foo"));
+    final InputStream is = Mockito.mock(InputStream.class);
+    when(this.child1.getData("Foo")).thenReturn(is);
+
+    assertThat(this.testee.getData("Foo")).isSameAs(is);
+    verify(this.heavyChild, never()).getData(any(String.class));
+  }
+
+  @Test
+  public void shouldFindClassesByInternalName() throws IOException {
+    when(this.heavyChild.classNames()).thenReturn(Collections.singletonList("com.example.Foo"));
+
+    this.testee.getData("com/example/Foo");
+    verify(this.heavyChild).getData("com/example/Foo");
+  }
+
+  @Test
+  public void shouldReportEachClassHeldByHeavyRootsOnce() {
+    final IOHeavyRoot second = Mockito.mock(IOHeavyRoot.class);
+    when(this.heavyChild.classNames()).thenReturn(Arrays.asList("Foo", "Bar"));
+    when(second.classNames()).thenReturn(Arrays.asList("Foo", "Baz"));
+    this.testee = new CompoundClassPathRoot(Arrays.<ClassPathRoot> asList(
+        this.heavyChild, second));
+
+    assertThat(this.testee.classNames()).containsOnly("Foo", "Bar", "Baz")
+        .hasSize(3);
+  }
+
 }
 
  
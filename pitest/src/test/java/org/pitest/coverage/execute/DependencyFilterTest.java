@@ -3,17 +3,18 @@ package org.pitest.coverage.execute;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertSame;
 import static org.mockito.Matchers.any;
-import static org.mockito.Matchers.anyString;
-import static org.mockito.Matchers.eq;
+import static org.mockito.Matchers.anyCollectionOf;
 import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.io.IOException;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Before;
 import org.junit.Test;
@@ -50,27 +51,25 @@ public class DependencyFilterTest {
   }
 
   @Test
-  public void shouldNotPerformAnalysisWhenDependencyDistanceIsLessThan0()
-      throws IOException {
+  public void shouldNotPerformAnalysisWhenDependencyDistanceIsLessThan0() {
     when(this.extractor.getMaxDistance()).thenReturn(-1);
     final List<TestUnit> actual = this.testee
         .filterTestsByDependencyAnalysis(this.tus);
     assertSame(this.tus, actual);
     verify(this.extractor, never()).extractCallDependenciesForPackages(
-        anyString(), any(Predicate.class));
+        anyCollectionOf(String.class), any(Predicate.class));
   }
 
   @Test
-  public void shouldReturnOnlyTestUnitsForClassesWithinReach()
-      throws IOException {
-    when(
-        this.extractor.extractCallDependenciesForPackages(eq(this.aTestUnit
-            .getDescription().getFirstTestClass()), any(Predicate.class)))
-            .thenReturn(Arrays.asList("foo"));
+  public void shouldReturnOnlyTestUnitsForClassesWithinReach() {
+    final Map<String, Collection<String>> dependencies = new HashMap<>();
+    dependencies.put(testClassOf(this.aTestUnit), Arrays.asList("foo"));
+    dependencies.put(testClassOf(this.anotherTestUnit),
+        Collections.<String> emptyList());
     when(
         this.extractor.extractCallDependenciesForPackages(
-            eq(this.anotherTestUnit.getDescription().getFirstTestClass()),
-            any(Predicate.class))).thenReturn(Collections.<String> emptyList());
+            anyCollectionOf(String.class), any(Predicate.class))).thenReturn(
+                dependencies);
 
     assertEquals(Arrays.asList(this.aTestUnit),
         this.testee.filterTestsByDependencyAnalysis(this.tus));
@@ -78,20 +77,23 @@ public class DependencyFilterTest {
   }
 
   @Test
-  public void shouldNotRecalculateDependenciesForAlreadyAnalysedClasses()
-      throws IOException {
-
+  public void shouldAnalyseAllTestClassesInOnePass() {
+    final Map<String, Collection<String>> dependencies = new HashMap<>();
+    dependencies.put(testClassOf(this.aTestUnit), Arrays.asList("foo"));
     when(
-        this.extractor.extractCallDependenciesForPackages(eq(this.aTestUnit
-            .getDescription().getFirstTestClass()), any(Predicate.class)))
-            .thenReturn(Arrays.asList("foo"));
+        this.extractor.extractCallDependenciesForPackages(
+            anyCollectionOf(String.class), any(Predicate.class))).thenReturn(
+                dependencies);
 
     this.tus = Arrays.asList(this.aTestUnit, this.aTestUnit);
 
     this.testee.filterTestsByDependencyAnalysis(this.tus);
     verify(this.extractor, times(1)).extractCallDependenciesForPackages(
-        eq(this.aTestUnit.getDescription().getFirstTestClass()),
-        any(Predicate.class));
+        Collections.singleton(testClassOf(this.aTestUnit)), null);
+  }
+
+  private static String testClassOf(final TestUnit tu) {
+    return tu.getDescription().getFirstTestClass();
   }
 
   private TestUnit makeTestUnit(final Description d) {
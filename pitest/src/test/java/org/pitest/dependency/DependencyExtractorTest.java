@@ -19,11 +19,14 @@ import static org.junit.Assert.assertEquals;
 import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import org.junit.Test;
+import org.pitest.classinfo.AddlerHash;
 import org.pitest.classpath.ClassPathByteArraySource;
 import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.predicate.True;
@@ -133,6 +136,54 @@ public class DependencyExtractorTest {
     assertCollectionEquals(expected, actual);
   }
 
+  @Test
+  public void shouldAnalyseSeveralClassesInOnePass() {
+    constructWithDepthOf(1);
+    final Map<String, Collection<String>> actual = this.testee
+        .extractCallDependenciesForPackages(
+            Arrays.asList(Foo.class.getName(), Bar.class.getName()),
+            True.<String> all());
+    assertCollectionEquals(
+        asSet(classToJvmName(Bar.class), classToJvmName(Car.class)),
+        actual.get(Foo.class.getName()));
+    assertCollectionEquals(asSet(classToJvmName(Far.class)),
+        actual.get(Bar.class.getName()));
+  }
+
+  @Test
+  public void shouldUseCachedDependenciesWhenClassIsUnchanged()
+      throws Exception {
+    final ClassPathByteArraySource source = new ClassPathByteArraySource();
+    final DependencyGraphCache cache = new DependencyGraphCache();
+    cache.put(classToJvmName(Car.class),
+        new AddlerHash().hash(source.getBytes(Car.class.getName()).value()),
+        Collections.singletonList(classToJvmName(VeryFar.class)));
+    this.testee = new DependencyExtractor(source, 2, cache, 2);
+
+    final Collection<String> actual = this.testee
+        .extractCallDependenciesForPackages(Foo.class.getName(),
+            True.<String> all());
+    assertCollectionEquals(asSet(classToJvmName(Bar.class),
+        classToJvmName(Car.class), classToJvmName(Far.class),
+        classToJvmName(VeryFar.class)), actual);
+  }
+
+  @Test
+  public void shouldIgnoreCachedDependenciesWhenClassHasChanged()
+      throws Exception {
+    final DependencyGraphCache cache = new DependencyGraphCache();
+    cache.put(classToJvmName(Car.class), 42,
+        Collections.singletonList(classToJvmName(VeryFar.class)));
+    this.testee = new DependencyExtractor(new ClassPathByteArraySource(), 2,
+        cache, 2);
+
+    final Collection<String> actual = this.testee
+        .extractCallDependenciesForPackages(Foo.class.getName(),
+            True.<String> all());
+    assertCollectionEquals(asSet(classToJvmName(Bar.class),
+        classToJvmName(Car.class), classToJvmName(Far.class)), actual);
+  }
+
   private Predicate<DependencyAccess> ignoreCoreClasses() {
     return new Predicate<DependencyAccess>() {
 
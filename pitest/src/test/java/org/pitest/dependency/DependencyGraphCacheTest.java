@@ -0,0 +1,67 @@
+package org.pitest.dependency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.pitest.functional.Option;
+
+public class DependencyGraphCacheTest {
+
+  @Rule
+  public TemporaryFolder  folder = new TemporaryFolder();
+
+  private final DependencyGraphCache testee = new DependencyGraphCache();
+
+  @Test
+  public void shouldReturnDependenciesWhenHashMatches() {
+    this.testee.put("foo", 1, Arrays.asList("bar"));
+    assertThat(this.testee.get("foo", 1)).isEqualTo(
+        Option.some(Arrays.asList("bar")));
+  }
+
+  @Test
+  public void shouldReturnNoneWhenHashDiffers() {
+    this.testee.put("foo", 1, Arrays.asList("bar"));
+    assertThat(this.testee.get("foo", 2).hasNone()).isTrue();
+  }
+
+  @Test
+  public void shouldReadWhatWasWritten() throws Exception {
+    final File file = this.folder.newFile();
+    this.testee.put("foo", 1, Arrays.asList("bar", "car"));
+    this.testee.put("bar", 2, Arrays.<String> asList());
+    this.testee.write(file);
+
+    final DependencyGraphCache actual = DependencyGraphCache.read(file);
+    assertThat(actual.size()).isEqualTo(2);
+    assertThat(actual.get("foo", 1).value()).containsExactly("bar", "car");
+    assertThat(actual.get("bar", 2).value()).isEmpty();
+  }
+
+  @Test
+  public void shouldReturnEmptyCacheWhenFileDoesNotExist() {
+    final DependencyGraphCache actual = DependencyGraphCache.read(new File(
+        this.folder.getRoot(), "missing"));
+    assertThat(actual.size()).isEqualTo(0);
+  }
+
+  @Test
+  public void shouldReturnEmptyCacheWhenFileIsCorrupt() throws Exception {
+    final File file = this.folder.newFile();
+    try (FileOutputStream fos = new FileOutputStream(file)) {
+      fos.write(new byte[] { 0, 0, 0, 1, 0, 0, 0, 9, 1 });
+    }
+    final DependencyGraphCache actual = DependencyGraphCache.read(file);
+    final Option<List<String>> none = Option.none();
+    assertThat(actual.size()).isEqualTo(0);
+    assertThat(actual.get("foo", 1)).isEqualTo(none);
+  }
+
+}
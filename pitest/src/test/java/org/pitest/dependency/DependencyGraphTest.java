@@ -0,0 +1,54 @@
+package org.pitest.dependency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Before;
+import org.junit.Test;
+
+public class DependencyGraphTest {
+
+  private DependencyGraph testee;
+
+  @Before
+  public void setUp() {
+    // a -> b -> c -> d, a -> e, d -> a
+    final String[] names = { "a", "b", "c", "d", "e" };
+    final Map<String, Integer> ids = new HashMap<>();
+    for (int i = 0; i != names.length; i++) {
+      ids.put(names[i], i);
+    }
+    final int[][] edges = { { 1, 4 }, { 2 }, { 3 }, { 0 }, {} };
+    this.testee = new DependencyGraph(names, ids, edges);
+  }
+
+  @Test
+  public void shouldReturnImmediateDependenciesWhenDistanceIsOne() {
+    assertThat(this.testee.reachableFrom("a", 1)).containsOnly("b", "e");
+  }
+
+  @Test
+  public void shouldLimitTraversalToSuppliedDistance() {
+    assertThat(this.testee.reachableFrom("a", 2)).containsOnly("b", "c", "e");
+  }
+
+  @Test
+  public void shouldTraverseWholeGraphWhenDistanceIsZero() {
+    assertThat(this.testee.reachableFrom("a", 0)).containsOnly("b", "c", "d",
+        "e");
+  }
+
+  @Test
+  public void shouldNotIncludeStartingClassWhenReachedByCycle() {
+    assertThat(this.testee.reachableFrom("b", 0)).containsOnly("c", "d", "a",
+        "e");
+  }
+
+  @Test
+  public void shouldReturnNothingForUnknownClasses() {
+    assertThat(this.testee.reachableFrom("unknown", 0)).isEmpty();
+  }
+
+}
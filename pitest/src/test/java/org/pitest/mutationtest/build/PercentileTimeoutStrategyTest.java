@@ -0,0 +1,46 @@
+package org.pitest.mutationtest.build;
+
+import static org.junit.Assert.assertEquals;
+
+import java.util.Collections;
+import java.util.Map;
+
+import org.junit.Test;
+
+public class PercentileTimeoutStrategyTest {
+
+  private PercentileTimeoutStrategy testee;
+
+  @Test
+  public void shouldNotAllowLessThanConstant() {
+    this.testee = new PercentileTimeoutStrategy(2f, 500, 95, noHistory());
+    assertEquals(500, this.testee.getAllowedTime(10));
+    assertEquals(500, this.testee.getAllowedTime("foo", 10));
+  }
+
+  @Test
+  public void shouldAllowMultipleOfNormalDurationWhenNothingElseKnown() {
+    this.testee = new PercentileTimeoutStrategy(2f, 500, 95, noHistory());
+    assertEquals(2000, this.testee.getAllowedTime("foo", 1000));
+  }
+
+  @Test
+  public void shouldUsePercentileOfPreviousDurations() {
+    this.testee = new PercentileTimeoutStrategy(2f, 0, 50,
+        Collections.singletonMap("foo", new long[] { 3000, 1000, 2000 }));
+    // median of 1000, 1000, 2000, 3000
+    assertEquals(2000, this.testee.getAllowedTime("foo", 1000));
+  }
+
+  @Test
+  public void shouldOnlyUseDurationsOfTheTestAsked() {
+    this.testee = new PercentileTimeoutStrategy(1f, 0, 100,
+        Collections.singletonMap("bar", new long[] { 9000 }));
+    assertEquals(1000, this.testee.getAllowedTime("foo", 1000));
+  }
+
+  private static Map<String, long[]> noHistory() {
+    return Collections.emptyMap();
+  }
+
+}
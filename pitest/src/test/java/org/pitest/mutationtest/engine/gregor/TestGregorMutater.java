@@ -19,15 +19,22 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.Callable;
 
 import org.junit.Test;
 import org.pitest.functional.F;
 import org.pitest.functional.FCollection;
 import org.pitest.functional.FunctionalList;
+import org.pitest.functional.predicate.Predicate;
 import org.pitest.functional.predicate.True;
+import org.pitest.mutationtest.engine.InfectionProbes;
+import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.MutationDetails;
+import org.pitest.mutationtest.engine.MutationIdentifier;
 import org.pitest.mutationtest.engine.gregor.config.Mutator;
 import org.pitest.mutationtest.engine.gregor.mutators.IncrementsMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.InvertNegsMutator;
@@ -35,6 +42,8 @@ import org.pitest.mutationtest.engine.gregor.mutators.MathMutator;
 import org.pitest.mutationtest.engine.gregor.mutators.ReturnValsMutator;
 import org.pitest.util.ResourceFolderByteArraySource;
 
+import sun.pitest.InfectionStore;
+
 public class TestGregorMutater extends MutatorTestBase {
 
   public static class HasMultipleMutations {
@@ -350,6 +359,89 @@ public class TestGregorMutater extends MutatorTestBase {
                                                                     // target?
   }
   
+  public static class HasTwoReturns implements Callable<String> {
+    public int a() {
+      return 1;
+    }
+
+    public int b() {
+      return 2;
+    }
+
+    @Override
+    public String call() {
+      return "" + a() + b();
+    }
+  }
+
+  @Test
+  public void shouldCreateClassWithAllCombinedMutationsActive() throws Exception {
+    createTesteeWith(mutateOnlyAOrB(), ReturnValsMutator.RETURN_VALS_MUTATOR);
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoReturns.class);
+    assertEquals(2, actualDetails.size());
+
+    final List<MutationIdentifier> ids = new ArrayList<>();
+    for (final MutationDetails each : actualDetails) {
+      ids.add(each.getId());
+    }
+    final Mutant combined = new Mutant(actualDetails.get(0),
+        this.engine.getCombinedMutation(ids));
+
+    assertMutantCallableReturns(new HasTwoReturns(), combined, "00");
+    assertMutantCallableReturns(new HasTwoReturns(),
+        this.engine.getMutation(ids.get(0)), "02");
+  }
+
+  public static class HasBoundary implements Callable<String> {
+    public boolean isPositive(final int i) {
+      return i > 0;
+    }
+
+    @Override
+    public String call() {
+      InfectionStore.reset(1);
+      isPositive(5);
+      final boolean infectedByFive = InfectionStore.isInfected(0);
+      return "" + infectedByFive + isPositive(0) + InfectionStore.isInfected(0);
+    }
+  }
+
+  @Test
+  public void shouldProbeMutantsForInfectionWithoutChangingBehaviour()
+      throws Exception {
+    createTesteeWith(Mutator.byName("CONDITIONALS_BOUNDARY"));
+    final List<MutationDetails> actualDetails = findMutationsFor(HasBoundary.class);
+    assertEquals(1, actualDetails.size());
+
+    final InfectionProbes probes = this.engine.getInfectionProbes(Collections
+        .singletonList(actualDetails.get(0).getId()));
+
+    assertEquals(Collections.singletonMap(actualDetails.get(0).getId(), 0),
+        probes.getProbes());
+    assertMutantCallableReturns(new HasBoundary(), new Mutant(
+        actualDetails.get(0), probes.getBytes()), "falsefalsetrue");
+  }
+
+  @Test
+  public void shouldNotProbeMutantsThatCannotBeEvaluatedAlongsideOriginal() {
+    createTesteeWith(mutateOnlyAOrB(), ReturnValsMutator.RETURN_VALS_MUTATOR);
+    final List<MutationDetails> actualDetails = findMutationsFor(HasTwoReturns.class);
+
+    final InfectionProbes probes = this.engine.getInfectionProbes(Collections
+        .singletonList(actualDetails.get(0).getId()));
+
+    assertTrue(probes.getProbes().isEmpty());
+  }
+
+  private static Predicate<MethodInfo> mutateOnlyAOrB() {
+    return new Predicate<MethodInfo>() {
+      @Override
+      public Boolean apply(final MethodInfo a) {
+        return a.getName().equals("a") || a.getName().equals("b");
+      }
+    };
+  }
+
   @Test
   public void shouldNotMutateCompilerGeneratedConditionalsInStringSwitch() {
     createTesteeWith(new ResourceFolderByteArraySource(),
@@ -51,6 +51,14 @@ public class DefaultReporterTest {
     assertEquals(is.read(MutationStatusTestPair.class), ms);
   }
 
+  @Test
+  public void shouldSendHeapUsed() throws IOException {
+    this.testee.heapUsed(1024);
+    final SafeDataInputStream is = resultToStream();
+    assertEquals(Id.HEAP, is.readByte());
+    assertEquals(1024, is.readLong());
+  }
+
   private SafeDataInputStream resultToStream() {
     final SafeDataInputStream is = new SafeDataInputStream(
         new ByteArrayInputStream(this.os.toByteArray()));
@@ -0,0 +1,34 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.Test;
+
+public class MinionOptionsTest {
+
+  @Test
+  public void shouldRunMutantsSeparatelyByDefault() {
+    assertThat(MinionOptions.defaults().runsMutantsTogether()).isFalse();
+    assertThat(MinionOptions.defaults().limitsLoops()).isFalse();
+  }
+
+  @Test
+  public void shouldRunMutantsTogetherWhenGroupingOrPrefiltering() {
+    assertThat(MinionOptions.defaults().withGroupMutants(true)
+        .runsMutantsTogether()).isTrue();
+    assertThat(MinionOptions.defaults().withPrefilterInfection(true)
+        .runsMutantsTogether()).isTrue();
+  }
+
+  @Test
+  public void shouldKeepOtherOptionsWhenRunningMutantsSeparately() {
+    final MinionOptions actual = MinionOptions.defaults().withLoopBudget(10)
+        .withIsolateMutants(true).withMutantThreads(2).withGroupMutants(true)
+        .withPrefilterInfection(true).runningMutantsSeparately();
+    assertThat(actual.runsMutantsTogether()).isFalse();
+    assertThat(actual.getLoopBudget()).isEqualTo(10);
+    assertThat(actual.isolatesMutants()).isTrue();
+    assertThat(actual.getMutantThreads()).isEqualTo(2);
+  }
+
+}
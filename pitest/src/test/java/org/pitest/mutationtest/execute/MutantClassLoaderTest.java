@@ -0,0 +1,79 @@
+package org.pitest.mutationtest.execute;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.File;
+import java.net.URISyntaxException;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
+import org.pitest.classinfo.ClassName;
+import org.pitest.classpath.ClassPath;
+import org.pitest.classpath.DirectoryClassPathRoot;
+
+public class MutantClassLoaderTest {
+
+  private ClassPath isolated;
+
+  public static class Isolated {
+
+  }
+
+  @Before
+  public void setUp() throws URISyntaxException {
+    this.isolated = new ClassPath(new DirectoryClassPathRoot(new File(
+        Isolated.class.getProtectionDomain().getCodeSource().getLocation()
+            .toURI())));
+  }
+
+  @Test
+  public void shouldLoadClassesOnIsolatedClassPathAfresh() throws Exception {
+    final MutantClassLoader testee = loaderFor("com.example.Mutant",
+        generateClass("com/example/Mutant"));
+    final Class<?> actual = testee.loadClass(Isolated.class.getName());
+    assertThat(actual).isNotSameAs(Isolated.class);
+    assertThat(actual.getClassLoader()).isSameAs(testee);
+  }
+
+  @Test
+  public void shouldLoadOtherClassesFromParent() throws Exception {
+    final MutantClassLoader testee = loaderFor("com.example.Mutant",
+        generateClass("com/example/Mutant"));
+    assertThat(testee.loadClass(Test.class.getName())).isSameAs(Test.class);
+    assertThat(testee.loadClass(String.class.getName()))
+        .isSameAs(String.class);
+  }
+
+  @Test
+  public void shouldDefineMutantFromSuppliedBytes() throws Exception {
+    final MutantClassLoader testee = loaderFor("com.example.Mutant",
+        generateClass("com/example/Mutant"));
+    final Class<?> actual = Class.forName("com.example.Mutant", false, testee);
+    assertThat(actual.getClassLoader()).isSameAs(testee);
+    assertThat(actual.getPackage().getName()).isEqualTo("com.example");
+  }
+
+  @Test
+  public void shouldReturnSameClassWhenLoadedTwice() throws Exception {
+    final MutantClassLoader testee = loaderFor("com.example.Mutant",
+        generateClass("com/example/Mutant"));
+    assertThat(testee.loadClass(Isolated.class.getName())).isSameAs(
+        testee.loadClass(Isolated.class.getName()));
+  }
+
+  private MutantClassLoader loaderFor(final String mutant, final byte[] bytes) {
+    return new MutantClassLoader(this.isolated, getClass().getClassLoader(),
+        ClassName.fromString(mutant), bytes);
+  }
+
+  private static byte[] generateClass(final String name) {
+    final ClassWriter cw = new ClassWriter(0);
+    cw.visit(Opcodes.V1_5, Opcodes.ACC_PUBLIC, name, null, "java/lang/Object",
+        null);
+    cw.visitEnd();
+    return cw.toByteArray();
+  }
+
+}
@@ -1,6 +1,9 @@
 package org.pitest.mutationtest.execute;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Matchers.any;
+import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.pitest.mutationtest.LocationMother.aLocation;
@@ -10,19 +13,27 @@ import java.io.IOException;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import junit.framework.AssertionFailedError;
 
 import org.junit.Before;
 import org.junit.Ignore;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.objectweb.asm.Opcodes;
 import org.pitest.classinfo.ClassName;
+import org.pitest.coverage.TestInfo;
 import org.pitest.functional.F3;
+import org.pitest.functional.Option;
 import org.pitest.mutationtest.DetectionStatus;
 import org.pitest.mutationtest.MutationStatusTestPair;
+import org.pitest.mutationtest.MutationTimings;
+import org.pitest.mutationtest.engine.InfectionProbes;
 import org.pitest.mutationtest.engine.Mutant;
 import org.pitest.mutationtest.engine.Mutater;
 import org.pitest.mutationtest.engine.MutationDetails;
@@ -31,6 +42,8 @@ import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import sun.pitest.InfectionStore;
+
 public class MutationTestWorkerTest {
 
   private MutationTestWorker                          testee;
@@ -127,6 +140,240 @@ public class MutationTestWorkerTest {
             .getDescription().getName()));
   }
 
+  @Test
+  public void shouldReportTimingsOfEachPhase() throws IOException {
+    final MutationDetails mutantOne = makeMutant("foo", 1);
+    final TestUnit tu = makeFailingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+    final ArgumentCaptor<MutationStatusTestPair> captor = ArgumentCaptor
+        .forClass(MutationStatusTestPair.class);
+
+    this.testee.run(Arrays.asList(mutantOne), this.reporter, this.testSource);
+
+    verify(this.reporter).report(eq(mutantOne.getId()), captor.capture());
+    final MutationTimings timings = captor.getValue().getTimings().value();
+    assertThat(timings.getTestMillis()).containsOnlyKeys(
+        tu.getDescription().getQualifiedName());
+    assertThat(timings.getKillMillis().hasSome()).isTrue();
+  }
+
+  @Test
+  public void shouldInferKillOfMutationSubsumedByAKilledMutation()
+      throws IOException {
+    final MutationDetails subsuming = makeCoveredMutant("a", 1);
+    final MutationDetails subsumed = makeCoveredMutant("a", 2);
+    subsumed.addSubsumingMutations(Collections.singletonList(subsuming
+        .getId()));
+    final TestUnit tu = makeFailingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(subsumed, subsuming), this.reporter,
+        this.testSource);
+
+    verify(this.mutater, never()).getMutation(subsumed.getId());
+    verify(this.reporter).report(
+        subsumed.getId(),
+        new MutationStatusTestPair(0, DetectionStatus.INFERRED_KILLED, tu
+            .getDescription().getName()));
+  }
+
+  @Test
+  public void shouldRunMutationSubsumedByASurvivingMutation()
+      throws IOException {
+    final MutationDetails subsuming = makeCoveredMutant("a", 1);
+    final MutationDetails subsumed = makeCoveredMutant("a", 2);
+    subsumed.addSubsumingMutations(Collections.singletonList(subsuming
+        .getId()));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(subsumed, subsuming), this.reporter,
+        this.testSource);
+
+    verify(this.reporter).report(eq(subsumed.getId()),
+        eq(new MutationStatusTestPair(1, DetectionStatus.SURVIVED)));
+  }
+
+  @Test
+  public void shouldInferKillsWhenRunningMutantsInGroups() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, MinionOptions.defaults().withGroupMutants(true));
+    final MutationDetails subsuming = makeCoveredMutant("a", 1);
+    final MutationDetails subsumed = makeCoveredMutant("a", 2);
+    subsumed.addSubsumingMutations(Collections.singletonList(subsuming
+        .getId()));
+    final TestUnit tu = makeFailingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(subsumed, subsuming), this.reporter,
+        this.testSource);
+
+    verify(this.mutater, never()).getMutation(subsumed.getId());
+    verify(this.reporter).report(
+        subsumed.getId(),
+        new MutationStatusTestPair(0, DetectionStatus.INFERRED_KILLED, tu
+            .getDescription().getName()));
+  }
+
+  @Test
+  public void shouldRunSurvivingMutantsInDifferentMethodsTogether()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, MinionOptions.defaults().withGroupMutants(true));
+    final MutationDetails mutantOne = makeCoveredMutant("a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("b", 2);
+    final MutationDetails mutantThree = makeCoveredMutant("c", 3);
+    final TestUnit tu = makePassingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(tu));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo, mutantThree),
+        this.reporter, this.testSource);
+
+    verify(this.mutater).getCombinedMutation(
+        Arrays.asList(mutantTwo.getId(), mutantThree.getId()));
+    verify(this.mutater, never()).getMutation(mutantTwo.getId());
+    verify(this.reporter).describe(mutantThree.getId());
+    verify(this.reporter).report(mutantTwo.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+    verify(this.reporter).report(mutantThree.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.SURVIVED));
+  }
+
+  @Test
+  public void shouldRunEachMutantOfAKilledGroupOnItsOwn() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, MinionOptions.defaults().withGroupMutants(true));
+    final MutationDetails mutantOne = makeCoveredMutant("a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("b", 2);
+    final MutationDetails mutantThree = makeCoveredMutant("c", 3);
+    final TestUnit failing = makeFailingTest();
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()),
+        Collections.singletonList(failing));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo, mutantThree),
+        this.reporter, this.testSource);
+
+    verify(this.mutater).getCombinedMutation(
+        Arrays.asList(mutantTwo.getId(), mutantThree.getId()));
+    verify(this.mutater).getMutation(mutantTwo.getId());
+    verify(this.mutater).getMutation(mutantThree.getId());
+    verify(this.reporter).report(
+        mutantThree.getId(),
+        new MutationStatusTestPair(1, DetectionStatus.KILLED, failing
+            .getDescription().getName()));
+  }
+
+  @Test
+  public void shouldNotGroupMutantsInTheSameMethod() throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, MinionOptions.defaults().withGroupMutants(true));
+    final MutationDetails mutantOne = makeCoveredMutant("a", 1);
+    final MutationDetails mutantTwo = makeCoveredMutant("b", 2);
+    final MutationDetails mutantThree = makeCoveredMutant("b", 3);
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makePassingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(mutantOne, mutantTwo, mutantThree),
+        this.reporter, this.testSource);
+
+    verify(this.mutater, never()).getCombinedMutation(
+        any(Collection.class));
+  }
+
+  @Test
+  public void shouldReportMutantsNoTestInfectsAsSurvivingWithoutRunningThem()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, MinionOptions.defaults().withPrefilterInfection(true));
+    final MutationDetails uninfected = makeCoveredMutant("a", 1);
+    final MutationDetails infected = makeCoveredMutant("b", 2);
+    final MutationDetails unprobed = makeCoveredMutant("c", 3);
+    final Map<MutationIdentifier, Integer> probes = new LinkedHashMap<>();
+    probes.put(uninfected.getId(), 0);
+    probes.put(infected.getId(), 1);
+    when(this.mutater.getInfectionProbes(any(Collection.class))).thenReturn(
+        new InfectionProbes(new byte[0], probes));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeInfectingTest(1)));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Arrays.asList(uninfected, infected, unprobed),
+        this.reporter, this.testSource);
+
+    verify(this.mutater, never()).getMutation(uninfected.getId());
+    verify(this.reporter).report(uninfected.getId(),
+        new MutationStatusTestPair(0, DetectionStatus.SURVIVED));
+    verify(this.mutater).getMutation(infected.getId());
+    verify(this.mutater).getMutation(unprobed.getId());
+  }
+
+  @Test
+  public void shouldTreatTestsThatFailAgainstProbesAsInfectingEveryMutant()
+      throws IOException {
+    this.testee = new MutationTestWorker(this.hotswapper, this.mutater,
+        this.loader, MinionOptions.defaults().withPrefilterInfection(true));
+    final MutationDetails mutant = makeCoveredMutant("a", 1);
+    when(this.mutater.getInfectionProbes(any(Collection.class))).thenReturn(
+        new InfectionProbes(new byte[0], Collections.singletonMap(
+            mutant.getId(), 0)));
+    when(this.testSource.translateTests(any(List.class))).thenReturn(
+        Collections.singletonList(makeFailingTest()));
+    when(
+        this.hotswapper.apply(any(ClassName.class), any(ClassLoader.class),
+            any(byte[].class))).thenReturn(true);
+
+    this.testee.run(Collections.singletonList(mutant), this.reporter,
+        this.testSource);
+
+    verify(this.mutater).getMutation(mutant.getId());
+  }
+
+  private TestUnit makeInfectingTest(final int probe) {
+    return new TestUnit() {
+
+      @Override
+      public void execute(final ResultCollector rc) {
+        rc.notifyStart(getDescription());
+        InfectionStore.jump(0, Opcodes.IFEQ, Opcodes.IFNE, probe);
+        rc.notifyEnd(getDescription());
+      }
+
+      @Override
+      public Description getDescription() {
+        return new Description("atest");
+      }
+
+    };
+  }
+
   private TestUnit makeFailingTest() {
     return new TestUnit() {
 
@@ -174,4 +421,22 @@ public class MutationTestWorkerTest {
     return md;
   }
 
+  private MutationDetails makeCoveredMutant(final String method,
+      final int index) {
+    final MutationIdentifier id = aMutationId()
+        .withLocation(aLocation("foo").withMethod(method)).withIndex(index)
+        .withMutator("mutator").build();
+    final MutationDetails md = new MutationDetails(id, "sourceFile", "desc",
+        42, 0);
+    md.addTestsInOrder(Collections.singletonList(new TestInfo("foo", "atest",
+        1, Option.<ClassName> none(), 1)));
+
+    when(this.mutater.getMutation(md.getId())).thenReturn(
+        new Mutant(md, new byte[0]));
+    when(this.mutater.getCombinedMutation(any(Collection.class))).thenReturn(
+        new byte[0]);
+
+    return md;
+  }
+
 }
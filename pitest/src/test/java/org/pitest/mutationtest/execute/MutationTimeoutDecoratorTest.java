@@ -23,11 +23,14 @@ import static org.mockito.Mockito.when;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mock;
+import org.mockito.Mockito;
 import org.mockito.MockitoAnnotations;
 import org.mockito.invocation.InvocationOnMock;
 import org.mockito.stubbing.Answer;
 import org.pitest.functional.SideEffect;
+import org.pitest.mutationtest.PerTestTimeoutLengthStrategy;
 import org.pitest.mutationtest.TimeoutLengthStrategy;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
@@ -81,4 +84,19 @@ public class MutationTimeoutDecoratorTest {
     verify(this.child).execute(any(ResultCollector.class));
     verify(this.sideEffect).apply();
   }
+
+  @Test
+  public void shouldUsePerTestStrategyWhenAvailable() {
+    final PerTestTimeoutLengthStrategy perTest = Mockito
+        .mock(PerTestTimeoutLengthStrategy.class);
+    when(perTest.getAllowedTime("foo", NORMAL_EXECUTION)).thenReturn(1000l);
+    when(this.child.getDescription()).thenReturn(new Description("foo"));
+    this.testee = new MutationTimeoutDecorator(this.child, this.sideEffect,
+        perTest, NORMAL_EXECUTION);
+
+    this.testee.execute(this.rc);
+
+    verify(perTest).getAllowedTime("foo", NORMAL_EXECUTION);
+    verify(this.sideEffect, never()).apply();
+  }
 }
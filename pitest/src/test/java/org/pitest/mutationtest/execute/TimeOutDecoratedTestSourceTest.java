@@ -15,7 +15,10 @@
 package org.pitest.mutationtest.execute;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
+import static org.mockito.Matchers.anyLong;
+import static org.mockito.Mockito.when;
 
 import java.util.Arrays;
 import java.util.Collections;
@@ -33,6 +36,9 @@ import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestUnit;
 
+import sun.pitest.LoopBudget;
+import sun.pitest.LoopBudgetExceededError;
+
 public class TimeOutDecoratedTestSourceTest {
 
   private TimeOutDecoratedTestSource testee;
@@ -71,6 +77,88 @@ public class TimeOutDecoratedTestSourceTest {
     assertEquals(1, actual.size());
   }
 
+  @Test
+  public void shouldAllowMultipleOfCoverageJumpsPlusBudget() {
+    assertFalse(exceedsBudget(25));
+  }
+
+  @Test
+  public void shouldStopTestsThatExceedMultipleOfCoverageJumpsPlusBudget() {
+    assertTrue(exceedsBudget(26));
+  }
+
+  @Test
+  public void shouldNotLimitLoopsWhenNoBudgetSet() {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(tickingTestUnit(1000)), new TimeOutSystemExitSideEffect(
+            this.reporter), 0);
+    assertFalse(runTickingTest(10));
+  }
+
+  // a test that took 10 jumps in coverage with a budget of 5 may take
+  // 2 * 10 + 5
+  private boolean exceedsBudget(final int jumps) {
+    this.testee = new TimeOutDecoratedTestSource(this.timeoutStrategy,
+        Arrays.asList(tickingTestUnit(jumps)), new TimeOutSystemExitSideEffect(
+            this.reporter), 5);
+    return runTickingTest(10);
+  }
+
+  private boolean runTickingTest(final long coverageJumps) {
+    when(this.timeoutStrategy.getAllowedTime(anyLong())).thenReturn(10000L);
+    final List<TestUnit> tests = this.testee.translateTests(Arrays
+        .asList(new TestInfo("foo", "ticking", 42, Option.<ClassName> none(),
+            0, coverageJumps)));
+    final ExceededCollector rc = new ExceededCollector();
+    tests.get(0).execute(rc);
+    return rc.exceeded;
+  }
+
+  private static TestUnit tickingTestUnit(final int jumps) {
+    return new TestUnit() {
+      private final Description description = new Description("ticking");
+
+      @Override
+      public void execute(final ResultCollector rc) {
+        for (int i = 0; i != jumps; i++) {
+          LoopBudget.tick();
+        }
+      }
+
+      @Override
+      public Description getDescription() {
+        return this.description;
+      }
+
+    };
+  }
+
+  private static class ExceededCollector implements ResultCollector {
+    private boolean exceeded;
+
+    @Override
+    public void notifyEnd(final Description description, final Throwable t) {
+      this.exceeded = t instanceof LoopBudgetExceededError;
+    }
+
+    @Override
+    public void notifyEnd(final Description description) {
+    }
+
+    @Override
+    public void notifyStart(final Description description) {
+    }
+
+    @Override
+    public void notifySkipped(final Description description) {
+    }
+
+    @Override
+    public boolean shouldExit() {
+      return false;
+    }
+  }
+
   private TestUnit makeTestUnit(final String name) {
     return new TestUnit() {
       private final Description description = new Description(name);
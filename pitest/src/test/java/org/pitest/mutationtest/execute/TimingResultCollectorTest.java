@@ -0,0 +1,58 @@
+package org.pitest.mutationtest.execute;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.Mockito.verify;
+
+import java.util.Collections;
+
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.pitest.testapi.Description;
+import org.pitest.testapi.ResultCollector;
+
+public class TimingResultCollectorTest {
+
+  @Mock
+  private ResultCollector       child;
+
+  private final Description     description = new Description("foo");
+
+  private TimingResultCollector testee;
+
+  @Before
+  public void setUp() {
+    MockitoAnnotations.initMocks(this);
+    this.testee = new TimingResultCollector(this.child);
+  }
+
+  @Test
+  public void shouldPassNotificationsToChild() {
+    final Throwable t = new AssertionError();
+    this.testee.notifyStart(this.description);
+    this.testee.notifyEnd(this.description, t);
+    verify(this.child).notifyStart(this.description);
+    verify(this.child).notifyEnd(this.description, t);
+  }
+
+  @Test
+  public void shouldRecordTimeOfEachFinishedTest() {
+    this.testee.notifyStart(this.description);
+    this.testee.notifyEnd(this.description);
+    assertEquals(Collections.singleton(this.description.getQualifiedName()),
+        this.testee.getTestMillis().keySet());
+  }
+
+  @Test
+  public void shouldRecordTimeToKillOnlyWhenATestFails() {
+    this.testee.notifyStart(this.description);
+    this.testee.notifyEnd(this.description);
+    assertTrue(this.testee.getKillMillis().hasNone());
+    this.testee.notifyStart(this.description);
+    this.testee.notifyEnd(this.description, new AssertionError());
+    assertTrue(this.testee.getKillMillis().hasSome());
+  }
+
+}
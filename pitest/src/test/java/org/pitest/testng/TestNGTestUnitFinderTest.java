@@ -16,25 +16,34 @@ package org.pitest.testng;
 
 import static org.junit.Assert.assertEquals;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.List;
 
 import org.junit.Before;
 import org.junit.Test;
+import org.pitest.testapi.Description;
 import org.pitest.testapi.TestGroupConfig;
+import org.pitest.testapi.TestUnit;
 
 import com.example.testng.AbstractTestNGClass;
 import com.example.testng.AnnotatedAtClassLevel;
 import com.example.testng.AnnotatedAtMethodLevel;
+import com.example.testng.HasBeforeClass;
+import com.example.testng.HasDependentMethods;
 
 public class TestNGTestUnitFinderTest {
 
   private TestNGTestUnitFinder testee;
 
+  private TestGroupConfig      config;
+
   @Before
   public void setUp() {
-    final TestGroupConfig config = new TestGroupConfig(
+    this.config = new TestGroupConfig(
         Collections.<String> emptyList(), Collections.<String> emptyList());
-    this.testee = new TestNGTestUnitFinder(config, Collections.<String> emptyList());
+    this.testee = new TestNGTestUnitFinder(this.config, Collections.<String> emptyList());
   }
 
   @Test
@@ -44,11 +53,44 @@ public class TestNGTestUnitFinderTest {
   }
 
   @Test
-  public void shouldFindSingleTestUnitClassWithAnnotatedMethods() {
+  public void shouldFindSingleTestUnitForClassByDefault() {
     assertEquals(1, this.testee.findTestUnits(AnnotatedAtMethodLevel.class)
         .size());
   }
 
+  @Test
+  public void shouldFindTestUnitForEachIndependentAnnotatedMethodWhenSplitting() {
+    splitByMethod();
+    final List<TestUnit> actual = this.testee
+        .findTestUnits(AnnotatedAtMethodLevel.class);
+    assertEquals(Arrays.asList(new Description("aTest",
+        AnnotatedAtMethodLevel.class), new Description("anotherTest",
+        AnnotatedAtMethodLevel.class)), descriptions(actual));
+  }
+
+  @Test
+  public void shouldFindSingleTestUnitForClassWithConfigurationSharedBetweenMethods() {
+    splitByMethod();
+    assertEquals(1, this.testee.findTestUnits(HasBeforeClass.class).size());
+  }
+
+  @Test
+  public void shouldFindSingleTestUnitForClassWithDependentMethods() {
+    splitByMethod();
+    assertEquals(1, this.testee.findTestUnits(HasDependentMethods.class)
+        .size());
+  }
+
+  @Test
+  public void shouldOnlyFindTestUnitsForIncludedTestMethods() {
+    this.testee = new TestNGTestUnitFinder(this.config,
+        Collections.singletonList("anotherTest"), true);
+    final List<TestUnit> actual = this.testee
+        .findTestUnits(AnnotatedAtMethodLevel.class);
+    assertEquals(Arrays.asList(new Description("anotherTest",
+        AnnotatedAtMethodLevel.class)), descriptions(actual));
+  }
+
   @Test
   public void shouldFindNoTestUnitsInUnannotatedClasses() {
     assertEquals(0, this.testee.findTestUnits(String.class).size());
@@ -58,4 +100,17 @@ public class TestNGTestUnitFinderTest {
   public void shouldIgnoreAbstractClasses() {
     assertEquals(0, this.testee.findTestUnits(AbstractTestNGClass.class).size());
   }
+
+  private void splitByMethod() {
+    this.testee = new TestNGTestUnitFinder(this.config,
+        Collections.<String> emptyList(), true);
+  }
+
+  private static List<Description> descriptions(final List<TestUnit> units) {
+    final List<Description> descriptions = new ArrayList<>();
+    for (final TestUnit each : units) {
+      descriptions.add(each.getDescription());
+    }
+    return descriptions;
+  }
 }
@@ -16,6 +16,7 @@ package org.pitest.testng;
 
 import static org.mockito.Matchers.any;
 import static org.mockito.Matchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
@@ -34,6 +35,7 @@ import org.pitest.testapi.Description;
 import org.pitest.testapi.ResultCollector;
 import org.pitest.testapi.TestGroupConfig;
 
+import com.example.testng.AwaitsAnotherUnit;
 import com.example.testng.Fails;
 import com.example.testng.HasGroups;
 import com.example.testng.Passes;
@@ -149,6 +151,61 @@ public class TestNGTestUnitTest {
             new Description("excludeGroup", HasGroups.class));
   }
 
+  @Test
+  public void shouldReportResultsEachTimeUnitIsExecuted() {
+    this.testee = new TestNGTestUnit(Passes.class, this.config, this.includedTestMethods);
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2))
+    .notifyEnd(new Description("passes", Passes.class));
+  }
+
+  @Test
+  public void shouldApplyGroupsEachTimeUnitIsExecuted() {
+    final TestGroupConfig excludeConfig = new TestGroupConfig(
+        Arrays.asList("exclude"), Collections.<String> emptyList());
+    this.testee = new TestNGTestUnit(HasGroups.class, excludeConfig, this.includedTestMethods);
+    this.testee.execute(this.rc);
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifyEnd(
+        new Description("includeGroup", HasGroups.class));
+    verify(this.rc, never()).notifyEnd(
+        new Description("excludeGroup", HasGroups.class));
+  }
+
+  @Test
+  public void shouldOnlyRunTargetedMethodInMethodLevelUnit() {
+    this.testee = new TestNGTestUnit(new Description("noGroup",
+        HasGroups.class), HasGroups.class, this.config,
+        Collections.singletonList("noGroup"));
+    this.testee.execute(this.rc);
+    verify(this.rc, times(2)).notifyEnd(
+        new Description("noGroup", HasGroups.class));
+    verify(this.rc, never()).notifyEnd(
+        new Description("includeGroup", HasGroups.class));
+  }
+
+  @Test(timeout = 20000)
+  public void shouldExecuteUnitsConcurrently() throws Exception {
+    final ResultCollector other = Mockito.mock(ResultCollector.class);
+    final Thread thread = new Thread() {
+      @Override
+      public void run() {
+        new TestNGTestUnit(AwaitsAnotherUnit.class, TestNGTestUnitTest.this.config,
+            TestNGTestUnitTest.this.includedTestMethods).execute(other);
+      }
+    };
+    thread.start();
+    this.testee = new TestNGTestUnit(AwaitsAnotherUnit.class, this.config, this.includedTestMethods);
+    this.testee.execute(this.rc);
+    thread.join();
+
+    verify(this.rc, times(1)).notifyEnd(
+        new Description("awaits", AwaitsAnotherUnit.class));
+    verify(other, times(1)).notifyEnd(
+        new Description("awaits", AwaitsAnotherUnit.class));
+  }
+
   @Test
   public void shouldReportTestSkipped() {
     this.testee = new TestNGTestUnit(Skips.class, this.config, this.includedTestMethods);
@@ -27,6 +27,7 @@ import java.util.concurrent.Callable;
 import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 import java.util.concurrent.Future;
 
 import org.junit.After;
@@ -99,6 +100,123 @@ public class CodeCoverageStoreTest {
     assertEquals(Collections.emptyList(), actual);
   }
 
+  @Test
+  public void shouldRecordHitsSeparatelyForThreadOnceThreadReset() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+
+    CodeCoverageStore.resetThread();
+    CodeCoverageStore.visitProbes(classId, 0, new boolean[] { true, false });
+
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+    assertThat(CodeCoverageStore.getThreadHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+  }
+
+  @Test
+  public void shouldRecordHitsGloballyAfterThreadHitsCollected() {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 2);
+
+    CodeCoverageStore.resetThread();
+    CodeCoverageStore.getThreadHits();
+    CodeCoverageStore.visitProbes(classId, 0, new boolean[] { false, true });
+
+    assertThat(CodeCoverageStore.getHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 1));
+  }
+
+  @Test
+  public void shouldAttributeHitsFromThreadsStartedByTestToThatTest()
+      throws InterruptedException {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    CodeCoverageStore.resetThread();
+    final Thread child = new Thread() {
+      @Override
+      public void run() {
+        CodeCoverageStore.visitProbes(classId, 0, new boolean[] { true });
+      }
+    };
+    child.start();
+    child.join();
+
+    assertEquals(Collections.emptyList(), CodeCoverageStore.getHits());
+    assertThat(CodeCoverageStore.getThreadHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+  }
+
+  @Test
+  public void shouldCountHitsFromThreadsNotStartedByATest()
+      throws InterruptedException {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    final Thread existing = makeVisitor(classId);
+
+    CodeCoverageStore.resetThread();
+    final long before = CodeCoverageStore.getUnattributedHits();
+    existing.start();
+    existing.join();
+
+    assertThat(CodeCoverageStore.getThreadHits()).isEmpty();
+    assertThat(CodeCoverageStore.getUnattributedHits()).isGreaterThan(before);
+  }
+
+  @Test
+  public void shouldCountHitsFromForkJoinPoolsStartedByATest()
+      throws Exception {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    CodeCoverageStore.resetThread();
+    final long before = CodeCoverageStore.getUnattributedHits();
+    final ForkJoinPool pool = new ForkJoinPool(1);
+    try {
+      pool.submit(makeVisitor(classId)).get();
+    } finally {
+      pool.shutdown();
+    }
+
+    assertThat(CodeCoverageStore.getThreadHits()).isEmpty();
+    assertThat(CodeCoverageStore.getUnattributedHits()).isGreaterThan(before);
+  }
+
+  @Test
+  public void shouldCountHitsFromThreadsThatOutliveTheTestThatStartedThem()
+      throws InterruptedException {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+
+    CodeCoverageStore.resetThread();
+    final Thread child = makeVisitor(classId);
+    CodeCoverageStore.getThreadHits();
+    final long before = CodeCoverageStore.getUnattributedHits();
+    child.start();
+    child.join();
+
+    assertThat(CodeCoverageStore.getUnattributedHits()).isGreaterThan(before);
+  }
+
+  @Test
+  public void shouldNotCountHitsOnceThreadHitsEnded()
+      throws InterruptedException {
+    final int classId = CodeCoverageStore.registerClass("foo");
+    CodeCoverageStore.registerClassProbes(classId, 1);
+    final Thread existing = makeVisitor(classId);
+
+    CodeCoverageStore.resetThread();
+    CodeCoverageStore.getThreadHits();
+    CodeCoverageStore.endThreadHits();
+    final long before = CodeCoverageStore.getUnattributedHits();
+    existing.start();
+    existing.join();
+
+    assertEquals(before, CodeCoverageStore.getUnattributedHits());
+    assertThat(CodeCoverageStore.getHits()).containsExactly(
+        CodeCoverageStore.encode(classId, 0));
+  }
+
   @Test
   public void shouldBeSafeToAccessAcrossMultipleThreads()
       throws InterruptedException, ExecutionException {
@@ -428,6 +546,15 @@ public class CodeCoverageStoreTest {
     return read;
   }
 
+  private static Thread makeVisitor(final int classId) {
+    return new Thread() {
+      @Override
+      public void run() {
+        CodeCoverageStore.visitProbes(classId, 0, new boolean[] { true });
+      }
+    };
+  }
+
   private static Runnable makeWriter(final int sleepPeriod) {
     final Runnable write = new Runnable() {
 
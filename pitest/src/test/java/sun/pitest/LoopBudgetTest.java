@@ -0,0 +1,86 @@
+package sun.pitest;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.fail;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.After;
+import org.junit.Test;
+
+public class LoopBudgetTest {
+
+  @After
+  public void tearDown() {
+    LoopBudget.start(LoopBudget.UNLIMITED);
+  }
+
+  @Test
+  public void shouldCountJumpsTakenSinceBudgetStarted() {
+    LoopBudget.start(10);
+    tick(3);
+    assertEquals(3, LoopBudget.taken());
+  }
+
+  @Test
+  public void shouldRestoreWholeBudgetWhenStartedAgain() {
+    LoopBudget.start(5);
+    tick(5);
+    LoopBudget.start(5);
+    tick(5);
+    assertEquals(5, LoopBudget.taken());
+  }
+
+  @Test(expected = LoopBudgetExceededError.class)
+  public void shouldThrowWhenBudgetExceeded() {
+    LoopBudget.start(5);
+    tick(6);
+  }
+
+  @Test
+  public void shouldNotShareBudgetWithOtherTests() throws Exception {
+    LoopBudget.start(5);
+    tick(4);
+    final AtomicLong takenElsewhere = new AtomicLong();
+    final Thread other = new Thread() {
+      @Override
+      public void run() {
+        LoopBudget.start(5);
+        tick(5);
+        takenElsewhere.set(LoopBudget.taken());
+      }
+    };
+    other.start();
+    other.join();
+    assertEquals(5, takenElsewhere.get());
+    assertEquals(4, LoopBudget.taken());
+  }
+
+  @Test
+  public void shouldShareBudgetWithThreadsStartedByTest() throws Exception {
+    LoopBudget.start(5);
+    tick(3);
+    final Thread spawned = new Thread() {
+      @Override
+      public void run() {
+        tick(2);
+      }
+    };
+    spawned.start();
+    spawned.join();
+    assertEquals(5, LoopBudget.taken());
+    try {
+      tick(1);
+      fail();
+    } catch (final LoopBudgetExceededError expected) {
+      // budget spent across both threads
+    }
+  }
+
+  private static void tick(final int times) {
+    for (int i = 0; i != times; i++) {
+      LoopBudget.tick();
+    }
+  }
+
+}